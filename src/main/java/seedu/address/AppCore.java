@@ -0,0 +1,480 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookFormatConverter;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.AppointmentArchiveFile;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.KeyValueAddressBookStorage;
+import seedu.address.storage.NameIndexFile;
+import seedu.address.storage.SegmentFileSnapshotStore;
+import seedu.address.storage.SegmentedAddressBookStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * The parts of the application that do not need JavaFX: the config, logging, metrics, storage, model and logic.
+ * The GUI, the command server and the headless runner all start the application through this class.
+ */
+public class AppCore {
+
+    /** The number of persons added to the model at a time when loading the data file. */
+    public static final int LOAD_BATCH_SIZE = 10000;
+
+    private static final Logger logger = LogsCenter.getLogger(AppCore.class);
+
+    private Config config;
+    private Storage storage;
+    private AddressBookStorage addressBookStorage;
+    private ModelManager model;
+    private Logic logic;
+    private SegmentFileSnapshotStore undoHistoryStore;
+    private ScheduledExecutorService metricsWriter;
+
+    private AppCore() {}
+
+    /**
+     * Reads the config file at {@code configFilePath}, or the default config file if it is null, and loads the
+     * preferences and data file it names.
+     */
+    public static AppCore init(Path configFilePath) {
+        AppCore core = initWithoutData(configFilePath);
+        core.loadAddressBook(() -> {});
+        return core;
+    }
+
+    /**
+     * Reads the config file at {@code configFilePath}, or the default config file if it is null, and loads the
+     * preferences it names, but starts with an empty address book. The data file must then be loaded with
+     * {@link #loadAddressBook(Runnable)} before any command is run.
+     */
+    public static AppCore initWithoutData(Path configFilePath) {
+        AppCore core = new AppCore();
+        core.config = core.initConfig(configFilePath);
+        core.initLogging(core.config);
+        core.initMetrics(core.config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(core.config.getUserPrefsFilePath());
+        UserPrefs userPrefs = core.initPrefs(userPrefsStorage);
+        core.addressBookStorage = core.initAddressBookStorage(core.config, userPrefs.getAddressBookFilePath());
+        core.storage = new StorageManager(core.addressBookStorage, userPrefsStorage);
+
+        core.model = new ModelManager(new AddressBook(), userPrefs);
+
+        core.logic = new LogicManager(core.model, core.storage);
+        return core;
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    /**
+     * Adds the persons in {@code storage}'s address book to the model, {@link #LOAD_BATCH_SIZE} at a time, calling
+     * {@code onBatchLoaded} after each batch. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or the address book will be left empty if errors occur when reading {@code storage}'s address book.
+     *
+     * @return the number of persons loaded.
+     */
+    public synchronized int loadAddressBook(Runnable onBatchLoaded) {
+        requireNonNull(onBatchLoaded);
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+
+        Optional<ReadOnlyAddressBook> addressBookOptional = Optional.empty();
+        ReadOnlyAddressBook initialData;
+        try {
+            addressBookOptional = storage.readAddressBook();
+            if (!addressBookOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                        + " populated with a sample AddressBook.");
+            }
+            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                    + " Will be starting with an empty AddressBook.");
+            initialData = new AddressBook();
+        }
+
+        List<Person> persons = initialData.getPersonList();
+        if (addressBookOptional.isPresent()) {
+            useNameIndexFile(persons);
+        }
+        for (int start = 0; start < persons.size(); start += LOAD_BATCH_SIZE) {
+            model.loadPersons(persons.subList(start, Math.min(start + LOAD_BATCH_SIZE, persons.size())));
+            onBatchLoaded.run();
+        }
+        int archived = archivePastAppointments(storage.getAddressBookFilePath());
+        model.publishSnapshot();
+        if (archived > 0) {
+            saveAddressBook();
+        }
+
+        initUndoHistoryStore(model, storage.getAddressBookFilePath(), model.getUserPrefs(),
+                addressBookOptional.isPresent());
+        logger.info("Loaded " + persons.size() + " persons");
+        return persons.size();
+    }
+
+    /**
+     * Lets the model use the name index saved by the previous run for {@code persons}, the persons just read from the
+     * data file, if it was saved for the same data file. Otherwise, the persons are indexed as they are loaded.
+     */
+    private void useNameIndexFile(List<Person> persons) {
+        if (!(addressBookStorage instanceof JsonAddressBookStorage jsonStorage)) {
+            return;
+        }
+        Path indexFile = NameIndexFile.of(jsonStorage.getAddressBookFilePath());
+        jsonStorage.getDataFileDigest(persons)
+                .flatMap(digest -> NameIndexFile.open(indexFile, digest, persons.size()))
+                .ifPresent(cache -> {
+                    logger.info("Using name index file : " + indexFile);
+                    model.useNameIndexCache(persons, cache);
+                });
+    }
+
+    /**
+     * Saves the name index of the persons in the data file next to it, so that the next run can use it instead of
+     * indexing them again, unless the model has changes that were not saved or the saved index is already current.
+     */
+    private void saveNameIndexFile() {
+        if (!(addressBookStorage instanceof JsonAddressBookStorage jsonStorage)) {
+            return;
+        }
+        Path indexFile = NameIndexFile.of(jsonStorage.getAddressBookFilePath());
+        List<Person> persons = model.getSnapshot().getPersonList();
+        Optional<byte[]> digest = jsonStorage.getDataFileDigest(persons);
+        if (digest.isEmpty() || NameIndexFile.isCurrent(indexFile, digest.get())) {
+            return;
+        }
+        try {
+            NameIndexFile.write(indexFile, digest.get(), persons);
+        } catch (IOException e) {
+            logger.warning("Failed to save name index file " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Lets the model keep past appointments in the appointment archive next to the data file, and moves the
+     * appointments that have taken place since the data file was last saved there.
+     *
+     * @return the number of appointments archived.
+     */
+    private int archivePastAppointments(Path addressBookFilePath) {
+        model.setAppointmentArchive(new AppointmentArchiveFile(AppointmentArchiveFile.of(addressBookFilePath)));
+        try {
+            return model.archivePastAppointments(LocalDateTime.now());
+        } catch (IOException e) {
+            logger.warning("Failed to archive past appointments " + StringUtil.getDetails(e));
+            return 0;
+        }
+    }
+
+    /**
+     * Saves the data file, e.g. without the appointments that were just archived.
+     */
+    private void saveAddressBook() {
+        try {
+            storage.saveAddressBook(model.getSnapshot());
+        } catch (IOException e) {
+            logger.warning("Failed to save data file " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Lets {@code modelManager} page its undo history out to a file next to the data file, if enabled in
+     * {@code userPrefs}. Undo history kept from the previous run is only reused if the data file was loaded,
+     * since it describes changes to that file.
+     */
+    private void initUndoHistoryStore(ModelManager modelManager, Path addressBookFilePath,
+                                      ReadOnlyUserPrefs userPrefs, boolean isDataFileLoaded) {
+        if (!userPrefs.shouldSpillUndoHistoryToDisk() && !userPrefs.shouldKeepUndoHistoryOnExit()) {
+            return;
+        }
+
+        SegmentFileSnapshotStore store = new SegmentFileSnapshotStore(addressBookFilePath.resolveSibling(
+                addressBookFilePath.getFileName() + SegmentFileSnapshotStore.FILE_SUFFIX));
+        try {
+            store.open(userPrefs.shouldKeepUndoHistoryOnExit() && isDataFileLoaded);
+        } catch (IOException e) {
+            logger.warning("Undo history file " + store.getFilePath() + " could not be opened."
+                    + " Older undo history will be dropped instead. " + StringUtil.getDetails(e));
+            return;
+        }
+        modelManager.setUndoHistoryStore(store, userPrefs.shouldKeepUndoHistoryOnExit());
+        undoHistoryStore = store;
+    }
+
+    private void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Starts writing command timings to the metrics file every {@code config}'s metrics interval,
+     * if a metrics file is set.
+     */
+    private void initMetrics(Config config) {
+        Path metricsFilePath = config.getMetricsFilePath();
+        if (metricsFilePath == null) {
+            return;
+        }
+
+        int intervalSeconds = Math.max(1, config.getMetricsIntervalSeconds());
+        logger.info("Writing metrics to " + metricsFilePath + " every " + intervalSeconds + "s");
+        metricsWriter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        metricsWriter.scheduleAtFixedRate(() -> writeMetrics(metricsFilePath),
+                intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    private void writeMetrics(Path metricsFilePath) {
+        try {
+            MetricsCenter.writeReport(metricsFilePath);
+        } catch (IOException e) {
+            logger.warning("Failed to write metrics file : " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    private Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns the storage for the data file at {@code jsonFilePath} in the format named by {@code config}.
+     * If the data was last saved in another format, e.g. right after the format was changed, it is converted and the
+     * data in the other format is renamed to a backup. If the conversion fails, the data is left where it is and
+     * used in the format it is in.
+     *
+     * @throws IllegalStateException if the data is found in more than one format and it cannot be told which was
+     *     saved last, since converting either could lose the changes saved in the other.
+     */
+    private AddressBookStorage initAddressBookStorage(Config config, Path jsonFilePath) {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(jsonFilePath);
+        Path segmentDirectory = AddressBookFormatConverter.toSegmentDirectory(jsonFilePath);
+        SegmentedAddressBookStorage segmentedStorage = new SegmentedAddressBookStorage(segmentDirectory);
+        Path recordFile = AddressBookFormatConverter.toRecordFile(jsonFilePath);
+        KeyValueAddressBookStorage keyValueStorage = new KeyValueAddressBookStorage(recordFile);
+        List<AddressBookStorage> storages = List.of(jsonStorage, segmentedStorage, keyValueStorage);
+
+        switch (config.getAddressBookFormat()) {
+        case SEGMENTED:
+            return useLastSaved(storages, segmentedStorage);
+        case KEY_VALUE:
+            return useLastSaved(storages, keyValueStorage);
+        default:
+            return useLastSaved(storages, jsonStorage);
+        }
+    }
+
+    /**
+     * Returns {@code target} after migrating the data to it from whichever of {@code storages} was saved last, or
+     * that storage if the data could not be migrated.
+     */
+    private AddressBookStorage useLastSaved(List<AddressBookStorage> storages, AddressBookStorage target) {
+        AddressBookStorage source = findLastSaved(storages).orElse(target);
+        if (source != target && !migrateAddressBook(source, target)) {
+            logger.info("Using data in its previous format : " + source.getAddressBookFilePath());
+            return source;
+        }
+        logger.info("Using data in " + config.getAddressBookFormat() + " format : " + target.getAddressBookFilePath());
+        return target;
+    }
+
+    /**
+     * Returns the storage among {@code storages} whose data was saved last, or an empty Optional if none has data.
+     *
+     * @throws IllegalStateException if more than one was saved last.
+     */
+    private Optional<AddressBookStorage> findLastSaved(List<AddressBookStorage> storages) {
+        AddressBookStorage lastSaved = null;
+        FileTime lastSavedTime = null;
+        boolean isTied = false;
+        for (AddressBookStorage storage : storages) {
+            Optional<FileTime> savedTime;
+            try {
+                savedTime = AddressBookFormatConverter.getLastSavedTime(storage);
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not tell when " + storage.getAddressBookFilePath()
+                        + " was saved: " + e.getMessage(), e);
+            }
+            if (savedTime.isEmpty()) {
+                continue;
+            }
+            int comparison = lastSavedTime == null ? 1 : savedTime.get().compareTo(lastSavedTime);
+            if (comparison > 0) {
+                lastSaved = storage;
+                lastSavedTime = savedTime.get();
+                isTied = false;
+            } else if (comparison == 0) {
+                isTied = true;
+            }
+        }
+        if (isTied) {
+            String message = "The data is found in more than one format, saved at the same time " + lastSavedTime
+                    + ". Move all but one of " + storages.stream()
+                            .map(AddressBookStorage::getAddressBookFilePath)
+                            .filter(Files::exists)
+                            .toList()
+                    + " elsewhere and start again.";
+            logger.severe(message);
+            throw new IllegalStateException(message);
+        }
+        return Optional.ofNullable(lastSaved);
+    }
+
+    private boolean migrateAddressBook(AddressBookStorage source, AddressBookStorage target) {
+        logger.info("Converting " + source.getAddressBookFilePath() + " to " + target.getAddressBookFilePath());
+        try {
+            Optional<Path> backup = AddressBookFormatConverter.migrate(source, target);
+            backup.ifPresent(path -> logger.info("Moved the converted data to " + path));
+            return backup.isPresent();
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Could not convert " + source.getAddressBookFilePath() + " : " + StringUtil.getDetails(e));
+            return false;
+        }
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    private UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+    /**
+     * Saves the preferences and the name index, and stops writing the undo history and metrics.
+     */
+    public synchronized void stop() {
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+        saveNameIndexFile();
+        closeUndoHistoryStore();
+        if (metricsWriter != null) {
+            metricsWriter.shutdownNow();
+            writeMetrics(config.getMetricsFilePath());
+        }
+    }
+
+    private void closeUndoHistoryStore() {
+        if (undoHistoryStore == null) {
+            return;
+        }
+        try {
+            undoHistoryStore.close();
+            if (!model.getUserPrefs().shouldKeepUndoHistoryOnExit()) {
+                Files.deleteIfExists(undoHistoryStore.getFilePath());
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to close undo history file " + StringUtil.getDetails(e));
+        }
+    }
+}
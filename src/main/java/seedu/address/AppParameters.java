@@ -1,5 +1,6 @@
 package seedu.address;
 
+import java.net.InetSocketAddress;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Map;
@@ -18,6 +19,7 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private InetSocketAddress connectAddress;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,6 +29,17 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the address of the server to use as a terminal of, or null to open the data file directly.
+     */
+    public InetSocketAddress getConnectAddress() {
+        return connectAddress;
+    }
+
+    public void setConnectAddress(InetSocketAddress connectAddress) {
+        this.connectAddress = connectAddress;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
@@ -41,9 +54,28 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String connectParameter = namedParameters.get("connect");
+        if (connectParameter != null) {
+            appParameters.setConnectAddress(parseAddress(connectParameter));
+        }
+
         return appParameters;
     }
 
+    /**
+     * Parses {@code HOST:PORT}, or returns null if {@code address} is not in that form.
+     */
+    private static InetSocketAddress parseAddress(String address) {
+        int separator = address.lastIndexOf(':');
+        try {
+            int port = Integer.parseInt(address.substring(separator + 1));
+            return InetSocketAddress.createUnresolved(address.substring(0, separator), port);
+        } catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+            logger.warning("Invalid server address " + address + ". Opening the data file instead.");
+            return null;
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -56,18 +88,20 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(connectAddress, otherAppParameters.connectAddress);
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, connectAddress);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("connectAddress", connectAddress)
                 .toString();
     }
 }
@@ -0,0 +1,94 @@
+package seedu.address;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.BackgroundTask;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Executes commands read one per line, e.g. from a script, and prints their feedback, without starting the GUI.
+ * <p>
+ * Blank lines and lines starting with {@value #COMMENT_PREFIX} are skipped. Reading stops at the end of the input
+ * or after an {@code exit} command. Background tasks, such as the export of {@code export}, are run to completion
+ * before the next command is read.
+ */
+public class HeadlessRunner {
+
+    public static final String COMMENT_PREFIX = "#";
+
+    /** The exit status when every command succeeded. */
+    public static final int STATUS_SUCCESS = 0;
+
+    /** The exit status when at least one command could not be parsed or executed. */
+    public static final int STATUS_COMMAND_FAILED = 1;
+
+    private final Logic logic;
+    private final PrintStream out;
+    private final PrintStream err;
+
+    /**
+     * Creates a {@code HeadlessRunner} that executes commands with {@code logic}, printing their feedback to
+     * {@code out} and the errors of the commands that failed to {@code err}.
+     */
+    public HeadlessRunner(Logic logic, PrintStream out, PrintStream err) {
+        requireAllNonNull(logic, out, err);
+        this.logic = logic;
+        this.out = out;
+        this.err = err;
+    }
+
+    /**
+     * Executes every command in {@code commands}, in order.
+     *
+     * @return {@link #STATUS_SUCCESS}, or {@link #STATUS_COMMAND_FAILED} if any command failed.
+     * @throws IOException if {@code commands} could not be read.
+     */
+    public int run(BufferedReader commands) throws IOException {
+        int status = STATUS_SUCCESS;
+        int lineNumber = 0;
+        String line;
+        while ((line = commands.readLine()) != null) {
+            lineNumber++;
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                out.println(commandResult.getFeedbackToUser());
+                Optional<BackgroundTask> backgroundTask = commandResult.getBackgroundTask();
+                if (backgroundTask.isPresent()) {
+                    status = Math.max(status, runBackgroundTask(backgroundTask.get(), lineNumber));
+                }
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                err.println("Line " + lineNumber + ": " + e.getMessage());
+                status = STATUS_COMMAND_FAILED;
+            }
+        }
+        out.flush();
+        return status;
+    }
+
+    private int runBackgroundTask(BackgroundTask task, int lineNumber) {
+        try {
+            out.println(task.run(progress -> {}));
+            return STATUS_SUCCESS;
+        } catch (Exception e) {
+            err.println("Line " + lineNumber + ": " + Objects.requireNonNullElse(e.getMessage(), e.toString()));
+            return STATUS_COMMAND_FAILED;
+        }
+    }
+}
@@ -1,9 +1,20 @@
 package seedu.address;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.remote.CommandServer;
 
 // testing
 /**
@@ -23,9 +34,32 @@ import seedu.address.commons.core.LogsCenter;
  * to be the entry point of the application, we avoid this issue.
  */
 public class Main {
+    private static final int STATUS_UNREADABLE_COMMANDS = 2;
+    private static final int STATUS_INVALID_ARGUMENTS = 3;
+    private static final int MAX_PORT = 65535;
+    private static final String MESSAGE_SERVER_USAGE = "Usage: java -jar medisavecontact.jar --server[=PORT]"
+            + " [--config=CONFIG_FILE]\nPORT must be a number from 1 to " + MAX_PORT + ", by default "
+            + CommandServer.DEFAULT_PORT + ".";
+
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
     public static void main(String[] args) {
+        Optional<String> configPath = getArgument(args, "config").filter(path -> !path.isEmpty());
+        Optional<String> serverPort = getArgument(args, "server");
+        if (serverPort.isPresent()) {
+            Optional<Integer> port = parsePort(serverPort.get());
+            if (port.isEmpty()) {
+                System.err.println("Invalid port: " + serverPort.get());
+                System.err.println(MESSAGE_SERVER_USAGE);
+                System.exit(STATUS_INVALID_ARGUMENTS);
+            }
+            runServer(port.get(), configPath.orElse(null));
+            return;
+        }
+        Optional<String> commandFile = getArgument(args, "headless");
+        if (commandFile.isPresent()) {
+            System.exit(runHeadless(commandFile.get(), configPath.orElse(null)));
+        }
 
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
@@ -39,4 +73,84 @@ public class Main {
         logger.warning("The warning about Unsupported JavaFX configuration below (if any) can be ignored.");
         Application.launch(MainApp.class, args);
     }
+
+    /**
+     * Returns the value of the argument {@code --name=value}, or an empty string if it is given as {@code --name}.
+     */
+    private static Optional<String> getArgument(String[] args, String name) {
+        for (String arg : args) {
+            if (arg.equals("--" + name)) {
+                return Optional.of("");
+            }
+            if (arg.startsWith("--" + name + "=")) {
+                return Optional.of(arg.substring(name.length() + 3));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the port given as the value of {@code --server}, the default port if it is empty, or an empty
+     * {@code Optional} if it is not a number from 1 to 65535.
+     */
+    private static Optional<Integer> parsePort(String value) {
+        if (value.isEmpty()) {
+            return Optional.of(CommandServer.DEFAULT_PORT);
+        }
+        try {
+            int port = Integer.parseInt(value);
+            return port >= 1 && port <= MAX_PORT ? Optional.of(port) : Optional.empty();
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Executes the commands in {@code commandFile}, or those typed into standard input if it is empty, without
+     * starting JavaFX.
+     *
+     * @return the exit status of the {@link HeadlessRunner}, or 2 if the commands could not be read.
+     */
+    private static int runHeadless(String commandFile, String configPath) {
+        AppCore core = AppCore.init(configPath == null ? null : Paths.get(configPath));
+        try (BufferedReader commands = commandFile.isEmpty()
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(Paths.get(commandFile), StandardCharsets.UTF_8)) {
+            return new HeadlessRunner(core.getLogic(), System.out, System.err).run(commands);
+        } catch (IOException e) {
+            System.err.println("Could not read commands: " + e.getMessage());
+            return STATUS_UNREADABLE_COMMANDS;
+        } finally {
+            core.stop();
+        }
+    }
+
+    /**
+     * Serves commands to terminals on {@code port} of this computer, without showing any window, until the process
+     * is stopped.
+     */
+    private static void runServer(int port, String configPath) {
+        AppCore core;
+        CommandServer server;
+        try {
+            core = AppCore.init(configPath == null ? null : Paths.get(configPath));
+            server = new CommandServer(core.getModel(), core.getLogic());
+            server.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        } catch (Exception e) {
+            logger.severe("Could not start the server: " + e);
+            System.exit(1);
+            return;
+        }
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            logger.info("============================ [ Stopping server ] =============================");
+            server.close();
+            core.stop();
+        }));
+        try {
+            new CountDownLatch(1).await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
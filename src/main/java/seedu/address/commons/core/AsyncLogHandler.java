@@ -0,0 +1,211 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@code Handler} that hands log records to other handlers on a background thread, so that logging does not
+ * wait for formatting or for console and file I/O.
+ * <p>
+ * Records wait in a bounded queue. When the queue is full, the {@link OverflowPolicy} decides whether the logging
+ * thread waits for space or the record is dropped; dropped records are counted and reported once there is room
+ * again. {@link #flush()} waits until every queued record has been written, and {@link #close()} also stops the
+ * background thread. Records published after that are written straight to the other handlers on the logging thread,
+ * so that nothing logged by other shutdown hooks is lost; the other handlers are therefore left open.
+ */
+public class AsyncLogHandler extends Handler {
+
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    private static final long FLUSH_POLL_MILLIS = 10;
+
+    private final BlockingQueue<LogRecord> queue;
+    private final List<Handler> handlers;
+    private final Thread writer;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final Object flushLock = new Object();
+    private volatile OverflowPolicy overflowPolicy;
+    private volatile boolean isClosed;
+
+    /**
+     * Creates an {@code AsyncLogHandler} that writes to {@code handlers}, queueing at most {@code capacity} records.
+     */
+    public AsyncLogHandler(int capacity, OverflowPolicy overflowPolicy, Handler... handlers) {
+        requireNonNull(overflowPolicy);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.handlers = List.of(handlers);
+        this.overflowPolicy = overflowPolicy;
+        writer = new Thread(this::writeRecords, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        requireNonNull(overflowPolicy);
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Returns the number of records dropped because the queue was full.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (!isLoggable(record)) {
+            return;
+        }
+        // The source of a record is worked out from the stack, so it must be done on the thread that logged it.
+        record.getSourceClassName();
+
+        pendingCount.incrementAndGet();
+        if (overflowPolicy == OverflowPolicy.DROP) {
+            if (!queue.offer(record)) {
+                completePending(1);
+                droppedCount.incrementAndGet();
+            }
+        } else {
+            try {
+                queue.put(record);
+            } catch (InterruptedException e) {
+                completePending(1);
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        // Once closed, the background thread may already have stopped, so the record is written here
+        if (isClosed) {
+            writeQueuedRecords();
+        }
+    }
+
+    /**
+     * Writes the records that are still queued on the calling thread.
+     */
+    private void writeQueuedRecords() {
+        List<LogRecord> batch = new ArrayList<>();
+        queue.drainTo(batch);
+        if (!batch.isEmpty()) {
+            write(batch);
+            completePending(batch.size());
+        }
+    }
+
+    private void completePending(long count) {
+        if (pendingCount.addAndGet(-count) == 0) {
+            synchronized (flushLock) {
+                flushLock.notifyAll();
+            }
+        }
+    }
+
+    private void writeRecords() {
+        List<LogRecord> batch = new ArrayList<>();
+        long reportedDropCount = 0;
+        while (!isClosed || !queue.isEmpty()) {
+            try {
+                LogRecord first = queue.poll(FLUSH_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch);
+                int queuedCount = batch.size();
+
+                long dropCount = droppedCount.get();
+                if (dropCount > reportedDropCount) {
+                    batch.add(new LogRecord(Level.WARNING,
+                            (dropCount - reportedDropCount) + " log records were dropped because logging fell behind"));
+                    reportedDropCount = dropCount;
+                }
+                write(batch);
+                batch.clear();
+                completePending(queuedCount);
+            } catch (InterruptedException e) {
+                break;
+            }
+        }
+
+        // Wakes up any flush that is still waiting, e.g. if the thread was interrupted
+        synchronized (flushLock) {
+            flushLock.notifyAll();
+        }
+    }
+
+    /**
+     * Writes {@code records} to the other handlers. Synchronized, as records are also written by the logging threads
+     * once this handler is closed.
+     */
+    private synchronized void write(List<LogRecord> records) {
+        for (Handler handler : handlers) {
+            try {
+                for (LogRecord record : records) {
+                    handler.publish(record);
+                }
+                handler.flush();
+            } catch (RuntimeException e) {
+                reportError(null, e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+
+    /**
+     * Waits until every record queued so far has been written by the other handlers.
+     */
+    @Override
+    public void flush() {
+        synchronized (flushLock) {
+            while (pendingCount.get() > 0 && writer.isAlive()) {
+                try {
+                    flushLock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the queued records and stops the background thread. Records published after that are written
+     * straight to the other handlers, which are flushed but left open, as this handler is closed while the JVM shuts
+     * down, at the same time as the shutdown hooks that may still log.
+     */
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writeQueuedRecords();
+        handlers.forEach(Handler::flush);
+    }
+
+    /**
+     * What to do with a record that arrives when the queue is full.
+     */
+    public enum OverflowPolicy {
+        /** Discard the record, so that the logging thread never waits. */
+        DROP,
+        /** Wait until there is room in the queue, so that no record is lost. */
+        BLOCK
+    }
+}
@@ -13,10 +13,15 @@ import seedu.address.commons.util.ToStringBuilder;
 public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
+    public static final int DEFAULT_METRICS_INTERVAL_SECONDS = 60;
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private AsyncLogHandler.OverflowPolicy logOverflowPolicy = AsyncLogHandler.OverflowPolicy.DROP;
+    private Path metricsFilePath = null;
+    private int metricsIntervalSeconds = DEFAULT_METRICS_INTERVAL_SECONDS;
+    private AddressBookFormat addressBookFormat = AddressBookFormat.JSON;
 
     public Level getLogLevel() {
         return logLevel;
@@ -26,6 +31,17 @@ public class Config {
         this.logLevel = logLevel;
     }
 
+    /**
+     * Returns what to do with log messages logged faster than they can be written.
+     */
+    public AsyncLogHandler.OverflowPolicy getLogOverflowPolicy() {
+        return logOverflowPolicy;
+    }
+
+    public void setLogOverflowPolicy(AsyncLogHandler.OverflowPolicy logOverflowPolicy) {
+        this.logOverflowPolicy = logOverflowPolicy;
+    }
+
     public Path getUserPrefsFilePath() {
         return userPrefsFilePath;
     }
@@ -34,6 +50,36 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns the file that command timings are periodically written to, or null if they are not written.
+     */
+    public Path getMetricsFilePath() {
+        return metricsFilePath;
+    }
+
+    public void setMetricsFilePath(Path metricsFilePath) {
+        this.metricsFilePath = metricsFilePath;
+    }
+
+    public int getMetricsIntervalSeconds() {
+        return metricsIntervalSeconds;
+    }
+
+    public void setMetricsIntervalSeconds(int metricsIntervalSeconds) {
+        this.metricsIntervalSeconds = metricsIntervalSeconds;
+    }
+
+    /**
+     * Returns how the address book is laid out on disk.
+     */
+    public AddressBookFormat getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(AddressBookFormat addressBookFormat) {
+        this.addressBookFormat = addressBookFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,20 +93,41 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(logOverflowPolicy, otherConfig.logOverflowPolicy)
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && Objects.equals(metricsFilePath, otherConfig.metricsFilePath)
+                && metricsIntervalSeconds == otherConfig.metricsIntervalSeconds
+                && Objects.equals(addressBookFormat, otherConfig.addressBookFormat);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, logOverflowPolicy, userPrefsFilePath, metricsFilePath, metricsIntervalSeconds,
+                addressBookFormat);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
+                .add("logOverflowPolicy", logOverflowPolicy)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("metricsFilePath", metricsFilePath)
+                .add("metricsIntervalSeconds", metricsIntervalSeconds)
+                .add("addressBookFormat", addressBookFormat)
                 .toString();
     }
 
+    /**
+     * How the address book is laid out on disk.
+     */
+    public enum AddressBookFormat {
+        /** A single JSON file, rewritten as a whole on every save. */
+        JSON,
+        /** A directory of segment files, of which a save only rewrites those that changed. */
+        SEGMENTED,
+        /** A file of one record per person, to which a save only appends the records that changed. */
+        KEY_VALUE
+    }
+
 }
@@ -0,0 +1,91 @@
+package seedu.address.commons.core;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+/**
+ * Counts durations, in nanoseconds, in logarithmic buckets so that percentiles can be estimated in constant memory.
+ * <p>
+ * Every power of two is split into {@value #SUB_BUCKETS} buckets, so an estimated percentile is at most 12.5% above
+ * the exact value. The maximum is tracked exactly. Recording is a few arithmetic operations and is thread-safe.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private final long[] counts = new long[(Long.SIZE - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS];
+    private long count;
+    private long total;
+    private long max;
+
+    /**
+     * Records one duration of {@code nanos} nanoseconds. Negative durations are recorded as 0.
+     */
+    public synchronized void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts[bucketOf(value)]++;
+        count++;
+        total += value;
+        max = Math.max(max, value);
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    public synchronized long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the mean of the recorded durations, or 0 if none were recorded.
+     */
+    public synchronized long getMean() {
+        return count == 0 ? 0 : total / count;
+    }
+
+    /**
+     * Returns an estimate of the duration that {@code percentile} percent of the recorded durations do not exceed,
+     * or 0 if none were recorded.
+     *
+     * @param percentile a value in the range [0, 100].
+     */
+    public synchronized long getPercentile(double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100, "Percentile must be between 0 and 100");
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(count * percentile / 100));
+        long seen = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(bucket), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Returns the bucket of {@code value}. Values below {@link #SUB_BUCKETS} have a bucket each; every higher power
+     * of two is split into {@link #SUB_BUCKETS} equal buckets.
+     */
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return ((exponent - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS) + subBucket;
+    }
+
+    private static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = (bucket >>> SUB_BUCKET_BITS) + SUB_BUCKET_BITS - 1;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        long lowerBound = (long) (SUB_BUCKETS + (bucket & (SUB_BUCKETS - 1))) << (exponent - SUB_BUCKET_BITS);
+        return lowerBound + width - 1;
+    }
+}
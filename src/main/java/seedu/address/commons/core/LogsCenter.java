@@ -3,10 +3,14 @@ package seedu.address.commons.core;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
 
@@ -16,6 +20,8 @@ import java.util.logging.SimpleFormatter;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Messages are written by a background thread through an {@link AsyncLogHandler}, so logging does not block the
+ *   caller on console or file I/O. Queued messages are written out when the application exits.<br>
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
@@ -24,6 +30,7 @@ public class LogsCenter {
     private static final Logger logger; // logger for this class
     private static Logger baseLogger; // to be used as the parent of all other loggers created by this class.
     private static Level currentLogLevel = Level.INFO;
+    private static AsyncLogHandler asyncHandler; // writes the records of the baseLogger in the background
 
     // This static block ensures essential loggers are created early
     static {
@@ -40,6 +47,14 @@ public class LogsCenter {
         logger.info("Log level will be set as: " + currentLogLevel);
         // set the level of the baseLogger which will be inherited by other loggers
         baseLogger.setLevel(currentLogLevel);
+        asyncHandler.setOverflowPolicy(config.getLogOverflowPolicy());
+    }
+
+    /**
+     * Waits until every message logged so far has been written.
+     */
+    public static void flush() {
+        asyncHandler.flush();
     }
 
     /**
@@ -75,8 +90,8 @@ public class LogsCenter {
     }
 
     /**
-     * Creates a logger named 'ab3', containing a {@code ConsoleHandler} and a {@code FileHandler}.
-     * Sets it as the {@code baseLogger}, to be used as the parent logger of all other loggers.
+     * Creates a logger named 'ab3', containing a {@code ConsoleHandler} and a {@code FileHandler} behind an
+     * {@code AsyncLogHandler}. Sets it as the {@code baseLogger}, to be used as the parent logger of all other loggers.
      */
     private static void setBaseLogger() {
         baseLogger = Logger.getLogger("ab3");
@@ -86,20 +101,31 @@ public class LogsCenter {
         // Level.ALL is used as the level for the handlers because the baseLogger filters the log messages by level
         // already; there is no need to control log message level of the handlers.
 
-        // add a ConsoleHandler to log to the console
+        List<Handler> handlers = new ArrayList<>();
+
+        // a ConsoleHandler to log to the console
         ConsoleHandler consoleHandler = new ConsoleHandler();
         consoleHandler.setLevel(Level.ALL);
-        baseLogger.addHandler(consoleHandler);
+        handlers.add(consoleHandler);
 
-        // add a FileHandler to log to a file
+        // a FileHandler to log to a file
         try {
             FileHandler fileHandler = new FileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
             fileHandler.setFormatter(new SimpleFormatter());
             fileHandler.setLevel(Level.ALL);
-            baseLogger.addHandler(fileHandler);
+            handlers.add(fileHandler);
         } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
+            consoleHandler.publish(new LogRecord(Level.WARNING, "Error adding file handler for logger."));
         }
+
+        asyncHandler = new AsyncLogHandler(AsyncLogHandler.DEFAULT_CAPACITY, AsyncLogHandler.OverflowPolicy.DROP,
+                handlers.toArray(new Handler[0]));
+        asyncHandler.setLevel(Level.ALL);
+        baseLogger.addHandler(asyncHandler);
+
+        // write out the queued messages before the JVM exits; messages logged by other shutdown hooks after that are
+        // written straight away
+        Runtime.getRuntime().addShutdownHook(new Thread(asyncHandler::close, "log-flush"));
     }
 
 
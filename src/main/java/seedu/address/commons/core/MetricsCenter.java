@@ -0,0 +1,164 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Collects how long each phase of a command takes, per command word, and how large the saved data file is.
+ * <p>
+ * The command a thread is running is set with {@link #startCommand(String)}, so that code further down, such as
+ * the model and storage, can record its timings with {@link #record(Phase, long)} without knowing the command.
+ * Timings recorded while no command is running are filed under {@link #NO_COMMAND}.
+ */
+public class MetricsCenter {
+
+    /** The command word that timings recorded outside a command are filed under. */
+    public static final String NO_COMMAND = "(none)";
+    /** The command word that the parse timings of commands that could not be parsed are filed under. */
+    public static final String INVALID_COMMAND = "(invalid)";
+
+    public static final String MESSAGE_NO_COMMANDS = "No commands have been run yet.";
+
+    private static final Map<String, Map<Phase, LatencyHistogram>> histograms = new ConcurrentHashMap<>();
+    private static final ThreadLocal<String> currentCommand = ThreadLocal.withInitial(() -> NO_COMMAND);
+
+    private static long saveCount;
+    private static long lastSaveBytes;
+    private static long maxSaveBytes;
+
+    /**
+     * Files the timings this thread records from now on under {@code commandWord}.
+     */
+    public static void startCommand(String commandWord) {
+        requireNonNull(commandWord);
+        currentCommand.set(commandWord);
+    }
+
+    /**
+     * Stops filing the timings this thread records under the command set by {@link #startCommand(String)}.
+     */
+    public static void endCommand() {
+        currentCommand.remove();
+    }
+
+    /**
+     * Records that {@code phase} of the command this thread is running took {@code nanos} nanoseconds.
+     */
+    public static void record(Phase phase, long nanos) {
+        record(currentCommand.get(), phase, nanos);
+    }
+
+    /**
+     * Records that {@code phase} of the command {@code commandWord} took {@code nanos} nanoseconds.
+     */
+    public static void record(String commandWord, Phase phase, long nanos) {
+        requireNonNull(commandWord);
+        requireNonNull(phase);
+        histograms.computeIfAbsent(commandWord, word -> createHistograms()).get(phase).record(nanos);
+    }
+
+    private static Map<Phase, LatencyHistogram> createHistograms() {
+        Map<Phase, LatencyHistogram> phases = new EnumMap<>(Phase.class);
+        for (Phase phase : Phase.values()) {
+            phases.put(phase, new LatencyHistogram());
+        }
+        return phases;
+    }
+
+    /**
+     * Records that the data file was saved with a size of {@code bytes}.
+     */
+    public static synchronized void recordSave(long bytes) {
+        saveCount++;
+        lastSaveBytes = bytes;
+        maxSaveBytes = Math.max(maxSaveBytes, bytes);
+    }
+
+    /**
+     * Discards everything recorded so far.
+     */
+    public static synchronized void reset() {
+        histograms.clear();
+        saveCount = 0;
+        lastSaveBytes = 0;
+        maxSaveBytes = 0;
+    }
+
+    /**
+     * Returns the timings recorded for {@code phase} of {@code commandWord}, or an empty histogram if there are none.
+     */
+    public static LatencyHistogram getHistogram(String commandWord, Phase phase) {
+        Map<Phase, LatencyHistogram> phases = histograms.get(commandWord);
+        return phases == null ? new LatencyHistogram() : phases.get(phase);
+    }
+
+    /**
+     * Returns a readable report of the timings of every command word, in milliseconds, and the data file sizes.
+     */
+    public static String getReport() {
+        if (histograms.isEmpty()) {
+            return MESSAGE_NO_COMMANDS;
+        }
+
+        StringBuilder report = new StringBuilder("Command timings in ms (p50 / p95 / p99 / max):");
+        for (Map.Entry<String, Map<Phase, LatencyHistogram>> command : new TreeMap<>(histograms).entrySet()) {
+            report.append("\n").append(command.getKey());
+            for (Map.Entry<Phase, LatencyHistogram> phase : command.getValue().entrySet()) {
+                LatencyHistogram histogram = phase.getValue();
+                if (histogram.getCount() == 0) {
+                    continue;
+                }
+                report.append(String.format(Locale.ROOT, "\n  %-8s x%-5d %s / %s / %s / %s", phase.getKey(),
+                        histogram.getCount(), toMillis(histogram.getPercentile(50)),
+                        toMillis(histogram.getPercentile(95)), toMillis(histogram.getPercentile(99)),
+                        toMillis(histogram.getMax())));
+            }
+        }
+
+        synchronized (MetricsCenter.class) {
+            if (saveCount > 0) {
+                report.append(String.format("\nData file saved %d times; last size %s, largest %s", saveCount,
+                        StringUtil.formatBytes(lastSaveBytes), StringUtil.formatBytes(maxSaveBytes)));
+            }
+        }
+        return report.toString();
+    }
+
+    /**
+     * Overwrites {@code filePath} with the current report, headed by the time it was written.
+     *
+     * @throws IOException if the file could not be written.
+     */
+    public static void writeReport(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFile(filePath, "Metrics at " + LocalDateTime.now() + "\n" + getReport() + "\n");
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0);
+    }
+
+    /**
+     * The phases of running a command that are timed.
+     */
+    public enum Phase {
+        PARSE, EXECUTE, SNAPSHOT, SAVE;
+
+        @Override
+        public String toString() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+}
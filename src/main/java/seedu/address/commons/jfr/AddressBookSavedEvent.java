@@ -0,0 +1,33 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Flight Recorder event for a save of the address book to its data file. The event's duration is the save.
+ */
+@Name("seedu.address.AddressBookSaved")
+@Label("Address Book Saved")
+@Category("MediSaveContact")
+@Description("The address book was written to a data file")
+public class AddressBookSavedEvent extends Event {
+
+    @Label("Path")
+    private String path;
+
+    @Label("Size")
+    @DataAmount
+    private long bytes;
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * A Flight Recorder event for a command entered by the user, from parsing it to saving the data file.
+ */
+@Name("seedu.address.CommandExecuted")
+@Label("Command Executed")
+@Category("MediSaveContact")
+@Description("A user command was parsed, executed and saved")
+public class CommandExecutedEvent extends Event {
+
+    @Label("Command Word")
+    private String commandWord;
+
+    @Label("Parse Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    private long parseDuration;
+
+    @Label("Execute Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    private long executeDuration;
+
+    @Label("Save Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    private long saveDuration;
+
+    @Label("Result Size")
+    @Description("Number of characters in the message shown to the user")
+    private int resultSize;
+
+    @Label("Succeeded")
+    private boolean isSuccessful;
+
+    public void setCommandWord(String commandWord) {
+        this.commandWord = commandWord;
+    }
+
+    public void setParseDuration(long parseDuration) {
+        this.parseDuration = parseDuration;
+    }
+
+    public void setExecuteDuration(long executeDuration) {
+        this.executeDuration = executeDuration;
+    }
+
+    public void setSaveDuration(long saveDuration) {
+        this.saveDuration = saveDuration;
+    }
+
+    public void setResultSize(int resultSize) {
+        this.resultSize = resultSize;
+    }
+
+    public void setSuccessful(boolean isSuccessful) {
+        this.isSuccessful = isSuccessful;
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Flight Recorder event for a change of the filter on the displayed person list. The event's duration is
+ * re-filtering the list.
+ */
+@Name("seedu.address.FilterApplied")
+@Label("Filter Applied")
+@Category("MediSaveContact")
+@Description("The displayed person list was filtered")
+public class FilterAppliedEvent extends Event {
+
+    @Label("Predicate Type")
+    private String predicateType;
+
+    @Label("Matched Count")
+    private int matchedCount;
+
+    public void setPredicateType(String predicateType) {
+        this.predicateType = predicateType;
+    }
+
+    public void setMatchedCount(int matchedCount) {
+        this.matchedCount = matchedCount;
+    }
+}
@@ -0,0 +1,24 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Flight Recorder event for an undo snapshot of the address book. The event's duration is taking the snapshot.
+ */
+@Name("seedu.address.UndoSnapshotTaken")
+@Label("Undo Snapshot Taken")
+@Category("MediSaveContact")
+@Description("A copy of the address book was pushed onto the undo history")
+public class UndoSnapshotTakenEvent extends Event {
+
+    @Label("Person Count")
+    private int personCount;
+
+    public void setPersonCount(int personCount) {
+        this.personCount = personCount;
+    }
+}
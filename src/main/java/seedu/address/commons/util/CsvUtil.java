@@ -0,0 +1,124 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converts records of comma-separated values to fields and vice versa.
+ * Fields containing commas, quotes or line breaks are enclosed in double quotes, with embedded quotes doubled, so a
+ * record spans several lines if a quoted field contains line breaks.
+ */
+public class CsvUtil {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    /**
+     * Reads the next record from {@code reader}, joining the lines of a quoted field that contains line breaks with
+     * {@code \n}.
+     *
+     * @return the record, or null at the end of the input. A quoted field that is still open at the end of the input
+     *     is returned as it is, so that {@link #splitLine(String)} rejects it.
+     */
+    public static String readRecord(BufferedReader reader) throws IOException {
+        requireNonNull(reader);
+        String line = reader.readLine();
+        if (line == null || !isQuoteOpen(line, false)) {
+            return line;
+        }
+
+        StringBuilder record = new StringBuilder(line);
+        boolean isQuoted = true;
+        while (isQuoted && (line = reader.readLine()) != null) {
+            record.append('\n').append(line);
+            isQuoted = isQuoteOpen(line, true);
+        }
+        return record.toString();
+    }
+
+    /**
+     * Returns true if a quoted field is open at the end of {@code line}, given whether one was open at its start.
+     * Doubled quotes inside a quoted field close and reopen it, so only the parity of the quotes matters.
+     */
+    private static boolean isQuoteOpen(String line, boolean isOpenAtStart) {
+        boolean isOpen = isOpenAtStart;
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == QUOTE) {
+                isOpen = !isOpen;
+            }
+        }
+        return isOpen;
+    }
+
+    /**
+     * Splits a CSV record, which may hold line breaks inside quoted fields, into its fields.
+     *
+     * @throws IllegalArgumentException if {@code line} contains an unterminated quoted field.
+     */
+    public static List<String> splitLine(String line) {
+        requireNonNull(line);
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (isQuoted) {
+                if (c != QUOTE) {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                    field.append(QUOTE);
+                    i++;
+                } else {
+                    isQuoted = false;
+                }
+            } else if (c == QUOTE) {
+                isQuoted = true;
+            } else if (c == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+
+        if (isQuoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Joins {@code fields} into a CSV record, quoting fields where necessary.
+     * Null fields are written as empty fields.
+     */
+    public static String joinLine(List<String> fields) {
+        requireNonNull(fields);
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                line.append(SEPARATOR);
+            }
+            appendField(line, fields.get(i));
+        }
+        return line.toString();
+    }
+
+    private static void appendField(StringBuilder line, String field) {
+        if (field == null) {
+            return;
+        }
+        boolean needsQuotes = field.indexOf(SEPARATOR) >= 0 || field.indexOf(QUOTE) >= 0
+                || field.indexOf('\n') >= 0 || field.indexOf('\r') >= 0;
+        if (!needsQuotes) {
+            line.append(field);
+            return;
+        }
+        line.append(QUOTE).append(field.replace("\"", "\"\"")).append(QUOTE);
+    }
+}
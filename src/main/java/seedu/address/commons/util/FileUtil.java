@@ -1,17 +1,39 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    /** Files whose name ends in this extension are written gzip-compressed. */
+    public static final String GZIP_EXTENSION = ".gz";
+
     private static final String CHARSET = "UTF-8";
+    private static final int BUFFER_SIZE = 64 * 1024;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +102,114 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Returns true if {@code file} is written gzip-compressed, i.e. its name ends in {@link #GZIP_EXTENSION}.
+     */
+    public static boolean isCompressed(Path file) {
+        Path fileName = file.getFileName();
+        return fileName != null && fileName.toString().endsWith(GZIP_EXTENSION);
+    }
+
+    /**
+     * Returns the name of {@code file} without {@link #GZIP_EXTENSION}, e.g. {@code export.csv} for
+     * {@code export.csv.gz}.
+     */
+    public static String getUncompressedFileName(Path file) {
+        String fileName = file.getFileName().toString();
+        return isCompressed(file) ? fileName.substring(0, fileName.length() - GZIP_EXTENSION.length()) : fileName;
+    }
+
+    /**
+     * Opens a buffered stream that writes to {@code file}, overwriting it if it exists. If {@code file} is
+     * {@linkplain #isCompressed(Path) compressed}, what is written is compressed as it is written.
+     */
+    public static OutputStream newOutputStream(Path file) throws IOException {
+        return newOutputStream(file, null);
+    }
+
+    /**
+     * Similar to {@link #newOutputStream(Path)}, and also updates {@code digest}, if it is not null, with the bytes
+     * written to the file, i.e. after they are compressed.
+     */
+    public static OutputStream newOutputStream(Path file, MessageDigest digest) throws IOException {
+        return newOutputStream(file, isCompressed(file), digest);
+    }
+
+    /**
+     * Similar to {@link #newOutputStream(Path, MessageDigest)}, but compresses the bytes if {@code isCompressed}
+     * whatever the name of {@code file}, e.g. for a temporary file that is renamed once it is written.
+     */
+    public static OutputStream newOutputStream(Path file, boolean isCompressed, MessageDigest digest)
+            throws IOException {
+        OutputStream out = Files.newOutputStream(file);
+        if (digest != null) {
+            out = new DigestOutputStream(out, digest);
+        }
+        try {
+            return isCompressed
+                    ? new GZIPOutputStream(out, BUFFER_SIZE)
+                    : new BufferedOutputStream(out, BUFFER_SIZE);
+        } catch (IOException e) {
+            out.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Forces the contents of {@code tempFile} to the disk and then moves it over {@code file} in one step where the
+     * file system allows, so that {@code file} is only ever seen whole, either as it was or as written.
+     */
+    public static void replaceWith(Path file, Path tempFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        try {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Opens a buffered stream that reads from {@code file}, decompressing it if it is gzip-compressed. Whether it is
+     * compressed is decided by its contents, not its name, so a file that was renamed can still be read.
+     */
+    public static InputStream newInputStream(Path file) throws IOException {
+        return newInputStream(file, null);
+    }
+
+    /**
+     * Similar to {@link #newInputStream(Path)}, and also updates {@code digest}, if it is not null, with the bytes
+     * read from the file, i.e. before they are decompressed.
+     */
+    public static InputStream newInputStream(Path file, MessageDigest digest) throws IOException {
+        InputStream fileIn = Files.newInputStream(file);
+        if (digest != null) {
+            fileIn = new DigestInputStream(fileIn, digest);
+        }
+        BufferedInputStream in = new BufferedInputStream(fileIn, BUFFER_SIZE);
+        try {
+            in.mark(2);
+            int magic = in.read() | in.read() << 8;
+            in.reset();
+            return magic == GZIPInputStream.GZIP_MAGIC ? new GZIPInputStream(in, BUFFER_SIZE) : in;
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens a UTF-8 writer on {@link #newOutputStream(Path)}.
+     */
+    public static BufferedWriter newBufferedWriter(Path file) throws IOException {
+        return new BufferedWriter(new OutputStreamWriter(newOutputStream(file), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Opens a UTF-8 reader on {@link #newInputStream(Path)}.
+     */
+    public static BufferedReader newBufferedReader(Path file) throws IOException {
+        return new BufferedReader(new InputStreamReader(newInputStream(file), StandardCharsets.UTF_8));
+    }
 }
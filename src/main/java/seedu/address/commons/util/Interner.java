@@ -0,0 +1,71 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A pool of canonical instances of an immutable value class, so that equal values read many times, e.g. the same
+ * address of many patients, share one instance. The pool only holds its instances weakly, so a value that is no
+ * longer used anywhere else is dropped from it.
+ * <p>
+ * The pool is split into segments with a lock each, so that it can be used by several threads at once, e.g. when the
+ * data file is converted in parallel.
+ *
+ * @param <T> the value class, whose instances must be immutable and implement {@code equals} and {@code hashCode}.
+ */
+public class Interner<T> {
+
+    private static final int SEGMENT_COUNT = 16;
+
+    private final Segment<T>[] segments;
+
+    /**
+     * Creates an empty pool.
+     */
+    @SuppressWarnings("unchecked")
+    public Interner() {
+        segments = new Segment[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment<>();
+        }
+    }
+
+    /**
+     * Returns the instance in the pool that is equal to {@code value}, adding {@code value} to the pool if there is
+     * none.
+     */
+    public T intern(T value) {
+        requireNonNull(value);
+        int hash = value.hashCode();
+        Segment<T> segment = segments[(hash ^ (hash >>> 16)) & (SEGMENT_COUNT - 1)];
+        synchronized (segment) {
+            WeakReference<T> reference = segment.instances.get(value);
+            T instance = reference == null ? null : reference.get();
+            if (instance != null) {
+                return instance;
+            }
+            segment.instances.put(value, new WeakReference<>(value));
+            return value;
+        }
+    }
+
+    /**
+     * Returns the number of instances in the pool, including those that are no longer used but not dropped yet.
+     */
+    public int size() {
+        int size = 0;
+        for (Segment<T> segment : segments) {
+            synchronized (segment) {
+                size += segment.instances.size();
+            }
+        }
+        return size;
+    }
+
+    private static class Segment<T> {
+        private final Map<T, WeakReference<T>> instances = new WeakHashMap<>();
+    }
+}
@@ -3,18 +3,23 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -28,6 +33,8 @@ import seedu.address.commons.exceptions.DataLoadingException;
  */
 public class JsonUtil {
 
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
     private static final Logger logger = LogsCenter.getLogger(JsonUtil.class);
 
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
@@ -39,13 +46,49 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    /**
+     * Streams the JSON of {@code objectToSerialize} to {@code jsonFile} as it is generated, so no copy of the whole
+     * text is built in memory. A {@linkplain FileUtil#isCompressed(Path) compressed} file is written without
+     * indentation, as it is not meant to be edited by hand. <br>
+     * The JSON is streamed to a temporary file next to {@code jsonFile} that then replaces it, so that a save that
+     * fails part way, e.g. when the disk is full, leaves the previous file whole.
+     */
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        serializeObjectToJsonFile(jsonFile, objectToSerialize, null);
+    }
+
+    private static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, MessageDigest digest)
+            throws IOException {
+        ObjectWriter writer = FileUtil.isCompressed(jsonFile)
+                ? objectMapper.writer()
+                : objectMapper.writerWithDefaultPrettyPrinter();
+        Path tempFile = jsonFile.resolveSibling(jsonFile.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            try (OutputStream out = FileUtil.newOutputStream(tempFile, FileUtil.isCompressed(jsonFile), digest)) {
+                writer.writeValue(out, objectToSerialize);
+            }
+            FileUtil.replaceWith(jsonFile, tempFile);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        return deserializeObjectFromJsonFile(jsonFile, classOfObjectToDeserialize, null);
+    }
+
+    private static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize,
+            MessageDigest digest) throws IOException {
+        try (InputStream in = FileUtil.newInputStream(jsonFile, digest);
+                JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            T value = objectMapper.readValue(parser, classOfObjectToDeserialize);
+            // Read what is left, e.g. a trailing line break, so that the digest covers the whole file
+            in.transferTo(OutputStream.nullOutputStream());
+            return value;
+        }
     }
 
     /**
@@ -58,17 +101,26 @@ public class JsonUtil {
      */
     public static <T> Optional<T> readJsonFile(
             Path filePath, Class<T> classOfObjectToDeserialize) throws DataLoadingException {
+        return readJsonFile(filePath, classOfObjectToDeserialize, null);
+    }
+
+    /**
+     * Similar to {@link #readJsonFile(Path, Class)}, and also updates {@code digest}, if it is not null, with all the
+     * bytes of the file.
+     */
+    public static <T> Optional<T> readJsonFile(Path filePath, Class<T> classOfObjectToDeserialize,
+            MessageDigest digest) throws DataLoadingException {
         requireNonNull(filePath);
 
         if (!Files.exists(filePath)) {
             return Optional.empty();
         }
-        logger.info("JSON file " + filePath + " found.");
+        logger.info(() -> "JSON file " + filePath + " found.");
 
         T jsonFile;
 
         try {
-            jsonFile = deserializeObjectFromJsonFile(filePath, classOfObjectToDeserialize);
+            jsonFile = deserializeObjectFromJsonFile(filePath, classOfObjectToDeserialize, digest);
         } catch (IOException e) {
             logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
             throw new DataLoadingException(e);
@@ -85,10 +137,18 @@ public class JsonUtil {
      * @throws IOException if there was an error during writing to the file
      */
     public static <T> void saveJsonFile(T jsonFile, Path filePath) throws IOException {
+        saveJsonFile(jsonFile, filePath, null);
+    }
+
+    /**
+     * Similar to {@link #saveJsonFile(Object, Path)}, and also updates {@code digest}, if it is not null, with all
+     * the bytes written to the file.
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, MessageDigest digest) throws IOException {
         requireNonNull(filePath);
         requireNonNull(jsonFile);
 
-        serializeObjectToJsonFile(filePath, jsonFile);
+        serializeObjectToJsonFile(filePath, jsonFile, digest);
     }
 
 
@@ -111,6 +171,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, without line breaks
+     */
+    public static <T> String toJsonLine(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -6,6 +6,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.Locale;
 
 /**
  * Helper functions for handling strings.
@@ -65,4 +66,28 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns {@code bytes} in human-readable form, using binary units.
+     *   <br>examples:<pre>
+     *       formatBytes(512) == "512 B"
+     *       formatBytes(1536) == "1.5 KB"
+     *       formatBytes(64L * 1024 * 1024) == "64.0 MB"
+     *       </pre>
+     * @param bytes cannot be negative
+     */
+    public static String formatBytes(long bytes) {
+        checkArgument(bytes >= 0, "Byte count cannot be negative");
+        if (bytes < 1024) {
+            return bytes + " B";
+        }
+        String[] units = {"KB", "MB", "GB", "TB"};
+        double value = bytes;
+        int unit = -1;
+        while (value >= 1024 && unit < units.length - 1) {
+            value /= 1024;
+            unit++;
+        }
+        return String.format(Locale.ROOT, "%.1f %s", value, units[unit]);
+    }
 }
@@ -0,0 +1,236 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.person.Person;
+
+/**
+ * Runs commands one at a time on a dedicated worker thread, so that parsing, executing and saving a command do not
+ * hold up the thread that entered it.
+ * <p>
+ * Commands are queued and run in the order they were submitted. When a command finishes, its outcome and the
+ * changes it made to the filtered person list are handed to the result executor, e.g. the JavaFX application
+ * thread, in one batch. {@link #getDisplayedPersonList()} is a copy of the filtered person list that is only ever
+ * changed by the result executor, so it is safe to show while the next command runs.
+ * <p>
+ * While a {@code find} or {@code list} command is being typed, {@link #preview(String)} shows the persons it would
+ * list in the displayed person list instead. Previews that have not started by the time a newer preview or a
+ * command is submitted are skipped.
+ * <p>
+ * The data file can be loaded through {@link #load(Function)}, so that the commands entered while it loads wait for
+ * it to finish.
+ */
+public class CommandExecutionService {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private static final Logger logger = LogsCenter.getLogger(CommandExecutionService.class);
+
+    private final Logic logic;
+    private final Executor resultExecutor;
+    private final ExecutorService worker;
+    private final ObservableList<Person> displayedPersons;
+    private final ObservableList<Person> unmodifiableDisplayedPersons;
+    private final AtomicBoolean isDisplayedListStale = new AtomicBoolean();
+    private final AtomicLong previewGeneration = new AtomicLong();
+    private final AtomicReference<Future<?>> pendingPreview = new AtomicReference<>();
+
+    // Only used by the worker thread
+    private boolean isShowingPreview;
+
+    /**
+     * Creates a {@code CommandExecutionService} that runs commands with {@code logic} and hands their outcomes to
+     * {@code resultExecutor}.
+     */
+    public CommandExecutionService(Logic logic, Executor resultExecutor) {
+        requireAllNonNull(logic, resultExecutor);
+        this.logic = logic;
+        this.resultExecutor = resultExecutor;
+
+        displayedPersons = FXCollections.observableArrayList(logic.getFilteredPersonList());
+        unmodifiableDisplayedPersons = FXCollections.unmodifiableObservableList(displayedPersons);
+        logic.getFilteredPersonList().addListener((ListChangeListener<Person>) change ->
+                isDisplayedListStale.set(true));
+
+        worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-executor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns an unmodifiable copy of the filtered person list, as it was after the last command that finished.
+     */
+    public ObservableList<Person> getDisplayedPersonList() {
+        return unmodifiableDisplayedPersons;
+    }
+
+    /**
+     * Queues {@code commandText} to be executed after the commands submitted before it.
+     *
+     * @return a future that the result executor completes with the command's result, or with the
+     *     {@code CommandException} or {@code ParseException} it threw.
+     * @see Logic#execute(String)
+     */
+    public CompletableFuture<CommandResult> execute(String commandText) {
+        requireNonNull(commandText);
+        previewGeneration.incrementAndGet();
+        replacePendingPreview(null);
+
+        CompletableFuture<CommandResult> outcome = new CompletableFuture<>();
+        worker.execute(() -> run(commandText, outcome));
+        return outcome;
+    }
+
+    private void run(String commandText, CompletableFuture<CommandResult> outcome) {
+        CommandResult commandResult = null;
+        Exception error = null;
+        try {
+            commandResult = logic.execute(commandText);
+        } catch (Exception e) {
+            if (e instanceof RuntimeException) {
+                logger.severe("Unexpected error while executing " + commandText + StringUtil.getDetails(e));
+            }
+            error = e;
+        }
+
+        // Only the persons are copied here; the display is updated with them after the command has finished.
+        boolean isReplacingPreview = isShowingPreview;
+        isShowingPreview = false;
+        List<Person> persons = isDisplayedListStale.getAndSet(false) || isReplacingPreview
+                ? List.copyOf(logic.getFilteredPersonList())
+                : null;
+        CommandResult finalResult = commandResult;
+        Exception finalError = error;
+        resultExecutor.execute(() -> {
+            if (persons != null) {
+                displayedPersons.setAll(persons);
+            }
+            if (finalError == null) {
+                outcome.complete(finalResult);
+            } else {
+                outcome.completeExceptionally(finalError);
+            }
+        });
+    }
+
+    /**
+     * Queues {@code loader}, e.g. the loading of the data file while the window is already showing, to run before the
+     * commands and previews submitted after it. {@code loader} is given a callback to call after each batch of persons
+     * it adds, which shows the persons added so far in the displayed person list.
+     *
+     * @return a future that the result executor completes with the result of {@code loader}.
+     */
+    public <T> CompletableFuture<T> load(Function<Runnable, T> loader) {
+        requireNonNull(loader);
+        CompletableFuture<T> outcome = new CompletableFuture<>();
+        worker.execute(() -> {
+            T result = null;
+            RuntimeException error = null;
+            try {
+                result = loader.apply(this::showLoadedPersons);
+            } catch (RuntimeException e) {
+                logger.severe("Unexpected error while loading the data" + StringUtil.getDetails(e));
+                error = e;
+            }
+            showLoadedPersons();
+
+            T finalResult = result;
+            RuntimeException finalError = error;
+            resultExecutor.execute(() -> {
+                if (finalError == null) {
+                    outcome.complete(finalResult);
+                } else {
+                    outcome.completeExceptionally(finalError);
+                }
+            });
+        });
+        return outcome;
+    }
+
+    private void showLoadedPersons() {
+        if (!isDisplayedListStale.getAndSet(false)) {
+            return;
+        }
+        List<Person> persons = List.copyOf(logic.getFilteredPersonList());
+        resultExecutor.execute(() -> displayedPersons.setAll(persons));
+    }
+
+    /**
+     * Queues a preview of the persons that {@code commandText} would list, replacing the previous preview if it has
+     * not started yet. If {@code commandText} is not a command that can be previewed, the displayed person list goes
+     * back to showing the filtered person list.
+     *
+     * @see Logic#previewFilteredPersonList(String)
+     */
+    public void preview(String commandText) {
+        requireNonNull(commandText);
+        long generation = previewGeneration.incrementAndGet();
+        replacePendingPreview(worker.submit(() -> runPreview(commandText, generation)));
+    }
+
+    private void replacePendingPreview(Future<?> preview) {
+        Future<?> superseded = pendingPreview.getAndSet(preview);
+        if (superseded != null) {
+            superseded.cancel(false);
+        }
+    }
+
+    private void runPreview(String commandText, long generation) {
+        if (generation != previewGeneration.get()) {
+            return;
+        }
+
+        Optional<List<Person>> preview = logic.previewFilteredPersonList(commandText);
+        List<Person> persons;
+        if (preview.isPresent()) {
+            persons = preview.get();
+            isShowingPreview = true;
+        } else if (isShowingPreview) {
+            persons = List.copyOf(logic.getFilteredPersonList());
+            isShowingPreview = false;
+        } else {
+            return;
+        }
+
+        // Handed over even if a newer preview has been submitted since, so that the display never misses a
+        // change to or from a preview; the newer preview is handed over after this one.
+        resultExecutor.execute(() -> displayedPersons.setAll(persons));
+    }
+
+    /**
+     * Stops accepting commands and waits for the queued ones to finish, so that their changes are saved.
+     */
+    public void shutdown() {
+        worker.shutdown();
+        try {
+            if (!worker.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Queued commands did not finish within " + SHUTDOWN_TIMEOUT_SECONDS + " seconds");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
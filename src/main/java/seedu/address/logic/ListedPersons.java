@@ -0,0 +1,41 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.person.Person;
+
+/**
+ * The result of a command that only changes which persons are listed, with the persons it lists.
+ */
+public class ListedPersons {
+
+    private final CommandResult commandResult;
+    private final Predicate<Person> predicate;
+    private final List<Person> persons;
+
+    /**
+     * Creates a {@code ListedPersons} of the {@code persons} that match {@code predicate}.
+     */
+    public ListedPersons(CommandResult commandResult, Predicate<Person> predicate, List<Person> persons) {
+        requireAllNonNull(commandResult, predicate, persons);
+        this.commandResult = commandResult;
+        this.predicate = predicate;
+        this.persons = List.copyOf(persons);
+    }
+
+    public CommandResult getCommandResult() {
+        return commandResult;
+    }
+
+    public Predicate<Person> getPredicate() {
+        return predicate;
+    }
+
+    public List<Person> getPersons() {
+        return persons;
+    }
+}
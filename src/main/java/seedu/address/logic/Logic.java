@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -33,6 +35,22 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns the persons that would be listed if {@code commandText} were executed, if it is a command that only
+     * changes which persons are listed, such as {@code find}. The command is not executed and nothing is changed.
+     * @return the persons, or an empty Optional if {@code commandText} is not such a command or cannot be parsed.
+     */
+    Optional<List<Person>> previewFilteredPersonList(String commandText);
+
+    /**
+     * Executes {@code commandText} on {@code addressBook} instead of the model, if it is a command that only changes
+     * which persons are listed, such as {@code find}. It is logged and timed like {@link #execute(String)}, but
+     * nothing is changed, so it can be run on any thread.
+     * @return the result and the persons listed, or an empty Optional if {@code commandText} is not such a command
+     *     or cannot be parsed, in which case nothing is logged.
+     */
+    Optional<ListedPersons> executeLookup(String commandText, ReadOnlyAddressBook addressBook);
+
     /**
      * Returns the user prefs' address book file path.
      */
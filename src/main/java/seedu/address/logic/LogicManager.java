@@ -3,17 +3,26 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.commons.core.MetricsCenter.Phase;
+import seedu.address.commons.jfr.CommandExecutedEvent;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
@@ -28,11 +37,15 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    /** How often appointments that have taken place are moved to the appointment archive. */
+    public static final Duration ARCHIVAL_INTERVAL = Duration.ofHours(1);
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private long nextArchivalNanos;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -41,19 +54,72 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        // Past appointments are archived when the data file is loaded, so the first archival is only due later
+        nextArchivalNanos = System.nanoTime() + ARCHIVAL_INTERVAL.toNanos();
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
+
+        CommandExecutedEvent event = new CommandExecutedEvent();
+        event.begin();
+        try {
+            CommandResult commandResult = parseAndExecute(commandText, event);
+            event.setResultSize(commandResult.getFeedbackToUser().length());
+            event.setSuccessful(true);
+            return commandResult;
+        } finally {
+            event.commit();
+        }
+    }
+
+    private CommandResult parseAndExecute(String commandText, CommandExecutedEvent event)
+            throws CommandException, ParseException {
+        long parseStart = System.nanoTime();
+        Command command;
+        try {
+            command = addressBookParser.parseCommand(commandText);
+        } catch (ParseException pe) {
+            long parseDuration = System.nanoTime() - parseStart;
+            MetricsCenter.record(MetricsCenter.INVALID_COMMAND, Phase.PARSE, parseDuration);
+            event.setCommandWord(MetricsCenter.INVALID_COMMAND);
+            event.setParseDuration(parseDuration);
+            throw pe;
+        }
+        String commandWord = getCommandWord(commandText);
+        long parseDuration = System.nanoTime() - parseStart;
+        MetricsCenter.record(commandWord, Phase.PARSE, parseDuration);
+        event.setCommandWord(commandWord);
+        event.setParseDuration(parseDuration);
+
+        MetricsCenter.startCommand(commandWord);
+        try {
+            return executeAndSave(command, event);
+        } finally {
+            MetricsCenter.endCommand();
+        }
+    }
 
+    private CommandResult executeAndSave(Command command, CommandExecutedEvent event) throws CommandException {
         CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        ReadOnlyAddressBook originalAddressBook = new AddressBook(model.getAddressBook());
+        long executeStart = System.nanoTime();
         commandResult = command.execute(model);
+        long executeDuration = System.nanoTime() - executeStart;
+        MetricsCenter.record(Phase.EXECUTE, executeDuration);
+        event.setExecuteDuration(executeDuration);
 
+        // Changes made in a transaction are published and saved once, when it is committed
+        if (model.isInTransaction()) {
+            return commandResult;
+        }
+        archivePastAppointmentsIfDue();
+        model.publishSnapshot();
+
+        long saveStart = System.nanoTime();
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            storage.saveAddressBook(model.getSnapshot());
+            event.setSaveDuration(System.nanoTime() - saveStart);
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
@@ -63,6 +129,25 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    /**
+     * Moves the appointments that have taken place to the appointment archive, at most once every
+     * {@link #ARCHIVAL_INTERVAL}. This is done after a successful command outside a transaction rather than on a timer,
+     * since the model must only be changed by the thread that runs the commands; the command's save then saves the
+     * patients without them. While a transaction is open, archival stays due until it is closed.
+     */
+    private void archivePastAppointmentsIfDue() {
+        long now = System.nanoTime();
+        if (now - nextArchivalNanos < 0) {
+            return;
+        }
+        nextArchivalNanos = now + ARCHIVAL_INTERVAL.toNanos();
+        try {
+            model.archivePastAppointments(LocalDateTime.now());
+        } catch (IOException e) {
+            logger.warning("Failed to archive past appointments: " + e.getMessage());
+        }
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -73,6 +158,78 @@ public class LogicManager implements Logic {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public Optional<List<Person>> previewFilteredPersonList(String commandText) {
+        Command command;
+        try {
+            command = addressBookParser.parseCommand(commandText);
+        } catch (ParseException pe) {
+            return Optional.empty();
+        }
+
+        return getListingPredicate(command).map(model::getPersonsMatching);
+    }
+
+    @Override
+    public Optional<ListedPersons> executeLookup(String commandText, ReadOnlyAddressBook addressBook) {
+        long parseStart = System.nanoTime();
+        Command command;
+        try {
+            command = addressBookParser.parseCommand(commandText);
+        } catch (ParseException pe) {
+            return Optional.empty();
+        }
+        Optional<Predicate<Person>> predicate = getListingPredicate(command);
+        if (predicate.isEmpty()) {
+            return Optional.empty();
+        }
+        long parseDuration = System.nanoTime() - parseStart;
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
+
+        CommandExecutedEvent event = new CommandExecutedEvent();
+        event.begin();
+        String commandWord = getCommandWord(commandText);
+        MetricsCenter.record(commandWord, Phase.PARSE, parseDuration);
+        event.setCommandWord(commandWord);
+        event.setParseDuration(parseDuration);
+
+        MetricsCenter.startCommand(commandWord);
+        try {
+            long executeStart = System.nanoTime();
+            List<Person> persons = addressBook.getPersonList().stream().filter(predicate.get()).toList();
+            String feedback = command instanceof FindCommand
+                    ? Messages.patientsListedOverview(persons.size())
+                    : ListCommand.MESSAGE_SUCCESS;
+            long executeDuration = System.nanoTime() - executeStart;
+            MetricsCenter.record(Phase.EXECUTE, executeDuration);
+            event.setExecuteDuration(executeDuration);
+            event.setResultSize(feedback.length());
+            event.setSuccessful(true);
+            return Optional.of(new ListedPersons(new CommandResult(feedback), predicate.get(), persons));
+        } finally {
+            MetricsCenter.endCommand();
+            event.commit();
+        }
+    }
+
+    /**
+     * Returns the predicate of the persons {@code command} lists, if it is a command that only changes which persons
+     * are listed.
+     */
+    private static Optional<Predicate<Person>> getListingPredicate(Command command) {
+        if (command instanceof FindCommand) {
+            return Optional.of(((FindCommand) command).getPredicate());
+        }
+        if (command instanceof ListCommand) {
+            return Optional.of(Model.PREDICATE_SHOW_ALL_PERSONS);
+        }
+        return Optional.empty();
+    }
+
+    private static String getCommandWord(String commandText) {
+        return commandText.trim().split("\\s+", 2)[0];
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
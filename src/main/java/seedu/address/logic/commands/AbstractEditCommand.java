@@ -59,13 +59,22 @@ public abstract class AbstractEditCommand<T, D> extends Command {
         // Check for duplicates if applicable
         validateUniqueItem(model, itemToEdit, editedItem);
 
-        // Update the model
-        updateModel(model, itemToEdit, editedItem);
+        return new CommandResult(applyEdit(model, itemToEdit, editedItem));
+    }
 
-        // Perform any post-edit updates
+    /**
+     * Updates the model with the edited item, performs any post-edit updates and returns the success message.
+     * Subclasses whose message depends on what the update changed can override this.
+     *
+     * @param model the model to update
+     * @param originalItem the original item
+     * @param editedItem the edited item
+     * @return the success message
+     */
+    protected String applyEdit(Model model, T originalItem, T editedItem) {
+        updateModel(model, originalItem, editedItem);
         updateModelAfterEdit(model, editedItem);
-
-        return new CommandResult(formatSuccessMessage(editedItem));
+        return formatSuccessMessage(editedItem);
     }
 
     /**
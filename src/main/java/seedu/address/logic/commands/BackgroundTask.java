@@ -0,0 +1,19 @@
+package seedu.address.logic.commands;
+
+import java.util.function.Consumer;
+
+/**
+ * Long-running work that a command hands back in its {@link CommandResult} to be run off the UI thread,
+ * such as writing a large file. The task must not touch the model.
+ */
+@FunctionalInterface
+public interface BackgroundTask {
+
+    /**
+     * Runs the task, reporting progress messages to {@code progress} along the way.
+     *
+     * @return the message to show the user once the task is done.
+     * @throws Exception if the task failed; its message is shown to the user.
+     */
+    String run(Consumer<String> progress) throws Exception;
+}
@@ -0,0 +1,43 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Starts a transaction, so that the commands that follow are saved and undone together.
+ */
+public class BeginCommand extends Command {
+    public static final String COMMAND_WORD = "begin";
+
+    public static final String MESSAGE_SUCCESS = "Transaction started. Changes will be saved when you "
+            + CommitCommand.COMMAND_WORD + ", or discarded if you " + RollbackCommand.COMMAND_WORD + ".";
+
+    public static final String MESSAGE_ALREADY_IN_TRANSACTION = "A transaction is already in progress.";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (model.isInTransaction()) {
+            throw new CommandException(MESSAGE_ALREADY_IN_TRANSACTION);
+        }
+        model.beginTransaction();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        return other instanceof BeginCommand;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).toString();
+    }
+}
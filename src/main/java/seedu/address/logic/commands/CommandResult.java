@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.commons.util.ToStringBuilder;
 
@@ -19,6 +20,9 @@ public class CommandResult {
     /** The application should exit. */
     private final boolean exit;
 
+    /** Work to be run off the UI thread after the command returns, if any. */
+    private final BackgroundTask backgroundTask;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
@@ -26,6 +30,18 @@ public class CommandResult {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
+        this.backgroundTask = null;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser} that hands
+     * {@code backgroundTask} back to be run off the UI thread.
+     */
+    public CommandResult(String feedbackToUser, BackgroundTask backgroundTask) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = false;
+        this.exit = false;
+        this.backgroundTask = requireNonNull(backgroundTask);
     }
 
     /**
@@ -48,6 +64,10 @@ public class CommandResult {
         return exit;
     }
 
+    public Optional<BackgroundTask> getBackgroundTask() {
+        return Optional.ofNullable(backgroundTask);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -59,15 +79,17 @@ public class CommandResult {
             return false;
         }
 
+        // background tasks are compared by presence only, as they are usually lambdas
         CommandResult otherCommandResult = (CommandResult) other;
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
-                && exit == otherCommandResult.exit;
+                && exit == otherCommandResult.exit
+                && getBackgroundTask().isPresent() == otherCommandResult.getBackgroundTask().isPresent();
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit);
+        return Objects.hash(feedbackToUser, showHelp, exit, getBackgroundTask().isPresent());
     }
 
     @Override
@@ -0,0 +1,43 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Ends the transaction, saving its changes as a single undoable change.
+ */
+public class CommitCommand extends Command {
+    public static final String COMMAND_WORD = "commit";
+
+    public static final String MESSAGE_SUCCESS = "Transaction committed.";
+
+    public static final String MESSAGE_NO_TRANSACTION = "There is no transaction in progress. "
+            + "Use " + BeginCommand.COMMAND_WORD + " to start one.";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.isInTransaction()) {
+            throw new CommandException(MESSAGE_NO_TRANSACTION);
+        }
+        model.commitTransaction();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        return other instanceof CommitCommand;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).toString();
+    }
+}
@@ -23,7 +23,8 @@ import seedu.address.model.person.Phone;
 import seedu.address.model.person.Relationship;
 
 /**
- * Edits the caretaker of an existing patient in the address book.
+ * Edits the caretaker of an existing patient in the address book. A new name, phone or address is also given to the
+ * same caretaker of the other patients they look after, while a new relationship only applies to this patient.
  */
 public class EditCaretakerCommand extends AbstractEditCommand<Patient, EditCaretakerCommand.EditCaretakerDescriptor> {
 
@@ -42,6 +43,8 @@ public class EditCaretakerCommand extends AbstractEditCommand<Patient, EditCaret
 
     public static final String MESSAGE_EDIT_CARETAKER_SUCCESS = "Caretaker edited: %1$s\n"
             + "%2$s";
+    public static final String MESSAGE_OTHER_PATIENTS_UPDATED = "\nAlso updated for %1$d other patient(s) "
+            + "of this caretaker.";
     public static final String MESSAGE_NOT_PATIENT = "The person at index %1$s is not a patient. "
             + "Edit can only be done on Patients.";
     public static final String MESSAGE_NO_CARETAKER = "The patient at index %1$s does not have a caretaker.";
@@ -100,7 +103,7 @@ public class EditCaretakerCommand extends AbstractEditCommand<Patient, EditCaret
 
         Relationship updatedRelationship = d.getRelationship().orElse(old.getRelationship());
 
-        Caretaker newCaretaker = new Caretaker(updatedName, updatedPhone, updatedAddress, updatedRelationship);
+        Caretaker newCaretaker = Caretaker.of(updatedName, updatedPhone, updatedAddress, updatedRelationship);
 
         return new Patient(
                 patientToEdit.getName(),
@@ -121,15 +124,34 @@ public class EditCaretakerCommand extends AbstractEditCommand<Patient, EditCaret
         }
     }
 
+    @Override
+    protected String applyEdit(Model model, Patient originalPatient, Patient editedPatient) {
+        int otherPatientCount = model.getPatientsOfCaretaker(originalPatient.getCaretaker()).size() - 1;
+        updateModel(model, originalPatient, editedPatient);
+        updateModelAfterEdit(model, editedPatient);
+        return formatSuccessMessage(editedPatient, otherPatientCount);
+    }
+
     @Override
     protected void updateModel(Model model, Patient originalPatient, Patient editedPatient) {
-        model.setPerson(originalPatient, editedPatient);
+        model.setCaretaker(originalPatient, editedPatient.getCaretaker());
     }
 
     @Override
     protected String formatSuccessMessage(Patient editedPatient) {
-        return String.format(MESSAGE_EDIT_CARETAKER_SUCCESS, Messages.format(editedPatient.getCaretaker()),
+        return formatSuccessMessage(editedPatient, 0);
+    }
+
+    /**
+     * Formats the success message, mentioning the {@code otherPatientCount} other patients of the caretaker that
+     * were updated too.
+     */
+    private static String formatSuccessMessage(Patient editedPatient, int otherPatientCount) {
+        String message = String.format(MESSAGE_EDIT_CARETAKER_SUCCESS, Messages.format(editedPatient.getCaretaker()),
                 Messages.shortFormat(editedPatient));
+        return otherPatientCount > 0
+                ? message + String.format(MESSAGE_OTHER_PATIENTS_UPDATED, otherPatientCount)
+                : message;
     }
 
     @Override
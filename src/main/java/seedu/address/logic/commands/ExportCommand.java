@@ -0,0 +1,102 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FORMAT;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.storage.PatientExporter;
+import seedu.address.storage.RecordFormat;
+
+/**
+ * Exports the patients in the currently displayed list to a CSV or JSON-lines file.
+ * The file is written in the background, so the user can keep working while a large list is exported.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Exports the patients in the displayed list to a CSV or JSON-lines file.\n"
+            + "Parameters: FILE [" + PREFIX_FORMAT + "csv|jsonl]\n"
+            + "If the format is not given, it is taken from the file extension.\n"
+            + "Example: " + COMMAND_WORD + " data/high.csv";
+
+    public static final String MESSAGE_STARTED = "Exporting %1$d patients to %2$s...";
+    public static final String MESSAGE_PROGRESS = "Exporting to %3$s... %1$d of %2$d patients written";
+    public static final String MESSAGE_SUCCESS = "Exported %1$d patients to %2$s";
+    public static final String MESSAGE_NO_PATIENTS = "There are no patients in the displayed list to export!";
+    public static final String MESSAGE_WRITE_ERROR = "Could not export to %1$s: %2$s";
+
+    private final Path filePath;
+    private final RecordFormat format;
+
+    /**
+     * Creates an ExportCommand to export the displayed patients in the given {@code format} to {@code filePath}.
+     */
+    public ExportCommand(Path filePath, RecordFormat format) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        this.filePath = filePath;
+        this.format = format;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        // The displayed list may change while the file is written, so export the list as it is now.
+        List<Person> toExport = new ArrayList<>(model.getFilteredPersonList());
+        if (toExport.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_PATIENTS);
+        }
+
+        int total = toExport.size();
+        return new CommandResult(String.format(MESSAGE_STARTED, total, filePath), progress -> {
+            try {
+                int written = new PatientExporter(format).write(toExport, filePath, count ->
+                        progress.accept(String.format(MESSAGE_PROGRESS, count, total, filePath)));
+                return String.format(MESSAGE_SUCCESS, written, filePath);
+            } catch (IOException e) {
+                throw new CommandException(String.format(MESSAGE_WRITE_ERROR, filePath, e.getMessage()), e);
+            }
+        });
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return filePath.equals(otherExportCommand.filePath)
+                && format == otherExportCommand.format;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(filePath, format);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("format", format)
+                .toString();
+    }
+}
@@ -32,6 +32,11 @@ public class HelpCommand extends Command {
             + "   Format: find KEYWORD [MORE_KEYWORDS]\n"
             + "   Notes: Keywords must be alphabetic, case-insensitive\n";
 
+    private static final String WHOIS_MESSAGE = "Who Is\n"
+            + "   Purpose: Find the patient or caretaker with a phone number\n"
+            + "   Format: whois PHONE\n"
+            + "   Notes: Lists the patients with the phone number or whose caretaker has it\n";
+
     private static final String EDIT_PATIENT_MESSAGE = "Edit Patient\n"
             + "   Purpose: Edit an existing patient's details\n"
             + "   Format: editpatient INDEX [n/NAME] [p/PHONE] [a/ADDRESS] [tag/TAG]\n"
@@ -97,6 +102,21 @@ public class HelpCommand extends Command {
             + "   Purpose: Sorts the current list of patients by their most upcoming appointment.\n"
             + "   Format: sortappt\n";
 
+    private static final String HISTORY_MESSAGE = "Show past appointments\n"
+            + "   Purpose: List the appointments a patient has already had, including archived ones\n"
+            + "   Format: history INDEX\n"
+            + "   Notes: Past appointments are moved to an archive when the app starts and every hour\n";
+
+    private static final String IMPORT_MESSAGE = "Import patients\n"
+            + "   Purpose: Add patients in bulk from a CSV or JSON-lines file\n"
+            + "   Format: import FILE [format/csv|jsonl]\n"
+            + "   Notes: Duplicates are skipped; invalid lines are written to FILE.rejects\n";
+
+    private static final String EXPORT_MESSAGE = "Export patients\n"
+            + "   Purpose: Save the displayed list of patients to a CSV or JSON-lines file\n"
+            + "   Format: export FILE [format/csv|jsonl]\n"
+            + "   Notes: Use find or list tag/TAG first to export only some patients\n";
+
     private static final String CLEAR_MESSAGE = "Clear all entries\n"
             + "   Purpose: Clear all entries from MediSaveContact.\n"
             + "   Format: clear\n";
@@ -106,6 +126,25 @@ public class HelpCommand extends Command {
             + "   Format: undo\n"
             + "   Notes:  Only works for commands which change the database.\n";
 
+    private static final String REDO_MESSAGE = "Redo last undone command\n"
+            + "   Purpose: Reapply a change that was undone.\n"
+            + "   Format: redo\n"
+            + "   Notes:  Only available until the next command that changes the database.\n";
+
+    private static final String UNDO_STATS_MESSAGE = "Show undo history usage\n"
+            + "   Purpose: Show how many changes can be undone and the memory the history uses.\n"
+            + "   Format: undostats\n";
+
+    private static final String STATS_MESSAGE = "Show command timings\n"
+            + "   Purpose: Show how long each command took to parse, run, snapshot and save.\n"
+            + "   Format: stats\n"
+            + "   Notes:  Times are in ms, as p50 / p95 / p99 / max since MediSaveContact started.\n";
+
+    private static final String TRANSACTION_MESSAGE = "Group commands into a transaction\n"
+            + "   Purpose: Save and undo several commands together, or discard them all.\n"
+            + "   Format: begin, then any commands, then commit or rollback\n"
+            + "   Notes:  Changes are only saved on commit; undo is unavailable until then.\n";
+
     private static final String EXIT_MESSAGE = "Exit the program\n"
             + "   Purpose: Exit the program.\n"
             + "   Format: exit\n";
@@ -114,6 +153,7 @@ public class HelpCommand extends Command {
             HELP_MESSAGE,
             ADD_PATIENT_MESSAGE,
             FIND_PATIENT_MESSAGE,
+            WHOIS_MESSAGE,
             EDIT_PATIENT_MESSAGE,
             DELETE_PATIENT_MESSAGE,
             LIST_PATIENT_MESSAGE,
@@ -127,8 +167,15 @@ public class HelpCommand extends Command {
             EDIT_CARETAKER_MESSAGE,
             DELETE_CARETAKER_MESSAGE,
             SORT_APPT_MESSAGE,
+            HISTORY_MESSAGE,
+            IMPORT_MESSAGE,
+            EXPORT_MESSAGE,
             CLEAR_MESSAGE,
             UNDO_MESSAGE,
+            REDO_MESSAGE,
+            UNDO_STATS_MESSAGE,
+            STATS_MESSAGE,
+            TRANSACTION_MESSAGE,
             EXIT_MESSAGE
     ));
 
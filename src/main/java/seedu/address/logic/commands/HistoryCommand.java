@@ -0,0 +1,101 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Appointment;
+import seedu.address.model.person.Patient;
+import seedu.address.model.person.Person;
+
+/**
+ * Lists the past appointments of a patient identified using its displayed index, including those that were moved to
+ * the appointment archive.
+ */
+public class HistoryCommand extends Command {
+
+    public static final String COMMAND_WORD = "history";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the past appointments of the patient identified by the index number used in the displayed "
+            + "patient list.\n"
+            + "Parameters: INDEX (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " 1";
+
+    public static final String MESSAGE_HISTORY = "Past appointments of %1$s:";
+    public static final String MESSAGE_APPOINTMENT = "\n%1$d. %2$s";
+    public static final String MESSAGE_NO_HISTORY = "%1$s has no past appointments.";
+    public static final String MESSAGE_ARCHIVE_ERROR = "Could not read the past appointments due to the following "
+            + "error: %s";
+
+    private final Index targetIndex;
+
+    public HistoryCommand(Index targetIndex) {
+        requireNonNull(targetIndex);
+        this.targetIndex = targetIndex;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Person> lastShownList = model.getFilteredPersonList();
+        ensureValidPatientIndex(targetIndex, model);
+
+        Person person = lastShownList.get(targetIndex.getZeroBased());
+        if (!(person instanceof Patient)) {
+            throw new CommandException(Messages.MESSAGE_REQUIRE_PATIENT);
+        }
+        Patient patient = (Patient) person;
+
+        // Appointments that have passed since they were last archived are still with the patient
+        List<Appointment> appointments;
+        try {
+            appointments = new ArrayList<>(model.getArchivedAppointments(patient));
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_ARCHIVE_ERROR, e.getMessage()), e);
+        }
+        patient.getAppointmentsBefore(LocalDateTime.now()).stream()
+                .filter(appointment -> !appointments.contains(appointment))
+                .forEach(appointments::add);
+        appointments.sort(null);
+
+        if (appointments.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_HISTORY, patient.getName()));
+        }
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_HISTORY, patient.getName()));
+        for (int i = 0; i < appointments.size(); i++) {
+            message.append(String.format(MESSAGE_APPOINTMENT, i + 1, appointments.get(i)));
+        }
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof HistoryCommand)) {
+            return false;
+        }
+
+        HistoryCommand otherHistoryCommand = (HistoryCommand) other;
+        return targetIndex.equals(otherHistoryCommand.targetIndex);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetIndex", targetIndex)
+                .toString();
+    }
+}
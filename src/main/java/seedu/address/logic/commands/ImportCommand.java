@@ -0,0 +1,144 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FORMAT;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Patient;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.storage.PatientImporter;
+import seedu.address.storage.RecordFormat;
+
+/**
+ * Imports patients from a CSV or JSON-lines file into the address book.
+ * Patients that already exist, as a patient or as a caretaker, are skipped, and the rest are added as a single
+ * undoable change.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports patients from a CSV or JSON-lines file.\n"
+            + "Parameters: FILE [" + PREFIX_FORMAT + "csv|jsonl]\n"
+            + "If the format is not given, it is taken from the file extension.\n"
+            + "Example: " + COMMAND_WORD + " data/patients.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d patients (%2$d duplicates skipped).";
+    public static final String MESSAGE_REJECTS = "\n%1$d invalid lines were written to %2$s";
+    public static final String MESSAGE_FILE_NOT_FOUND = "The file %1$s does not exist.";
+    public static final String MESSAGE_READ_ERROR = "Could not read %1$s: %2$s";
+
+    public static final String REJECTS_FILE_SUFFIX = ".rejects";
+
+    private final Path filePath;
+    private final RecordFormat format;
+
+    /**
+     * Creates an ImportCommand to import patients in the given {@code format} from {@code filePath}.
+     */
+    public ImportCommand(Path filePath, RecordFormat format) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        this.filePath = filePath;
+        this.format = format;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!FileUtil.isFileExists(filePath)) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath));
+        }
+
+        PatientImporter.Result result;
+        try {
+            result = new PatientImporter(format).read(filePath, getRejectsFilePath());
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, filePath, e.getMessage()), e);
+        }
+
+        List<Patient> toAdd = withoutDuplicates(model, result.getPatients());
+        if (!toAdd.isEmpty()) {
+            model.addPersons(toAdd);
+        }
+
+        String message = String.format(MESSAGE_SUCCESS, toAdd.size(), result.getPatients().size() - toAdd.size());
+        if (result.getRejectsFilePath().isPresent()) {
+            message += String.format(MESSAGE_REJECTS, result.getRejectedCount(), result.getRejectsFilePath().get());
+        }
+        return new CommandResult(message);
+    }
+
+    private Path getRejectsFilePath() {
+        return filePath.resolveSibling(filePath.getFileName() + REJECTS_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the patients that are neither in {@code model} nor clash with an earlier patient in the file,
+     * and whose caretaker is not already a patient.
+     */
+    private static List<Patient> withoutDuplicates(Model model, List<Patient> patients) {
+        Set<Map.Entry<Name, Phone>> caretakers = new HashSet<>();
+        for (Person person : model.getAddressBook().getPersonList()) {
+            if (person instanceof Patient && ((Patient) person).getCaretaker() != null) {
+                caretakers.add(((Patient) person).getCaretaker().getIdentity());
+            }
+        }
+
+        Set<Map.Entry<Name, Phone>> seen = new HashSet<>();
+        List<Patient> toAdd = new ArrayList<>();
+        for (Patient patient : patients) {
+            boolean isDuplicate = model.hasPerson(patient)
+                    || caretakers.contains(patient.getIdentity())
+                    || (patient.getCaretaker() != null && model.hasPerson(patient.getCaretaker()));
+            if (!isDuplicate && seen.add(patient.getIdentity())) {
+                toAdd.add(patient);
+            }
+        }
+        return toAdd;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath)
+                && format == otherImportCommand.format;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(filePath, format);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("format", format)
+                .toString();
+    }
+}
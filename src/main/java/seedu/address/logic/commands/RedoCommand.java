@@ -0,0 +1,48 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * This command redoes the effect of the latest undone command
+ */
+public class RedoCommand extends Command {
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_SUCCESS = "Previous undone command redone.";
+
+    public static final String MESSAGE_NO_COMMANDS_TO_REDO = "No record of undone commands to redo.";
+
+    public static final String MESSAGE_IN_TRANSACTION = "Cannot redo during a transaction. "
+            + "Use " + CommitCommand.COMMAND_WORD + " or " + RollbackCommand.COMMAND_WORD + " first.";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (model.isInTransaction()) {
+            throw new CommandException(MESSAGE_IN_TRANSACTION);
+        }
+        if (!model.canRedo()) {
+            throw new CommandException(MESSAGE_NO_COMMANDS_TO_REDO);
+        }
+        model.redo();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        return other instanceof RedoCommand;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).toString();
+    }
+}
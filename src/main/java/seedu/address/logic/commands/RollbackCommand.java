@@ -0,0 +1,40 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Ends the transaction, discarding every change made since it began.
+ */
+public class RollbackCommand extends Command {
+    public static final String COMMAND_WORD = "rollback";
+
+    public static final String MESSAGE_SUCCESS = "Transaction rolled back.";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.isInTransaction()) {
+            throw new CommandException(CommitCommand.MESSAGE_NO_TRANSACTION);
+        }
+        model.rollbackTransaction();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        return other instanceof RollbackCommand;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).toString();
+    }
+}
@@ -16,13 +16,24 @@ public class UndoCommand extends Command {
 
     public static final String MESSAGE_NO_COMMANDS_TO_UNDO = "No record of successful commands to undo.";
 
+    public static final String MESSAGE_IN_TRANSACTION = "Cannot undo during a transaction. "
+            + "Use " + RollbackCommand.COMMAND_WORD + " to discard the changes made since "
+            + BeginCommand.COMMAND_WORD + ".";
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
+        if (model.isInTransaction()) {
+            throw new CommandException(MESSAGE_IN_TRANSACTION);
+        }
         if (!model.canUndo()) {
             throw new CommandException(MESSAGE_NO_COMMANDS_TO_UNDO);
         }
-        model.undo();
+        try {
+            model.undo();
+        } catch (IllegalStateException e) {
+            throw new CommandException(e.getMessage(), e);
+        }
         return new CommandResult(MESSAGE_SUCCESS);
     }
 
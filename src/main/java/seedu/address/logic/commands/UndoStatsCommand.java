@@ -0,0 +1,46 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.HistoryStatistics;
+import seedu.address.model.Model;
+
+/**
+ * Shows how much of the undo history is in use, and its limits.
+ */
+public class UndoStatsCommand extends Command {
+    public static final String COMMAND_WORD = "undostats";
+
+    public static final String MESSAGE_SUCCESS = "Undo history: %1$d of %2$d changes can be undone "
+            + "(%3$d paged out to disk), %4$d can be redone.\n"
+            + "Estimated memory: %5$s of %6$s.\n"
+            + "Older changes dropped this session: %7$d.";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        HistoryStatistics statistics = model.getHistoryStatistics();
+        return new CommandResult(String.format(MESSAGE_SUCCESS,
+                statistics.getUndoCount(), statistics.getMaxSize(), statistics.getSpilledCount(),
+                statistics.getRedoCount(),
+                StringUtil.formatBytes(statistics.getEstimatedBytes()),
+                StringUtil.formatBytes(statistics.getMaxBytes()),
+                statistics.getEvictedCount()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        return other instanceof UndoStatsCommand;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).toString();
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.Caretaker;
+import seedu.address.model.person.Patient;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.PhoneMatchesPredicate;
+
+/**
+ * Finds the patients and caretakers with a phone number, and lists the patients it belongs to.
+ */
+public class WhoisCommand extends Command {
+
+    public static final String COMMAND_WORD = "whois";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds the patient or caretaker with the specified "
+            + "phone number and lists the patients it belongs to with index numbers.\n"
+            + "Parameters: PHONE\n"
+            + "Example: " + COMMAND_WORD + " 98765432";
+
+    public static final String MESSAGE_NOT_FOUND = "No patient or caretaker has the phone number %1$s.";
+    public static final String MESSAGE_FOUND = "%1$s is the phone number of:";
+    public static final String MESSAGE_PATIENT = "\nPatient: %1$s";
+    public static final String MESSAGE_CARETAKER = "\nCaretaker: %1$s (%2$s of %3$s)";
+
+    private final Phone phone;
+
+    public WhoisCommand(Phone phone) {
+        requireNonNull(phone);
+        this.phone = phone;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Person> persons = model.getPersonsWithPhone(phone);
+        model.updateFilteredPersonList(new PhoneMatchesPredicate(phone));
+        if (persons.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NOT_FOUND, phone));
+        }
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_FOUND, phone));
+        for (Person person : persons) {
+            if (person.getPhone().equals(phone)) {
+                message.append(String.format(MESSAGE_PATIENT, person.getName()));
+            }
+            if (person instanceof Patient patient && patient.getCaretaker() != null
+                    && patient.getCaretaker().getPhone().equals(phone)) {
+                Caretaker caretaker = patient.getCaretaker();
+                message.append(String.format(MESSAGE_CARETAKER, caretaker.getName(), caretaker.getRelationship(),
+                        patient.getName()));
+            }
+        }
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof WhoisCommand)) {
+            return false;
+        }
+
+        WhoisCommand otherWhoisCommand = (WhoisCommand) other;
+        return phone.equals(otherWhoisCommand.phone);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("phone", phone)
+                .toString();
+    }
+}
@@ -10,9 +10,11 @@ import java.util.regex.Pattern;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddAppointmentCommand;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BeginCommand;
 import seedu.address.logic.commands.CaretakerCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommitCommand;
 import seedu.address.logic.commands.DeleteAppointmentCommand;
 import seedu.address.logic.commands.DeleteCaretakerCommand;
 import seedu.address.logic.commands.DeleteNoteCommand;
@@ -22,12 +24,20 @@ import seedu.address.logic.commands.EditCaretakerCommand;
 import seedu.address.logic.commands.EditNoteCommand;
 import seedu.address.logic.commands.EditPatientCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.NoteCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RollbackCommand;
 import seedu.address.logic.commands.SortAppointmentCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.UndoStatsCommand;
+import seedu.address.logic.commands.WhoisCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 
@@ -62,7 +72,7 @@ public class AddressBookParser {
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
-        logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
+        logger.fine(() -> "Command word: " + commandWord + "; Arguments: " + arguments);
 
         switch (commandWord) {
 
@@ -96,6 +106,9 @@ public class AddressBookParser {
         case FindCommand.COMMAND_WORD:
             return new FindCommandParser().parse(arguments);
 
+        case WhoisCommand.COMMAND_WORD:
+            return new WhoisCommandParser().parse(arguments);
+
         case ListCommand.COMMAND_WORD:
             logger.info(arguments);
             return new ListCommandParser().parse(arguments);
@@ -121,9 +134,36 @@ public class AddressBookParser {
         case UndoCommand.COMMAND_WORD:
             return new UndoCommand();
 
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
+        case UndoStatsCommand.COMMAND_WORD:
+            return new UndoStatsCommand();
+
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand();
+
+        case BeginCommand.COMMAND_WORD:
+            return new BeginCommand();
+
+        case CommitCommand.COMMAND_WORD:
+            return new CommitCommand();
+
+        case RollbackCommand.COMMAND_WORD:
+            return new RollbackCommand();
+
         case SortAppointmentCommand.COMMAND_WORD:
             return new SortAppointmentCommand();
 
+        case HistoryCommand.COMMAND_WORD:
+            return new HistoryCommandParser().parse(arguments);
+
+        case ImportCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(arguments);
+
+        case ExportCommand.COMMAND_WORD:
+            return new ExportCommandParser().parse(arguments);
+
         default:
             logger.finer(() -> "This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
@@ -15,4 +15,5 @@ public class CliSyntax {
     public static final Prefix PREFIX_NOTE = new Prefix("note/");
     public static final Prefix PREFIX_ITEM_INDEX = new Prefix("i/");
     public static final Prefix PREFIX_RELATIONSHIP = new Prefix("r/");
+    public static final Prefix PREFIX_FORMAT = new Prefix("format/");
 }
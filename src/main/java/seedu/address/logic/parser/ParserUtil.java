@@ -2,11 +2,14 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
@@ -15,6 +18,7 @@ import seedu.address.model.person.Note;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Relationship;
 import seedu.address.model.tag.Tag;
+import seedu.address.storage.RecordFormat;
 
 
 
@@ -24,6 +28,7 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_FILE_PATH = "File path is empty or invalid.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -90,7 +95,7 @@ public class ParserUtil {
             throw new ParseException(Address.BLANK_ADDRESS);
         }
 
-        return new Address(trimmedAddress);
+        return Address.of(trimmedAddress);
     }
 
     /**
@@ -106,7 +111,7 @@ public class ParserUtil {
             throw new ParseException(Relationship.BLANK_RELATIONSHIP);
         }
 
-        return new Relationship(trimmedRelationship);
+        return Relationship.of(trimmedRelationship);
     }
 
     /**
@@ -121,7 +126,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -162,7 +167,7 @@ public class ParserUtil {
                 throw new ParseException(Note.MESSAGE_CONSTRAINTS);
             }
         }
-        return new Note(trimmedNote);
+        return Note.of(trimmedNote);
     }
 
     /**
@@ -176,4 +181,31 @@ public class ParserUtil {
         }
         return tagSet;
     }
+
+    /**
+     * Parses a {@code String filePath} into a {@code Path}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code filePath} is empty or invalid.
+     */
+    public static Path parseFilePath(String filePath) throws ParseException {
+        requireNonNull(filePath);
+        String trimmedFilePath = filePath.trim();
+        if (trimmedFilePath.isEmpty() || !FileUtil.isValidPath(trimmedFilePath)) {
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH);
+        }
+        return Paths.get(trimmedFilePath);
+    }
+
+    /**
+     * Parses a {@code String format} into a {@code RecordFormat}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code format} is not a known format.
+     */
+    public static RecordFormat parseRecordFormat(String format) throws ParseException {
+        requireNonNull(format);
+        return RecordFormat.fromName(format)
+                .orElseThrow(() -> new ParseException(RecordFormat.MESSAGE_CONSTRAINTS));
+    }
 }
@@ -0,0 +1,27 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.WhoisCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new WhoisCommand object
+ */
+public class WhoisCommandParser implements Parser<WhoisCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the WhoisCommand
+     * and returns a WhoisCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public WhoisCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, WhoisCommand.MESSAGE_USAGE));
+        }
+        return new WhoisCommand(ParserUtil.parsePhone(trimmedArgs));
+    }
+
+}
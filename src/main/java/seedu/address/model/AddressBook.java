@@ -76,6 +76,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Adds all of {@code toAdd} to the address book in a single batch.
+     * None of the persons may already exist in the address book or share an identity with each other.
+     */
+    public void addPersons(List<? extends Person> toAdd) {
+        persons.addAll(toAdd);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -86,6 +94,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.setPerson(target, editedPerson);
     }
 
+    /**
+     * Replaces the person at {@code index} in the list with {@code editedPerson}, which must be the same person.
+     */
+    public void setPerson(int index, Person editedPerson) {
+        requireNonNull(editedPerson);
+        persons.setPerson(index, editedPerson);
+    }
+
     /**
      * Removes {@code key} from this {@code AddressBook}.
      * {@code key} must exist in the address book.
@@ -0,0 +1,69 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * An immutable version of the address book, numbered in the order the versions were published.
+ * <p>
+ * Persons are immutable, so a snapshot shares every {@code Person} with the address book it was taken from and
+ * only holds its own list of references. It never changes after it is created, so any thread can read it without
+ * locking while the address book goes on being edited.
+ */
+public final class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final long version;
+    private final ObservableList<Person> persons;
+
+    /**
+     * Creates version {@code version} of the address book, holding the persons of {@code addressBook} as they are now.
+     */
+    AddressBookSnapshot(long version, ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        this.version = version;
+        this.persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(List.copyOf(addressBook.getPersonList())));
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof AddressBookSnapshot)) {
+            return false;
+        }
+
+        AddressBookSnapshot otherSnapshot = (AddressBookSnapshot) other;
+        return version == otherSnapshot.version && persons.equals(otherSnapshot.persons);
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("version", version)
+                .add("persons", persons.size())
+                .toString();
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.model;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.person.Appointment;
+import seedu.address.model.person.Person;
+
+/**
+ * Keeps the appointments that have taken place outside the address book, so that the patients only hold their
+ * upcoming appointments while their past appointments can still be looked up.
+ */
+public interface AppointmentArchive {
+
+    /**
+     * Adds the appointments in {@code appointments} to the archive under the patients they belong to. Appointments
+     * that are already in the archive under the same patient are not added again.
+     *
+     * @throws IOException if the appointments could not be written.
+     */
+    void add(Map<? extends Person, List<Appointment>> appointments) throws IOException;
+
+    /**
+     * Returns the archived appointments of the patient with the same identity as {@code person}, earliest first.
+     *
+     * @throws IOException if the appointments could not be read.
+     */
+    List<Appointment> getAppointmentsOf(Person person) throws IOException;
+
+    /**
+     * Lets the patient with the identity of {@code to} take over the archived appointments of the patient with the
+     * identity of {@code from}, e.g. after the name or phone number of the patient was edited, in place of any
+     * appointments archived under {@code to} before. The appointments stay under {@code from} too, so that they are
+     * still found if the edit is undone.
+     *
+     * @throws IOException if the change could not be written.
+     */
+    void transfer(Person from, Person to) throws IOException;
+
+    /**
+     * Removes the archived appointments of the patients with the same identities as {@code persons}, e.g. as they
+     * were just added, so that they do not take over the appointments of patients that were deleted before.
+     *
+     * @throws IOException if the change could not be written.
+     */
+    void clear(Collection<? extends Person> persons) throws IOException;
+}
@@ -0,0 +1,83 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Caretaker;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Patient;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+/**
+ * An index from each caretaker in a list of persons, by name and phone number, to the patients they look after, so
+ * that a caretaker of several patients can be found and edited for all of them at once.
+ * <p>
+ * Finding the caretaker of a patient read from the data file decodes its details, so the index is only built the
+ * first time it is used, and then follows changes to the list.
+ */
+class CaretakerIndex {
+
+    private final ObservableList<Person> persons;
+
+    // The patients of each caretaker, in the order they were added, or null until the index is first used
+    private Map<Map.Entry<Name, Phone>, List<Patient>> patientsByCaretaker;
+
+    /**
+     * Creates an index of {@code persons} that is kept up to date as the list changes once it has been built.
+     */
+    CaretakerIndex(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+        persons.addListener((ListChangeListener<Person>) this::update);
+    }
+
+    private void update(ListChangeListener.Change<? extends Person> change) {
+        if (patientsByCaretaker == null) {
+            return;
+        }
+        while (change.next()) {
+            // Reordering the list does not change which patients have which caretakers
+            if (change.wasPermutated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    private void add(Person person) {
+        if (person instanceof Patient patient && patient.getCaretaker() != null) {
+            patientsByCaretaker.computeIfAbsent(patient.getCaretaker().getIdentity(), unused -> new ArrayList<>(1))
+                    .add(patient);
+        }
+    }
+
+    private void remove(Person person) {
+        if (person instanceof Patient patient && patient.getCaretaker() != null) {
+            Map.Entry<Name, Phone> identity = patient.getCaretaker().getIdentity();
+            List<Patient> patients = patientsByCaretaker.get(identity);
+            if (patients != null && patients.removeIf(p -> p == patient) && patients.isEmpty()) {
+                patientsByCaretaker.remove(identity);
+            }
+        }
+    }
+
+    /**
+     * Returns the patients in the list whose caretaker has the same name and phone number as {@code caretaker}.
+     */
+    List<Patient> getPatientsOf(Caretaker caretaker) {
+        requireNonNull(caretaker);
+        if (patientsByCaretaker == null) {
+            patientsByCaretaker = new HashMap<>();
+            persons.forEach(this::add);
+        }
+        return List.copyOf(patientsByCaretaker.getOrDefault(caretaker.getIdentity(), List.of()));
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.address.model;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The size and limits of the undo history at a point in time.
+ * Guarantees: immutable.
+ */
+public class HistoryStatistics {
+
+    private final int undoCount;
+    private final int spilledCount;
+    private final int redoCount;
+    private final long estimatedBytes;
+    private final int maxSize;
+    private final long maxBytes;
+    private final int evictedCount;
+
+    /**
+     * Creates a {@code HistoryStatistics} with the given values.
+     */
+    public HistoryStatistics(int undoCount, int spilledCount, int redoCount, long estimatedBytes, int maxSize,
+                             long maxBytes, int evictedCount) {
+        this.undoCount = undoCount;
+        this.spilledCount = spilledCount;
+        this.redoCount = redoCount;
+        this.estimatedBytes = estimatedBytes;
+        this.maxSize = maxSize;
+        this.maxBytes = maxBytes;
+        this.evictedCount = evictedCount;
+    }
+
+    /** Returns the number of changes that can be undone. */
+    public int getUndoCount() {
+        return undoCount;
+    }
+
+    /** Returns the number of changes that can be undone whose snapshots are paged out to disk. */
+    public int getSpilledCount() {
+        return spilledCount;
+    }
+
+    /** Returns the number of undone changes that can be redone. */
+    public int getRedoCount() {
+        return redoCount;
+    }
+
+    /** Returns the estimated heap memory retained by the history, in bytes. */
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    /** Returns the maximum number of changes that can be undone. */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /** Returns the estimated memory, in bytes, that the history may retain before its oldest changes are dropped. */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /** Returns the number of changes dropped from the history to stay within its limits. */
+    public int getEvictedCount() {
+        return evictedCount;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof HistoryStatistics)) {
+            return false;
+        }
+
+        HistoryStatistics otherStatistics = (HistoryStatistics) other;
+        return undoCount == otherStatistics.undoCount
+                && spilledCount == otherStatistics.spilledCount
+                && redoCount == otherStatistics.redoCount
+                && estimatedBytes == otherStatistics.estimatedBytes
+                && maxSize == otherStatistics.maxSize
+                && maxBytes == otherStatistics.maxBytes
+                && evictedCount == otherStatistics.evictedCount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(undoCount, spilledCount, redoCount, estimatedBytes, maxSize, maxBytes, evictedCount);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("undoCount", undoCount)
+                .add("spilledCount", spilledCount)
+                .add("redoCount", redoCount)
+                .add("estimatedBytes", estimatedBytes)
+                .add("maxSize", maxSize)
+                .add("maxBytes", maxBytes)
+                .add("evictedCount", evictedCount)
+                .toString();
+    }
+}
@@ -1,14 +1,20 @@
 package seedu.address.model;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.Appointment;
+import seedu.address.model.person.Caretaker;
 import seedu.address.model.person.Note;
 import seedu.address.model.person.Patient;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 
 /**
  * The API of the Model component.
@@ -55,6 +61,18 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the latest published version of the address book. It does not change as the address book is edited,
+     * so unlike {@link #getAddressBook()} it can be read from any thread.
+     */
+    AddressBookSnapshot getSnapshot();
+
+    /**
+     * Publishes the address book as it is now as a new version, if it has changed since the last one was published.
+     * Only to be called by the thread that edits the model, once its changes are complete.
+     */
+    void publishSnapshot();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -79,6 +97,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds all the given persons as a single undoable change.
+     * None of {@code persons} may already exist in the address book or share an identity with each other.
+     */
+    void addPersons(List<? extends Person> persons);
+
     /**
      * Adds an appointment to the given person.
      * @param person the person to add the appointment to.
@@ -95,6 +119,42 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Returns the patients whose caretaker has the same name and phone number as {@code caretaker}.
+     */
+    List<Patient> getPatientsOfCaretaker(Caretaker caretaker);
+
+    /**
+     * Returns the persons whose phone number, or whose caretaker's phone number, is {@code phone}.
+     */
+    List<Person> getPersonsWithPhone(Phone phone);
+
+    /**
+     * Replaces the caretaker of {@code patient} with {@code editedCaretaker}, and gives the same name, phone and
+     * address to that caretaker for every other patient they look after, as a single undoable change. The other
+     * patients keep their own relationship with the caretaker.
+     * @return the edited {@code patient}.
+     * @throws IllegalArgumentException if {@code patient} does not have a caretaker.
+     */
+    Patient setCaretaker(Patient patient, Caretaker editedCaretaker);
+
+    /**
+     * Moves the appointments before {@code now} out of the patients into the appointment archive, without keeping an
+     * undo snapshot, as the patients themselves are not changed by it. Does nothing if there is no archive or a
+     * transaction is open. Appointments before the latest such {@code now} that {@link #undo()} or {@link #redo()}
+     * brings back are archived again, so that an archival cannot be undone.
+     * @return the number of appointments archived.
+     * @throws IOException if the appointments could not be archived, in which case the patients keep them.
+     */
+    int archivePastAppointments(LocalDateTime now) throws IOException;
+
+    /**
+     * Returns the appointments of {@code patient} that were moved to the appointment archive, earliest first, or an
+     * empty list if there is no archive.
+     * @throws IOException if the archive could not be read.
+     */
+    List<Appointment> getArchivedAppointments(Patient patient) throws IOException;
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -104,10 +164,67 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /** Returns the predicate last given to {@link #updateFilteredPersonList(Predicate)}. */
+    Predicate<Person> getFilteredPersonListPredicate();
+
+    /**
+     * Returns the persons in the address book that satisfy {@code predicate}, in address book order,
+     * without changing the filtered person list.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    List<Person> getPersonsMatching(Predicate<Person> predicate);
+
     boolean canUndo();
 
     void undo();
 
+    /**
+     * Returns true if there is an undone change that can be redone.
+     */
+    boolean canRedo();
+
+    /**
+     * Redoes the most recently undone change.
+     * @throws IllegalStateException if there is nothing to redo or a transaction is open.
+     */
+    void redo();
+
+    /**
+     * Returns the current size and limits of the undo history.
+     */
+    HistoryStatistics getHistoryStatistics();
+
+    /**
+     * Opens a transaction. Until it is committed or rolled back, changes to the address book are not
+     * recorded separately, so that the whole transaction can be undone as a single change.
+     * @throws IllegalStateException if a transaction is already open.
+     */
+    void beginTransaction();
+
+    /**
+     * Closes the open transaction, keeping its changes as a single undoable change.
+     * @throws IllegalStateException if no transaction is open.
+     */
+    void commitTransaction();
+
+    /**
+     * Closes the open transaction, restoring the address book to its state when the transaction was opened.
+     * @throws IllegalStateException if no transaction is open.
+     */
+    void rollbackTransaction();
+
+    /**
+     * Returns true if a transaction is open.
+     */
+    boolean isInTransaction();
+
+    /**
+     * Applies {@code changes} as a single undoable change. If {@code changes} throws, every change it made is
+     * rolled back before the exception is rethrown. If a transaction is already open, {@code changes} simply
+     * becomes part of it.
+     */
+    <E extends Exception> void transaction(Changes<E> changes) throws E;
+
     int getSize();
 
     void sortPersons(Comparator<? super Person> comparator);
@@ -120,4 +237,11 @@ public interface Model {
      */
     boolean existAsCaretaker(Person person);
 
+    /**
+     * A group of changes to the model, made through {@link #transaction(Changes)}.
+     */
+    @FunctionalInterface
+    interface Changes<E extends Exception> {
+        void apply() throws E;
+    }
 }
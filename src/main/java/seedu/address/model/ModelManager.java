@@ -3,21 +3,36 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.commons.jfr.FilterAppliedEvent;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.AddAppointmentCommand;
 import seedu.address.model.person.Appointment;
+import seedu.address.model.person.Caretaker;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Note;
 import seedu.address.model.person.Patient;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.PhoneMatchesPredicate;
+import seedu.address.model.person.Relationship;
 
 
 /**
@@ -27,7 +42,15 @@ public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
     private final VersionedAddressBook addressBook;
     private final UserPrefs userPrefs;
+    private final NameIndex nameIndex;
+    private final CaretakerIndex caretakerIndex;
+    private final PhoneIndex phoneIndex;
     private final FilteredList<Person> filteredPersons;
+    private Predicate<Person> filteredPersonsPredicate = PREDICATE_SHOW_ALL_PERSONS;
+    private volatile AddressBookSnapshot snapshot;
+    private boolean hasUnpublishedChanges;
+    private AppointmentArchive appointmentArchive;
+    private LocalDateTime archivedBefore;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -35,11 +58,19 @@ public class ModelManager implements Model {
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new VersionedAddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        // The index must be told about changes to the persons before the filtered list tests them against it
+        nameIndex = new NameIndex(this.addressBook.getPersonList());
+        caretakerIndex = new CaretakerIndex(this.addressBook.getPersonList());
+        phoneIndex = new PhoneIndex(this.addressBook.getPersonList());
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        snapshot = new AddressBookSnapshot(0, this.addressBook);
+        this.addressBook.getPersonList().addListener((ListChangeListener<Person>) change ->
+                hasUnpublishedChanges = true);
+        applyHistoryLimits();
     }
 
     public ModelManager() {
@@ -64,6 +95,29 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        applyHistoryLimits();
+    }
+
+    private void applyHistoryLimits() {
+        addressBook.setHistoryLimits(userPrefs.getUndoHistoryLimit(), userPrefs.getUndoHistoryMemoryLimit());
+    }
+
+    /**
+     * Pages undo history that is over the memory limit out to {@code store} instead of dropping it.
+     * If {@code isKeptOnExit}, every change is written to {@code store} straight away so that it can still be
+     * undone after a restart.
+     */
+    public void setUndoHistoryStore(SnapshotStore store, boolean isKeptOnExit) {
+        requireNonNull(store);
+        addressBook.setSpillStore(store, isKeptOnExit);
+    }
+
+    /**
+     * Moves past appointments to {@code archive} when {@link #archivePastAppointments(LocalDateTime)} is called.
+     */
+    public void setAppointmentArchive(AppointmentArchive archive) {
+        requireNonNull(archive);
+        appointmentArchive = archive;
     }
 
     @Override
@@ -97,7 +151,7 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook newData) {
-        addressBook.update();
+        takeSnapshot();
         this.addressBook.getAddressBook().resetData(newData);
     }
 
@@ -106,6 +160,20 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public AddressBookSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    @Override
+    public void publishSnapshot() {
+        if (!hasUnpublishedChanges) {
+            return;
+        }
+        hasUnpublishedChanges = false;
+        snapshot = new AddressBookSnapshot(snapshot.getVersion() + 1, addressBook);
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -124,17 +192,61 @@ public class ModelManager implements Model {
 
     @Override
     public void deletePerson(Person target) {
-        addressBook.update();
+        takeSnapshot();
         addressBook.getAddressBook().removePerson(target);
     }
 
     @Override
     public void addPerson(Person person) {
-        addressBook.update();
+        takeSnapshot();
         addressBook.getAddressBook().addPerson(person);
+        clearArchivedAppointments(List.of(person));
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<? extends Person> persons) {
+        requireNonNull(persons);
+        takeSnapshot();
+        addressBook.getAddressBook().addPersons(persons);
+        clearArchivedAppointments(persons);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    /**
+     * Lets {@code persons}, who were just added, start without the archived appointments of any patient that had
+     * their identity before.
+     */
+    private void clearArchivedAppointments(List<? extends Person> persons) {
+        if (appointmentArchive == null) {
+            return;
+        }
+        try {
+            appointmentArchive.clear(persons);
+        } catch (IOException e) {
+            logger.warning("Failed to clear archived appointments " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Uses {@code cache}, a saved name index of {@code persons}, for those persons when they are loaded next, instead
+     * of adding them to the name index one by one.
+     *
+     * @see #loadPersons(List)
+     */
+    public void useNameIndexCache(List<Person> persons, NameIndexCache cache) {
+        nameIndex.useCache(persons, cache);
+    }
+
+    /**
+     * Adds {@code persons}, e.g. the next batch read from the data file, to the end of the address book without
+     * keeping an undo snapshot.
+     */
+    public void loadPersons(List<? extends Person> persons) {
+        requireNonNull(persons);
+        addressBook.getAddressBook().addPersons(persons);
+    }
+
     @Override
     public Patient addAppointment(Person person, String date, String time, Note desc) {
         requireAllNonNull(person, date, time);
@@ -163,10 +275,112 @@ public class ModelManager implements Model {
 
     @Override
     public void setPerson(Person target, Person editedPerson) {
-        addressBook.update();
+        takeSnapshot();
         requireAllNonNull(target, editedPerson);
 
         addressBook.getAddressBook().setPerson(target, editedPerson);
+        if (appointmentArchive != null && !target.isSamePerson(editedPerson)) {
+            // The archived appointments are kept under the name and phone number of the patient
+            try {
+                appointmentArchive.transfer(target, editedPerson);
+            } catch (IOException e) {
+                logger.warning("Failed to transfer archived appointments " + StringUtil.getDetails(e));
+            }
+        }
+    }
+
+    @Override
+    public List<Patient> getPatientsOfCaretaker(Caretaker caretaker) {
+        requireNonNull(caretaker);
+        return caretakerIndex.getPatientsOf(caretaker);
+    }
+
+    @Override
+    public List<Person> getPersonsWithPhone(Phone phone) {
+        requireNonNull(phone);
+        return phoneIndex.getPersonsWith(phone);
+    }
+
+    @Override
+    public int archivePastAppointments(LocalDateTime now) throws IOException {
+        requireNonNull(now);
+        if (appointmentArchive == null || isInTransaction()) {
+            return 0;
+        }
+        int count = moveAppointmentsToArchive(now);
+        archivedBefore = now;
+        return count;
+    }
+
+    /**
+     * Moves the appointments before {@code archivedBefore} that an undo or redo brought back into the archive again,
+     * as the snapshots it restored were taken before they were archived.
+     */
+    private void archiveRestoredAppointments() {
+        if (appointmentArchive == null || archivedBefore == null) {
+            return;
+        }
+        try {
+            moveAppointmentsToArchive(archivedBefore);
+        } catch (IOException e) {
+            logger.warning("Failed to archive restored appointments " + StringUtil.getDetails(e));
+        }
+    }
+
+    private int moveAppointmentsToArchive(LocalDateTime now) throws IOException {
+        // The earliest appointment of a patient read from the data file is known without decoding the patient
+        List<Person> persons = addressBook.getPersonList();
+        List<Integer> positions = new ArrayList<>();
+        Map<Patient, List<Appointment>> pastAppointments = new LinkedHashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            if (persons.get(i) instanceof Patient patient && patient.getEarliestAppointmentDateTime()
+                    .filter(earliest -> earliest.isBefore(now)).isPresent()) {
+                positions.add(i);
+                pastAppointments.put(patient, patient.getAppointmentsBefore(now));
+            }
+        }
+        if (pastAppointments.isEmpty()) {
+            return 0;
+        }
+
+        appointmentArchive.add(pastAppointments);
+        int count = 0;
+        for (int position : positions) {
+            Patient patient = (Patient) persons.get(position);
+            count += pastAppointments.get(patient).size();
+            addressBook.getAddressBook().setPerson(position, patient.deleteAppointmentsBefore(now));
+        }
+        logger.info("Archived " + count + " past appointments of " + positions.size() + " patients");
+        return count;
+    }
+
+    @Override
+    public List<Appointment> getArchivedAppointments(Patient patient) throws IOException {
+        requireNonNull(patient);
+        return appointmentArchive == null ? List.of() : appointmentArchive.getAppointmentsOf(patient);
+    }
+
+    @Override
+    public Patient setCaretaker(Patient patient, Caretaker editedCaretaker) {
+        requireAllNonNull(patient, editedCaretaker);
+        Caretaker caretaker = patient.getCaretaker();
+        if (caretaker == null) {
+            throw new IllegalArgumentException("The patient does not have a caretaker.");
+        }
+
+        Patient editedPatient = patient.addCaretaker(editedCaretaker);
+        List<Patient> otherPatients = getPatientsOfCaretaker(caretaker).stream()
+                .filter(other -> other != patient)
+                .toList();
+        transaction(() -> {
+            setPerson(patient, editedPatient);
+            for (Patient other : otherPatients) {
+                Relationship relationship = other.getCaretaker().getRelationship();
+                setPerson(other, other.addCaretaker(Caretaker.of(editedCaretaker.getName(),
+                        editedCaretaker.getPhone(), editedCaretaker.getAddress(), relationship)));
+            }
+        });
+        return editedPatient;
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -183,7 +397,42 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        FilterAppliedEvent event = new FilterAppliedEvent();
+        event.begin();
+        filteredPersons.setPredicate(toIndexedPredicate(predicate));
+        filteredPersonsPredicate = predicate;
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.setPredicateType(predicate.getClass().getSimpleName());
+            event.setMatchedCount(filteredPersons.size());
+            event.commit();
+        }
+    }
+
+    @Override
+    public Predicate<Person> getFilteredPersonListPredicate() {
+        return filteredPersonsPredicate;
+    }
+
+    @Override
+    public List<Person> getPersonsMatching(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        return addressBook.getPersonList().stream().filter(toIndexedPredicate(predicate)).toList();
+    }
+
+    /**
+     * Returns a predicate that accepts the same persons as {@code predicate}, but looks names and phone numbers up
+     * in their indexes where it can.
+     */
+    private Predicate<Person> toIndexedPredicate(Predicate<Person> predicate) {
+        if (predicate instanceof NameContainsKeywordsPredicate namePredicate) {
+            return nameIndex.toIndexedPredicate(namePredicate);
+        }
+        if (predicate instanceof PhoneMatchesPredicate phonePredicate) {
+            return phoneIndex.toIndexedPredicate(phonePredicate);
+        }
+        return predicate;
     }
 
     @Override
@@ -204,6 +453,15 @@ public class ModelManager implements Model {
     }
 
 
+    /**
+     * Takes an undo snapshot of the address book before it is changed, timing how long it takes.
+     */
+    private void takeSnapshot() {
+        long start = System.nanoTime();
+        addressBook.update();
+        MetricsCenter.record(MetricsCenter.Phase.SNAPSHOT, System.nanoTime() - start);
+    }
+
     @Override
     public boolean canUndo() {
         return addressBook.hasHistory();
@@ -212,9 +470,70 @@ public class ModelManager implements Model {
     @Override
     public void undo() {
         addressBook.undo();
+        archiveRestoredAppointments();
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public boolean canRedo() {
+        return addressBook.hasRedoHistory();
+    }
+
+    @Override
+    public void redo() {
+        addressBook.redo();
+        archiveRestoredAppointments();
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Override
+    public HistoryStatistics getHistoryStatistics() {
+        return addressBook.getHistoryStatistics();
+    }
+
+    @Override
+    public void beginTransaction() {
+        addressBook.beginTransaction();
+    }
+
+    @Override
+    public void commitTransaction() {
+        addressBook.commitTransaction();
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        addressBook.rollbackTransaction();
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Override
+    public boolean isInTransaction() {
+        return addressBook.isInTransaction();
+    }
+
+    @Override
+    public <E extends Exception> void transaction(Changes<E> changes) throws E {
+        requireNonNull(changes);
+        if (isInTransaction()) {
+            changes.apply();
+            return;
+        }
+
+        beginTransaction();
+        boolean isApplied = false;
+        try {
+            changes.apply();
+            isApplied = true;
+        } finally {
+            if (isApplied) {
+                commitTransaction();
+            } else {
+                rollbackTransaction();
+            }
+        }
+    }
+
     @Override
     public int getSize() {
         return filteredPersons.size();
@@ -223,7 +542,7 @@ public class ModelManager implements Model {
     @Override
     public void sortPersons(Comparator<? super Person> comparator) {
         requireNonNull(comparator);
-        addressBook.update();
+        takeSnapshot();
         addressBook.getAddressBook().sortPersons(comparator);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
@@ -0,0 +1,183 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * An index from each word in the names of a list of persons to the persons whose name contains it, ignoring case.
+ * <p>
+ * The index follows changes to the list, so it must be created before anything else that listens to the list and
+ * relies on it, such as a {@code FilteredList} tested with {@link #toIndexedPredicate}. Testing a person against
+ * keywords then takes one lookup per keyword, instead of splitting and comparing the person's name.
+ * <p>
+ * When a list of persons is loaded with a {@link NameIndexCache} of their names, those persons are looked up in the
+ * cache instead of being added to the index. A person's name never changes, so the cache stays correct for them
+ * however the list changes afterwards. A cached person that is removed from the list is forgotten by its position in
+ * the cache, so that the index does not keep it in memory, and the cache is dropped once none of them is left.
+ */
+class NameIndex {
+
+    private final Map<String, Set<Person>> personsByWord = new HashMap<>();
+
+    // The persons indexed by the cache at their positions in it, or null once they are removed from the list, how
+    // many of them are not null, and how many of them are still to be added to the list
+    private Person[] cachedPersons = new Person[0];
+    private NameIndexCache cache;
+    private int cachedCount;
+    private int pendingCachedCount;
+
+    /**
+     * Creates an index of {@code persons} that is kept up to date as the list changes.
+     */
+    NameIndex(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        persons.forEach(this::add);
+        persons.addListener((ListChangeListener<Person>) this::update);
+    }
+
+    private void update(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            // Reordering the list does not change which persons have which words
+            if (change.wasPermutated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    /**
+     * Uses {@code cache} for {@code persons}, which must be the next persons added to the list, in order.
+     */
+    void useCache(List<Person> persons, NameIndexCache cache) {
+        requireNonNull(persons);
+        requireNonNull(cache);
+        if (cache.size() != persons.size()) {
+            throw new IllegalArgumentException("The cache does not index " + persons.size() + " persons");
+        }
+        this.cachedPersons = persons.toArray(new Person[0]);
+        this.cache = cache;
+        this.cachedCount = persons.size();
+        this.pendingCachedCount = persons.size();
+    }
+
+    private void add(Person person) {
+        if (pendingCachedCount > 0) {
+            if (cachedPersons[cachedPersons.length - pendingCachedCount] == person) {
+                pendingCachedCount--;
+                return;
+            }
+            // The list was loaded differently; the persons added so far are still indexed by the cache
+            for (int i = cachedPersons.length - pendingCachedCount; i < cachedPersons.length; i++) {
+                forgetCached(i);
+            }
+            pendingCachedCount = 0;
+        }
+        for (String word : wordsOf(person)) {
+            personsByWord.computeIfAbsent(word, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(person);
+        }
+    }
+
+    private void remove(Person person) {
+        if (cache != null && removeCached(person)) {
+            return;
+        }
+        for (String word : wordsOf(person)) {
+            Set<Person> persons = personsByWord.get(word);
+            if (persons != null && persons.remove(person) && persons.isEmpty()) {
+                personsByWord.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Forgets {@code person} if it is indexed by the cache, finding its position among those of a word of its name.
+     *
+     * @return true if it was indexed by the cache.
+     */
+    private boolean removeCached(Person person) {
+        int[] positions = null;
+        for (String word : wordsOf(person)) {
+            int[] wordPositions = cache.positionsOf(word);
+            if (positions == null || wordPositions.length < positions.length) {
+                positions = wordPositions;
+            }
+        }
+        for (int position : positions) {
+            if (cachedPersons[position] == person) {
+                forgetCached(position);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void forgetCached(int position) {
+        if (cachedPersons[position] == null) {
+            return;
+        }
+        cachedPersons[position] = null;
+        if (--cachedCount == 0) {
+            cachedPersons = new Person[0];
+            cache = null;
+        }
+    }
+
+    /**
+     * Returns a predicate that accepts the same persons of the indexed list as {@code predicate}.
+     * It looks the keywords up in the index when it is tested, so it stays correct as the list changes.
+     */
+    Predicate<Person> toIndexedPredicate(NameContainsKeywordsPredicate predicate) {
+        List<String> words = predicate.getKeywords().stream().map(NameIndex::normalize).distinct().toList();
+        Set<Person> cachedMatches = getCachedMatches(words);
+        return person -> {
+            for (String word : words) {
+                Set<Person> persons = personsByWord.get(word);
+                if (persons != null && persons.contains(person)) {
+                    return true;
+                }
+            }
+            return cachedMatches.contains(person);
+        };
+    }
+
+    private Set<Person> getCachedMatches(List<String> words) {
+        if (cache == null) {
+            return Set.of();
+        }
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String word : words) {
+            for (int position : cache.positionsOf(word)) {
+                if (cachedPersons[position] != null) {
+                    matches.add(cachedPersons[position]);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the words in the name of {@code person} that it is indexed under.
+     */
+    static String[] wordsOf(Person person) {
+        return normalize(person.getName().fullName).split("\\s+");
+    }
+
+    private static String normalize(String text) {
+        return text.trim().toLowerCase(Locale.ROOT);
+    }
+}
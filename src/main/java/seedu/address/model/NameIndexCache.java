@@ -0,0 +1,51 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A saved copy of the name index of a list of persons, e.g. one kept in a file from the previous run, that maps
+ * each word in their names to the positions of the persons whose name contains it. The persons are not rebuilt into
+ * an index one by one when the same list is loaded with such a cache.
+ */
+public interface NameIndexCache {
+
+    /**
+     * Returns the number of persons in the indexed list.
+     */
+    int size();
+
+    /**
+     * Returns the positions in the indexed list of the persons whose name contains {@code word}, which is in lower
+     * case, in increasing order.
+     */
+    int[] positionsOf(String word);
+
+    /**
+     * Returns the contents of a cache of the name index of {@code persons}, sorted by word.
+     */
+    static Map<String, int[]> positionsByWord(List<? extends Person> persons) {
+        requireNonNull(persons);
+        Map<String, List<Integer>> positions = new TreeMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            for (String word : NameIndex.wordsOf(persons.get(i))) {
+                List<Integer> wordPositions = positions.computeIfAbsent(word, unused -> new ArrayList<>());
+                // A name that repeats a word lists the person once
+                if (wordPositions.isEmpty() || wordPositions.get(wordPositions.size() - 1) != i) {
+                    wordPositions.add(i);
+                }
+            }
+        }
+
+        Map<String, int[]> positionsByWord = new TreeMap<>();
+        positions.forEach((word, wordPositions) ->
+                positionsByWord.put(word, wordPositions.stream().mapToInt(Integer::intValue).toArray()));
+        return positionsByWord;
+    }
+}
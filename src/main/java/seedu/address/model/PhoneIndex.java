@@ -0,0 +1,245 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Caretaker;
+import seedu.address.model.person.Patient;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.PhoneMatchesPredicate;
+
+/**
+ * An index from each phone number in a list of persons to the persons who have it, or whose caretaker has it.
+ * <p>
+ * Phone numbers are kept as {@code long} keys in an open-addressing hash table with linear probing, so a lookup takes
+ * a few array reads instead of hashing and comparing strings. A phone number of up to 15 digits is read as the number
+ * with a 1 written before it, so that e.g. {@code 0123} and {@code 123} have different keys and no key is 0.
+ * <p>
+ * Like the {@link CaretakerIndex}, the index is only built the first time it is used, as finding the caretaker of a
+ * patient read from the data file decodes its details, and then follows changes to the list.
+ */
+class PhoneIndex {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final long EMPTY = 0;
+
+    private final ObservableList<Person> persons;
+
+    // The keys and the persons under each key, either a Person or a List<Person> of several, or null until the
+    // index is first used. The capacity is a power of two and at most three quarters of it is used.
+    private long[] keys;
+    private Object[] values;
+    private int size;
+
+    /**
+     * Creates an index of {@code persons} that is kept up to date as the list changes once it has been built.
+     */
+    PhoneIndex(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+        persons.addListener((ListChangeListener<Person>) this::update);
+    }
+
+    private void update(ListChangeListener.Change<? extends Person> change) {
+        if (keys == null) {
+            return;
+        }
+        while (change.next()) {
+            // Reordering the list does not change which persons have which phone numbers
+            if (change.wasPermutated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    private void build() {
+        if (keys != null) {
+            return;
+        }
+        int capacity = INITIAL_CAPACITY;
+        while (capacity / 4 * 3 < persons.size() * 2) {
+            capacity *= 2;
+        }
+        keys = new long[capacity];
+        values = new Object[capacity];
+        persons.forEach(this::add);
+    }
+
+    private void add(Person person) {
+        long key = keyOf(person.getPhone());
+        put(key, person);
+        long caretakerKey = caretakerKeyOf(person);
+        if (caretakerKey != EMPTY && caretakerKey != key) {
+            put(caretakerKey, person);
+        }
+    }
+
+    private void remove(Person person) {
+        long key = keyOf(person.getPhone());
+        remove(key, person);
+        long caretakerKey = caretakerKeyOf(person);
+        if (caretakerKey != EMPTY && caretakerKey != key) {
+            remove(caretakerKey, person);
+        }
+    }
+
+    private static long caretakerKeyOf(Person person) {
+        if (person instanceof Patient patient) {
+            Caretaker caretaker = patient.getCaretaker();
+            return caretaker == null ? EMPTY : keyOf(caretaker.getPhone());
+        }
+        return EMPTY;
+    }
+
+    /**
+     * Returns the persons in the list whose phone number, or whose caretaker's phone number, is {@code phone}.
+     */
+    List<Person> getPersonsWith(Phone phone) {
+        requireNonNull(phone);
+        build();
+        Object value = values[slotOf(keyOf(phone))];
+        if (value == null) {
+            return List.of();
+        }
+        return value instanceof Person person ? List.of(person) : List.copyOf(asList(value));
+    }
+
+    /**
+     * Returns a predicate that accepts the same persons of the indexed list as {@code predicate}.
+     * It looks the phone number up in the index when it is tested, so it stays correct as the list changes.
+     */
+    Predicate<Person> toIndexedPredicate(PhoneMatchesPredicate predicate) {
+        long key = keyOf(predicate.getPhone());
+        build();
+        return person -> {
+            Object value = values[slotOf(key)];
+            return value == person || value instanceof List<?> list && containsSame(list, person);
+        };
+    }
+
+    /**
+     * Returns the number of distinct phone numbers in the index, building it if needed.
+     */
+    int size() {
+        build();
+        return size;
+    }
+
+    private void put(long key, Person person) {
+        int slot = slotOf(key);
+        Object value = values[slot];
+        if (value == null) {
+            keys[slot] = key;
+            values[slot] = person;
+            if (++size > keys.length / 4 * 3) {
+                resize();
+            }
+        } else if (value instanceof Person other) {
+            List<Person> several = new ArrayList<>(2);
+            several.add(other);
+            several.add(person);
+            values[slot] = several;
+        } else {
+            asList(value).add(person);
+        }
+    }
+
+    private void remove(long key, Person person) {
+        int slot = slotOf(key);
+        Object value = values[slot];
+        if (value == person) {
+            delete(slot);
+        } else if (value instanceof List<?>) {
+            List<Person> several = asList(value);
+            several.removeIf(other -> other == person);
+            if (several.size() == 1) {
+                values[slot] = several.get(0);
+            }
+        }
+    }
+
+    /**
+     * Empties {@code slot}, moving back the entries after it that would no longer be found past the empty slot.
+     */
+    private void delete(int slot) {
+        int mask = keys.length - 1;
+        int hole = slot;
+        for (int next = (slot + 1) & mask; keys[next] != EMPTY; next = (next + 1) & mask) {
+            int home = homeOf(keys[next]);
+            // The entry can fill the hole if the hole is between its home slot and where it is now
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+        }
+        keys[hole] = EMPTY;
+        values[hole] = null;
+        size--;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new Object[oldKeys.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slotOf(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Returns the slot that holds {@code key}, or the empty slot where it would be added.
+     */
+    private int slotOf(long key) {
+        int mask = keys.length - 1;
+        int slot = homeOf(key);
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private int homeOf(long key) {
+        // Fibonacci hashing spreads consecutive phone numbers over the table
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> (64 - Integer.numberOfTrailingZeros(keys.length)));
+    }
+
+    /**
+     * Returns the key of {@code phone}: its digits read as a number, with a 1 written before them.
+     */
+    static long keyOf(Phone phone) {
+        String digits = phone.value;
+        long key = 1;
+        for (int i = 0; i < digits.length(); i++) {
+            key = key * 10 + (digits.charAt(i) - '0');
+        }
+        return key;
+    }
+
+    private static boolean containsSame(List<?> list, Person person) {
+        for (Object other : list) {
+            if (other == person) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Person> asList(Object value) {
+        return (List<Person>) value;
+    }
+}
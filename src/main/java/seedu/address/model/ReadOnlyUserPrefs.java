@@ -13,4 +13,16 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /** Returns the maximum number of changes that can be undone. */
+    int getUndoHistoryLimit();
+
+    /** Returns the estimated memory, in bytes, the undo history may retain before its oldest changes are dropped. */
+    long getUndoHistoryMemoryLimit();
+
+    /** Returns true if undo history over the memory limit is paged out to disk instead of dropped. */
+    boolean shouldSpillUndoHistoryToDisk();
+
+    /** Returns true if the undo history is kept on disk so that it is still available after a restart. */
+    boolean shouldKeepUndoHistoryOnExit();
+
 }
@@ -0,0 +1,176 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.Set;
+
+import seedu.address.model.person.Appointment;
+import seedu.address.model.person.Caretaker;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Patient;
+import seedu.address.model.person.Person;
+
+/**
+ * A LIFO stack of address book snapshots that keeps an estimate of the heap memory they retain.
+ * <p>
+ * Persons are immutable, so consecutive snapshots share most of their {@code Person} objects. Each snapshot is
+ * therefore charged for its own list structure, plus only those persons that the snapshot below it does not hold.
+ * This way every person is counted once across the stack, however many snapshots refer to it.
+ */
+class SnapshotStack {
+
+    /** Estimated bytes of a snapshot's fixed structure: the address book, its lists and its identity index. */
+    static final long SNAPSHOT_OVERHEAD_BYTES = 256;
+    /** Estimated bytes per person of a snapshot's structure: a list slot, an index entry and its identity key. */
+    static final long PER_PERSON_BYTES = 72;
+
+    private static final long OBJECT_BYTES = 16;
+    private static final long STRING_BYTES = 40;
+    private static final long APPOINTMENT_BYTES = 96;
+
+    private final Deque<Entry> entries = new ArrayDeque<>();
+    private long estimatedBytes;
+
+    /**
+     * Pushes {@code snapshot} on top of the stack.
+     */
+    void push(ReadOnlyAddressBook snapshot) {
+        requireNonNull(snapshot);
+        Entry below = entries.peekFirst();
+        Entry entry = new Entry(snapshot, estimateBytes(snapshot, below == null ? null : below.snapshot));
+        entries.addFirst(entry);
+        estimatedBytes += entry.estimatedBytes;
+    }
+
+    /**
+     * Removes and returns the snapshot on top of the stack.
+     *
+     * @throws java.util.NoSuchElementException if the stack is empty.
+     */
+    ReadOnlyAddressBook pop() {
+        Entry entry = entries.removeFirst();
+        estimatedBytes -= entry.estimatedBytes;
+        return entry.snapshot;
+    }
+
+    /**
+     * Returns the snapshot on top of the stack, or null if the stack is empty.
+     */
+    ReadOnlyAddressBook peek() {
+        Entry entry = entries.peekFirst();
+        return entry == null ? null : entry.snapshot;
+    }
+
+    /**
+     * Removes and returns the snapshot at the bottom of the stack, which is the oldest one.
+     *
+     * @throws java.util.NoSuchElementException if the stack is empty.
+     */
+    ReadOnlyAddressBook removeOldest() {
+        Entry removed = entries.removeLast();
+        estimatedBytes -= removed.estimatedBytes;
+
+        // The new bottom no longer shares persons with anything below it, so it is charged for all of them.
+        Entry oldest = entries.pollLast();
+        if (oldest != null) {
+            Entry recharged = new Entry(oldest.snapshot, estimateBytes(oldest.snapshot, null));
+            entries.addLast(recharged);
+            estimatedBytes += recharged.estimatedBytes - oldest.estimatedBytes;
+        }
+        return removed.snapshot;
+    }
+
+    void clear() {
+        entries.clear();
+        estimatedBytes = 0;
+    }
+
+    boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    /**
+     * Returns the estimated bytes retained by {@code snapshot}, not counting persons also held by {@code below}.
+     */
+    private static long estimateBytes(ReadOnlyAddressBook snapshot, ReadOnlyAddressBook below) {
+        List<Person> persons = snapshot.getPersonList();
+        long bytes = SNAPSHOT_OVERHEAD_BYTES + PER_PERSON_BYTES * persons.size();
+
+        Set<Person> shared = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (below != null) {
+            shared.addAll(below.getPersonList());
+        }
+        for (Person person : persons) {
+            if (!shared.contains(person)) {
+                bytes += estimateBytes(person);
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns the estimated bytes of {@code person} and the objects only it refers to.
+     */
+    static long estimateBytes(Person person) {
+        long bytes = 4 * OBJECT_BYTES
+                + estimateBytes(person.getName().fullName)
+                + estimateBytes(person.getPhone().value)
+                + estimateBytes(person.getAddress().value);
+
+        if (person instanceof Caretaker) {
+            bytes += OBJECT_BYTES + estimateBytes(((Caretaker) person).getRelationship().value);
+        }
+        if (person instanceof Patient) {
+            Patient patient = (Patient) person;
+            bytes += 2 * OBJECT_BYTES;
+            OptionalInt undecodedLength = patient.getUndecodedDetailsSource()
+                    .map(Patient.DetailsSource::getUndecodedLength)
+                    .orElse(OptionalInt.empty());
+            if (undecodedLength.isPresent()) {
+                // Details not decoded yet are estimated as they are held, rather than decoded just to be measured
+                return bytes + OBJECT_BYTES + STRING_BYTES + undecodedLength.getAsInt();
+            }
+            for (Note note : patient.getNotes()) {
+                bytes += OBJECT_BYTES + estimateBytes(note.value);
+            }
+            for (Appointment appointment : patient.getAppointment()) {
+                bytes += APPOINTMENT_BYTES + appointment.getNote().map(note -> estimateBytes(note.value)).orElse(0L);
+            }
+            if (patient.getCaretaker() != null) {
+                bytes += estimateBytes(patient.getCaretaker());
+            }
+        }
+        return bytes;
+    }
+
+    private static long estimateBytes(String value) {
+        return value == null ? 0 : STRING_BYTES + value.length();
+    }
+
+    /**
+     * A snapshot and the estimated bytes charged to it.
+     */
+    private static class Entry {
+        private final ReadOnlyAddressBook snapshot;
+        private final long estimatedBytes;
+
+        Entry(ReadOnlyAddressBook snapshot, long estimatedBytes) {
+            this.snapshot = snapshot;
+            this.estimatedBytes = estimatedBytes;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address.model;
+
+import java.io.IOException;
+
+/**
+ * Keeps address book snapshots outside the heap, newest on top, so that older undo history can be paged out
+ * instead of dropped.
+ */
+public interface SnapshotStore {
+
+    /**
+     * Pushes {@code snapshot} on top of the store, as its newest snapshot.
+     *
+     * @throws IOException if the snapshot could not be written.
+     */
+    void push(ReadOnlyAddressBook snapshot) throws IOException;
+
+    /**
+     * Removes and returns the newest snapshot.
+     *
+     * @throws IOException if the snapshot could not be read back.
+     * @throws java.util.NoSuchElementException if the store is empty.
+     */
+    ReadOnlyAddressBook pop() throws IOException;
+
+    /**
+     * Removes the oldest snapshot without reading it.
+     *
+     * @throws IOException if the store could not be updated.
+     * @throws java.util.NoSuchElementException if the store is empty.
+     */
+    void removeOldest() throws IOException;
+
+    /**
+     * Removes every snapshot.
+     *
+     * @throws IOException if the store could not be updated.
+     */
+    void clear() throws IOException;
+
+    /**
+     * Returns the number of snapshots in the store.
+     */
+    int size();
+}
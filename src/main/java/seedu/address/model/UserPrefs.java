@@ -15,6 +15,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "medisavecontact.json");
+    private int undoHistoryLimit = VersionedAddressBook.DEFAULT_MAX_HISTORY_SIZE;
+    private long undoHistoryMemoryLimit = VersionedAddressBook.DEFAULT_MAX_HISTORY_BYTES;
+    private boolean spillUndoHistoryToDisk = true;
+    private boolean keepUndoHistoryOnExit = false;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +40,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setUndoHistoryLimit(newUserPrefs.getUndoHistoryLimit());
+        setUndoHistoryMemoryLimit(newUserPrefs.getUndoHistoryMemoryLimit());
+        setSpillUndoHistoryToDisk(newUserPrefs.shouldSpillUndoHistoryToDisk());
+        setKeepUndoHistoryOnExit(newUserPrefs.shouldKeepUndoHistoryOnExit());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +64,38 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public int getUndoHistoryLimit() {
+        return undoHistoryLimit;
+    }
+
+    public void setUndoHistoryLimit(int undoHistoryLimit) {
+        this.undoHistoryLimit = undoHistoryLimit;
+    }
+
+    public long getUndoHistoryMemoryLimit() {
+        return undoHistoryMemoryLimit;
+    }
+
+    public void setUndoHistoryMemoryLimit(long undoHistoryMemoryLimit) {
+        this.undoHistoryMemoryLimit = undoHistoryMemoryLimit;
+    }
+
+    public boolean shouldSpillUndoHistoryToDisk() {
+        return spillUndoHistoryToDisk;
+    }
+
+    public void setSpillUndoHistoryToDisk(boolean spillUndoHistoryToDisk) {
+        this.spillUndoHistoryToDisk = spillUndoHistoryToDisk;
+    }
+
+    public boolean shouldKeepUndoHistoryOnExit() {
+        return keepUndoHistoryOnExit;
+    }
+
+    public void setKeepUndoHistoryOnExit(boolean keepUndoHistoryOnExit) {
+        this.keepUndoHistoryOnExit = keepUndoHistoryOnExit;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +109,17 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && undoHistoryLimit == otherUserPrefs.undoHistoryLimit
+                && undoHistoryMemoryLimit == otherUserPrefs.undoHistoryMemoryLimit
+                && spillUndoHistoryToDisk == otherUserPrefs.spillUndoHistoryToDisk
+                && keepUndoHistoryOnExit == otherUserPrefs.keepUndoHistoryOnExit;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, undoHistoryLimit, undoHistoryMemoryLimit,
+                spillUndoHistoryToDisk, keepUndoHistoryOnExit);
     }
 
     @Override
@@ -2,21 +2,43 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.io.IOException;
+import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.jfr.UndoSnapshotTakenEvent;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.person.Person;
 
 
 /**
- * Current AddressBook instance that the UI binds to and a LIFO stack of
- * snapshot of the AddressBook before every successful command
+ * Current AddressBook instance that the UI binds to, a LIFO stack of
+ * snapshot of the AddressBook before every successful command, and a stack of undone snapshots to redo.
+ * While a transaction is open, no snapshots are taken, so the whole transaction is undone as one.
+ * Once the undo history holds more snapshots than its limit, or the history is estimated to retain more memory
+ * than its budget, the oldest snapshots are dropped. The most recent snapshot is always kept.
+ * If a {@link SnapshotStore} is set, snapshots over the memory budget are paged out to it instead of being
+ * dropped, and paged back in when undone.
  */
 public class VersionedAddressBook implements ReadOnlyAddressBook {
+    public static final int DEFAULT_MAX_HISTORY_SIZE = 100;
+    public static final long DEFAULT_MAX_HISTORY_BYTES = 64L * 1024 * 1024;
+
+    public static final String MESSAGE_HISTORY_UNREADABLE = "The undo history could not be read back from disk.";
+
+    private static final Logger logger = LogsCenter.getLogger(VersionedAddressBook.class);
+
     private AddressBook current;
-    private final Deque<ReadOnlyAddressBook> historyLog =
-            new ArrayDeque<>();
+    private final SnapshotStack undoStack = new SnapshotStack();
+    private final SnapshotStack redoStack = new SnapshotStack();
+    private SnapshotStore spillStore;
+    private boolean isSpillingAll;
+    private boolean isInTransaction;
+    private AddressBook transactionStart;
+    private int maxHistorySize = DEFAULT_MAX_HISTORY_SIZE;
+    private long maxHistoryBytes = DEFAULT_MAX_HISTORY_BYTES;
+    private int evictedCount;
 
     /**
      * Constructs a versioned address book starting from the given ReadOnlyAddressBook instance
@@ -29,30 +51,239 @@ public class VersionedAddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Pushes a new snapshot into the LIFO stack
+     * Sets the number of snapshots and the estimated bytes the history may hold, dropping the oldest snapshots
+     * if the history is over the new limits. Limits below 1 are treated as 1.
+     */
+    public void setHistoryLimits(int maxHistorySize, long maxHistoryBytes) {
+        this.maxHistorySize = Math.max(1, maxHistorySize);
+        this.maxHistoryBytes = Math.max(1, maxHistoryBytes);
+        evictOldest();
+    }
+
+    /**
+     * Pages snapshots that are over the memory budget out to {@code store} instead of dropping them.
+     * Snapshots already in {@code store} become the oldest part of the history.
+     *
+     * @param isSpillingAll if true, every snapshot is written to {@code store} as soon as it is taken, so the
+     *     history can outlive the application.
+     */
+    public void setSpillStore(SnapshotStore store, boolean isSpillingAll) {
+        requireNonNull(store);
+        this.spillStore = store;
+        this.isSpillingAll = isSpillingAll;
+        evictOldest();
+    }
+
+    /**
+     * Pushes a new snapshot into the LIFO stack, unless a transaction is open.
+     * Snapshots that were undone can no longer be redone.
      */
     public void update() {
-        historyLog.push(new AddressBook(current));
+        if (isInTransaction) {
+            return;
+        }
+        pushSnapshot(new AddressBook(current));
+    }
+
+    private void pushSnapshot(AddressBook snapshot) {
+        UndoSnapshotTakenEvent event = new UndoSnapshotTakenEvent();
+        event.begin();
+        undoStack.push(snapshot);
+        event.setPersonCount(snapshot.getPersonList().size());
+        event.commit();
+
+        redoStack.clear();
+        evictOldest();
+    }
+
+    private void evictOldest() {
+        while (getUndoCount() > maxHistorySize) {
+            if (getSpilledCount() > 0) {
+                removeOldestSpilled();
+            } else {
+                undoStack.removeOldest();
+            }
+            evictedCount++;
+        }
+
+        while (!undoStack.isEmpty() && ((isSpillingAll && spillStore != null) || (undoStack.size() > 1
+                && undoStack.getEstimatedBytes() + redoStack.getEstimatedBytes() > maxHistoryBytes))) {
+            ReadOnlyAddressBook oldest = undoStack.removeOldest();
+            if (!spill(oldest)) {
+                evictedCount++;
+            }
+        }
+    }
+
+    private int getUndoCount() {
+        return undoStack.size() + getSpilledCount();
+    }
+
+    private int getSpilledCount() {
+        return spillStore == null ? 0 : spillStore.size();
+    }
+
+    /**
+     * Writes {@code snapshot} to the spill store, returning false if it could not be written.
+     */
+    private boolean spill(ReadOnlyAddressBook snapshot) {
+        if (spillStore == null) {
+            return false;
+        }
+        try {
+            spillStore.push(snapshot);
+            return true;
+        } catch (IOException e) {
+            stopSpilling(e);
+            return false;
+        }
+    }
+
+    private void removeOldestSpilled() {
+        try {
+            spillStore.removeOldest();
+        } catch (IOException e) {
+            stopSpilling(e);
+        }
+    }
+
+    /**
+     * Stops using the spill store after it failed, dropping the snapshots in it.
+     */
+    private void stopSpilling(IOException cause) {
+        logger.warning("Undo history on disk is no longer used: " + StringUtil.getDetails(cause));
+        evictedCount += spillStore.size();
+        try {
+            spillStore.clear();
+        } catch (IOException e) {
+            logger.warning("Could not clear undo history on disk: " + StringUtil.getDetails(e));
+        }
+        spillStore = null;
+    }
+
+    /**
+     * Removes and returns the newest snapshot, paging it back in from the spill store if needed.
+     * Returns null if it could not be read back.
+     */
+    private ReadOnlyAddressBook popSnapshot() {
+        if (!undoStack.isEmpty()) {
+            return undoStack.pop();
+        }
+        try {
+            return spillStore.pop();
+        } catch (IOException e) {
+            stopSpilling(e);
+            return null;
+        }
+    }
+
+    /**
+     * Opens a transaction, keeping the state that the whole transaction is undone to
+     *
+     * @throws IllegalStateException if a transaction is already open
+     */
+    public void beginTransaction() {
+        if (isInTransaction) {
+            throw new IllegalStateException("A transaction is already open");
+        }
+        transactionStart = new AddressBook(current);
+        isInTransaction = true;
+    }
+
+    /**
+     * Closes the open transaction, keeping its changes as a single undoable change.
+     * A transaction that changed nothing leaves nothing to undo, and keeps the snapshots that can be redone.
+     *
+     * @throws IllegalStateException if no transaction is open
+     */
+    public void commitTransaction() {
+        if (!isInTransaction) {
+            throw new IllegalStateException("No transaction is open");
+        }
+        isInTransaction = false;
+        if (!current.equals(transactionStart)) {
+            pushSnapshot(transactionStart);
+        }
+        transactionStart = null;
+    }
+
+    /**
+     * Closes the open transaction, discarding its changes
+     *
+     * @throws IllegalStateException if no transaction is open
+     */
+    public void rollbackTransaction() {
+        if (!isInTransaction) {
+            throw new IllegalStateException("No transaction is open");
+        }
+        isInTransaction = false;
+        current.resetData(transactionStart);
+        transactionStart = null;
+    }
+
+    public boolean isInTransaction() {
+        return isInTransaction;
     }
 
     /**
      * Checks whether LIFO stack has ReadOnlyAddressBook instances
      */
     public boolean hasHistory() {
-        return !historyLog.isEmpty();
+        return getUndoCount() > 0;
+    }
+
+    /**
+     * Checks whether there are undone snapshots to redo
+     */
+    public boolean hasRedoHistory() {
+        return !redoStack.isEmpty();
     }
 
     /**
      * Undo the AddressBook that UI binds to the most recent prior snapshot
      *
-     * @throws IllegalStateException if LIFO stack is empty
+     * @throws IllegalStateException if a transaction is open or the snapshot could not be read back from disk
+     * @throws IllegalArgumentException if LIFO stack is empty
      */
     public void undo() {
+        if (isInTransaction) {
+            throw new IllegalStateException("Cannot undo while a transaction is open");
+        }
         if (!hasHistory()) {
             throw new IllegalArgumentException("Nothing to undo");
         }
-        ReadOnlyAddressBook pastVersion = new AddressBook(historyLog.pop());
-        current.resetData(pastVersion);
+        ReadOnlyAddressBook snapshot = popSnapshot();
+        if (snapshot == null) {
+            throw new IllegalStateException(MESSAGE_HISTORY_UNREADABLE);
+        }
+        redoStack.push(new AddressBook(current));
+        current.resetData(snapshot);
+    }
+
+    /**
+     * Restores the AddressBook that UI binds to the most recently undone snapshot
+     *
+     * @throws IllegalStateException if there is nothing to redo or a transaction is open
+     */
+    public void redo() {
+        if (isInTransaction) {
+            throw new IllegalStateException("Cannot redo while a transaction is open");
+        }
+        if (!hasRedoHistory()) {
+            throw new IllegalStateException("Nothing to redo");
+        }
+        undoStack.push(new AddressBook(current));
+        current.resetData(redoStack.pop());
+        evictOldest();
+    }
+
+    /**
+     * Returns the current size and limits of the history.
+     */
+    public HistoryStatistics getHistoryStatistics() {
+        return new HistoryStatistics(getUndoCount(), getSpilledCount(), redoStack.size(),
+                undoStack.getEstimatedBytes() + redoStack.getEstimatedBytes(),
+                maxHistorySize, maxHistoryBytes, evictedCount);
     }
 
     public AddressBook getAddressBook() {
@@ -3,6 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Person's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -17,6 +21,8 @@ public class Address {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final Interner<Address> INTERNER = new Interner<>();
 
     public final String value;
 
@@ -26,16 +32,39 @@ public class Address {
      * @param address A valid address.
      */
     public Address(String address) {
+        this(address, false);
+    }
+
+    private Address(String address, boolean isTrusted) {
         requireNonNull(address);
-        checkArgument(isValidAddress(address), MESSAGE_CONSTRAINTS);
+        if (!isTrusted) {
+            checkArgument(isValidAddress(address), MESSAGE_CONSTRAINTS);
+        }
         value = address;
     }
 
+    /**
+     * Returns the shared {@code Address} of {@code address}, so that equal addresses share one instance.
+     *
+     * @param address A valid address.
+     */
+    public static Address of(String address) {
+        return INTERNER.intern(new Address(address));
+    }
+
+    /**
+     * Returns the shared {@code Address} of {@code address} without validating it, for a value that is known to be
+     * valid.
+     */
+    public static Address ofTrusted(String address) {
+        return INTERNER.intern(new Address(address, true));
+    }
+
     /**
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
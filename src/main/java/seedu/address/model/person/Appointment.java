@@ -60,6 +60,30 @@ public class Appointment implements Comparable<Appointment> {
         this(date, time, null);
     }
 
+    private Appointment(LocalDate date, LocalTime time, Note desc) {
+        this.date = date;
+        this.time = time;
+        this.desc = desc;
+    }
+
+    /**
+     * Returns an {@code Appointment} on {@code date} at {@code time} without checking their format or that it is in
+     * the future, for an appointment that is known to be valid, e.g. one read back from a data file that the app
+     * wrote itself. The fields are read by position, which is much faster than parsing them.
+     *
+     * @param date A date in the format {@code DD-MM-YYYY}.
+     * @param time A time in the format {@code HH:MM}.
+     */
+    public static Appointment ofTrusted(String date, String time, Note desc) {
+        requireNonNull(date);
+        requireNonNull(time);
+        return new Appointment(
+                LocalDate.of(Integer.parseInt(date.substring(6)), Integer.parseInt(date.substring(3, 5)),
+                        Integer.parseInt(date.substring(0, 2))),
+                LocalTime.of(Integer.parseInt(time.substring(0, 2)), Integer.parseInt(time.substring(3, 5))),
+                desc);
+    }
+
     private static LocalDateTime parseDateTime(String date, String time) {
         String candidate = date + " " + time;
         if (!DATE_TIME_PATTERN.matcher(candidate).matches()) {
@@ -73,6 +97,21 @@ public class Appointment implements Comparable<Appointment> {
         }
     }
 
+    /**
+     * Returns true if {@code date} and {@code time} are in the format {@code DD-MM-YYYY HH:MM} and exist, whether
+     * they are in the future or not, e.g. for an appointment that has already taken place.
+     */
+    public static boolean isValidDateTime(String date, String time) {
+        requireNonNull(date);
+        requireNonNull(time);
+        try {
+            parseDateTime(date, time);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
     /**
      * Returns true if date and time are in valid format.
      */
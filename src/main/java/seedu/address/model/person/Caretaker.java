@@ -4,6 +4,7 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Objects;
 
+import seedu.address.commons.util.Interner;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
@@ -11,6 +12,8 @@ import seedu.address.commons.util.ToStringBuilder;
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
 public class Caretaker extends Person {
+    private static final Interner<Caretaker> INTERNER = new Interner<>();
+
     private final Relationship relationship;
 
     /**
@@ -22,6 +25,14 @@ public class Caretaker extends Person {
         this.relationship = relationship;
     }
 
+    /**
+     * Returns the shared {@code Caretaker} with the given details, so that a caretaker who looks after several
+     * patients, with the same relationship to each, is held once.
+     */
+    public static Caretaker of(Name name, Phone phone, Address address, Relationship relationship) {
+        return INTERNER.intern(new Caretaker(name, phone, address, relationship));
+    }
+
     /**
      * Returns the relationship of the caretaker.
      *
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -22,6 +24,7 @@ public class Name {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String NAME_VALIDATION_REGEX = "^[A-Za-z ,()/@.'-]+$";
+    private static final Pattern NAME_VALIDATION_PATTERN = Pattern.compile(NAME_VALIDATION_REGEX);
 
 
 
@@ -33,12 +36,28 @@ public class Name {
      * @param name A valid name.
      */
     public Name(String name) {
+        this(name, false);
+    }
+
+    private Name(String name, boolean isTrusted) {
         requireNonNull(name);
+        if (isTrusted) {
+            fullName = name;
+            return;
+        }
         final String trimmedName = name.trim();
         checkArgument(isValidName(name), INVALID_CHARS);
         fullName = formatName(trimmedName).trim();
     }
 
+    /**
+     * Returns a {@code Name} of {@code fullName} as it is, without validating or formatting it, for a name that is
+     * known to be valid and formatted, e.g. the {@link #fullName} of another {@code Name}.
+     */
+    public static Name ofTrusted(String fullName) {
+        return new Name(fullName, true);
+    }
+
     private static String formatName(String s) {
         if (s.isEmpty()) {
             return s;
@@ -63,7 +82,7 @@ public class Name {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(NAME_VALIDATION_REGEX);
+        return NAME_VALIDATION_PATTERN.matcher(test).matches();
     }
 
 
@@ -3,6 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Person's note in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidNote(String)}
@@ -18,6 +22,8 @@ public class Note {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final Interner<Note> INTERNER = new Interner<>();
 
     public final String value;
 
@@ -27,16 +33,38 @@ public class Note {
      * @param note A valid note.
      */
     public Note(String note) {
+        this(note, false);
+    }
+
+    private Note(String note, boolean isTrusted) {
         requireNonNull(note);
-        checkArgument(isValidNote(note), MESSAGE_CONSTRAINTS);
+        if (!isTrusted) {
+            checkArgument(isValidNote(note), MESSAGE_CONSTRAINTS);
+        }
         value = note;
     }
 
+    /**
+     * Returns the shared {@code Note} of {@code note}, so that equal notes share one instance.
+     *
+     * @param note A valid note.
+     */
+    public static Note of(String note) {
+        return INTERNER.intern(new Note(note));
+    }
+
+    /**
+     * Returns the shared {@code Note} of {@code note} without validating it, for a value that is known to be valid.
+     */
+    public static Note ofTrusted(String note) {
+        return INTERNER.intern(new Note(note, true));
+    }
+
     /**
      * Returns true if a given string is a valid note.
      */
     public static boolean isValidNote(String test) {
-        return test.matches(VALIDATION_REGEX) && test.length() <= MAX_LENGTH;
+        return VALIDATION_PATTERN.matcher(test).matches() && test.length() <= MAX_LENGTH;
     }
 
     @Override
@@ -8,6 +8,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalInt;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
@@ -21,20 +22,19 @@ public class Patient extends Person {
 
     private static final String MESSAGE_NOTE_INDEX_OUT_OF_BOUNDS = "Note index out of bounds: ";
 
-    private final List<Note> notes;
-    private final List<Appointment> appointment;
     private final Tag tag;
-    private final Caretaker caretaker;
+
+    // The notes, appointments and caretaker are decoded from detailsSource on first use, if they were not given
+    private volatile Details details;
+    private DetailsSource detailsSource;
 
     /**
      * Allows Patient to be instantiated without accompanying note.
      */
     public Patient(Name name, Phone phone, Address address, Tag tag) {
         super(name, phone, address);
-        this.notes = new ArrayList<>();
-        this.appointment = new ArrayList<>();
+        this.details = new Details(List.of(), List.of(), null);
         this.tag = tag;
-        this.caretaker = null;
     }
 
     /**
@@ -50,13 +50,7 @@ public class Patient extends Person {
      * @throws NullPointerException if any required parameter is null
      */
     public Patient(Name name, Phone phone, Address address, Tag tag, List<Note> notes, List<Appointment> appointment) {
-        super(name, phone, address);
-        requireAllNonNull(notes, appointment);
-        this.notes = new ArrayList<>(notes);
-        this.appointment = new ArrayList<>(appointment);
-        Collections.sort(this.appointment);
-        this.tag = tag;
-        this.caretaker = null;
+        this(name, phone, address, tag, notes, appointment, null);
     }
 
     /**
@@ -76,12 +70,44 @@ public class Patient extends Person {
     public Patient(Name name, Phone phone, Address address, Tag tag, List<Note> notes, List<Appointment> appointment,
                    Caretaker caretaker) {
         super(name, phone, address);
-        requireAllNonNull(notes, appointment);
-        this.notes = new ArrayList<>(notes);
-        this.appointment = new ArrayList<>(appointment);
-        Collections.sort(this.appointment);
+        this.details = new Details(notes, appointment, caretaker);
         this.tag = tag;
-        this.caretaker = caretaker;
+    }
+
+    /**
+     * Constructs a Patient whose notes, appointments and caretaker are only decoded by {@code detailsSource} when
+     * they are first used, e.g. one of many patients read from a data file.
+     *
+     * @param tag the urgency associated with the patient condition, can be null if no tag is given
+     * @throws NullPointerException if any parameter other than {@code tag} is null
+     */
+    public Patient(Name name, Phone phone, Address address, Tag tag, DetailsSource detailsSource) {
+        super(name, phone, address);
+        requireAllNonNull(detailsSource);
+        this.detailsSource = detailsSource;
+        this.tag = tag;
+    }
+
+    private Details getDetails() {
+        Details decoded = details;
+        if (decoded != null) {
+            return decoded;
+        }
+        synchronized (this) {
+            if (details == null) {
+                details = detailsSource.decode();
+                detailsSource = null;
+            }
+            return details;
+        }
+    }
+
+    /**
+     * Returns the source of the notes, appointments and caretaker of this patient if they have not been decoded yet,
+     * so that storage can write them back without decoding them.
+     */
+    public synchronized Optional<DetailsSource> getUndecodedDetailsSource() {
+        return Optional.ofNullable(detailsSource);
     }
 
     /**
@@ -89,7 +115,7 @@ public class Patient extends Person {
      * @return the notes of the patient.
      */
     public List<Note> getNotes() {
-        return Collections.unmodifiableList(notes);
+        return getDetails().notes;
     }
 
     /**
@@ -98,6 +124,7 @@ public class Patient extends Person {
      * @return the first note of the patient, or null if no notes exist.
      */
     public Note getNote() {
+        List<Note> notes = getNotes();
         return notes.isEmpty() ? null : notes.get(0);
     }
 
@@ -106,7 +133,7 @@ public class Patient extends Person {
      * @return the list of appointment of the patient.
      */
     public List<Appointment> getAppointment() {
-        return Collections.unmodifiableList(appointment);
+        return getDetails().appointments;
     }
 
     /**
@@ -116,10 +143,10 @@ public class Patient extends Person {
      */
     public Patient addAppointment(Appointment appointment) {
         requireAllNonNull(appointment);
-        List<Appointment> newAppointments = new ArrayList<>(this.appointment);
+        List<Appointment> newAppointments = new ArrayList<>(getAppointment());
         newAppointments.add(appointment);
         return new Patient(this.getName(), this.getPhone(), this.getAddress(),
-        this.getTag().orElse(null), this.notes, newAppointments, this.getCaretaker());
+        this.getTag().orElse(null), getNotes(), newAppointments, this.getCaretaker());
     }
 
     /**
@@ -129,10 +156,10 @@ public class Patient extends Person {
      */
     public Patient addNote(Note note) {
         requireAllNonNull(note);
-        List<Note> newNotes = new ArrayList<>(this.notes);
+        List<Note> newNotes = new ArrayList<>(getNotes());
         newNotes.add(note);
         return new Patient(this.getName(), this.getPhone(), this.getAddress(),
-                this.getTag().orElse(null), newNotes, this.appointment, this.getCaretaker());
+                this.getTag().orElse(null), newNotes, getAppointment(), this.getCaretaker());
     }
 
     /**
@@ -144,13 +171,13 @@ public class Patient extends Person {
      */
     public Patient editNote(int index, Note newNote) {
         requireAllNonNull(newNote);
-        if (index < 0 || index >= notes.size()) {
+        if (index < 0 || index >= getNotes().size()) {
             throw new IndexOutOfBoundsException(MESSAGE_NOTE_INDEX_OUT_OF_BOUNDS + index);
         }
-        List<Note> newNotes = new ArrayList<>(this.notes);
+        List<Note> newNotes = new ArrayList<>(getNotes());
         newNotes.set(index, newNote);
         return new Patient(this.getName(), this.getPhone(), this.getAddress(),
-                this.getTag().orElse(null), newNotes, this.appointment, this.getCaretaker());
+                this.getTag().orElse(null), newNotes, getAppointment(), this.getCaretaker());
     }
 
     /**
@@ -161,13 +188,39 @@ public class Patient extends Person {
      */
     public Patient editAppointment(int index, Appointment newAppt) {
         requireAllNonNull(newAppt);
-        if (index < 0 || index >= appointment.size()) {
+        if (index < 0 || index >= getAppointment().size()) {
             throw new IndexOutOfBoundsException("Appointment index out of bounds: " + index);
         }
-        List<Appointment> newAppointments = new ArrayList<>(this.appointment);
+        List<Appointment> newAppointments = new ArrayList<>(getAppointment());
         newAppointments.set(index, newAppt);
         return new Patient(this.getName(), this.getPhone(), this.getAddress(),
-                this.getTag().orElse(null), this.notes , newAppointments, this.getCaretaker());
+                this.getTag().orElse(null), getNotes(), newAppointments, this.getCaretaker());
+    }
+
+    /**
+     * Returns the appointments of this patient before {@code dateTime}, earliest first.
+     * @param dateTime the date and time to compare the appointments with
+     * @return the appointments before {@code dateTime}
+     */
+    public List<Appointment> getAppointmentsBefore(LocalDateTime dateTime) {
+        requireAllNonNull(dateTime);
+        return getAppointment().stream()
+                .filter(appointment -> appointment.getDateTime().isBefore(dateTime))
+                .toList();
+    }
+
+    /**
+     * Deletes the appointments of this patient before {@code dateTime}.
+     * @param dateTime the date and time to compare the appointments with
+     * @return a new Patient without the appointments before {@code dateTime}
+     */
+    public Patient deleteAppointmentsBefore(LocalDateTime dateTime) {
+        requireAllNonNull(dateTime);
+        List<Appointment> newAppointments = getAppointment().stream()
+                .filter(appointment -> !appointment.getDateTime().isBefore(dateTime))
+                .toList();
+        return new Patient(this.getName(), this.getPhone(), this.getAddress(),
+                this.getTag().orElse(null), getNotes(), newAppointments, this.getCaretaker());
     }
 
     /**
@@ -177,13 +230,13 @@ public class Patient extends Person {
      * @throws IndexOutOfBoundsException if the index is invalid
      */
     public Patient deleteNote(int index) {
-        if (index < 0 || index >= notes.size()) {
+        if (index < 0 || index >= getNotes().size()) {
             throw new IndexOutOfBoundsException(MESSAGE_NOTE_INDEX_OUT_OF_BOUNDS + index);
         }
-        List<Note> newNotes = new ArrayList<>(this.notes);
+        List<Note> newNotes = new ArrayList<>(getNotes());
         newNotes.remove(index);
         return new Patient(this.getName(), this.getPhone(), this.getAddress(),
-                this.getTag().orElse(null), newNotes, this.appointment, this.getCaretaker());
+                this.getTag().orElse(null), newNotes, getAppointment(), this.getCaretaker());
     }
 
     /**
@@ -194,7 +247,7 @@ public class Patient extends Person {
     public Patient addCaretaker(Caretaker caretaker) {
         requireAllNonNull(caretaker);
         return new Patient(this.getName(), this.getPhone(), this.getAddress(),
-                this.getTag().orElse(null), this.notes, this.appointment, caretaker);
+                this.getTag().orElse(null), getNotes(), getAppointment(), caretaker);
     }
 
     /**
@@ -202,7 +255,7 @@ public class Patient extends Person {
      * @return caretaker of this patient
      */
     public Caretaker getCaretaker() {
-        return this.caretaker;
+        return getDetails().caretaker;
     }
 
     /**
@@ -212,11 +265,22 @@ public class Patient extends Person {
         return Optional.ofNullable(tag);
     }
 
-    public Optional <LocalDateTime> getEarliestAppointmentDateTime() {
-        return getAppointment().stream()
-                .map(Appointment::getDateTime)
-                .min(LocalDateTime::compareTo);
+    /**
+     * Returns the date and time of the earliest appointment of this patient, if it has any. If the appointments have
+     * not been decoded yet, and their source knows it, they are not decoded for it.
+     */
+    public Optional<LocalDateTime> getEarliestAppointmentDateTime() {
+        DetailsSource source;
+        synchronized (this) {
+            source = detailsSource;
+        }
+        if (source != null && source.isEarliestAppointmentKnown()) {
+            return source.getEarliestAppointmentDateTime();
+        }
+        List<Appointment> appointments = getAppointment();
+        return appointments.isEmpty() ? Optional.empty() : Optional.of(appointments.get(0).getDateTime());
     }
+
     /**
      * Returns true if both persons have the same identity and data fields.
      * This defines a stronger notion of equality between two persons.
@@ -238,8 +302,8 @@ public class Patient extends Person {
 
         Patient otherPatient = (Patient) other;
         return super.equals(otherPatient)
-                && notes.equals(otherPatient.notes)
-                && Objects.equals(appointment, otherPatient.appointment)
+                && getNotes().equals(otherPatient.getNotes())
+                && Objects.equals(getAppointment(), otherPatient.getAppointment())
                 && Objects.equals(tag, otherPatient.tag);
 
     }
@@ -247,7 +311,7 @@ public class Patient extends Person {
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(super.hashCode(), notes, appointment);
+        return Objects.hash(super.hashCode(), getNotes(), getAppointment());
     }
 
     @Override
@@ -266,4 +330,72 @@ public class Patient extends Person {
 
         return sb.toString();
     }
+
+    /**
+     * Decodes the notes, appointments and caretaker of a patient that were not decoded when it was created.
+     */
+    @FunctionalInterface
+    public interface DetailsSource {
+        /**
+         * Returns the details of the patient. Only called once per patient.
+         */
+        Details decode();
+
+        /**
+         * Returns true if the earliest appointment is known without decoding the details.
+         */
+        default boolean isEarliestAppointmentKnown() {
+            return false;
+        }
+
+        /**
+         * Returns the date and time of the earliest appointment, or an empty {@code Optional} if there are no
+         * appointments. Only called if {@link #isEarliestAppointmentKnown()}.
+         */
+        default Optional<LocalDateTime> getEarliestAppointmentDateTime() {
+            return Optional.empty();
+        }
+
+        /**
+         * Returns the number of characters the details are held in until they are decoded, if that is known without
+         * decoding them, so that the memory they take can be estimated.
+         */
+        default OptionalInt getUndecodedLength() {
+            return OptionalInt.empty();
+        }
+    }
+
+    /**
+     * The notes, appointments and caretaker of a patient.
+     */
+    public static final class Details {
+        private final List<Note> notes;
+        private final List<Appointment> appointments;
+        private final Caretaker caretaker;
+
+        /**
+         * Creates the details of a patient from copies of {@code notes} and {@code appointments}, which must not be
+         * or contain null, and the {@code caretaker}, which can be null.
+         */
+        public Details(List<Note> notes, List<Appointment> appointments, Caretaker caretaker) {
+            requireAllNonNull(notes, appointments);
+            List<Appointment> sortedAppointments = new ArrayList<>(appointments);
+            Collections.sort(sortedAppointments);
+            this.notes = List.copyOf(notes);
+            this.appointments = List.copyOf(sortedAppointments);
+            this.caretaker = caretaker;
+        }
+
+        public List<Note> getNotes() {
+            return notes;
+        }
+
+        public List<Appointment> getAppointments() {
+            return appointments;
+        }
+
+        public Caretaker getCaretaker() {
+            return caretaker;
+        }
+    }
 }
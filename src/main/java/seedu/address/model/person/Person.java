@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -59,6 +60,14 @@ public abstract class Person {
                 && other.getPhone().equals(getPhone());
     }
 
+    /**
+     * Returns the identity fields used by {@link #isSamePerson(Person)} as a hashable key.
+     * Two persons are the same person if and only if their identities are equal.
+     */
+    public Map.Entry<Name, Phone> getIdentity() {
+        return Map.entry(name, phone);
+    }
+
     /** Default: persons have no tag. Subclasses may override. */
     public Optional<Tag> getTag() {
         return Optional.empty();
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -18,6 +20,7 @@ public class Phone {
             "Phone numbers cannot be blank";
     public static final String LENGTH_CONSTRAINTS = "Phone numbers must be between 3 and 15 digits. ";
     public static final String VALIDATION_REGEX = "\\d{3,15}";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
     public final String value;
 
     /**
@@ -26,16 +29,29 @@ public class Phone {
      * @param phone A valid phone number.
      */
     public Phone(String phone) {
+        this(phone, false);
+    }
+
+    private Phone(String phone, boolean isTrusted) {
         requireNonNull(phone);
-        checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
+        if (!isTrusted) {
+            checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
+        }
         value = phone;
     }
 
+    /**
+     * Returns a {@code Phone} of {@code phone} without validating it, for a value that is known to be valid.
+     */
+    public static Phone ofTrusted(String phone) {
+        return new Phone(phone, true);
+    }
+
     /**
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
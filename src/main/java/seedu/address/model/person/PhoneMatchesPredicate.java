@@ -0,0 +1,55 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person}'s {@code Phone}, or the {@code Phone} of their caretaker, is the phone given.
+ */
+public class PhoneMatchesPredicate implements Predicate<Person> {
+    private final Phone phone;
+
+    /**
+     * Creates a predicate that accepts the persons with {@code phone}, or whose caretaker has it.
+     */
+    public PhoneMatchesPredicate(Phone phone) {
+        requireNonNull(phone);
+        this.phone = phone;
+    }
+
+    public Phone getPhone() {
+        return phone;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        if (person.getPhone().equals(phone)) {
+            return true;
+        }
+        return person instanceof Patient patient && patient.getCaretaker() != null
+                && patient.getCaretaker().getPhone().equals(phone);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PhoneMatchesPredicate)) {
+            return false;
+        }
+
+        PhoneMatchesPredicate otherPhoneMatchesPredicate = (PhoneMatchesPredicate) other;
+        return phone.equals(otherPhoneMatchesPredicate.phone);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("phone", phone).toString();
+    }
+}
@@ -3,6 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Caretaker's relationship in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidRelationship(String)}
@@ -17,6 +21,8 @@ public class Relationship {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final Interner<Relationship> INTERNER = new Interner<>();
 
     public final String value;
 
@@ -26,16 +32,39 @@ public class Relationship {
      * @param relationship A valid relationship.
      */
     public Relationship(String relationship) {
+        this(relationship, false);
+    }
+
+    private Relationship(String relationship, boolean isTrusted) {
         requireNonNull(relationship);
-        checkArgument(isValidRelationship(relationship), MESSAGE_CONSTRAINTS);
+        if (!isTrusted) {
+            checkArgument(isValidRelationship(relationship), MESSAGE_CONSTRAINTS);
+        }
         value = relationship;
     }
 
+    /**
+     * Returns the shared {@code Relationship} of {@code relationship}, so that equal relationships share one instance.
+     *
+     * @param relationship A valid relationship.
+     */
+    public static Relationship of(String relationship) {
+        return INTERNER.intern(new Relationship(relationship));
+    }
+
+    /**
+     * Returns the shared {@code Relationship} of {@code relationship} without validating it, for a value that is known
+     * to be valid.
+     */
+    public static Relationship ofTrusted(String relationship) {
+        return INTERNER.intern(new Relationship(relationship, true));
+    }
+
     /**
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidRelationship(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -4,8 +4,11 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,7 +22,8 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
- * Supports a minimal set of list operations.
+ * Supports a minimal set of list operations. The identities of all persons in the list are also kept in a hash
+ * index so that identity lookups do not need to scan the list.
  *
  * @see Person#isSamePerson(Person)
  */
@@ -28,14 +32,14 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Set<Map.Entry<Name, Phone>> identities = new HashSet<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream()
-                .anyMatch(p -> p.isSamePerson(toCheck) || toCheck.isSamePerson(p));
+        return identities.contains(toCheck.getIdentity());
     }
 
     /**
@@ -47,9 +51,26 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        identities.add(toAdd.getIdentity());
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds all persons in {@code toAdd} to the end of the list as a single change.
+     * None of the persons may already exist in the list, and {@code toAdd} must not contain duplicate persons.
+     */
+    public void addAll(List<? extends Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<Map.Entry<Name, Phone>> addedIdentities = new HashSet<>();
+        for (Person person : toAdd) {
+            if (contains(person) || !addedIdentities.add(person.getIdentity())) {
+                throw new DuplicatePersonException();
+            }
+        }
+        identities.addAll(addedIdentities);
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -67,6 +88,20 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        identities.remove(target.getIdentity());
+        identities.add(editedPerson.getIdentity());
+        internalList.set(index, editedPerson);
+    }
+
+    /**
+     * Replaces the person at {@code index} in the list with {@code editedPerson}, which must have the same person
+     * identity, without looking the person up.
+     */
+    public void setPerson(int index, Person editedPerson) {
+        requireNonNull(editedPerson);
+        if (!internalList.get(index).isSamePerson(editedPerson)) {
+            throw new IllegalArgumentException("The edited person must be the same person.");
+        }
         internalList.set(index, editedPerson);
     }
 
@@ -79,10 +114,13 @@ public class UniquePersonList implements Iterable<Person> {
         if (!internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        identities.remove(toRemove.getIdentity());
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        identities.clear();
+        identities.addAll(replacement.identities);
         internalList.setAll(replacement.internalList);
     }
 
@@ -92,10 +130,15 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        Set<Map.Entry<Name, Phone>> newIdentities = new HashSet<>();
+        for (Person person : persons) {
+            if (!newIdentities.add(person.getIdentity())) {
+                throw new DuplicatePersonException();
+            }
         }
 
+        identities.clear();
+        identities.addAll(newIdentities);
         internalList.setAll(persons);
     }
 
@@ -144,18 +187,4 @@ public class UniquePersonList implements Iterable<Person> {
     public String toString() {
         return internalList.toString();
     }
-
-    /**
-     * Returns true if {@code persons} contains only unique persons.
-     */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
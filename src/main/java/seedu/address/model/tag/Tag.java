@@ -9,6 +9,9 @@ import java.util.Set;
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ * <p>
+ * There are only three valid tags, so {@link #of(String)} returns one of the shared constants {@link #LOW},
+ * {@link #MEDIUM} and {@link #HIGH} instead of creating a new tag each time.
  */
 public class Tag {
     public static final Set<String> ALLOWED = Set.of("low", "medium", "high");
@@ -19,6 +22,10 @@ public class Tag {
 
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    public static final Tag LOW = new Tag("low", true);
+    public static final Tag MEDIUM = new Tag("medium", true);
+    public static final Tag HIGH = new Tag("high", true);
+
     public final String tagName;
 
     /**
@@ -27,9 +34,43 @@ public class Tag {
      * @param tagName A valid tag name.
      */
     public Tag(String tagName) {
+        this(tagName, false);
+    }
+
+    private Tag(String tagName, boolean isTrusted) {
+        requireNonNull(tagName);
+        if (!isTrusted) {
+            checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
+        }
+        this.tagName = isTrusted ? tagName : tagName.toLowerCase();
+    }
+
+    /**
+     * Returns the shared {@code Tag} of {@code tagName}, in any case.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
         requireNonNull(tagName);
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
-        this.tagName = tagName.toLowerCase();
+        return ofTrusted(tagName.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns the shared {@code Tag} of {@code tagName} without validating it, for a lower-case tag name that is
+     * known to be valid.
+     */
+    public static Tag ofTrusted(String tagName) {
+        switch (tagName) {
+        case "low":
+            return LOW;
+        case "medium":
+            return MEDIUM;
+        case "high":
+            return HIGH;
+        default:
+            return new Tag(tagName, true);
+        }
     }
 
     /**
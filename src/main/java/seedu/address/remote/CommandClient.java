@@ -0,0 +1,151 @@
+package seedu.address.remote;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
+import seedu.address.storage.AddressBookJsonCodec;
+
+/**
+ * A connection to a {@link CommandServer}, over which commands are sent one at a time.
+ */
+public class CommandClient implements AutoCloseable {
+
+    private final Socket socket;
+    private final BufferedReader in;
+    private final Writer out;
+    private final Path addressBookFilePath;
+
+    /**
+     * Connects to the server at {@code address} and waits for its greeting.
+     *
+     * @throws IOException if the server cannot be reached or is not a {@link CommandServer}.
+     */
+    public CommandClient(InetSocketAddress address) throws IOException {
+        requireNonNull(address);
+        socket = new Socket();
+        try {
+            socket.connect(address.isUnresolved()
+                    ? new InetSocketAddress(address.getHostString(), address.getPort())
+                    : address);
+            in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+
+            String[] greeting = Protocol.readLine(in).split(" ", 3);
+            if (greeting.length < 3 || !greeting[0].equals(Protocol.GREETING)) {
+                throw new IOException("Not a MediSaveContact server: " + address);
+            }
+            addressBookFilePath = Paths.get(greeting[2]);
+        } catch (IOException e) {
+            socket.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the path of the data file the server saves to.
+     */
+    public Path getAddressBookFilePath() {
+        return addressBookFilePath;
+    }
+
+    /**
+     * Executes {@code commandText} on the server and waits for its result.
+     *
+     * @throws CommandException If an error occurs during command execution, or the connection fails.
+     * @throws ParseException If an error occurs during parsing.
+     */
+    public synchronized Response execute(String commandText) throws CommandException, ParseException {
+        requireNonNull(commandText);
+        if (commandText.contains("\n") || commandText.contains("\r")) {
+            throw new ParseException("A command cannot span several lines.");
+        }
+
+        String status;
+        String feedback;
+        boolean showHelp;
+        boolean exit;
+        Optional<String> personsJson;
+        try {
+            out.write(commandText + "\n");
+            out.flush();
+
+            String[] statusLine = Protocol.readLine(in).split(" ");
+            status = statusLine[0];
+            showHelp = Boolean.parseBoolean(statusLine[1]);
+            exit = Boolean.parseBoolean(statusLine[2]);
+            List<String> feedbackLines = new ArrayList<>();
+            for (int i = Integer.parseInt(statusLine[3]); i > 0; i--) {
+                feedbackLines.add(Protocol.readLine(in));
+            }
+            feedback = String.join("\n", feedbackLines);
+
+            String personsLine = Protocol.readLine(in);
+            personsJson = personsLine.startsWith(Protocol.PERSONS + " ")
+                    ? Optional.of(personsLine.substring(Protocol.PERSONS.length() + 1))
+                    : Optional.empty();
+        } catch (IOException | RuntimeException e) {
+            throw new CommandException("Lost connection to the server: " + e.getMessage(), e);
+        }
+
+        if (status.equals(Protocol.STATUS_INVALID)) {
+            throw new ParseException(feedback);
+        }
+        if (status.equals(Protocol.STATUS_FAILED)) {
+            throw new CommandException(feedback);
+        }
+        return new Response(new CommandResult(feedback, showHelp, exit), personsJson);
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+
+    /**
+     * The result of a command executed on the server.
+     */
+    public static class Response {
+        private final CommandResult commandResult;
+        private final Optional<String> personsJson;
+
+        Response(CommandResult commandResult, Optional<String> personsJson) {
+            this.commandResult = commandResult;
+            this.personsJson = personsJson;
+        }
+
+        public CommandResult getCommandResult() {
+            return commandResult;
+        }
+
+        /**
+         * Returns the persons the terminal lists after the command, or an empty Optional if they have not changed
+         * since the previous command.
+         *
+         * @throws IOException if the server sent persons that are not valid.
+         */
+        public Optional<List<Person>> getPersons() throws IOException {
+            if (personsJson.isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(List.copyOf(AddressBookJsonCodec.fromJsonLine(personsJson.get()).getPersonList()));
+        }
+    }
+}
@@ -0,0 +1,336 @@
+package seedu.address.remote;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import seedu.address.MainApp;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.ListedPersons;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.BackgroundTask;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.storage.AddressBookJsonCodec;
+
+/**
+ * Serves commands from several terminals at once over local sockets, all working on the same model.
+ * <p>
+ * Each connection is a session with its own thread and its own filtered person list, so that e.g. {@code delete 2}
+ * deletes the second person that terminal lists. Commands that change the address book are queued and run one at a
+ * time on a single writer thread, exactly as they would be in the desktop app. {@code find} and {@code list} are
+ * answered on the session's own thread from the latest published {@link AddressBookSnapshot} through
+ * {@link Logic#executeLookup}, so they never wait for the writer but are still logged and timed.
+ * <p>
+ * While a terminal has a transaction open, the other terminals can only look the address book up as it was before
+ * the transaction. If that terminal disconnects, its transaction is rolled back.
+ */
+public class CommandServer implements AutoCloseable {
+
+    public static final int DEFAULT_PORT = 7420;
+
+    public static final String MESSAGE_TRANSACTION_IN_PROGRESS = "Another terminal has a transaction open. "
+            + "Try again once it has been committed or rolled back.";
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private static final Logger logger = LogsCenter.getLogger(CommandServer.class);
+
+    private final Model model;
+    private final Logic logic;
+    private final ExecutorService writer;
+    private final ExecutorService sessions;
+    private final Set<Socket> openSockets = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger sessionCount = new AtomicInteger();
+    private ServerSocket serverSocket;
+
+    // Only changed by the writer thread
+    private volatile Session transactionOwner;
+
+    /**
+     * Creates a {@code CommandServer} that executes commands with {@code logic}, which must work on {@code model}.
+     */
+    public CommandServer(Model model, Logic logic) {
+        requireAllNonNull(model, logic);
+        this.model = model;
+        this.logic = logic;
+        writer = Executors.newSingleThreadExecutor(runnable -> newDaemonThread(runnable, "command-writer"));
+        sessions = Executors.newCachedThreadPool(runnable ->
+                newDaemonThread(runnable, "command-session-" + sessionCount.incrementAndGet()));
+    }
+
+    private static Thread newDaemonThread(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Starts accepting connections on {@code address}. A port of 0 picks any free port; see {@link #getPort()}.
+     */
+    public void start(InetSocketAddress address) throws IOException {
+        serverSocket = new ServerSocket();
+        serverSocket.bind(address);
+        newDaemonThread(this::acceptConnections, "command-server").start();
+        logger.info("Accepting terminals on " + serverSocket.getLocalSocketAddress());
+    }
+
+    /**
+     * Returns the port the server is accepting connections on.
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    private void acceptConnections() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                sessions.execute(() -> serve(socket));
+            } catch (IOException | RejectedExecutionException e) {
+                if (!serverSocket.isClosed()) {
+                    logger.warning("Could not accept a terminal: " + e);
+                }
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        openSockets.add(socket);
+        Session session = new Session();
+        logger.info("Terminal connected from " + socket.getRemoteSocketAddress());
+        try (socket;
+                BufferedReader in = new BufferedReader(
+                        new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                Writer out = new BufferedWriter(
+                        new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            out.write(Protocol.GREETING + " " + MainApp.VERSION + " " + logic.getAddressBookFilePath() + "\n");
+            out.flush();
+
+            String commandText;
+            while ((commandText = in.readLine()) != null) {
+                respond(session, commandText, out);
+                out.flush();
+            }
+        } catch (IOException e) {
+            logger.info("Terminal connection failed: " + e.getMessage());
+        } finally {
+            openSockets.remove(socket);
+            endSession(session);
+            logger.info("Terminal disconnected from " + socket.getRemoteSocketAddress());
+        }
+    }
+
+    private void respond(Session session, String commandText, Writer out) throws IOException {
+        Outcome outcome;
+        try {
+            outcome = run(session, commandText);
+        } catch (ParseException e) {
+            Protocol.writeStatus(out, Protocol.STATUS_INVALID, false, false, e.getMessage());
+            out.write(Protocol.SAME + "\n");
+            return;
+        } catch (CommandException e) {
+            Protocol.writeStatus(out, Protocol.STATUS_FAILED, false, false, e.getMessage());
+            out.write(Protocol.SAME + "\n");
+            return;
+        }
+
+        CommandResult commandResult = outcome.commandResult;
+        String feedback = commandResult.getFeedbackToUser();
+        if (commandResult.getBackgroundTask().isPresent()) {
+            feedback += "\n" + runBackgroundTask(commandResult.getBackgroundTask().get());
+        }
+        Protocol.writeStatus(out, Protocol.STATUS_OK, commandResult.isShowHelp(), commandResult.isExit(), feedback);
+
+        // A version of -1 means the persons were read in a transaction, so they may change without a new version
+        if (outcome.version != -1 && outcome.version == session.sentVersion
+                && outcome.predicate == session.sentPredicate) {
+            out.write(Protocol.SAME + "\n");
+            return;
+        }
+        out.write(Protocol.PERSONS + " " + AddressBookJsonCodec.toJsonLine(outcome.persons) + "\n");
+        session.sentVersion = outcome.version;
+        session.sentPredicate = outcome.predicate;
+    }
+
+    private Outcome run(Session session, String commandText) throws CommandException, ParseException {
+        if (transactionOwner != session) {
+            AddressBookSnapshot snapshot = model.getSnapshot();
+            Optional<ListedPersons> listedPersons = logic.executeLookup(commandText, snapshot);
+            if (listedPersons.isPresent()) {
+                session.predicate = listedPersons.get().getPredicate();
+                return new Outcome(listedPersons.get().getCommandResult(), listedPersons.get().getPersons(),
+                        session.predicate, snapshot.getVersion());
+            }
+        }
+
+        // Commands that cannot be parsed are executed anyway, so that the failure is logged and counted like any other
+        Command command;
+        try {
+            command = session.parser.parseCommand(commandText);
+        } catch (ParseException e) {
+            command = null;
+        }
+        Command parsedCommand = command;
+        Future<Outcome> outcome = writer.submit(() -> execute(session, parsedCommand, commandText));
+        try {
+            return outcome.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommandException("The server is shutting down.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CommandException) {
+                throw (CommandException) cause;
+            }
+            if (cause instanceof ParseException) {
+                throw (ParseException) cause;
+            }
+            logger.severe("Unexpected error while executing " + commandText + StringUtil.getDetails(cause));
+            throw new CommandException(Objects.requireNonNullElse(cause.getMessage(), cause.toString()), cause);
+        }
+    }
+
+    /**
+     * Executes a command for {@code session}. Must only be called on the writer thread.
+     */
+    private Outcome execute(Session session, Command command, String commandText)
+            throws CommandException, ParseException {
+        boolean isHarmless = command == null || command instanceof HelpCommand || command instanceof ExitCommand;
+        if (model.isInTransaction() && transactionOwner != session && !isHarmless) {
+            throw new CommandException(MESSAGE_TRANSACTION_IN_PROGRESS);
+        }
+
+        if (model.getFilteredPersonListPredicate() != session.predicate) {
+            model.updateFilteredPersonList(session.predicate);
+        }
+        CommandResult commandResult;
+        try {
+            commandResult = logic.execute(commandText);
+        } finally {
+            session.predicate = model.getFilteredPersonListPredicate();
+            transactionOwner = model.isInTransaction() ? session : null;
+        }
+
+        long version = model.isInTransaction() ? -1 : model.getSnapshot().getVersion();
+        return new Outcome(commandResult, List.copyOf(model.getFilteredPersonList()), session.predicate, version);
+    }
+
+    private static String runBackgroundTask(BackgroundTask task) {
+        try {
+            return task.run(progress -> {});
+        } catch (Exception e) {
+            logger.warning("Background task failed: " + e);
+            return Objects.requireNonNullElse(e.getMessage(), e.toString());
+        }
+    }
+
+    private void endSession(Session session) {
+        try {
+            writer.execute(() -> {
+                if (transactionOwner != session) {
+                    return;
+                }
+                transactionOwner = null;
+                if (model.isInTransaction()) {
+                    model.rollbackTransaction();
+                    model.publishSnapshot();
+                    logger.info("Rolled back the transaction of a disconnected terminal");
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            logger.warning("Could not roll back the transaction of a disconnected terminal as the server is closed");
+        }
+    }
+
+    /**
+     * Disconnects every terminal and waits for the commands they queued to finish, so that their changes are saved.
+     */
+    @Override
+    public void close() {
+        try {
+            if (serverSocket != null) {
+                serverSocket.close();
+            }
+            for (Socket socket : openSockets) {
+                socket.close();
+            }
+        } catch (IOException e) {
+            logger.warning("Could not close a connection: " + e);
+        }
+
+        sessions.shutdown();
+        awaitTermination(sessions);
+        writer.shutdown();
+        awaitTermination(writer);
+    }
+
+    private static void awaitTermination(ExecutorService executor) {
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Terminals did not finish within " + SHUTDOWN_TIMEOUT_SECONDS + " seconds");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * What a terminal is currently looking at.
+     */
+    private static class Session {
+        private final AddressBookParser parser = new AddressBookParser();
+        private volatile Predicate<Person> predicate = Model.PREDICATE_SHOW_ALL_PERSONS;
+        private long sentVersion = -1;
+        private Predicate<Person> sentPredicate;
+    }
+
+    /**
+     * The result of a command, with the persons the terminal lists after it.
+     */
+    private static class Outcome {
+        private final CommandResult commandResult;
+        private final List<Person> persons;
+        private final Predicate<Person> predicate;
+        private final long version;
+
+        Outcome(CommandResult commandResult, List<Person> persons, Predicate<Person> predicate, long version) {
+            this.commandResult = commandResult;
+            this.persons = persons;
+            this.predicate = predicate;
+            this.version = version;
+        }
+    }
+}
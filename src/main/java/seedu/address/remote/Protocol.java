@@ -0,0 +1,56 @@
+package seedu.address.remote;
+
+import java.io.BufferedReader;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * The line-based text protocol spoken between a {@link CommandServer} and a {@link CommandClient}.
+ * <p>
+ * When a client connects, the server sends a greeting line: {@code MEDISAVE <version> <data file path>}. After that,
+ * the client sends one command per line, and the server answers each command with
+ * <pre>
+ * OK|INVALID|FAILED &lt;show help&gt; &lt;exit&gt; &lt;number of feedback lines&gt;
+ * feedback lines...
+ * PERSONS &lt;the persons listed, as a single line of JSON&gt; | SAME
+ * </pre>
+ * {@code INVALID} means the command could not be parsed and {@code FAILED} that it could not be executed; the
+ * feedback is then the error message. {@code SAME} means the persons listed have not changed since the client's
+ * previous command.
+ */
+final class Protocol {
+
+    static final String GREETING = "MEDISAVE";
+    static final String STATUS_OK = "OK";
+    static final String STATUS_INVALID = "INVALID";
+    static final String STATUS_FAILED = "FAILED";
+    static final String PERSONS = "PERSONS";
+    static final String SAME = "SAME";
+
+    private Protocol() {}
+
+    /**
+     * Writes a response with the given status, flags and feedback, without the persons line.
+     */
+    static void writeStatus(Writer out, String status, boolean showHelp, boolean exit, String feedback)
+            throws IOException {
+        List<String> lines = feedback.lines().toList();
+        out.write(status + " " + showHelp + " " + exit + " " + lines.size() + "\n");
+        for (String line : lines) {
+            out.write(line + "\n");
+        }
+    }
+
+    /**
+     * Reads a line, treating the end of the stream as an error.
+     */
+    static String readLine(BufferedReader in) throws IOException {
+        String line = in.readLine();
+        if (line == null) {
+            throw new EOFException("Connection closed");
+        }
+        return line;
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.remote;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.ListedPersons;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code Logic} that executes commands on a {@link CommandServer}, so that the desktop app can be used as one of
+ * its terminals.
+ * <p>
+ * The filtered person list holds the persons the server last listed for this terminal, and is only changed by
+ * {@link #execute(String)}. Commands are not previewed, and the GUI settings are only kept until the app exits.
+ */
+public class RemoteLogic implements Logic {
+
+    private static final Logger logger = LogsCenter.getLogger(RemoteLogic.class);
+
+    private final CommandClient client;
+    private final ObservableList<Person> persons = FXCollections.observableArrayList();
+    private final ObservableList<Person> unmodifiablePersons = FXCollections.unmodifiableObservableList(persons);
+    private GuiSettings guiSettings;
+
+    /**
+     * Creates a {@code RemoteLogic} that sends commands over {@code client}, and lists every person to begin with.
+     */
+    public RemoteLogic(CommandClient client, GuiSettings guiSettings) throws CommandException, ParseException {
+        requireAllNonNull(client, guiSettings);
+        this.client = client;
+        this.guiSettings = guiSettings;
+        execute(ListCommand.COMMAND_WORD);
+    }
+
+    @Override
+    public CommandResult execute(String commandText) throws CommandException, ParseException {
+        CommandClient.Response response = client.execute(commandText);
+        Optional<List<Person>> listedPersons;
+        try {
+            listedPersons = response.getPersons();
+        } catch (IOException e) {
+            logger.warning("Could not read the persons sent by the server: " + e.getMessage());
+            throw new CommandException("The server sent persons that could not be read: " + e.getMessage(), e);
+        }
+        listedPersons.ifPresent(persons::setAll);
+        return response.getCommandResult();
+    }
+
+    /**
+     * Returns the persons this terminal lists, as the address book is only held by the server.
+     */
+    @Override
+    public ReadOnlyAddressBook getAddressBook() {
+        return () -> unmodifiablePersons;
+    }
+
+    @Override
+    public ObservableList<Person> getFilteredPersonList() {
+        return unmodifiablePersons;
+    }
+
+    @Override
+    public Optional<List<Person>> previewFilteredPersonList(String commandText) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<ListedPersons> executeLookup(String commandText, ReadOnlyAddressBook addressBook) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return client.getAddressBookFilePath();
+    }
+
+    @Override
+    public GuiSettings getGuiSettings() {
+        return guiSettings;
+    }
+
+    @Override
+    public void setGuiSettings(GuiSettings guiSettings) {
+        this.guiSettings = guiSettings;
+    }
+}
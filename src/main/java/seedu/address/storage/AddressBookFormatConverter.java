@@ -0,0 +1,139 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts the data file between the single JSON file of {@link JsonAddressBookStorage}, the segment directory of
+ * {@link SegmentedAddressBookStorage} and the record file of {@link KeyValueAddressBookStorage}.
+ * <p>
+ * Usage: {@code AddressBookFormatConverter SOURCE TARGET}. A path that ends in {@code .json} is a single JSON file,
+ * a path that ends in {@code .db} is a record file, and any other path is a segment directory. A JSON file may be
+ * compressed, e.g. {@code medisavecontact.json.gz}.
+ */
+public class AddressBookFormatConverter {
+
+    /** The suffix of the name that the data in the old format is renamed to once it has been converted. */
+    public static final String BACKUP_SUFFIX = ".migrated";
+
+    private static final String JSON_EXTENSION = ".json";
+    private static final String RECORD_FILE_EXTENSION = ".db";
+
+    /**
+     * Converts the data file named by the first argument into the format of the second.
+     */
+    public static void main(String[] args) throws DataLoadingException, IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: AddressBookFormatConverter SOURCE TARGET");
+            System.exit(2);
+        }
+        if (!convert(storageFor(Paths.get(args[0])), storageFor(Paths.get(args[1])))) {
+            System.err.println("No data found at " + args[0]);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Saves the address book in {@code source} to {@code target}.
+     *
+     * @return false if there was no address book in {@code source}, in which case nothing is saved.
+     * @throws DataLoadingException if the address book in {@code source} could not be read.
+     * @throws IOException if the address book could not be saved to {@code target}.
+     */
+    public static boolean convert(AddressBookStorage source, AddressBookStorage target)
+            throws DataLoadingException, IOException {
+        requireAllNonNull(source, target);
+        Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+        if (addressBook.isEmpty()) {
+            return false;
+        }
+        target.saveAddressBook(addressBook.get());
+        return true;
+    }
+
+    /**
+     * Saves the address book in {@code source} to {@code target} like {@link #convert}, and then renames the data in
+     * {@code source} to a backup next to it, ending in {@link #BACKUP_SUFFIX}, so that it is not read again in place
+     * of the newer data in {@code target}.
+     *
+     * @return the path of the backup, or an empty Optional if there was no address book in {@code source}.
+     * @throws DataLoadingException if the address book in {@code source} could not be read.
+     * @throws IOException if the address book could not be saved to {@code target} or {@code source} could not be
+     *     renamed.
+     */
+    public static Optional<Path> migrate(AddressBookStorage source, AddressBookStorage target)
+            throws DataLoadingException, IOException {
+        if (!convert(source, target)) {
+            return Optional.empty();
+        }
+        if (source instanceof Closeable closeable) {
+            closeable.close();
+        }
+        Path sourcePath = source.getAddressBookFilePath();
+        Path backup = sourcePath.resolveSibling(sourcePath.getFileName() + BACKUP_SUFFIX);
+        for (int i = 2; Files.exists(backup); i++) {
+            backup = sourcePath.resolveSibling(sourcePath.getFileName() + BACKUP_SUFFIX + "-" + i);
+        }
+        return Optional.of(Files.move(sourcePath, backup));
+    }
+
+    /**
+     * Returns the time the address book in {@code storage} was last saved, or an empty Optional if there is none.
+     * The manifest of a segment directory is written last, so its time is that of the whole directory.
+     */
+    public static Optional<FileTime> getLastSavedTime(AddressBookStorage storage) throws IOException {
+        Path path = storage instanceof SegmentedAddressBookStorage
+                ? storage.getAddressBookFilePath().resolve(SegmentedAddressBookStorage.MANIFEST_FILE_NAME)
+                : storage.getAddressBookFilePath();
+        return Files.exists(path) ? Optional.of(Files.getLastModifiedTime(path)) : Optional.empty();
+    }
+
+    /**
+     * Returns the storage for {@code path}: a single JSON file if it ends in {@code .json}, a record file if it ends
+     * in {@code .db}, and a segment directory otherwise.
+     */
+    public static AddressBookStorage storageFor(Path path) {
+        if (FileUtil.getUncompressedFileName(path).endsWith(JSON_EXTENSION)) {
+            return new JsonAddressBookStorage(path);
+        } else if (path.toString().endsWith(RECORD_FILE_EXTENSION)) {
+            return new KeyValueAddressBookStorage(path);
+        } else {
+            return new SegmentedAddressBookStorage(path);
+        }
+    }
+
+    /**
+     * Returns the segment directory that goes with the data file {@code jsonFile}: the directory next to it that has
+     * its name without the extension, e.g. {@code data/medisavecontact} for {@code data/medisavecontact.json}.
+     */
+    public static Path toSegmentDirectory(Path jsonFile) {
+        String fileName = FileUtil.getUncompressedFileName(jsonFile);
+        String directoryName = fileName.endsWith(JSON_EXTENSION)
+                ? fileName.substring(0, fileName.length() - JSON_EXTENSION.length())
+                : fileName + "-segments";
+        return jsonFile.resolveSibling(directoryName);
+    }
+
+    /**
+     * Returns the record file that goes with the data file {@code jsonFile}: the file next to it that has its name
+     * with the extension {@code .db}, e.g. {@code data/medisavecontact.db} for {@code data/medisavecontact.json}.
+     */
+    public static Path toRecordFile(Path jsonFile) {
+        String fileName = FileUtil.getUncompressedFileName(jsonFile);
+        String baseName = fileName.endsWith(JSON_EXTENSION)
+                ? fileName.substring(0, fileName.length() - JSON_EXTENSION.length())
+                : fileName;
+        return jsonFile.resolveSibling(baseName + RECORD_FILE_EXTENSION);
+    }
+}
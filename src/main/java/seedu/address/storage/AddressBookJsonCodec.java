@@ -0,0 +1,52 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Converts address books to and from a single line of JSON, in the same format as the data file.
+ */
+public final class AddressBookJsonCodec {
+
+    private AddressBookJsonCodec() {}
+
+    /**
+     * Returns {@code addressBook} as JSON that contains no line breaks.
+     */
+    public static String toJsonLine(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        return JsonUtil.toJsonLine(new JsonSerializableAddressBook(addressBook));
+    }
+
+    /**
+     * Returns an address book of {@code persons} as JSON that contains no line breaks.
+     */
+    public static String toJsonLine(List<Person> persons) throws IOException {
+        requireNonNull(persons);
+        return toJsonLine(() -> FXCollections.observableList(persons));
+    }
+
+    /**
+     * Reads back an address book written by {@link #toJsonLine(ReadOnlyAddressBook)}.
+     *
+     * @throws IOException if {@code json} is not valid JSON or does not describe a valid address book.
+     */
+    public static AddressBook fromJsonLine(String json) throws IOException {
+        requireNonNull(json);
+        try {
+            return JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelType();
+        } catch (IllegalValueException e) {
+            throw new IOException("Invalid address book: " + e.getMessage(), e);
+        }
+    }
+}
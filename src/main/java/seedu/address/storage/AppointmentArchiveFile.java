@@ -0,0 +1,318 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AppointmentArchive;
+import seedu.address.model.person.Appointment;
+import seedu.address.model.person.Person;
+
+/**
+ * An {@link AppointmentArchive} kept in a file next to the data file, e.g. {@code medisavecontact.json.archive}.
+ * <p>
+ * The file is only ever appended to, one line of JSON per appointment with the name and phone number of its patient,
+ * or per transfer of the appointments of one patient to another, so that it stays readable and a crash can at most cut
+ * its last line short, which is dropped the next time the file is used. The appointments are only read when they are
+ * looked up: when the archive is first used, the file is indexed by the position and length of the lines of each
+ * patient, and only that index is kept in memory.
+ */
+public class AppointmentArchiveFile implements AppointmentArchive {
+
+    public static final String EXTENSION = ".archive";
+
+    private static final int LENGTH_BITS = 24;
+    private static final int MAX_LINE_LENGTH = (1 << LENGTH_BITS) - 1;
+    private static final byte LINE_SEPARATOR = '\n';
+
+    private static final Logger logger = LogsCenter.getLogger(AppointmentArchiveFile.class);
+
+    private final Path file;
+    private Map<String, Lines> index;
+
+    /**
+     * Creates the archive in {@code file}, which is created when appointments are first added to it.
+     */
+    public AppointmentArchiveFile(Path file) {
+        this.file = requireNonNull(file);
+    }
+
+    /**
+     * Returns the archive file of {@code dataFile}.
+     */
+    public static Path of(Path dataFile) {
+        return dataFile.resolveSibling(dataFile.getFileName() + EXTENSION);
+    }
+
+    @Override
+    public synchronized void add(Map<? extends Person, List<Appointment>> appointments) throws IOException {
+        requireNonNull(appointments);
+        Map<String, Lines> lines = getIndex();
+        try (FileChannel channel = openForAppending()) {
+            long start = channel.size();
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            Map<String, List<Long>> added = new HashMap<>();
+            for (Map.Entry<? extends Person, List<Appointment>> entry : appointments.entrySet()) {
+                String key = JsonAdaptedArchivedAppointment.keyOf(entry.getKey());
+                Set<Appointment> toAdd = new LinkedHashSet<>(entry.getValue());
+                toAdd.removeAll(read(channel, lines.get(key)));
+                for (Appointment appointment : toAdd) {
+                    byte[] line = JsonUtil.toJsonLine(new JsonAdaptedArchivedAppointment(entry.getKey(), appointment))
+                            .getBytes(StandardCharsets.UTF_8);
+                    if (line.length > MAX_LINE_LENGTH) {
+                        throw new IOException("Appointment " + appointment + " is too long to be archived");
+                    }
+                    added.computeIfAbsent(key, unused -> new ArrayList<>())
+                            .add(locationOf(start + bytes.size(), line.length));
+                    bytes.write(line);
+                    bytes.write(LINE_SEPARATOR);
+                }
+            }
+            if (bytes.size() == 0) {
+                return;
+            }
+
+            append(channel, start, bytes.toByteArray());
+            added.forEach((key, locations) -> {
+                Lines patientLines = lines.computeIfAbsent(key, unused -> new Lines());
+                locations.forEach(patientLines::add);
+            });
+        }
+    }
+
+    @Override
+    public synchronized void transfer(Person from, Person to) throws IOException {
+        requireAllNonNull(from, to);
+        Map<String, Lines> lines = getIndex();
+        String fromKey = JsonAdaptedArchivedAppointment.keyOf(from);
+        String toKey = JsonAdaptedArchivedAppointment.keyOf(to);
+        if (fromKey.equals(toKey) || !lines.containsKey(fromKey) && !lines.containsKey(toKey)) {
+            return;
+        }
+
+        appendTransfers(List.of(JsonAdaptedArchivedAppointment.transferOf(from, to)));
+        applyTransfer(lines, fromKey, toKey);
+    }
+
+    @Override
+    public synchronized void clear(Collection<? extends Person> persons) throws IOException {
+        requireNonNull(persons);
+        Map<String, Lines> lines = getIndex();
+        Map<String, JsonAdaptedArchivedAppointment> transfers = new LinkedHashMap<>();
+        for (Person person : persons) {
+            String key = JsonAdaptedArchivedAppointment.keyOf(person);
+            if (lines.containsKey(key)) {
+                transfers.put(key, JsonAdaptedArchivedAppointment.transferOf(null, person));
+            }
+        }
+        if (transfers.isEmpty()) {
+            return;
+        }
+
+        appendTransfers(transfers.values());
+        transfers.keySet().forEach(lines::remove);
+    }
+
+    private void appendTransfers(Collection<JsonAdaptedArchivedAppointment> transfers) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        for (JsonAdaptedArchivedAppointment transfer : transfers) {
+            bytes.write(JsonUtil.toJsonLine(transfer).getBytes(StandardCharsets.UTF_8));
+            bytes.write(LINE_SEPARATOR);
+        }
+        try (FileChannel channel = openForAppending()) {
+            append(channel, channel.size(), bytes.toByteArray());
+        }
+    }
+
+    /**
+     * Lets the patient {@code toKey} have the lines of the patient {@code fromKey}, or none if it is null.
+     */
+    private static void applyTransfer(Map<String, Lines> lines, String fromKey, String toKey) {
+        Lines fromLines = fromKey == null ? null : lines.get(fromKey);
+        if (fromLines == null) {
+            lines.remove(toKey);
+        } else {
+            lines.put(toKey, fromLines.copy());
+        }
+    }
+
+    private FileChannel openForAppending() throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Writes {@code bytes} at {@code start}, the end of the file, and forces them to the disk.
+     */
+    private static void append(FileChannel channel, long start, byte[] bytes) throws IOException {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            for (long position = start; buffer.hasRemaining(); ) {
+                position += channel.write(buffer, position);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            // Leave the file as it was, so that the lines can be written again
+            channel.truncate(start);
+            throw e;
+        }
+    }
+
+    @Override
+    public synchronized List<Appointment> getAppointmentsOf(Person person) throws IOException {
+        requireNonNull(person);
+        Lines lines = getIndex().get(JsonAdaptedArchivedAppointment.keyOf(person));
+        if (lines == null) {
+            return List.of();
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            List<Appointment> appointments = read(channel, lines);
+            appointments.sort(null);
+            return appointments;
+        }
+    }
+
+    private List<Appointment> read(FileChannel channel, Lines lines) throws IOException {
+        List<Appointment> appointments = new ArrayList<>();
+        if (lines == null) {
+            return appointments;
+        }
+        for (int i = 0; i < lines.size; i++) {
+            long location = lines.locations[i];
+            ByteBuffer line = ByteBuffer.allocate((int) (location & MAX_LINE_LENGTH));
+            for (long position = location >>> LENGTH_BITS; line.hasRemaining(); ) {
+                int read = channel.read(line, position);
+                if (read < 0) {
+                    throw new IOException(file + " ends in the middle of an appointment");
+                }
+                position += read;
+            }
+            try {
+                appointments.add(parse(new String(line.array(), StandardCharsets.UTF_8)).toModelType());
+            } catch (IllegalValueException e) {
+                // The line was valid when it was indexed, so the file was changed since
+                throw new IOException(file + " was changed while in use", e);
+            }
+        }
+        return appointments;
+    }
+
+    private JsonAdaptedArchivedAppointment parse(String line) throws IOException {
+        return JsonUtil.fromJsonString(line, JsonAdaptedArchivedAppointment.class);
+    }
+
+    /**
+     * Returns the index of the file, reading it if it has not been read yet.
+     */
+    private Map<String, Lines> getIndex() throws IOException {
+        if (index == null) {
+            index = readIndex();
+        }
+        return index;
+    }
+
+    private Map<String, Lines> readIndex() throws IOException {
+        Map<String, Lines> lines = new HashMap<>();
+        if (!Files.exists(file)) {
+            return lines;
+        }
+
+        long position = 0;
+        long lineStart = 0;
+        int skipped = 0;
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            for (int b = in.read(); b >= 0; b = in.read()) {
+                position++;
+                if (b != LINE_SEPARATOR) {
+                    line.write(b);
+                    continue;
+                }
+                try {
+                    if (line.size() > MAX_LINE_LENGTH) {
+                        throw new IllegalValueException("Line is too long");
+                    }
+                    JsonAdaptedArchivedAppointment appointment = parse(line.toString(StandardCharsets.UTF_8));
+                    if (appointment.isTransfer()) {
+                        appointment.checkTransfer();
+                        applyTransfer(lines, appointment.getPreviousPatientKey().orElse(null),
+                                appointment.getPatientKey());
+                    } else {
+                        appointment.toModelType();
+                        lines.computeIfAbsent(appointment.getPatientKey(), unused -> new Lines())
+                                .add(locationOf(lineStart, line.size()));
+                    }
+                } catch (IOException | IllegalValueException e) {
+                    skipped++;
+                }
+                line.reset();
+                lineStart = position;
+            }
+        }
+
+        if (skipped > 0) {
+            logger.warning("Skipped " + skipped + " unreadable appointments in " + file);
+        }
+        if (lineStart < position) {
+            logger.warning("Dropping " + (position - lineStart) + " bytes of an incomplete appointment at the end of "
+                    + file);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.truncate(lineStart);
+                channel.force(false);
+            }
+        }
+        return lines;
+    }
+
+    private static long locationOf(long position, int length) {
+        return position << LENGTH_BITS | length;
+    }
+
+    /**
+     * The locations of the lines of one patient, each its position in the file and its length packed into a
+     * {@code long}.
+     */
+    private static class Lines {
+        private long[] locations = new long[1];
+        private int size;
+
+        void add(long location) {
+            if (size == locations.length) {
+                locations = Arrays.copyOf(locations, size * 2);
+            }
+            locations[size++] = location;
+        }
+
+        Lines copy() {
+            Lines copy = new Lines();
+            copy.locations = Arrays.copyOf(locations, locations.length);
+            copy.size = size;
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * The checksum file kept next to a data file that the app wrote itself, e.g. {@code medisavecontact.json.sha256}
+ * for {@code medisavecontact.json}. It holds the SHA-256 digest of the data file as it was written.
+ * <p>
+ * A data file whose digest matches its checksum file has not been changed since the app wrote it, so its values are
+ * known to be valid and need not be validated again when it is read. A data file that was edited by hand, or whose
+ * save was cut short, no longer matches and is validated in full. The checksum only detects changes; it does not
+ * protect against someone who rewrites the checksum file as well.
+ */
+class DataFileChecksum {
+
+    public static final String EXTENSION = ".sha256";
+
+    private static final String ALGORITHM = "SHA-256";
+
+    private static final Logger logger = LogsCenter.getLogger(DataFileChecksum.class);
+
+    private DataFileChecksum() {} // prevents instantiation
+
+    /**
+     * Returns a new digest to pass to the reading or writing of a data file.
+     */
+    static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * Returns the checksum file of {@code dataFile}.
+     */
+    static Path of(Path dataFile) {
+        return dataFile.resolveSibling(dataFile.getFileName() + EXTENSION);
+    }
+
+    /**
+     * Records {@code digest}, the digest of the data file that was just written, in the checksum file of
+     * {@code dataFile}.
+     */
+    static void write(Path dataFile, byte[] digest) throws IOException {
+        Files.writeString(of(dataFile), HexFormat.of().formatHex(digest), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns true if {@code digest}, the digest of the data file that was just read, is the one recorded in the
+     * checksum file of {@code dataFile}.
+     */
+    static boolean matches(Path dataFile, byte[] digest) {
+        Path checksumFile = of(dataFile);
+        if (!Files.exists(checksumFile)) {
+            return false;
+        }
+        try {
+            String recorded = Files.readString(checksumFile, StandardCharsets.UTF_8).trim();
+            return recorded.equalsIgnoreCase(HexFormat.of().formatHex(digest));
+        } catch (IOException e) {
+            logger.warning("Could not read the checksum file " + checksumFile + ": " + e.getMessage());
+            return false;
+        }
+    }
+}
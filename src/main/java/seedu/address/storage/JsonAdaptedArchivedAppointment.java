@@ -0,0 +1,135 @@
+package seedu.address.storage;
+
+import java.util.Optional;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Appointment;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of an archived {@link Appointment}, with the name and phone number of the patient it
+ * belongs to.
+ * <p>
+ * A line of the archive without a date and time is a transfer instead: from then on, the patient has the archived
+ * appointments of the patient with the previous name and phone number, or none if there is no previous patient.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedArchivedAppointment {
+
+    public static final String MESSAGE_INVALID_TRANSFER = "A transfer of archived appointments must name both "
+            + "patients in full.";
+
+    private final String name;
+    private final String phone;
+    private final String date;
+    private final String time;
+    private final String description;
+    private final String previousName;
+    private final String previousPhone;
+
+    /**
+     * Constructs a {@code JsonAdaptedArchivedAppointment} with the given appointment details.
+     */
+    @JsonCreator
+    public JsonAdaptedArchivedAppointment(@JsonProperty("name") String name,
+                                          @JsonProperty("phone") String phone,
+                                          @JsonProperty("date") String date,
+                                          @JsonProperty("time") String time,
+                                          @JsonProperty("description") String description,
+                                          @JsonProperty("previousName") String previousName,
+                                          @JsonProperty("previousPhone") String previousPhone) {
+        this.name = name;
+        this.phone = phone;
+        this.date = date;
+        this.time = time;
+        this.description = description;
+        this.previousName = previousName;
+        this.previousPhone = previousPhone;
+    }
+
+    /**
+     * Converts {@code appointment} of {@code patient} into this class for Jackson use.
+     */
+    public JsonAdaptedArchivedAppointment(Person patient, Appointment appointment) {
+        this(patient.getName().fullName, patient.getPhone().value, appointment.getDate(), appointment.getTime(),
+                appointment.getNote().map(note -> note.value).orElse(null), null, null);
+    }
+
+    /**
+     * Returns the transfer of the archived appointments of {@code from}, or of none if it is null, to {@code to}.
+     */
+    static JsonAdaptedArchivedAppointment transferOf(Person from, Person to) {
+        return new JsonAdaptedArchivedAppointment(to.getName().fullName, to.getPhone().value, null, null, null,
+                from == null ? null : from.getName().fullName, from == null ? null : from.getPhone().value);
+    }
+
+    /**
+     * Returns true if this is a transfer rather than an appointment.
+     */
+    public boolean isTransfer() {
+        return date == null && time == null;
+    }
+
+    /**
+     * Returns the key of the patient whose appointments are transferred, or an empty {@code Optional} if there is
+     * none or this is not a transfer.
+     */
+    public Optional<String> getPreviousPatientKey() {
+        return previousName == null ? Optional.empty() : Optional.of(keyOf(previousName, previousPhone));
+    }
+
+    /**
+     * Returns the key of the patient the appointment belongs to, which is the same for every person with the same
+     * identity.
+     */
+    public String getPatientKey() {
+        return keyOf(name, phone);
+    }
+
+    /**
+     * Returns the key of the appointments of {@code person}.
+     *
+     * @see #getPatientKey()
+     */
+    static String keyOf(Person person) {
+        return keyOf(person.getName().fullName, person.getPhone().value);
+    }
+
+    private static String keyOf(String name, String phone) {
+        return name + '\n' + phone;
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted appointment into the model's {@code Appointment} object. It may have
+     * taken place already.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted appointment.
+     */
+    public Appointment toModelType() throws IllegalValueException {
+        if (name == null || phone == null || date == null || time == null
+                || !Appointment.isValidDateTime(date, time)) {
+            throw new IllegalValueException(Appointment.MESSAGE_CONSTRAINTS);
+        }
+        if (description != null && !Note.isValidNote(description)) {
+            throw new IllegalValueException(Note.MESSAGE_CONSTRAINTS);
+        }
+        return Appointment.ofTrusted(date, time, description == null ? null : Note.ofTrusted(description));
+    }
+
+    /**
+     * Checks that this transfer names a patient, and both the name and phone number of the previous patient or
+     * neither.
+     *
+     * @throws IllegalValueException if it does not.
+     */
+    public void checkTransfer() throws IllegalValueException {
+        if (name == null || phone == null || (previousName == null) != (previousPhone == null)) {
+            throw new IllegalValueException(MESSAGE_INVALID_TRANSFER);
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package seedu.address.storage;
 
+import java.util.Map;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -9,36 +12,113 @@ import seedu.address.model.person.Relationship;
 
 /**
  * Jackson-friendly version of {@link Caretaker}.
+ * <p>
+ * A caretaker who looks after several patients is kept once in the {@code caretakers} list of the data file, as an
+ * entry with an {@code id} and no relationship. Each of their patients then only holds a reference to the entry: its
+ * {@code id} and the relationship of the caretaker with that patient.
  */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class JsonAdaptedCaretaker extends JsonAdaptedPerson {
+
+    public static final String MESSAGE_UNKNOWN_CARETAKER = "Caretaker %1$d is not in the caretakers list.";
+
+    private final Integer id;
     private final String relationship;
 
     /**
-     * Constructs a {@code JsonAdaptedCaretaker} with the given caretaker details.
+     * Constructs a {@code JsonAdaptedCaretaker} with the given caretaker details, which may be a shared caretaker
+     * entry or a reference to one if {@code id} is not null.
      */
     @JsonCreator
-    public JsonAdaptedCaretaker(@JsonProperty("name") String name,
+    public JsonAdaptedCaretaker(@JsonProperty("id") Integer id,
+                              @JsonProperty("name") String name,
                               @JsonProperty("phone") String phone,
                               @JsonProperty("address") String address,
                               @JsonProperty("relationship") String relationship) {
         super(name, phone, address);
+        this.id = id;
         this.relationship = relationship;
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedCaretaker} with the given caretaker details.
+     */
+    public JsonAdaptedCaretaker(String name, String phone, String address, String relationship) {
+        this(null, name, phone, address, relationship);
+    }
+
     /**
      * Converts a given {@code Caretaker} into this class for Jackson use.
      */
     public JsonAdaptedCaretaker(Caretaker source) {
         super(source);
+        this.id = null;
         this.relationship = source.getRelationship().toString();
     }
 
+    private JsonAdaptedCaretaker(Integer id, JsonAdaptedPerson person, String relationship) {
+        super(person);
+        this.id = id;
+        this.relationship = relationship;
+    }
+
+    /**
+     * Returns the shared caretaker entry {@code id} of this caretaker, without the relationship.
+     */
+    JsonAdaptedCaretaker toSharedEntry(int id) {
+        return new JsonAdaptedCaretaker(id, this, null);
+    }
+
+    /**
+     * Returns a reference to the shared caretaker entry {@code id}, with the relationship of this caretaker.
+     */
+    JsonAdaptedCaretaker toReference(int id) {
+        return new JsonAdaptedCaretaker(id, null, null, null, relationship);
+    }
+
+    Integer getId() {
+        return id;
+    }
+
+    /**
+     * Returns this caretaker with the details of the entry in {@code sharedCaretakers} it refers to, if it is a
+     * reference, or this caretaker otherwise.
+     *
+     * @throws IllegalValueException if there is no such entry.
+     */
+    JsonAdaptedCaretaker resolve(Map<Integer, JsonAdaptedCaretaker> sharedCaretakers) throws IllegalValueException {
+        if (id == null) {
+            return this;
+        }
+        JsonAdaptedCaretaker entry = sharedCaretakers.get(id);
+        if (entry == null) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_CARETAKER, id));
+        }
+        return new JsonAdaptedCaretaker(null, entry, relationship);
+    }
+
     @Override
     public Caretaker toModelType() throws IllegalValueException {
-        BaseFields base = parseBase();
-        if (relationship == null || !Relationship.isValidRelationship(relationship)) {
+        return toModelType(false);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted caretaker object into the model's {@code Caretaker} object, only
+     * validating its values if {@code isTrusted} is false.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted caretaker.
+     */
+    public Caretaker toModelType(boolean isTrusted) throws IllegalValueException {
+        BaseFields base = parseBase(isTrusted);
+        if (relationship == null) {
+            throw new IllegalValueException(Relationship.MESSAGE_CONSTRAINTS);
+        }
+        if (isTrusted) {
+            return Caretaker.of(base.name, base.phone, base.address, Relationship.ofTrusted(relationship));
+        }
+        if (!Relationship.isValidRelationship(relationship)) {
             throw new IllegalValueException(Relationship.MESSAGE_CONSTRAINTS);
         }
-        return new Caretaker(base.name, base.phone, base.address, new Relationship(relationship));
+        return Caretaker.of(base.name, base.phone, base.address, Relationship.of(relationship));
     }
 }
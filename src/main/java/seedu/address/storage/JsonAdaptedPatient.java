@@ -1,7 +1,12 @@
 package seedu.address.storage;
 
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -62,6 +67,18 @@ class JsonAdaptedPatient extends JsonAdaptedPerson {
 
     public JsonAdaptedPatient(Patient source) {
         super(source);
+        tag = source.getTag().map(t -> new JsonAdaptedTag(t)).orElse(null);
+
+        // Details that were never decoded are written back as they were read
+        Optional<Patient.DetailsSource> undecoded = source.getUndecodedDetailsSource();
+        if (undecoded.isPresent() && undecoded.get() instanceof UndecodedDetails) {
+            UndecodedDetails details = (UndecodedDetails) undecoded.get();
+            this.appointment = details.getAppointment();
+            this.notes = details.getNotes();
+            this.caretaker = details.caretaker;
+            return;
+        }
+
         this.appointment = source.getAppointment().stream()
                 .map(eachAppt -> {
                     List<String> apptDetails = new ArrayList<>();
@@ -75,14 +92,73 @@ class JsonAdaptedPatient extends JsonAdaptedPerson {
         this.notes = source.getNotes().stream()
                 .map(note -> note.value)
                 .collect(Collectors.toList());
-        tag = source.getTag().map(t -> new JsonAdaptedTag(t)).orElse(null);
         this.caretaker = source.getCaretaker() == null ? null : new JsonAdaptedCaretaker(source.getCaretaker());
     }
 
+    private JsonAdaptedPatient(JsonAdaptedPatient source, JsonAdaptedCaretaker caretaker) {
+        super(source);
+        this.appointment = source.appointment;
+        this.notes = source.notes;
+        this.tag = source.tag;
+        this.caretaker = caretaker;
+    }
+
+    JsonAdaptedCaretaker getCaretaker() {
+        return caretaker;
+    }
+
+    /**
+     * Returns this patient with {@code caretaker} instead of its caretaker.
+     */
+    JsonAdaptedPatient withCaretaker(JsonAdaptedCaretaker caretaker) {
+        return new JsonAdaptedPatient(this, caretaker);
+    }
+
     @Override
     public Patient toModelType() throws IllegalValueException {
-        BaseFields base = parseBase(); // name, phone, address parsed & validated
+        return toModelType(false);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted patient object into the model's {@code Patient} object.
+     * If {@code isTrusted}, e.g. because it was read from a data file that the app wrote itself, its values are
+     * known to be valid and are not validated again. The notes, appointments and caretaker of a trusted patient are
+     * only decoded when they are first used. Appointments that have passed since they were saved are kept either way,
+     * so that they can be archived.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted patient.
+     */
+    public Patient toModelType(boolean isTrusted) throws IllegalValueException {
+        return toModelType(isTrusted, Map.of());
+    }
+
+    /**
+     * Similar to {@link #toModelType(boolean)}, for a patient whose caretaker may refer to an entry of
+     * {@code sharedCaretakers}, the shared caretakers of the data file by id.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted patient, or its
+     *     caretaker refers to an entry that is not in {@code sharedCaretakers}.
+     */
+    public Patient toModelType(boolean isTrusted, Map<Integer, JsonAdaptedCaretaker> sharedCaretakers)
+            throws IllegalValueException {
+        BaseFields base = parseBase(isTrusted); // name, phone, address parsed & validated
+        final Tag modelTag = (tag == null) ? null : tag.toModelType(isTrusted);
+        final JsonAdaptedCaretaker resolvedCaretaker = (caretaker == null) ? null : caretaker.resolve(sharedCaretakers);
 
+        Optional<UndecodedDetails> undecoded = isTrusted
+                ? UndecodedDetails.of(appointment, notes, resolvedCaretaker)
+                : Optional.empty();
+        if (undecoded.isPresent()) {
+            return new Patient(base.name, base.phone, base.address, modelTag, undecoded.get());
+        }
+
+        Patient.Details details = toModelDetails(appointment, notes, resolvedCaretaker, isTrusted);
+        return new Patient(base.name, base.phone, base.address, modelTag,
+                details.getNotes(), details.getAppointments(), details.getCaretaker());
+    }
+
+    private static Patient.Details toModelDetails(List<List<String>> appointment, List<String> notes,
+            JsonAdaptedCaretaker caretaker, boolean isTrusted) throws IllegalValueException {
         List<Appointment> modelAppointment = new ArrayList<>();
         if (appointment != null) {
             for (List<String> apptDetails : appointment) {
@@ -95,12 +171,16 @@ class JsonAdaptedPatient extends JsonAdaptedPerson {
                 if (date == null || time == null) {
                     throw new IllegalValueException(Appointment.MESSAGE_CONSTRAINTS);
                 }
+                if (isTrusted) {
+                    modelAppointment.add(Appointment.ofTrusted(date, time, desc == null ? null : Note.ofTrusted(desc)));
+                    continue;
+                }
+                // Appointments that have passed since they were saved are kept, to be archived
+                if (!Appointment.isValidDateTime(date, time)) {
+                    throw new IllegalValueException(Appointment.MESSAGE_CONSTRAINTS);
+                }
                 try {
-                    if (desc == null) {
-                        modelAppointment.add(new Appointment(date, time));
-                    } else {
-                        modelAppointment.add(new Appointment(date, time, new Note(desc)));
-                    }
+                    modelAppointment.add(Appointment.ofTrusted(date, time, desc == null ? null : Note.of(desc)));
                 } catch (IllegalArgumentException ex) {
                     throw new IllegalValueException(Appointment.MESSAGE_CONSTRAINTS);
                 }
@@ -111,17 +191,171 @@ class JsonAdaptedPatient extends JsonAdaptedPerson {
         if (notes != null) {
             for (String noteValue : notes) {
                 if (noteValue != null) {
-                    modelNotes.add(new Note(noteValue));
+                    modelNotes.add(isTrusted ? Note.ofTrusted(noteValue) : Note.of(noteValue));
                 }
             }
         }
 
-        final Tag modelTag = (tag == null) ? null : tag.toModelType();
-        final Caretaker modelCaretaker = (caretaker == null) ? null : caretaker.toModelType();
+        final Caretaker modelCaretaker = (caretaker == null) ? null : caretaker.toModelType(isTrusted);
+        return new Patient.Details(modelNotes, modelAppointment, modelCaretaker);
+    }
+
+    /**
+     * The notes, appointments and caretaker of a trusted patient as they were read, to be decoded on first use.
+     * <p>
+     * To take up little memory until then, the appointments and notes are packed into one string of
+     * {@link #SEPARATOR}-terminated fields: the number of appointments, the date, time and description (empty if
+     * there is none) of each appointment, and then the notes. Valid values never contain a line separator.
+     * The date and time of the earliest appointment are kept as the number {@code YYYYMMDDHHMM}, so that patients
+     * can be sorted by them, and their elapsed appointments found, without decoding them.
+     */
+    private static class UndecodedDetails implements Patient.DetailsSource {
+        private static final char SEPARATOR = '\n';
+        private static final long NO_APPOINTMENT = Long.MAX_VALUE;
+        private static final long UNKNOWN = -1;
 
-        return new Patient(
-                base.name, base.phone, base.address,
-                modelTag, modelNotes, modelAppointment, modelCaretaker
-        );
+        private final String packed;
+        private final JsonAdaptedCaretaker caretaker;
+        private final long earliestAppointment;
+
+        private UndecodedDetails(String packed, JsonAdaptedCaretaker caretaker, long earliestAppointment) {
+            this.packed = packed;
+            this.caretaker = caretaker;
+            this.earliestAppointment = earliestAppointment;
+        }
+
+        /**
+         * Returns the undecoded details of {@code appointment}, {@code notes} and {@code caretaker}, or an empty
+         * {@code Optional} if they cannot be packed, e.g. because an appointment is incomplete.
+         */
+        static Optional<UndecodedDetails> of(List<List<String>> appointment, List<String> notes,
+                JsonAdaptedCaretaker caretaker) {
+            StringBuilder packed = new StringBuilder().append(appointment.size()).append(SEPARATOR);
+            long earliestAppointment = NO_APPOINTMENT;
+            for (List<String> apptDetails : appointment) {
+                if (apptDetails.size() < 2 || apptDetails.size() > 3 || !appendFields(packed, apptDetails)) {
+                    return Optional.empty();
+                }
+                if (apptDetails.size() == 2) {
+                    packed.append(SEPARATOR);
+                }
+                long dateTime = toNumber(apptDetails.get(0), apptDetails.get(1));
+                earliestAppointment = dateTime == UNKNOWN || earliestAppointment == UNKNOWN
+                        ? UNKNOWN
+                        : Math.min(earliestAppointment, dateTime);
+            }
+            if (!appendFields(packed, notes)) {
+                return Optional.empty();
+            }
+            return Optional.of(new UndecodedDetails(packed.toString(), caretaker, earliestAppointment));
+        }
+
+        /**
+         * Returns {@code date} and {@code time} as the number {@code YYYYMMDDHHMM}, or {@link #UNKNOWN} if they are
+         * not in the format {@code DD-MM-YYYY} and {@code HH:MM}.
+         */
+        private static long toNumber(String date, String time) {
+            if (date.length() != 10 || time.length() != 5) {
+                return UNKNOWN;
+            }
+            long number = 0;
+            String digits = date.substring(6) + date.substring(3, 5) + date.substring(0, 2)
+                    + time.substring(0, 2) + time.substring(3);
+            for (int i = 0; i < digits.length(); i++) {
+                char c = digits.charAt(i);
+                if (c < '0' || c > '9') {
+                    return UNKNOWN;
+                }
+                number = number * 10 + (c - '0');
+            }
+            return number;
+        }
+
+        private static boolean appendFields(StringBuilder packed, List<String> fields) {
+            for (String field : fields) {
+                if (field == null || field.isEmpty() || field.indexOf(SEPARATOR) >= 0) {
+                    return false;
+                }
+                packed.append(field).append(SEPARATOR);
+            }
+            return true;
+        }
+
+        private List<String> unpack() {
+            List<String> fields = new ArrayList<>();
+            for (int start = 0, end; start < packed.length(); start = end + 1) {
+                end = packed.indexOf(SEPARATOR, start);
+                fields.add(packed.substring(start, end));
+            }
+            return fields;
+        }
+
+        List<List<String>> getAppointment() {
+            List<String> fields = unpack();
+            int count = Integer.parseInt(fields.get(0));
+            List<List<String>> appointment = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                List<String> apptDetails = new ArrayList<>(fields.subList(1 + i * 3, 3 + i * 3));
+                String desc = fields.get(3 + i * 3);
+                if (!desc.isEmpty()) {
+                    apptDetails.add(desc);
+                }
+                appointment.add(apptDetails);
+            }
+            return appointment;
+        }
+
+        List<String> getNotes() {
+            List<String> fields = unpack();
+            int count = Integer.parseInt(fields.get(0));
+            return new ArrayList<>(fields.subList(1 + count * 3, fields.size()));
+        }
+
+        @Override
+        public boolean isEarliestAppointmentKnown() {
+            return earliestAppointment == NO_APPOINTMENT
+                    || earliestAppointment != UNKNOWN && toDateTime(earliestAppointment).isPresent();
+        }
+
+        @Override
+        public Optional<LocalDateTime> getEarliestAppointmentDateTime() {
+            return earliestAppointment == NO_APPOINTMENT || earliestAppointment == UNKNOWN
+                    ? Optional.empty()
+                    : toDateTime(earliestAppointment);
+        }
+
+        /**
+         * Returns the date and time of the number {@code YYYYMMDDHHMM}, or an empty {@code Optional} if there is no
+         * such date or time, e.g. 31 February.
+         */
+        private static Optional<LocalDateTime> toDateTime(long dateTime) {
+            try {
+                return Optional.of(LocalDateTime.of((int) (dateTime / 100_000_000), (int) (dateTime / 1_000_000 % 100),
+                        (int) (dateTime / 10_000 % 100), (int) (dateTime / 100 % 100), (int) (dateTime % 100)));
+            } catch (DateTimeException e) {
+                return Optional.empty();
+            }
+        }
+
+        @Override
+        public OptionalInt getUndecodedLength() {
+            int length = packed.length();
+            if (caretaker != null) {
+                for (String field : caretaker.getPersonFields()) {
+                    length += field == null ? 0 : field.length();
+                }
+            }
+            return OptionalInt.of(length);
+        }
+
+        @Override
+        public Patient.Details decode() {
+            try {
+                return toModelDetails(getAppointment(), getNotes(), caretaker, true);
+            } catch (IllegalValueException ive) {
+                // Only the presence of the values is checked when they are trusted, and they were checked when packed
+                throw new IllegalStateException(ive);
+            }
+        }
     }
 }
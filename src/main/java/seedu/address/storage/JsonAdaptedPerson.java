@@ -1,5 +1,8 @@
 package seedu.address.storage;
 
+import java.util.Arrays;
+import java.util.List;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -52,8 +55,35 @@ public abstract class JsonAdaptedPerson {
         address = source.getAddress().value;
     }
 
+    /**
+     * Copies the shared fields of {@code source}.
+     */
+    protected JsonAdaptedPerson(JsonAdaptedPerson source) {
+        name = source.name;
+        phone = source.phone;
+        address = source.address;
+    }
+
+    /**
+     * Returns the shared fields: the name, phone and address.
+     */
+    List<String> getPersonFields() {
+        return Arrays.asList(name, phone, address);
+    }
+
     /** Parse + validate only the shared fields; no Person construction here. */
     protected BaseFields parseBase() throws IllegalValueException {
+        return parseBase(false);
+    }
+
+    /**
+     * Parses the shared fields, only validating them if {@code isTrusted} is false.
+     */
+    protected BaseFields parseBase(boolean isTrusted) throws IllegalValueException {
+        if (isTrusted && name != null && phone != null && address != null) {
+            return new BaseFields(Name.ofTrusted(name), Phone.ofTrusted(phone), Address.ofTrusted(address));
+        }
+
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
@@ -76,7 +106,7 @@ public abstract class JsonAdaptedPerson {
         if (!Address.isValidAddress(address)) {
             throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
         }
-        final Address modelAddress = new Address(address);
+        final Address modelAddress = Address.of(address);
 
         return new BaseFields(modelName, modelPhone, modelAddress);
     }
@@ -39,10 +39,23 @@ class JsonAdaptedTag {
      * @throws IllegalValueException if there were any data constraints violated in the adapted tag.
      */
     public Tag toModelType() throws IllegalValueException {
-        if (!Tag.isValidTagName(tagName)) {
+        return toModelType(false);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted tag object into the model's {@code Tag} object, only validating it if
+     * {@code isTrusted} is false.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted tag.
+     */
+    public Tag toModelType(boolean isTrusted) throws IllegalValueException {
+        if (isTrusted && tagName != null) {
+            return Tag.ofTrusted(tagName);
+        }
+        if (tagName == null || !Tag.isValidTagName(tagName)) {
             throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(tagName);
+        return Tag.of(tagName);
     }
 
 }
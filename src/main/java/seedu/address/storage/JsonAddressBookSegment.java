@@ -0,0 +1,83 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * One segment of an address book stored by {@link SegmentedAddressBookStorage}, serializable to JSON format.
+ * Each person is stored with the key that gives its position in the whole address book.
+ */
+class JsonAddressBookSegment {
+
+    public static final String MESSAGE_MISMATCHED_KEYS = "Segment has a different number of keys and persons.";
+
+    private final List<Long> keys = new ArrayList<>();
+    private final List<JsonAdaptedPatient> persons = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAddressBookSegment} with the given keys and persons.
+     */
+    @JsonCreator
+    public JsonAddressBookSegment(@JsonProperty("keys") List<Long> keys,
+            @JsonProperty("persons") List<JsonAdaptedPatient> persons) {
+        if (keys != null) {
+            this.keys.addAll(keys);
+        }
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+    }
+
+    /**
+     * Converts {@code persons}, whose keys are {@code keys}, into this class for Jackson use.
+     */
+    public JsonAddressBookSegment(long[] keys, List<Person> persons) {
+        for (long key : keys) {
+            this.keys.add(key);
+        }
+        persons.stream().map(JsonSerializableAddressBook::toJsonAdaptedPatient).forEach(this.persons::add);
+    }
+
+    /**
+     * Converts this segment into the model's persons, each paired with its key.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public List<KeyedPerson> toModelType() throws IllegalValueException {
+        if (keys.size() != persons.size()) {
+            throw new IllegalValueException(MESSAGE_MISMATCHED_KEYS);
+        }
+        List<KeyedPerson> keyedPersons = new ArrayList<>(persons.size());
+        for (int i = 0; i < persons.size(); i++) {
+            keyedPersons.add(new KeyedPerson(keys.get(i), persons.get(i).toModelType()));
+        }
+        return keyedPersons;
+    }
+
+    /**
+     * A person with the key that gives its position in the address book.
+     */
+    static class KeyedPerson {
+        private final long key;
+        private final Person person;
+
+        KeyedPerson(long key, Person person) {
+            this.key = key;
+            this.person = person;
+        }
+
+        long getKey() {
+            return key;
+        }
+
+        Person getPerson() {
+            return person;
+        }
+    }
+}
@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -13,9 +15,14 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * <p>
+ * A {@link DataFileChecksum} is saved next to the file, so that the file can be loaded without validating every
+ * value again as long as it has not been changed since it was saved. The digest of the file as last read or saved is
+ * also kept, so that other files derived from it, such as a {@link NameIndexFile}, can be matched to it.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
@@ -23,6 +30,10 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     private Path filePath;
 
+    // The digest of filePath and the persons in it, as last read or saved, or null and empty if there are none
+    private byte[] savedDigest;
+    private List<Person> savedPersons = List.of();
+
     public JsonAddressBookStorage(Path filePath) {
         this.filePath = filePath;
     }
@@ -45,14 +56,24 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
+        MessageDigest digest = DataFileChecksum.newDigest();
         Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
+                filePath, JsonSerializableAddressBook.class, digest);
         if (!jsonAddressBook.isPresent()) {
             return Optional.empty();
         }
 
+        byte[] fileDigest = digest.digest();
+        boolean isTrusted = DataFileChecksum.matches(filePath, fileDigest);
+        logger.fine(() -> isTrusted
+                ? "Loading " + filePath + " without validation, as the app wrote it"
+                : "Validating " + filePath + ", as it does not match its checksum");
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            ReadOnlyAddressBook addressBook = jsonAddressBook.get().toModelType(isTrusted);
+            if (filePath.equals(this.filePath)) {
+                setSaved(fileDigest, addressBook.getPersonList());
+            }
+            return Optional.of(addressBook);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -73,8 +94,37 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        List<Person> persons = List.copyOf(addressBook.getPersonList());
+        FileUtil.createParentDirsOfFile(filePath);
+        MessageDigest digest = DataFileChecksum.newDigest();
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath, digest);
+        byte[] fileDigest = digest.digest();
+        DataFileChecksum.write(filePath, fileDigest);
+        if (filePath.equals(this.filePath)) {
+            setSaved(fileDigest, persons);
+        }
+    }
+
+    private synchronized void setSaved(byte[] digest, List<Person> persons) {
+        savedDigest = digest;
+        savedPersons = List.copyOf(persons);
+    }
+
+    /**
+     * Returns the SHA-256 digest of the data file, if it was last read or saved with exactly {@code persons}, the
+     * same instances in the same order.
+     */
+    public synchronized Optional<byte[]> getDataFileDigest(List<? extends Person> persons) {
+        requireNonNull(persons);
+        if (savedDigest == null || persons.size() != savedPersons.size()) {
+            return Optional.empty();
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            if (persons.get(i) != savedPersons.get(i)) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(savedDigest.clone());
     }
 
 }
@@ -0,0 +1,44 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The manifest of an address book stored by {@link SegmentedAddressBookStorage}, serializable to JSON format.
+ * It names the file that holds each segment, and is replaced as a whole once the segments of a save are written.
+ */
+class JsonSegmentManifest {
+
+    private final long generation;
+    private final List<String> segments = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSegmentManifest} of the given generation, whose segments are in the given files.
+     */
+    @JsonCreator
+    public JsonSegmentManifest(@JsonProperty("generation") long generation,
+            @JsonProperty("segments") List<String> segments) {
+        this.generation = generation;
+        if (segments != null) {
+            this.segments.addAll(segments);
+        }
+    }
+
+    /**
+     * Returns the number of times the address book has been saved, which is part of the name of every segment file
+     * written by that save.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the names of the segment files, in the order of the segments.
+     */
+    public List<String> getSegments() {
+        return segments;
+    }
+}
@@ -1,35 +1,65 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Patient;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
+ * <p>
+ * A caretaker who looks after several patients is written once, to the {@code caretakers} list, and each of their
+ * patients refers to that entry by its id (see {@link JsonAdaptedCaretaker}). Caretakers of a single patient are
+ * written with the patient, as they always were.
  */
 @JsonRootName(value = "addressbook")
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_INVALID_CARETAKER_ID = "Caretakers list contains a missing or duplicate id.";
 
+    /** The number of persons converted by each parallel task. */
+    static final int CHUNK_SIZE = 1024;
+
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final List<JsonAdaptedCaretaker> caretakers = new ArrayList<>();
     private final List<JsonAdaptedPatient> persons = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonSerializableAddressBook} with the given persons.
+     * Constructs a {@code JsonSerializableAddressBook} with the given persons and shared caretakers.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPatient> persons) {
+    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPatient> persons,
+                                       @JsonProperty("caretakers") List<JsonAdaptedCaretaker> caretakers) {
         this.persons.addAll(persons);
+        if (caretakers != null) {
+            this.caretakers.addAll(caretakers);
+        }
+    }
+
+    /**
+     * Constructs a {@code JsonSerializableAddressBook} with the given persons.
+     */
+    public JsonSerializableAddressBook(List<JsonAdaptedPatient> persons) {
+        this(persons, null);
     }
 
     /**
@@ -38,9 +68,30 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
-        persons.addAll(source.getPersonList().stream()
+        List<JsonAdaptedPatient> patients = source.getPersonList().stream()
                 .map(JsonSerializableAddressBook::toJsonAdaptedPatient)
-                .collect(Collectors.toList()));
+                .collect(Collectors.toList());
+        Map<List<String>, Long> patientCounts = patients.stream()
+                .filter(patient -> patient.getCaretaker() != null)
+                .collect(Collectors.groupingBy(patient -> patient.getCaretaker().getPersonFields(),
+                        Collectors.counting()));
+
+        Map<List<String>, Integer> ids = new HashMap<>();
+        for (JsonAdaptedPatient patient : patients) {
+            JsonAdaptedCaretaker caretaker = patient.getCaretaker();
+            List<String> fields = caretaker == null ? null : caretaker.getPersonFields();
+            if (fields == null || patientCounts.get(fields) < 2) {
+                persons.add(patient);
+                continue;
+            }
+            Integer id = ids.get(fields);
+            if (id == null) {
+                id = caretakers.size();
+                ids.put(fields, id);
+                caretakers.add(caretaker.toSharedEntry(id));
+            }
+            persons.add(patient.withCaretaker(caretaker.toReference(id)));
+        }
     }
 
     /**
@@ -49,18 +100,77 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPatient jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
+        return toModelType(false);
+    }
+
+    /**
+     * Converts this address book into the model's {@code AddressBook} object, only validating the values of its
+     * persons if {@code isTrusted} is false. Duplicate persons are rejected either way.
+     * <p>
+     * The persons are converted in chunks of {@link #CHUNK_SIZE} in parallel on the common {@code ForkJoinPool}. The
+     * persons keep their order, and the error reported is the one of the first person in that order that is invalid
+     * or a duplicate, as if they had been converted one by one.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public AddressBook toModelType(boolean isTrusted) throws IllegalValueException {
+        Map<Integer, JsonAdaptedCaretaker> sharedCaretakers = new HashMap<>();
+        for (JsonAdaptedCaretaker caretaker : caretakers) {
+            if (caretaker.getId() == null || sharedCaretakers.put(caretaker.getId(), caretaker) != null) {
+                throw new IllegalValueException(MESSAGE_INVALID_CARETAKER_ID);
+            }
+        }
+
+        List<ForkJoinTask<Chunk>> tasks = new ArrayList<>();
+        for (int start = 0; start < persons.size(); start += CHUNK_SIZE) {
+            List<JsonAdaptedPatient> chunk = persons.subList(start, Math.min(start + CHUNK_SIZE, persons.size()));
+            tasks.add(ForkJoinPool.commonPool().submit(() -> convert(chunk, isTrusted, sharedCaretakers)));
+        }
+
+        List<Person> modelPersons = new ArrayList<>(persons.size());
+        IllegalValueException firstError = null;
+        for (ForkJoinTask<Chunk> task : tasks) {
+            Chunk chunk = task.join();
+            modelPersons.addAll(chunk.persons);
+            if (chunk.error != null) {
+                firstError = chunk.error;
+                break;
+            }
+        }
+
+        // A duplicate before the first invalid person is the first error
+        Set<Map.Entry<Name, Phone>> identities = new HashSet<>();
+        for (Person person : modelPersons) {
+            if (!identities.add(person.getIdentity())) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
-            addressBook.addPerson(person);
         }
+        if (firstError != null) {
+            throw firstError;
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(modelPersons);
         return addressBook;
     }
 
-    private static JsonAdaptedPatient toJsonAdaptedPatient(Person source) {
+    /**
+     * Converts the persons in {@code chunk} in order, stopping at the first invalid one.
+     */
+    private static Chunk convert(List<JsonAdaptedPatient> chunk, boolean isTrusted,
+            Map<Integer, JsonAdaptedCaretaker> sharedCaretakers) {
+        List<Person> converted = new ArrayList<>(chunk.size());
+        for (JsonAdaptedPatient jsonAdaptedPerson : chunk) {
+            try {
+                converted.add(jsonAdaptedPerson.toModelType(isTrusted, sharedCaretakers));
+            } catch (IllegalValueException ive) {
+                return new Chunk(converted, ive);
+            }
+        }
+        return new Chunk(converted, null);
+    }
+
+    static JsonAdaptedPatient toJsonAdaptedPatient(Person source) {
         if (source instanceof Patient patient) {
             return new JsonAdaptedPatient(patient);
         }
@@ -71,4 +181,16 @@ class JsonSerializableAddressBook {
         return new JsonAdaptedPatient(converted);
     }
 
+    /**
+     * The persons converted from a chunk, and the error that stopped the conversion, if any.
+     */
+    private static class Chunk {
+        private final List<Person> persons;
+        private final IllegalValueException error;
+
+        Chunk(List<Person> persons, IllegalValueException error) {
+            this.persons = persons;
+            this.error = error;
+        }
+    }
 }
@@ -0,0 +1,192 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as one record per person in a {@link RecordLog} file on the hard disk.
+ * <p>
+ * Each person is stored as JSON under a key that gives its position in the address book, as in
+ * {@link SegmentedAddressBookStorage}. A save is one transaction that only writes the persons that were added,
+ * edited or moved, and deletes the records of the persons that were removed, so its cost grows with the size of
+ * the change rather than the size of the address book.
+ */
+public class KeyValueAddressBookStorage implements AddressBookStorage, Closeable {
+
+    private static final Logger logger = LogsCenter.getLogger(KeyValueAddressBookStorage.class);
+
+    private final Path filePath;
+
+    // The open log of filePath, and the keys last read from or saved to it, or null and empty if there are none
+    private RecordLog log;
+    private Map<Person, Long> savedKeys = new IdentityHashMap<>();
+    private int lastSaveWrittenCount;
+
+    public KeyValueAddressBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the number of records written or deleted by the last save, which is 0 if nothing had changed.
+     */
+    public synchronized int getLastSaveWrittenCount() {
+        return lastSaveWrittenCount;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        boolean isOwnFile = filePath.equals(this.filePath);
+        RecordLog recordLog = null;
+        try {
+            recordLog = isOwnFile ? getLog() : RecordLog.open(filePath);
+            AddressBook addressBook = new AddressBook();
+            Map<Person, Long> keys = new IdentityHashMap<>();
+            for (long key : recordLog.keys()) {
+                Person person = toPerson(recordLog.read(key));
+                if (addressBook.hasPerson(person)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                }
+                addressBook.addPerson(person);
+                keys.put(person, key);
+            }
+            if (isOwnFile) {
+                savedKeys = keys;
+            }
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        } finally {
+            closeIfOther(recordLog);
+        }
+    }
+
+    private static Person toPerson(byte[] record) throws IOException, IllegalValueException {
+        return JsonUtil.fromJsonString(new String(record, StandardCharsets.UTF_8), JsonAdaptedPatient.class)
+                .toModelType();
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireAllNonNull(addressBook, filePath);
+
+        boolean isOwnFile = filePath.equals(this.filePath);
+        RecordLog recordLog = isOwnFile ? getLog() : RecordLog.open(filePath);
+        try {
+            Map<Person, Long> previousKeys = isOwnFile ? savedKeys : Map.of();
+            List<Person> persons = List.copyOf(addressBook.getPersonList());
+            long[] keys = SegmentedAddressBookStorage.assignKeys(persons, previousKeys);
+
+            Map<Long, byte[]> puts = new TreeMap<>();
+            Map<Person, Long> newKeys = new IdentityHashMap<>();
+            Set<Long> newKeySet = new HashSet<>();
+            for (int i = 0; i < persons.size(); i++) {
+                Person person = persons.get(i);
+                newKeys.put(person, keys[i]);
+                newKeySet.add(keys[i]);
+                Long previousKey = previousKeys.get(person);
+                if (previousKey == null || previousKey != keys[i]) {
+                    puts.put(keys[i], JsonUtil.toJsonLine(JsonSerializableAddressBook.toJsonAdaptedPatient(person))
+                            .getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            List<Long> deletes = recordLog.keys();
+            deletes.removeIf(newKeySet::contains);
+
+            recordLog.commit(puts, deletes);
+            if (isOwnFile) {
+                savedKeys = newKeys;
+            }
+            lastSaveWrittenCount = puts.size() + deletes.size();
+            logger.fine(() -> "Wrote " + lastSaveWrittenCount + " records to " + filePath);
+        } finally {
+            closeIfOther(recordLog);
+        }
+    }
+
+    /**
+     * Closes the record file, which is opened again the next time it is read or saved.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (log != null) {
+            log.close();
+            log = null;
+            savedKeys = new IdentityHashMap<>();
+        }
+    }
+
+    private RecordLog getLog() throws IOException {
+        if (log == null) {
+            log = RecordLog.open(filePath);
+        }
+        return log;
+    }
+
+    private void closeIfOther(RecordLog recordLog) {
+        if (recordLog == null || recordLog == log) {
+            return;
+        }
+        try {
+            recordLog.close();
+        } catch (IOException e) {
+            logger.warning("Could not close a record log: " + e.getMessage());
+        }
+    }
+}
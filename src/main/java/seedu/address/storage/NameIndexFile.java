@@ -0,0 +1,224 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.NameIndexCache;
+import seedu.address.model.person.Person;
+
+/**
+ * A {@link NameIndexCache} kept in a file next to the data file, e.g. {@code medisavecontact.json.index}, so that the
+ * name index does not have to be rebuilt every time the app starts.
+ * <p>
+ * The file is written when the app stops, and records the digest of the data file it indexes. It is only used if
+ * that digest still matches the data file that was loaded, and its own checksum matches its contents. Checking that
+ * reads the whole file, so it is read into memory as it is, and words are looked up in it by binary search instead
+ * of being added to an index one person at a time. The file itself is not kept open or mapped, so that it can be
+ * replaced while the index is in use.
+ * <p>
+ * The file is a header (magic number, version, data file digest, number of persons, number of words and the CRC32
+ * checksum of the rest of the file), followed by a directory holding the offsets of each word and of its positions,
+ * sorted by word, and then the words and positions themselves.
+ */
+public class NameIndexFile implements NameIndexCache {
+
+    public static final String EXTENSION = ".index";
+
+    static final int MAGIC = 0x4D534958; // "MSIX"
+    static final int VERSION = 1;
+
+    private static final int DIGEST_LENGTH = 32;
+    private static final int HEADER_LENGTH = 2 * Integer.BYTES + DIGEST_LENGTH + 2 * Integer.BYTES + Long.BYTES;
+    private static final int DIRECTORY_ENTRY_LENGTH = 2 * Integer.BYTES;
+
+    private static final Logger logger = LogsCenter.getLogger(NameIndexFile.class);
+
+    private final ByteBuffer buffer;
+    private final int personCount;
+    private final int wordCount;
+
+    private NameIndexFile(ByteBuffer buffer, int personCount, int wordCount) {
+        this.buffer = buffer;
+        this.personCount = personCount;
+        this.wordCount = wordCount;
+    }
+
+    /**
+     * Returns the index file of {@code dataFile}.
+     */
+    public static Path of(Path dataFile) {
+        return dataFile.resolveSibling(dataFile.getFileName() + EXTENSION);
+    }
+
+    /**
+     * Reads the index in {@code file}, if it indexes {@code personCount} persons of the data file with digest
+     * {@code dataDigest} and is intact. Returns an empty {@code Optional} otherwise, e.g. if there is no such file.
+     */
+    public static Optional<NameIndexFile> open(Path file, byte[] dataDigest, int personCount) {
+        requireAllNonNull(file, dataDigest);
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_LENGTH || channel.size() > Integer.MAX_VALUE) {
+                logger.info("Ignoring the index file " + file + " as it is not a valid index file");
+                return Optional.empty();
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // keep reading until the buffer is full or the file ends
+            }
+            if (buffer.hasRemaining()) {
+                logger.info("Ignoring the index file " + file + " as it was cut short while being read");
+                return Optional.empty();
+            }
+            if (!isHeaderFor(buffer, dataDigest) || buffer.getInt(HEADER_LENGTH - Long.BYTES - 2 * Integer.BYTES)
+                    != personCount) {
+                logger.info("Ignoring the index file " + file + " as it indexes another version of the data");
+                return Optional.empty();
+            }
+
+            CRC32 crc = new CRC32();
+            crc.update(buffer.slice(HEADER_LENGTH, buffer.capacity() - HEADER_LENGTH));
+            if (crc.getValue() != buffer.getLong(HEADER_LENGTH - Long.BYTES)) {
+                logger.warning("Ignoring the index file " + file + " as it is corrupted");
+                return Optional.empty();
+            }
+            int wordCount = buffer.getInt(HEADER_LENGTH - Long.BYTES - Integer.BYTES);
+            return Optional.of(new NameIndexFile(buffer, personCount, wordCount));
+        } catch (IOException e) {
+            logger.warning("Could not read the index file " + file + ": " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns true if {@code file} is an index of the data file with digest {@code dataDigest}, without checking the
+     * rest of its contents.
+     */
+    public static boolean isCurrent(Path file, byte[] dataDigest) {
+        requireAllNonNull(file, dataDigest);
+        if (!Files.exists(file)) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // keep reading until the header is full or the file ends
+            }
+            return !header.hasRemaining() && isHeaderFor(header, dataDigest);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static boolean isHeaderFor(ByteBuffer buffer, byte[] dataDigest) {
+        byte[] digest = new byte[DIGEST_LENGTH];
+        buffer.get(2 * Integer.BYTES, digest);
+        return buffer.getInt(0) == MAGIC && buffer.getInt(Integer.BYTES) == VERSION
+                && Arrays.equals(digest, dataDigest);
+    }
+
+    /**
+     * Writes the name index of {@code persons}, which are the contents of the data file with digest
+     * {@code dataDigest}, to {@code file}, replacing it in one move.
+     */
+    public static void write(Path file, byte[] dataDigest, List<? extends Person> persons) throws IOException {
+        requireAllNonNull(file, dataDigest, persons);
+        if (dataDigest.length != DIGEST_LENGTH) {
+            throw new IllegalArgumentException("The data file digest must be " + DIGEST_LENGTH + " bytes long");
+        }
+
+        Map<String, int[]> positionsByWord = NameIndexCache.positionsByWord(persons);
+        int dataStart = HEADER_LENGTH + positionsByWord.size() * DIRECTORY_ENTRY_LENGTH;
+        ByteArrayOutputStream directoryBytes = new ByteArrayOutputStream();
+        DataOutputStream directory = new DataOutputStream(directoryBytes);
+        ByteArrayOutputStream dataBytes = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(dataBytes);
+        for (Map.Entry<String, int[]> entry : positionsByWord.entrySet()) {
+            byte[] word = entry.getKey().getBytes(StandardCharsets.UTF_8);
+            directory.writeInt(dataStart + data.size());
+            data.writeInt(word.length);
+            data.write(word);
+            directory.writeInt(dataStart + data.size());
+            data.writeInt(entry.getValue().length);
+            for (int position : entry.getValue()) {
+                data.writeInt(position);
+            }
+        }
+        directory.flush();
+        data.flush();
+
+        CRC32 crc = new CRC32();
+        crc.update(directoryBytes.toByteArray());
+        crc.update(dataBytes.toByteArray());
+        ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH).putInt(MAGIC).putInt(VERSION).put(dataDigest)
+                .putInt(persons.size()).putInt(positionsByWord.size()).putLong(crc.getValue());
+
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try (var out = Files.newOutputStream(tempFile)) {
+            out.write(header.array());
+            directoryBytes.writeTo(out);
+            dataBytes.writeTo(out);
+        }
+        FileUtil.replaceWith(file, tempFile);
+    }
+
+    @Override
+    public int size() {
+        return personCount;
+    }
+
+    @Override
+    public int[] positionsOf(String word) {
+        requireNonNull(word);
+        int low = 0;
+        int high = wordCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int entry = HEADER_LENGTH + middle * DIRECTORY_ENTRY_LENGTH;
+            int comparison = wordAt(buffer.getInt(entry)).compareTo(word);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return positionsAt(buffer.getInt(entry + Integer.BYTES));
+            }
+        }
+        return new int[0];
+    }
+
+    private String wordAt(int offset) {
+        byte[] word = new byte[buffer.getInt(offset)];
+        buffer.get(offset + Integer.BYTES, word);
+        return new String(word, StandardCharsets.UTF_8);
+    }
+
+    private int[] positionsAt(int offset) {
+        int[] positions = new int[buffer.getInt(offset)];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = buffer.getInt(offset + (i + 1) * Integer.BYTES);
+        }
+        return positions;
+    }
+}
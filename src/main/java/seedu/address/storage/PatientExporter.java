@@ -0,0 +1,99 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Appointment;
+import seedu.address.model.person.Patient;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes patients to a CSV or JSON-lines file that {@link PatientImporter} can read back.
+ * <p>
+ * Each patient is converted and written on its own, straight to a buffered writer, so no copy of the
+ * whole list is built in memory. A file whose name ends in {@code .gz} is compressed as it is written.
+ */
+public class PatientExporter {
+
+    /** Progress is reported every time this many more patients have been written. */
+    public static final int PROGRESS_INTERVAL = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(PatientExporter.class);
+
+    private final RecordFormat format;
+
+    /**
+     * Creates a {@code PatientExporter} that writes records in the given {@code format}.
+     */
+    public PatientExporter(RecordFormat format) {
+        requireNonNull(format);
+        this.format = format;
+    }
+
+    /**
+     * Writes the patients in {@code persons} to {@code filePath}, one per line, overwriting the file if it exists.
+     * Persons that are not patients are skipped. {@code progress} is called with the number of patients written
+     * so far after every {@link #PROGRESS_INTERVAL} patients.
+     *
+     * @return the number of patients written.
+     * @throws IOException if there was an error writing to the file.
+     */
+    public int write(List<? extends Person> persons, Path filePath, IntConsumer progress) throws IOException {
+        requireAllNonNull(persons, filePath, progress);
+        logger.info("Exporting " + persons.size() + " persons as " + format + " to " + filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        int count = 0;
+        try (BufferedWriter writer = FileUtil.newBufferedWriter(filePath)) {
+            if (format == RecordFormat.CSV) {
+                writer.write(CsvUtil.joinLine(RecordFormat.CSV_HEADER));
+                writer.newLine();
+            }
+            for (Person person : persons) {
+                if (!(person instanceof Patient)) {
+                    continue;
+                }
+                writer.write(toLine((Patient) person));
+                writer.newLine();
+                count++;
+                if (count % PROGRESS_INTERVAL == 0) {
+                    progress.accept(count);
+                }
+            }
+        }
+        return count;
+    }
+
+    private String toLine(Patient patient) throws IOException {
+        if (format == RecordFormat.JSONL) {
+            return JsonUtil.toJsonLine(new JsonAdaptedPatient(patient));
+        }
+
+        List<String> fields = new ArrayList<>(RecordFormat.CSV_HEADER.size());
+        fields.add(patient.getName().fullName);
+        fields.add(patient.getPhone().value);
+        fields.add(patient.getAddress().value);
+        fields.add(patient.getTag().map(tag -> tag.tagName).orElse(null));
+        fields.add(patient.getAppointment().stream()
+                .map(PatientExporter::toCsvAppointment)
+                .collect(Collectors.joining(RecordFormat.APPOINTMENT_SEPARATOR)));
+        return CsvUtil.joinLine(fields);
+    }
+
+    private static String toCsvAppointment(Appointment appointment) {
+        return appointment.getDate() + " " + appointment.getTime();
+    }
+}
@@ -0,0 +1,261 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Appointment;
+import seedu.address.model.person.Patient;
+
+/**
+ * Reads patients from a CSV or JSON-lines file, which may be gzip-compressed.
+ * <p>
+ * The file is streamed in batches of {@link #BATCH_SIZE} lines, and every batch is parsed and validated in parallel
+ * on a {@link ForkJoinPool}, so memory use is bounded by the batch size plus the accepted patients. Every line that
+ * fails validation is written to a rejects file together with its line number and the reason it was rejected.
+ * <p>
+ * CSV lines hold the fields in {@link RecordFormat#CSV_HEADER} order, and the tag and appointments fields
+ * are optional. A record spans several lines if a quoted field contains line breaks, and is numbered by its first
+ * line. A first line that starts with the header is skipped.
+ */
+public class PatientImporter {
+
+    public static final int BATCH_SIZE = 8192;
+    public static final String MESSAGE_CSV_FIELD_COUNT = "Expected 3 to " + RecordFormat.CSV_HEADER.size()
+            + " comma-separated fields: " + String.join(",", RecordFormat.CSV_HEADER);
+
+    private static final Logger logger = LogsCenter.getLogger(PatientImporter.class);
+
+    private final RecordFormat format;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a {@code PatientImporter} for {@code format} that validates on the common {@code ForkJoinPool}.
+     */
+    public PatientImporter(RecordFormat format) {
+        this(format, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a {@code PatientImporter} for {@code format} that validates on {@code pool}.
+     */
+    public PatientImporter(RecordFormat format, ForkJoinPool pool) {
+        requireAllNonNull(format, pool);
+        this.format = format;
+        this.pool = pool;
+    }
+
+    /**
+     * Reads all valid patients from {@code filePath}, in file order.
+     * Invalid lines are written to {@code rejectsFilePath}, which is only created if there is at least one.
+     *
+     * @throws IOException if {@code filePath} could not be read or the rejects file could not be written.
+     */
+    public Result read(Path filePath, Path rejectsFilePath) throws IOException {
+        requireAllNonNull(filePath, rejectsFilePath);
+        logger.info("Importing " + format + " records from " + filePath);
+
+        List<Patient> patients = new ArrayList<>();
+        RejectsWriter rejects = new RejectsWriter(rejectsFilePath);
+        try (BufferedReader reader = FileUtil.newBufferedReader(filePath); rejects) {
+            List<Line> batch = new ArrayList<>(BATCH_SIZE);
+            int lineNumber = 0;
+            String text;
+            while ((text = readRecord(reader)) != null) {
+                // A record is numbered by its first line, and a CSV record may span several
+                int recordLineNumber = lineNumber + 1;
+                lineNumber = recordLineNumber + (int) text.chars().filter(c -> c == '\n').count();
+                if (text.isBlank() || (recordLineNumber == 1 && isCsvHeader(text))) {
+                    continue;
+                }
+                batch.add(new Line(recordLineNumber, text));
+                if (batch.size() == BATCH_SIZE) {
+                    processBatch(batch, patients, rejects);
+                    batch.clear();
+                }
+            }
+            processBatch(batch, patients, rejects);
+        }
+
+        logger.info("Imported " + patients.size() + " patients; rejected " + rejects.count + " lines");
+        return new Result(patients, rejects.count, rejects.count == 0 ? null : rejectsFilePath);
+    }
+
+    private String readRecord(BufferedReader reader) throws IOException {
+        return format == RecordFormat.CSV ? CsvUtil.readRecord(reader) : reader.readLine();
+    }
+
+    private boolean isCsvHeader(String text) {
+        return format == RecordFormat.CSV
+                && text.trim().toLowerCase().startsWith(RecordFormat.CSV_HEADER.get(0) + ",");
+    }
+
+    private void processBatch(List<Line> batch, List<Patient> patients, RejectsWriter rejects) throws IOException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        // Running the parallel stream inside the pool makes its tasks execute on that pool.
+        List<Line> parsed = pool.submit(() -> batch.parallelStream()
+                .map(this::parse)
+                .collect(Collectors.toList())).join();
+        for (Line line : parsed) {
+            if (line.patient != null) {
+                patients.add(line.patient);
+            } else {
+                rejects.write(line);
+            }
+        }
+    }
+
+    private Line parse(Line line) {
+        try {
+            JsonAdaptedPatient adapted = format == RecordFormat.CSV
+                    ? fromCsv(line.text)
+                    : JsonUtil.fromJsonString(line.text, JsonAdaptedPatient.class);
+            return line.accept(adapted.toModelType());
+        } catch (IllegalValueException | IOException | RuntimeException e) {
+            return line.reject(Objects.requireNonNullElse(e.getMessage(), e.getClass().getSimpleName()));
+        }
+    }
+
+    private static JsonAdaptedPatient fromCsv(String text) throws IllegalValueException {
+        List<String> fields = CsvUtil.splitLine(text);
+        if (fields.size() < 3 || fields.size() > RecordFormat.CSV_HEADER.size()) {
+            throw new IllegalValueException(MESSAGE_CSV_FIELD_COUNT);
+        }
+        String tag = optionalField(fields, 3);
+        String appointments = optionalField(fields, 4);
+
+        List<List<String>> modelAppointments = new ArrayList<>();
+        if (appointments != null) {
+            for (String appointment : appointments.split(RecordFormat.APPOINTMENT_SEPARATOR)) {
+                if (appointment.isBlank()) {
+                    continue;
+                }
+                String[] dateAndTime = appointment.trim().split("\\s+");
+                if (dateAndTime.length != 2) {
+                    throw new IllegalValueException(Appointment.MESSAGE_CONSTRAINTS);
+                }
+                modelAppointments.add(List.of(dateAndTime[0], dateAndTime[1]));
+            }
+        }
+
+        return new JsonAdaptedPatient(fields.get(0).trim(), fields.get(1).trim(), fields.get(2).trim(),
+                modelAppointments, null, null, tag == null ? null : new JsonAdaptedTag(tag), null);
+    }
+
+    private static String optionalField(List<String> fields, int index) {
+        if (index >= fields.size() || fields.get(index).isBlank()) {
+            return null;
+        }
+        return fields.get(index).trim();
+    }
+
+    /**
+     * A numbered line of the input file, and the outcome of parsing it once parsed.
+     */
+    private static class Line {
+        private final int number;
+        private final String text;
+        private final Patient patient;
+        private final String reason;
+
+        Line(int number, String text) {
+            this(number, text, null, null);
+        }
+
+        private Line(int number, String text, Patient patient, String reason) {
+            this.number = number;
+            this.text = text;
+            this.patient = patient;
+            this.reason = reason;
+        }
+
+        Line accept(Patient patient) {
+            return new Line(number, text, requireNonNull(patient), null);
+        }
+
+        Line reject(String reason) {
+            return new Line(number, text, null, requireNonNull(reason));
+        }
+    }
+
+    /**
+     * Writes rejected lines to the rejects file, creating it on the first rejected line.
+     */
+    private static class RejectsWriter implements AutoCloseable {
+        private final Path filePath;
+        private BufferedWriter writer;
+        private int count;
+
+        RejectsWriter(Path filePath) {
+            this.filePath = filePath;
+        }
+
+        void write(Line line) throws IOException {
+            if (writer == null) {
+                FileUtil.createParentDirsOfFile(filePath);
+                writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8);
+            }
+            writer.write(line.number + "\t" + line.reason + "\t" + line.text);
+            writer.newLine();
+            count++;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (writer != null) {
+                writer.close();
+            }
+        }
+    }
+
+    /**
+     * The patients read by an import, and a summary of the lines that were rejected.
+     */
+    public static class Result {
+        private final List<Patient> patients;
+        private final int rejectedCount;
+        private final Path rejectsFilePath;
+
+        Result(List<Patient> patients, int rejectedCount, Path rejectsFilePath) {
+            this.patients = Collections.unmodifiableList(patients);
+            this.rejectedCount = rejectedCount;
+            this.rejectsFilePath = rejectsFilePath;
+        }
+
+        public List<Patient> getPatients() {
+            return patients;
+        }
+
+        public int getRejectedCount() {
+            return rejectedCount;
+        }
+
+        /**
+         * Returns the path of the rejects file, if any line was rejected.
+         */
+        public Optional<Path> getRejectsFilePath() {
+            return Optional.ofNullable(rejectsFilePath);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Line-oriented file formats that patient records can be imported from and exported to.
+ */
+public enum RecordFormat {
+    /** One patient per line as comma-separated values: name, phone, address, tag, appointments. */
+    CSV("csv"),
+    /** One patient per line as a JSON object with the same fields as the data file. */
+    JSONL("jsonl");
+
+    public static final String MESSAGE_CONSTRAINTS = "Format should be either 'csv' or 'jsonl'.";
+
+    /** The fields of a CSV record, in order. */
+    public static final List<String> CSV_HEADER = List.of("name", "phone", "address", "tag", "appointments");
+    /** Separates the {@code DD-MM-YYYY HH:MM} entries of the appointments field of a CSV record. */
+    public static final String APPOINTMENT_SEPARATOR = ";";
+
+    private final String extension;
+
+    RecordFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Returns the format named by {@code name} (case-insensitive), if any.
+     */
+    public static Optional<RecordFormat> fromName(String name) {
+        requireNonNull(name);
+        String trimmedName = name.trim().toLowerCase(Locale.ROOT);
+        for (RecordFormat format : values()) {
+            if (format.extension.equals(trimmedName)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the format implied by the file extension of {@code filePath}, if any. The extension of a compressed
+     * file is the one before {@code .gz}, e.g. {@code csv} for {@code patients.csv.gz}.
+     */
+    public static Optional<RecordFormat> fromPath(Path filePath) {
+        requireNonNull(filePath);
+        if (filePath.getFileName() == null) {
+            return Optional.empty();
+        }
+        String name = FileUtil.getUncompressedFileName(filePath);
+        int dot = name.lastIndexOf('.');
+        return dot < 0 ? Optional.empty() : fromName(name.substring(dot + 1));
+    }
+}
@@ -0,0 +1,323 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * A file of records, each a byte array stored under a {@code long} key, that is changed by appending transactions.
+ * <p>
+ * The file starts with a header, followed by transactions. Each transaction is its length, the CRC32 checksum of its
+ * contents, and the contents: a number of operations that each put or delete one record. A transaction only counts
+ * once it has been written whole, so a transaction that is cut short, e.g. by a crash, is dropped the next time the
+ * file is opened and the records are as they were before it.
+ * <p>
+ * Only the keys and the positions of the records are kept in memory; the records themselves are read when needed.
+ * Once most of the file is taken up by records that were replaced or deleted, it is compacted by rewriting the
+ * current records to a new file.
+ */
+class RecordLog implements Closeable {
+
+    static final int MAGIC = 0x4D534331; // "MSC1"
+
+    private static final int HEADER_LENGTH = Integer.BYTES;
+    private static final int TRANSACTION_HEADER_LENGTH = Integer.BYTES + Long.BYTES;
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+
+    /** The file is only compacted when it has at least this many bytes of replaced or deleted records. */
+    private static final long MIN_COMPACTION_WASTE = 1 << 20;
+
+    private static final Logger logger = LogsCenter.getLogger(RecordLog.class);
+
+    private final Path file;
+    private final TreeMap<Long, Location> locations = new TreeMap<>();
+    private FileChannel channel;
+    private long liveBytes;
+    // The position just after the last complete transaction, where the next one is written
+    private long end;
+
+    private RecordLog(Path file, FileChannel channel) {
+        this.file = file;
+        this.channel = channel;
+    }
+
+    /**
+     * Opens the record log in {@code file}, creating an empty one if there is no such file.
+     *
+     * @throws IOException if the file could not be read, or is not a record log.
+     */
+    static RecordLog open(Path file) throws IOException {
+        requireNonNull(file);
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        RecordLog log = new RecordLog(file, channel);
+        try {
+            log.load();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return log;
+    }
+
+    private void load() throws IOException {
+        if (channel.size() == 0) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH).putInt(MAGIC).flip();
+            writeFully(header, 0);
+            channel.force(false);
+            end = HEADER_LENGTH;
+            return;
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+        if (readFully(header, 0) < HEADER_LENGTH || header.flip().getInt() != MAGIC) {
+            throw new IOException(file + " is not a record log");
+        }
+
+        long position = HEADER_LENGTH;
+        long size = channel.size();
+        ByteBuffer transactionHeader = ByteBuffer.allocate(TRANSACTION_HEADER_LENGTH);
+        while (position < size) {
+            transactionHeader.clear();
+            if (readFully(transactionHeader, position) < TRANSACTION_HEADER_LENGTH) {
+                break;
+            }
+            transactionHeader.flip();
+            int length = transactionHeader.getInt();
+            long checksum = transactionHeader.getLong();
+            long contentsPosition = position + TRANSACTION_HEADER_LENGTH;
+            if (length < 0 || contentsPosition + length > size) {
+                break;
+            }
+            ByteBuffer contents = ByteBuffer.allocate(length);
+            readFully(contents, contentsPosition);
+            if (checksumOf(contents.array()) != checksum) {
+                break;
+            }
+            apply(contents.flip(), contentsPosition);
+            position = contentsPosition + length;
+        }
+
+        if (position < size) {
+            logger.warning("Dropping " + (size - position) + " bytes of an incomplete transaction at the end of "
+                    + file);
+            channel.truncate(position);
+            channel.force(false);
+        }
+        end = position;
+    }
+
+    private void apply(ByteBuffer contents, long contentsPosition) throws IOException {
+        int count = contents.getInt();
+        for (int i = 0; i < count; i++) {
+            byte type = contents.get();
+            long key = contents.getLong();
+            if (type == DELETE) {
+                remove(key);
+            } else if (type == PUT) {
+                int length = contents.getInt();
+                put(key, new Location(contentsPosition + contents.position(), length));
+                contents.position(contents.position() + length);
+            } else {
+                throw new IOException("Unknown operation " + type + " in " + file);
+            }
+        }
+    }
+
+    private void put(long key, Location location) {
+        remove(key);
+        locations.put(key, location);
+        liveBytes += location.length;
+    }
+
+    private void remove(long key) {
+        Location previous = locations.remove(key);
+        if (previous != null) {
+            liveBytes -= previous.length;
+        }
+    }
+
+    /**
+     * Returns the keys of the records, in increasing order.
+     */
+    synchronized List<Long> keys() {
+        return new ArrayList<>(locations.keySet());
+    }
+
+    /**
+     * Returns the record stored under {@code key}.
+     *
+     * @throws IllegalArgumentException if there is no record under {@code key}.
+     */
+    synchronized byte[] read(long key) throws IOException {
+        Location location = locations.get(key);
+        if (location == null) {
+            throw new IllegalArgumentException("No record under key " + key);
+        }
+        ByteBuffer record = ByteBuffer.allocate(location.length);
+        if (readFully(record, location.position) < location.length) {
+            throw new IOException(file + " ends in the middle of a record");
+        }
+        return record.array();
+    }
+
+    /**
+     * Stores the records in {@code puts} and deletes the records under {@code deletes} in one transaction, which is
+     * forced to the disk before this method returns.
+     */
+    synchronized void commit(Map<Long, byte[]> puts, Collection<Long> deletes) throws IOException {
+        requireAllNonNull(puts, deletes);
+        if (puts.isEmpty() && deletes.isEmpty()) {
+            return;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(puts.size() + deletes.size());
+        for (long key : deletes) {
+            out.writeByte(DELETE);
+            out.writeLong(key);
+        }
+        TreeMap<Long, Integer> putOffsets = new TreeMap<>();
+        for (Map.Entry<Long, byte[]> entry : puts.entrySet()) {
+            out.writeByte(PUT);
+            out.writeLong(entry.getKey());
+            out.writeInt(entry.getValue().length);
+            putOffsets.put(entry.getKey(), out.size());
+            out.write(entry.getValue());
+        }
+        out.flush();
+        byte[] contents = bytes.toByteArray();
+
+        long position = end;
+        ByteBuffer transaction = ByteBuffer.allocate(TRANSACTION_HEADER_LENGTH + contents.length)
+                .putInt(contents.length).putLong(checksumOf(contents)).put(contents).flip();
+        try {
+            writeFully(transaction, position);
+            channel.force(false);
+        } catch (IOException e) {
+            // Drop what was written of the transaction, so that the next one does not follow an unreadable record
+            try {
+                channel.truncate(position);
+            } catch (IOException truncateException) {
+                e.addSuppressed(truncateException);
+            }
+            throw e;
+        }
+        end = position + transaction.limit();
+
+        long contentsPosition = position + TRANSACTION_HEADER_LENGTH;
+        for (long key : deletes) {
+            remove(key);
+        }
+        for (Map.Entry<Long, byte[]> entry : puts.entrySet()) {
+            put(entry.getKey(), new Location(contentsPosition + putOffsets.get(entry.getKey()),
+                    entry.getValue().length));
+        }
+
+        if (end - liveBytes > Math.max(liveBytes, MIN_COMPACTION_WASTE)) {
+            compact();
+        }
+    }
+
+    /**
+     * Rewrites the current records to a new file that replaces this one.
+     */
+    synchronized void compact() throws IOException {
+        Path tempFile = file.resolveSibling(file.getFileName() + ".compact");
+        Files.deleteIfExists(tempFile);
+        try (RecordLog compacted = open(tempFile)) {
+            Map<Long, byte[]> records = new TreeMap<>();
+            for (long key : locations.keySet()) {
+                records.put(key, read(key));
+            }
+            compacted.commit(records, List.of());
+        }
+
+        channel.close();
+        try {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        locations.clear();
+        liveBytes = 0;
+        load();
+        logger.fine(() -> "Compacted " + file);
+    }
+
+    /**
+     * Returns the size of the file in bytes.
+     */
+    synchronized long size() throws IOException {
+        return channel.size();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    private int readFully(ByteBuffer buffer, long position) throws IOException {
+        int total = 0;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + total);
+            if (read < 0) {
+                break;
+            }
+            total += read;
+        }
+        return total;
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        long written = 0;
+        while (buffer.hasRemaining()) {
+            written += channel.write(buffer, position + written);
+        }
+    }
+
+    private static long checksumOf(byte[] contents) {
+        CRC32 crc = new CRC32();
+        crc.update(contents);
+        return crc.getValue();
+    }
+
+    /**
+     * Where a record is in the file.
+     */
+    private static class Location {
+        private final long position;
+        private final int length;
+
+        Location(long position, int length) {
+            this.position = position;
+            this.length = length;
+        }
+    }
+}
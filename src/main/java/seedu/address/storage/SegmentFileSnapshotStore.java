@@ -0,0 +1,283 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.SnapshotStore;
+
+/**
+ * A {@code SnapshotStore} backed by a single segment file.
+ * <p>
+ * The file starts with a short header, followed by one record per snapshot, oldest first. A record is the length
+ * of its payload followed by the snapshot as gzip-compressed JSON. New snapshots are appended, the newest is popped
+ * by truncating the file, and the oldest are removed by moving the offset of the first record kept in the header;
+ * skipped records are compacted away once they outnumber the rest. Only the record offsets are kept in memory.
+ * <p>
+ * Since every change is written to the file straight away, a store that is reopened with {@code keepExisting}
+ * after the application stopped, or crashed, holds the same snapshots. A record that was only partly written is
+ * discarded.
+ */
+public class SegmentFileSnapshotStore implements SnapshotStore, AutoCloseable {
+
+    /** Appended to the data file name to name the segment file of its undo history. */
+    public static final String FILE_SUFFIX = ".undo";
+
+    private static final int MAGIC = 0x4d534355;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 2 * Integer.BYTES + Long.BYTES;
+    private static final int MIN_RECORDS_TO_COMPACT = 16;
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentFileSnapshotStore.class);
+
+    private final Path filePath;
+    private final List<Long> offsets = new ArrayList<>();
+    private FileChannel channel;
+    private int first;
+
+    /**
+     * Creates a store that keeps its snapshots in {@code filePath}. The file is not touched until {@link #open}.
+     */
+    public SegmentFileSnapshotStore(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Opens the segment file, creating it if it does not exist.
+     *
+     * @param keepExisting if true, the snapshots already in the file are kept; otherwise the file is emptied.
+     * @throws IOException if the file could not be opened or read.
+     */
+    public void open(boolean keepExisting) throws IOException {
+        if (channel != null) {
+            throw new IllegalStateException("The store is already open");
+        }
+        FileUtil.createParentDirsOfFile(filePath);
+        channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        offsets.clear();
+        first = 0;
+
+        long firstOffset = keepExisting ? readFirstOffset() : -1;
+        if (firstOffset < 0) {
+            resetFile();
+            return;
+        }
+        indexRecords(firstOffset);
+        logger.info("Reopened " + size() + " undo snapshots from " + filePath);
+    }
+
+    /**
+     * Returns the offset of the first record kept, as recorded in the header, or -1 if the file has no valid header.
+     */
+    private long readFirstOffset() throws IOException {
+        if (channel.size() < HEADER_BYTES) {
+            return -1;
+        }
+        ByteBuffer header = read(0, HEADER_BYTES);
+        if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+            logger.warning("Discarding unrecognised undo history file " + filePath);
+            return -1;
+        }
+        long firstOffset = header.getLong();
+        return firstOffset < HEADER_BYTES || firstOffset > channel.size() ? -1 : firstOffset;
+    }
+
+    private void resetFile() throws IOException {
+        channel.truncate(0);
+        writeHeader(channel, HEADER_BYTES);
+    }
+
+    private static void writeHeader(FileChannel target, long firstOffset) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).putInt(VERSION).putLong(firstOffset);
+        header.flip();
+        while (header.hasRemaining()) {
+            target.write(header, header.position());
+        }
+    }
+
+    /**
+     * Records the offset of every complete record, and truncates a trailing record that was only partly written.
+     */
+    private void indexRecords(long firstOffset) throws IOException {
+        long size = channel.size();
+        long position = firstOffset;
+        while (position + Integer.BYTES <= size) {
+            int length = read(position, Integer.BYTES).getInt();
+            if (length <= 0 || position + Integer.BYTES + length > size) {
+                break;
+            }
+            offsets.add(position);
+            position += Integer.BYTES + length;
+        }
+        if (position < size) {
+            logger.warning("Discarding an incomplete undo snapshot at the end of " + filePath);
+            channel.truncate(position);
+        }
+    }
+
+    @Override
+    public void push(ReadOnlyAddressBook snapshot) throws IOException {
+        requireNonNull(snapshot);
+        requireOpen();
+        byte[] payload = compress(JsonUtil.toJsonLine(new JsonSerializableAddressBook(snapshot)));
+        long position = channel.size();
+        ByteBuffer record = ByteBuffer.allocate(Integer.BYTES + payload.length).putInt(payload.length).put(payload);
+        write(record.flip(), position);
+        offsets.add(position);
+    }
+
+    @Override
+    public ReadOnlyAddressBook pop() throws IOException {
+        requireOpen();
+        if (size() == 0) {
+            throw new NoSuchElementException();
+        }
+        long position = offsets.get(offsets.size() - 1);
+        int length = read(position, Integer.BYTES).getInt();
+        byte[] payload = read(position + Integer.BYTES, length).array();
+
+        // The record is only dropped once it is decoded, so that a snapshot that fails to decode is not lost.
+        // This process wrote it from a valid address book, so its values are not validated again.
+        ReadOnlyAddressBook snapshot;
+        try {
+            snapshot = JsonUtil.fromJsonString(decompress(payload), JsonSerializableAddressBook.class)
+                    .toModelType(true);
+        } catch (IllegalValueException e) {
+            throw new IOException("Undo snapshot is corrupted: " + e.getMessage(), e);
+        }
+        channel.truncate(position);
+        offsets.remove(offsets.size() - 1);
+        return snapshot;
+    }
+
+    @Override
+    public void removeOldest() throws IOException {
+        requireOpen();
+        if (size() == 0) {
+            throw new NoSuchElementException();
+        }
+        first++;
+        if (first >= MIN_RECORDS_TO_COMPACT && first >= size()) {
+            compact();
+        } else {
+            writeHeader(channel, first < offsets.size() ? offsets.get(first) : channel.size());
+        }
+    }
+
+    /**
+     * Rewrites the file without the records that were removed from the bottom of the store.
+     */
+    private void compact() throws IOException {
+        long start = first < offsets.size() ? offsets.get(first) : channel.size();
+        long end = channel.size();
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        try (FileChannel temp = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeHeader(temp, HEADER_BYTES);
+            temp.position(HEADER_BYTES);
+            long position = start;
+            while (position < end) {
+                position += channel.transferTo(position, end - position, temp);
+            }
+        }
+        channel.close();
+        Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        channel = FileChannel.open(filePath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        List<Long> remaining = new ArrayList<>(offsets.subList(first, offsets.size()));
+        offsets.clear();
+        for (long offset : remaining) {
+            offsets.add(offset - start + HEADER_BYTES);
+        }
+        first = 0;
+    }
+
+    @Override
+    public void clear() throws IOException {
+        requireOpen();
+        offsets.clear();
+        first = 0;
+        resetFile();
+    }
+
+    @Override
+    public int size() {
+        return offsets.size() - first;
+    }
+
+    /**
+     * Closes the segment file, keeping its snapshots on disk.
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private void requireOpen() {
+        if (channel == null) {
+            throw new IllegalStateException("The store is not open");
+        }
+    }
+
+    private ByteBuffer read(long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Unexpected end of " + filePath);
+            }
+        }
+        return buffer.flip();
+    }
+
+    private void write(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, position + buffer.position());
+        }
+    }
+
+    private static byte[] compress(String json) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(json.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+
+    private static String decompress(byte[] payload) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
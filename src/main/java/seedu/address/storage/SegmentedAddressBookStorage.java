@@ -0,0 +1,372 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookSegment.KeyedPerson;
+
+/**
+ * A class to access AddressBook data stored as segment files in a directory on the hard disk, so that saving a
+ * change only rewrites the segments it touched instead of the whole address book.
+ * <p>
+ * Each person is placed in one of a fixed number of segments by the hash of its name, and is stored with a key that
+ * gives its position in the address book. Keys are spaced apart and kept from one save to the next, so adding,
+ * editing or deleting a person only rewrites the segment it is in, while reordering the list may rewrite them all.
+ * <p>
+ * A save writes the segments it changed to new files, then replaces the manifest that names the current segment
+ * files, so a save that is cut short leaves the previous version intact. Segments are read in parallel.
+ */
+public class SegmentedAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_SEGMENT_COUNT = 64;
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+
+    /** The gap left between the keys of neighbouring persons, so that persons can be inserted between them. */
+    static final long KEY_SPACING = 1L << 20;
+
+    private static final String SEGMENT_FILE_FORMAT = "segment-%03d-%d.json";
+    private static final Pattern SEGMENT_FILE_PATTERN = Pattern.compile("segment-\\d{3,}-\\d+\\.json");
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedAddressBookStorage.class);
+
+    private final Path directory;
+    private final int segmentCount;
+
+    // The manifest and keys last read from or saved to the directory, or null and empty if there are none
+    private JsonSegmentManifest savedManifest;
+    private Map<Person, Long> savedKeys = new IdentityHashMap<>();
+    private int lastSaveWrittenCount;
+
+    /**
+     * Creates a {@code SegmentedAddressBookStorage} in {@code directory} that splits a new address book into
+     * {@link #DEFAULT_SEGMENT_COUNT} segments.
+     */
+    public SegmentedAddressBookStorage(Path directory) {
+        this(directory, DEFAULT_SEGMENT_COUNT);
+    }
+
+    /**
+     * Creates a {@code SegmentedAddressBookStorage} in {@code directory} that splits a new address book into
+     * {@code segmentCount} segments. An address book that is already in the directory keeps its number of segments.
+     */
+    public SegmentedAddressBookStorage(Path directory, int segmentCount) {
+        requireNonNull(directory);
+        checkArgument(segmentCount > 0, "There must be at least one segment");
+        this.directory = directory;
+        this.segmentCount = segmentCount;
+    }
+
+    /**
+     * Returns the directory that holds the manifest and segment files.
+     */
+    @Override
+    public Path getAddressBookFilePath() {
+        return directory;
+    }
+
+    /**
+     * Returns the number of segment files written by the last save, which is 0 if nothing had changed.
+     */
+    public synchronized int getLastSaveWrittenCount() {
+        return lastSaveWrittenCount;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(directory);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param directory location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path directory) throws DataLoadingException {
+        requireNonNull(directory);
+
+        Optional<JsonSegmentManifest> manifest =
+                JsonUtil.readJsonFile(directory.resolve(MANIFEST_FILE_NAME), JsonSegmentManifest.class);
+        if (manifest.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<KeyedPerson> keyedPersons = readSegments(directory, manifest.get());
+        keyedPersons.sort(Comparator.comparingLong(KeyedPerson::getKey));
+        AddressBook addressBook = new AddressBook();
+        Map<Person, Long> keys = new IdentityHashMap<>();
+        for (KeyedPerson keyedPerson : keyedPersons) {
+            if (addressBook.hasPerson(keyedPerson.getPerson())) {
+                logger.info("Illegal values found in " + directory + ": "
+                        + JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                throw new DataLoadingException(
+                        new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+            }
+            addressBook.addPerson(keyedPerson.getPerson());
+            keys.put(keyedPerson.getPerson(), keyedPerson.getKey());
+        }
+
+        if (directory.equals(this.directory)) {
+            savedManifest = manifest.get();
+            savedKeys = keys;
+        }
+        return Optional.of(addressBook);
+    }
+
+    private static List<KeyedPerson> readSegments(Path directory, JsonSegmentManifest manifest)
+            throws DataLoadingException {
+        List<ForkJoinTask<List<KeyedPerson>>> tasks = new ArrayList<>();
+        for (String segment : manifest.getSegments()) {
+            Path segmentFile = directory.resolve(segment);
+            tasks.add(ForkJoinPool.commonPool().submit(() -> readSegment(segmentFile)));
+        }
+
+        List<KeyedPerson> keyedPersons = new ArrayList<>();
+        for (ForkJoinTask<List<KeyedPerson>> task : tasks) {
+            try {
+                keyedPersons.addAll(task.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new DataLoadingException(e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof DataLoadingException) {
+                    throw (DataLoadingException) e.getCause();
+                }
+                throw new DataLoadingException(e);
+            }
+        }
+        return keyedPersons;
+    }
+
+    private static List<KeyedPerson> readSegment(Path segmentFile) throws DataLoadingException {
+        JsonAddressBookSegment segment = JsonUtil.readJsonFile(segmentFile, JsonAddressBookSegment.class)
+                .orElseThrow(() -> new DataLoadingException(new NoSuchFileException(segmentFile.toString())));
+        try {
+            return segment.toModelType();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + segmentFile + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, directory);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param directory location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path directory) throws IOException {
+        requireAllNonNull(addressBook, directory);
+
+        boolean isUpdate = directory.equals(this.directory) && savedManifest != null;
+        Optional<JsonSegmentManifest> previousManifest = isUpdate
+                ? Optional.of(savedManifest)
+                : readManifestIfValid(directory);
+        Map<Person, Long> previousKeys = isUpdate ? savedKeys : Map.of();
+        int count = isUpdate ? savedManifest.getSegments().size() : segmentCount;
+
+        List<Person> persons = List.copyOf(addressBook.getPersonList());
+        long[] keys = assignKeys(persons, previousKeys);
+
+        // A segment must be rewritten if a person was added to or removed from it, or moved within the list
+        boolean[] isChanged = new boolean[count];
+        Map<Person, Long> newKeys = new IdentityHashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            newKeys.put(person, keys[i]);
+            Long previousKey = previousKeys.get(person);
+            if (previousKey == null || previousKey != keys[i]) {
+                isChanged[segmentOf(person, count)] = true;
+            }
+        }
+        for (Person person : previousKeys.keySet()) {
+            if (!newKeys.containsKey(person)) {
+                isChanged[segmentOf(person, count)] = true;
+            }
+        }
+        if (!isUpdate) {
+            Arrays.fill(isChanged, true);
+        }
+
+        int writtenCount = 0;
+        for (boolean changed : isChanged) {
+            writtenCount += changed ? 1 : 0;
+        }
+        if (writtenCount > 0) {
+            writeSegments(directory, persons, keys, isChanged, previousManifest);
+        }
+
+        if (directory.equals(this.directory)) {
+            savedKeys = newKeys;
+        }
+        lastSaveWrittenCount = writtenCount;
+        logger.fine(() -> "Rewrote " + lastSaveWrittenCount + " of " + count + " segments in " + directory);
+    }
+
+    private void writeSegments(Path directory, List<Person> persons, long[] keys, boolean[] isChanged,
+            Optional<JsonSegmentManifest> previousManifest) throws IOException {
+        int count = isChanged.length;
+        List<List<Person>> segmentPersons = new ArrayList<>(count);
+        List<List<Long>> segmentKeys = new ArrayList<>(count);
+        for (int segment = 0; segment < count; segment++) {
+            segmentPersons.add(new ArrayList<>());
+            segmentKeys.add(new ArrayList<>());
+        }
+        for (int i = 0; i < persons.size(); i++) {
+            int segment = segmentOf(persons.get(i), count);
+            if (isChanged[segment]) {
+                segmentPersons.get(segment).add(persons.get(i));
+                segmentKeys.get(segment).add(keys[i]);
+            }
+        }
+
+        Files.createDirectories(directory);
+        long generation = previousManifest.map(JsonSegmentManifest::getGeneration).orElse(0L) + 1;
+        List<String> previousFiles = previousManifest.map(JsonSegmentManifest::getSegments).orElse(List.of());
+        List<String> files = new ArrayList<>(count);
+        for (int segment = 0; segment < count; segment++) {
+            if (!isChanged[segment]) {
+                files.add(previousFiles.get(segment));
+                continue;
+            }
+            String file = String.format(SEGMENT_FILE_FORMAT, segment, generation);
+            long[] fileKeys = segmentKeys.get(segment).stream().mapToLong(Long::longValue).toArray();
+            FileUtil.writeToFile(directory.resolve(file),
+                    JsonUtil.toJsonLine(new JsonAddressBookSegment(fileKeys, segmentPersons.get(segment))));
+            files.add(file);
+        }
+
+        JsonSegmentManifest manifest = new JsonSegmentManifest(generation, files);
+        // Replaces the manifest in one step, so the previous generation stays readable until the save completes
+        JsonUtil.saveJsonFile(manifest, directory.resolve(MANIFEST_FILE_NAME));
+
+        if (directory.equals(this.directory)) {
+            savedManifest = manifest;
+        }
+        deleteUnlistedSegments(directory, files);
+    }
+
+    /**
+     * Deletes the segment files in {@code directory} that are not in {@code files}, including those left by a save
+     * that was interrupted before it replaced the manifest.
+     */
+    private static void deleteUnlistedSegments(Path directory, List<String> files) {
+        Set<String> listedFiles = new HashSet<>(files);
+        try (Stream<Path> entries = Files.list(directory)) {
+            for (Path entry : (Iterable<Path>) entries::iterator) {
+                String name = entry.getFileName().toString();
+                if (SEGMENT_FILE_PATTERN.matcher(name).matches() && !listedFiles.contains(name)) {
+                    Files.deleteIfExists(entry);
+                }
+            }
+        } catch (IOException | UncheckedIOException e) {
+            // The save itself succeeded; the files are deleted by the next one
+            logger.warning("Could not delete old segments in " + directory + " " + StringUtil.getDetails(e));
+        }
+    }
+
+    private static Optional<JsonSegmentManifest> readManifestIfValid(Path directory) {
+        try {
+            return JsonUtil.readJsonFile(directory.resolve(MANIFEST_FILE_NAME), JsonSegmentManifest.class);
+        } catch (DataLoadingException e) {
+            logger.warning("Replacing the unreadable manifest in " + directory);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the segment that {@code person} is stored in, out of {@code count} segments.
+     */
+    static int segmentOf(Person person, int count) {
+        return Math.floorMod(person.getName().fullName.hashCode(), count);
+    }
+
+    /**
+     * Returns increasing keys for {@code persons}, keeping the key in {@code previousKeys} of as many persons as
+     * possible. Persons that cannot keep their key, such as new or moved persons, get keys between those of their
+     * neighbours; if there is no room between them, every person gets a new key.
+     */
+    static long[] assignKeys(List<Person> persons, Map<Person, Long> previousKeys) {
+        int size = persons.size();
+        long[] keys = new long[size];
+        boolean[] isKept = new boolean[size];
+        long lastKept = 0;
+        for (int i = 0; i < size; i++) {
+            Long previousKey = previousKeys.get(persons.get(i));
+            if (previousKey != null && previousKey > lastKept) {
+                keys[i] = previousKey;
+                isKept[i] = true;
+                lastKept = previousKey;
+            }
+        }
+
+        long lower = 0;
+        int i = 0;
+        while (i < size) {
+            if (isKept[i]) {
+                lower = keys[i];
+                i++;
+                continue;
+            }
+            int end = i;
+            while (end < size && !isKept[end]) {
+                end++;
+            }
+            long upper = end < size ? keys[end] : lower + (end - i + 1) * KEY_SPACING;
+            long step = (upper - lower) / (end - i + 1);
+            if (step == 0) {
+                return spacedKeys(size);
+            }
+            for (int j = i; j < end; j++) {
+                keys[j] = lower + step * (j - i + 1);
+            }
+            i = end;
+        }
+        return keys;
+    }
+
+    private static long[] spacedKeys(int size) {
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = (i + 1) * KEY_SPACING;
+        }
+        return keys;
+    }
+}
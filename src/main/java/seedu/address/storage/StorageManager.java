@@ -1,12 +1,16 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.MetricsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.jfr.AddressBookSavedEvent;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -60,7 +64,7 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
-        logger.fine("Attempting to read data from file: " + filePath);
+        logger.fine(() -> "Attempting to read data from file: " + filePath);
         return addressBookStorage.readAddressBook(filePath);
     }
 
@@ -71,8 +75,23 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
+        logger.fine(() -> "Attempting to write to data file: " + filePath);
+        AddressBookSavedEvent event = new AddressBookSavedEvent();
+        event.begin();
+        long start = System.nanoTime();
         addressBookStorage.saveAddressBook(addressBook, filePath);
+        MetricsCenter.record(MetricsCenter.Phase.SAVE, System.nanoTime() - start);
+        event.end();
+
+        if (FileUtil.isFileExists(filePath)) {
+            long bytes = Files.size(filePath);
+            MetricsCenter.recordSave(bytes);
+            event.setBytes(bytes);
+        }
+        if (event.shouldCommit()) {
+            event.setPath(filePath.toString());
+            event.commit();
+        }
     }
 
 }
@@ -1,14 +1,17 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+
+import javafx.animation.PauseTransition;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -18,25 +21,40 @@ public class CommandBox extends UiPart<Region> {
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
 
+    /** How long typing must pause before the person list is updated to preview the command being typed. */
+    private static final Duration PREVIEW_DELAY = Duration.millis(100);
+
     private final CommandExecutor commandExecutor;
+    private final CommandPreviewer commandPreviewer;
+    private final PauseTransition previewDelay = new PauseTransition(PREVIEW_DELAY);
 
     @FXML
     private TextField commandTextField;
 
+    @FXML
+    private ProgressIndicator busyIndicator;
+
     private final CommandHistory history = new CommandHistory();
     private boolean isBrowsingHistory;
     private String liveBuffer = "";
     private boolean isUpdatedByProgram;
+    private int runningCount;
 
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, which previews the command being typed
+     * with {@code commandPreviewer}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CommandPreviewer commandPreviewer) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.commandPreviewer = commandPreviewer;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+
+        // previews the command once typing pauses, so that a burst of keystrokes only runs one query
+        previewDelay.setOnFinished(unused -> commandPreviewer.preview(commandTextField.getText()));
+        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> previewDelay.playFromStart());
     }
 
     @FXML
@@ -64,6 +82,7 @@ public class CommandBox extends UiPart<Region> {
     }
     /**
      * Handles the Enter button pressed event.
+     * The command runs in the background; the busy indicator is shown until every command entered has finished.
      */
     @FXML
     private void handleCommandEntered() {
@@ -72,18 +91,32 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
+        previewDelay.stop();
+        setBusy(1);
+        commandExecutor.execute(commandText).whenComplete((commandResult, error) -> {
+            setBusy(-1);
+            // Leaves the command box alone if the user has typed something else since
+            boolean isUnchanged = commandTextField.getText().equals(commandText);
+            if (error != null) {
+                if (isUnchanged) {
+                    setStyleToIndicateCommandFailure();
+                }
+                return;
+            }
 
             history.add(commandText);
             history.movePointerToEnd();
-            liveBuffer = "";
-            isBrowsingHistory = false;
+            if (isUnchanged) {
+                liveBuffer = "";
+                isBrowsingHistory = false;
+                commandTextField.setText("");
+            }
+        });
+    }
 
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
-        }
+    private void setBusy(int change) {
+        runningCount += change;
+        busyIndicator.setVisible(runningCount > 0);
     }
 
     /**
@@ -138,11 +171,25 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command, and returns a future that is completed on the JavaFX application thread
+         * with the result, or with the exception the command failed with.
          *
          * @see seedu.address.logic.Logic#execute(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
+    }
+
+    /**
+     * Represents a function that can preview the effect of a command on the person list as it is typed.
+     */
+    @FunctionalInterface
+    public interface CommandPreviewer {
+        /**
+         * Starts previewing the command, without executing it.
+         *
+         * @see seedu.address.logic.CommandExecutionService#preview(String)
+         */
+        void preview(String commandText);
     }
 
 }
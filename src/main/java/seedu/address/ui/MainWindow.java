@@ -1,7 +1,12 @@
 package seedu.address.ui;
 
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -12,10 +17,10 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandExecutionService;
 import seedu.address.logic.Logic;
+import seedu.address.logic.commands.BackgroundTask;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -23,12 +28,25 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class MainWindow extends UiPart<Stage> {
 
+    public static final String MESSAGE_LOADING = "Loading the data file... Commands entered now will run once it "
+            + "has loaded.";
+    public static final String MESSAGE_LOADED = "Loaded %1$d patients.";
+    public static final String MESSAGE_LOADING_FAILED = "The data file could not be loaded: %1$s";
+
     private static final String FXML = "MainWindow.fxml";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
+    // Runs background tasks one at a time, without keeping the application alive on exit
+    private final ExecutorService backgroundExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "background-task");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private Stage primaryStage;
     private Logic logic;
+    private CommandExecutionService commandExecutionService;
 
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
@@ -51,14 +69,16 @@ public class MainWindow extends UiPart<Stage> {
     private StackPane statusbarPlaceholder;
 
     /**
-     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}, whose commands are run by
+     * {@code commandExecutionService}.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, Logic logic, CommandExecutionService commandExecutionService) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.commandExecutionService = commandExecutionService;
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
@@ -110,7 +130,7 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        personListPanel = new PersonListPanel(commandExecutionService.getDisplayedPersonList());
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
@@ -119,10 +139,27 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, commandExecutionService::preview);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
+    /**
+     * Shows that the data file is being loaded until {@code loading} completes with the number of persons loaded.
+     */
+    void showLoading(CompletableFuture<Integer> loading) {
+        personListPanel.setLoading(true);
+        resultDisplay.setFeedbackToUser(MESSAGE_LOADING);
+        loading.whenComplete((count, error) -> {
+            personListPanel.setLoading(false);
+            if (error != null) {
+                resultDisplay.setFeedbackToUser(String.format(MESSAGE_LOADING_FAILED,
+                        Objects.requireNonNullElse(error.getMessage(), error.toString())));
+                return;
+            }
+            resultDisplay.setFeedbackToUser(String.format(MESSAGE_LOADED, count));
+        });
+    }
+
     /**
      * Sets the default size based on {@code guiSettings}.
      */
@@ -168,14 +205,19 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Queues the command to be executed off the JavaFX application thread, and shows its result once it is done.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see CommandExecutionService#execute(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        return commandExecutionService.execute(commandText).whenComplete((commandResult, error) -> {
+            if (error != null) {
+                logger.info(() -> "An error occurred while executing command: " + commandText);
+                resultDisplay.setFeedbackToUser(Objects.requireNonNullElse(error.getMessage(), error.toString()));
+                return;
+            }
+
+            logger.info(() -> "Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
             if (commandResult.isShowHelp()) {
@@ -186,11 +228,24 @@ public class MainWindow extends UiPart<Stage> {
                 handleExit();
             }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+            commandResult.getBackgroundTask().ifPresent(this::runInBackground);
+        });
+    }
+
+    /**
+     * Runs {@code task} off the JavaFX application thread, showing its progress and outcome in the result display.
+     */
+    private void runInBackground(BackgroundTask task) {
+        backgroundExecutor.execute(() -> {
+            String message;
+            try {
+                message = task.run(progress -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(progress)));
+            } catch (Exception e) {
+                logger.warning("Background task failed: " + e);
+                message = Objects.requireNonNullElse(e.getMessage(), e.toString());
+            }
+            String finalMessage = message;
+            Platform.runLater(() -> resultDisplay.setFeedbackToUser(finalMessage));
+        });
     }
 }
@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+
 import javafx.stage.Stage;
 
 /**
@@ -10,4 +12,7 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows that the data file is being loaded until {@code loading} completes with the number of persons loaded. */
+    void showLoading(CompletableFuture<Integer> loading);
+
 }
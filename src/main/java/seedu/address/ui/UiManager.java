@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -10,6 +11,7 @@ import javafx.stage.Stage;
 import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandExecutionService;
 import seedu.address.logic.Logic;
 
 /**
@@ -23,13 +25,16 @@ public class UiManager implements Ui {
     private static final String ICON_APPLICATION = "/images/address_book_32.png";
 
     private Logic logic;
+    private CommandExecutionService commandExecutionService;
     private MainWindow mainWindow;
 
     /**
-     * Creates a {@code UiManager} with the given {@code Logic}.
+     * Creates a {@code UiManager} with the given {@code Logic}, whose commands are run by
+     * {@code commandExecutionService}.
      */
-    public UiManager(Logic logic) {
+    public UiManager(Logic logic, CommandExecutionService commandExecutionService) {
         this.logic = logic;
+        this.commandExecutionService = commandExecutionService;
     }
 
     @Override
@@ -40,7 +45,7 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
+            mainWindow = new MainWindow(primaryStage, logic, commandExecutionService);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
 
@@ -50,6 +55,13 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showLoading(CompletableFuture<Integer> loading) {
+        if (mainWindow != null) {
+            mainWindow.showLoading(loading);
+        }
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.net.InetSocketAddress;
 import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.HashMap;
@@ -41,10 +42,27 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validConnectAddress_success() {
+        parametersStub.namedParameters.put("connect", "localhost:7420");
+        expected.setConnectAddress(InetSocketAddress.createUnresolved("localhost", 7420));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidConnectAddress_success() {
+        parametersStub.namedParameters.put("connect", "localhost");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+
+        parametersStub.namedParameters.put("connect", "localhost:port");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", connectAddress=" + appParameters.getConnectAddress() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -68,6 +86,11 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different connect address -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setConnectAddress(InetSocketAddress.createUnresolved("localhost", 7420));
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
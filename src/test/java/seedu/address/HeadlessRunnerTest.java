@@ -0,0 +1,87 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_ALICE;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_ALICE;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_ALICE;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class HeadlessRunnerTest {
+
+    private static final String ADD_ALICE = AddCommand.COMMAND_WORD + NAME_DESC_ALICE + PHONE_DESC_ALICE
+            + ADDRESS_DESC_ALICE;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private HeadlessRunner runner;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("medisavecontact.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        runner = new HeadlessRunner(new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage)),
+                new PrintStream(out, true, StandardCharsets.UTF_8), new PrintStream(err, true, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void run_validCommands_printsFeedback() throws Exception {
+        int status = run("# add a patient", "", ADD_ALICE, ListCommand.COMMAND_WORD);
+
+        assertEquals(HeadlessRunner.STATUS_SUCCESS, status);
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+        String expectedOutput = String.format(AddCommand.MESSAGE_SUCCESS,
+                Messages.format(model.getAddressBook().getPersonList().get(0)))
+                + System.lineSeparator() + ListCommand.MESSAGE_SUCCESS + System.lineSeparator();
+        assertEquals(expectedOutput, out.toString(StandardCharsets.UTF_8));
+        assertEquals("", err.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void run_invalidCommand_reportsLineAndContinues() throws Exception {
+        int status = run(ListCommand.COMMAND_WORD, "uicfhmowqewca", ADD_ALICE);
+
+        assertEquals(HeadlessRunner.STATUS_COMMAND_FAILED, status);
+        assertEquals("Line 2: " + MESSAGE_UNKNOWN_COMMAND + System.lineSeparator(),
+                err.toString(StandardCharsets.UTF_8));
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void run_exitCommand_stopsReading() throws Exception {
+        int status = run(ExitCommand.COMMAND_WORD, ADD_ALICE);
+
+        assertEquals(HeadlessRunner.STATUS_SUCCESS, status);
+        assertEquals(0, model.getAddressBook().getPersonList().size());
+    }
+
+    private int run(String... lines) throws Exception {
+        return runner.run(new BufferedReader(new StringReader(String.join("\n", lines))));
+    }
+}
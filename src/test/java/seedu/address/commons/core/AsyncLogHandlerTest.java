@@ -0,0 +1,107 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.AsyncLogHandler.OverflowPolicy;
+
+public class AsyncLogHandlerTest {
+
+    @Test
+    public void flush_recordsPublished_writtenInOrder() {
+        RecordingHandler recorder = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(16, OverflowPolicy.BLOCK, recorder);
+        for (int i = 0; i < 100; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+
+        handler.flush();
+        assertEquals(100, recorder.records.size());
+        assertEquals("message 0", recorder.records.get(0).getMessage());
+        assertEquals("message 99", recorder.records.get(99).getMessage());
+        assertEquals(0, handler.getDroppedCount());
+        handler.close();
+    }
+
+    @Test
+    public void publish_queueFullWithDropPolicy_dropsAndReports() throws Exception {
+        RecordingHandler recorder = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(1, OverflowPolicy.DROP, recorder);
+
+        // Hold the writer on the first record so that the queue fills up behind it.
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        recorder.isWriting.await();
+        for (int i = 0; i < 5; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        assertEquals(4, handler.getDroppedCount());
+
+        recorder.release.countDown();
+        handler.flush();
+        List<String> messages = recorder.records.stream().map(LogRecord::getMessage).collect(Collectors.toList());
+        assertEquals(List.of("first", "message 0"), messages.subList(0, 2));
+        assertTrue(messages.get(2).startsWith("4 log records were dropped"));
+        handler.close();
+    }
+
+    @Test
+    public void close_writesQueuedRecordsAndLaterRecordsStraightAway() {
+        RecordingHandler recorder = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(16, OverflowPolicy.BLOCK, recorder);
+        handler.publish(new LogRecord(Level.INFO, "before close"));
+
+        handler.close();
+        assertEquals(1, recorder.records.size());
+
+        // e.g. logged by another shutdown hook
+        handler.publish(new LogRecord(Level.INFO, "after close"));
+        assertEquals(List.of("before close", "after close"),
+                recorder.records.stream().map(LogRecord::getMessage).collect(Collectors.toList()));
+        assertFalse(recorder.isClosed);
+        handler.flush();
+    }
+
+    /**
+     * A {@code Handler} that keeps the records it is given. It waits for {@code release} before writing the
+     * first record.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<LogRecord> records = new CopyOnWriteArrayList<>();
+        private final CountDownLatch isWriting = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile boolean isClosed;
+
+        @Override
+        public void publish(LogRecord record) {
+            isWriting.countDown();
+            if (records.isEmpty() && "first".equals(record.getMessage())) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            records.add(record);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+}
@@ -14,7 +14,11 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", logOverflowPolicy=" + config.getLogOverflowPolicy()
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", metricsFilePath=" + config.getMetricsFilePath()
+                + ", metricsIntervalSeconds=" + config.getMetricsIntervalSeconds()
+                + ", addressBookFormat=" + config.getAddressBookFormat() + "}";
         assertEquals(expected, config.toString());
     }
 
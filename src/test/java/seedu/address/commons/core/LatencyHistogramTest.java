@@ -0,0 +1,61 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void getPercentile_empty_returnsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(50));
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getMean());
+    }
+
+    @Test
+    public void getPercentile_invalidPercentile_throwsIllegalArgumentException() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(-1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(100.5));
+    }
+
+    @Test
+    public void record_smallValues_exact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(3);
+        histogram.record(7);
+
+        assertEquals(3, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(0));
+        assertEquals(3, histogram.getPercentile(50));
+        assertEquals(7, histogram.getPercentile(100));
+        assertEquals(7, histogram.getMax());
+    }
+
+    @Test
+    public void getPercentile_largeValues_withinBucketError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value * 1_000_000);
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1_000_000_000L, histogram.getMax());
+        assertEquals(500_500_000L, histogram.getMean());
+        assertWithinBucketError(500_000_000L, histogram.getPercentile(50));
+        assertWithinBucketError(950_000_000L, histogram.getPercentile(95));
+        assertWithinBucketError(990_000_000L, histogram.getPercentile(99));
+        assertEquals(1_000_000_000L, histogram.getPercentile(100));
+    }
+
+    private static void assertWithinBucketError(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected + expected / 8,
+                "Expected about " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.MetricsCenter.Phase;
+
+public class MetricsCenterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @BeforeEach
+    public void setUp() {
+        MetricsCenter.reset();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        MetricsCenter.endCommand();
+    }
+
+    @Test
+    public void getReport_nothingRecorded_returnsNoCommandsMessage() {
+        assertEquals(MetricsCenter.MESSAGE_NO_COMMANDS, MetricsCenter.getReport());
+    }
+
+    @Test
+    public void record_insideCommand_filedUnderCommandWord() {
+        MetricsCenter.startCommand("add");
+        MetricsCenter.record(Phase.SNAPSHOT, 2_000_000);
+        MetricsCenter.endCommand();
+        MetricsCenter.record(Phase.SNAPSHOT, 1_000_000);
+
+        assertEquals(1, MetricsCenter.getHistogram("add", Phase.SNAPSHOT).getCount());
+        assertEquals(2_000_000, MetricsCenter.getHistogram("add", Phase.SNAPSHOT).getMax());
+        assertEquals(1, MetricsCenter.getHistogram(MetricsCenter.NO_COMMAND, Phase.SNAPSHOT).getCount());
+        assertEquals(0, MetricsCenter.getHistogram("delete", Phase.SNAPSHOT).getCount());
+    }
+
+    @Test
+    public void getReport_afterRecording_listsPhasesAndSaves() {
+        MetricsCenter.record("add", Phase.PARSE, 1_000_000);
+        MetricsCenter.record("add", Phase.SAVE, 4_000_000);
+        MetricsCenter.recordSave(2048);
+
+        String report = MetricsCenter.getReport();
+        assertTrue(report.contains("\nadd\n  parse    x1     1.00 / 1.00 / 1.00 / 1.00"));
+        assertTrue(report.contains("  save     x1     4.00 / 4.00 / 4.00 / 4.00"));
+        assertFalse(report.contains("execute"));
+        assertTrue(report.contains("Data file saved 1 times; last size 2.0 KB, largest 2.0 KB"));
+    }
+
+    @Test
+    public void writeReport_writesCurrentReport() throws Exception {
+        MetricsCenter.record("list", Phase.EXECUTE, 500_000);
+        Path filePath = testFolder.resolve("metrics").resolve("metrics.txt");
+
+        MetricsCenter.writeReport(filePath);
+        assertTrue(Files.readString(filePath).contains(MetricsCenter.getReport()));
+    }
+}
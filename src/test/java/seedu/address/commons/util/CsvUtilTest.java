@@ -0,0 +1,69 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvUtilTest {
+
+    @Test
+    public void splitLine_nullLine_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CsvUtil.splitLine(null));
+    }
+
+    @Test
+    public void splitLine_unquotedFields_success() {
+        assertEquals(Arrays.asList("a", " b", ""), CsvUtil.splitLine("a, b,"));
+        assertEquals(Arrays.asList(""), CsvUtil.splitLine(""));
+    }
+
+    @Test
+    public void splitLine_quotedFields_success() {
+        assertEquals(Arrays.asList("Block 1, Street 2", "say \"hi\""),
+                CsvUtil.splitLine("\"Block 1, Street 2\",\"say \"\"hi\"\"\""));
+    }
+
+    @Test
+    public void splitLine_unterminatedQuote_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> CsvUtil.splitLine("\"Block 1, Street 2"));
+    }
+
+    @Test
+    public void joinLine_fieldsNeedingQuotes_quoted() {
+        assertEquals("a,\"b,c\",\"say \"\"hi\"\"\",", CsvUtil.joinLine(Arrays.asList("a", "b,c", "say \"hi\"", null)));
+    }
+
+    @Test
+    public void joinLine_splitLine_roundTrip() {
+        List<String> fields = Arrays.asList("Alex Yeoh", "87438807", "Blk 30, Geylang St 29", "line\nbreak");
+        assertEquals(fields, CsvUtil.splitLine(CsvUtil.joinLine(fields)));
+    }
+
+    @Test
+    public void readRecord_joinLineWithMultiLineNote_roundTrip() throws Exception {
+        List<String> first = Arrays.asList("Alex Yeoh", "87438807", "Call before visiting.\nUse the side door.");
+        List<String> second = Arrays.asList("Bernice Yu", "99272758", "say \"hi\"");
+        BufferedReader reader = new BufferedReader(new StringReader(
+                CsvUtil.joinLine(first) + "\n" + CsvUtil.joinLine(second) + "\n"));
+
+        assertEquals(first, CsvUtil.splitLine(CsvUtil.readRecord(reader)));
+        assertEquals(second, CsvUtil.splitLine(CsvUtil.readRecord(reader)));
+        assertNull(CsvUtil.readRecord(reader));
+    }
+
+    @Test
+    public void readRecord_quoteOpenAtEnd_restOfInputRead() throws Exception {
+        BufferedReader reader = new BufferedReader(new StringReader("a,\"b\nc,d\n"));
+        String record = CsvUtil.readRecord(reader);
+        assertEquals("a,\"b\nc,d", record);
+        assertNull(CsvUtil.readRecord(reader));
+        assertThrows(IllegalArgumentException.class, () -> CsvUtil.splitLine(record));
+    }
+}
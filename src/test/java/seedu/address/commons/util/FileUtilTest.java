@@ -1,9 +1,12 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Paths;
+
 import org.junit.jupiter.api.Test;
 
 
@@ -22,4 +25,12 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void isCompressed() {
+        assertTrue(FileUtil.isCompressed(Paths.get("data", "medisavecontact.json.gz")));
+        assertFalse(FileUtil.isCompressed(Paths.get("data", "medisavecontact.json")));
+        assertEquals("patients.csv", FileUtil.getUncompressedFileName(Paths.get("patients.csv.gz")));
+        assertEquals("patients.csv", FileUtil.getUncompressedFileName(Paths.get("patients.csv")));
+    }
+
 }
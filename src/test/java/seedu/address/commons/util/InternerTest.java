@@ -0,0 +1,45 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Interner<String>().intern(null));
+    }
+
+    @Test
+    public void intern_equalValues_returnsFirstInstance() {
+        Interner<String> interner = new Interner<>();
+        String first = new String("Mother");
+        String second = new String("Mother");
+        assertNotSame(first, second);
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertEquals("Father", interner.intern("Father"));
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    public void intern_fromSeveralThreads_returnsOneInstancePerValue() {
+        Interner<String> interner = new Interner<>();
+        List<String> interned = IntStream.range(0, 10000).parallel()
+                .mapToObj(i -> interner.intern(new String("Note " + i % 10))).toList();
+
+        for (String value : interned) {
+            assertSame(interner.intern(value), value);
+        }
+        assertEquals(10, interned.stream().distinct().count());
+        assertEquals(10, interner.size());
+    }
+}
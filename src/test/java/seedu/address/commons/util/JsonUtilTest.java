@@ -1,8 +1,11 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.Test;
@@ -41,7 +44,25 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void saveJsonFile_serializationFails_previousFileKept() throws IOException {
+        FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
+
+        assertThrows(IOException.class, () -> JsonUtil.saveJsonFile(new UnserializableTestClass(), SERIALIZATION_FILE));
+
+        assertEquals(SerializableTestClass.JSON_STRING_REPRESENTATION, FileUtil.readFromFile(SERIALIZATION_FILE));
+        assertFalse(Files.exists(SERIALIZATION_FILE.resolveSibling(SERIALIZATION_FILE.getFileName() + ".tmp")));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
+
+    /**
+     * Fails to serialize after its first field is written, as Jackson has no serializer for a plain object.
+     */
+    private static class UnserializableTestClass {
+        private String name = "partly written";
+        private Object value = new Object();
+    }
 }
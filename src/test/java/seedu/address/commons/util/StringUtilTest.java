@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -142,4 +143,19 @@ public class StringUtilTest {
         assertThrows(NullPointerException.class, () -> StringUtil.getDetails(null));
     }
 
+    //---------------- Tests for formatBytes --------------------------------------
+
+    @Test
+    public void formatBytes_negative_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.formatBytes(-1));
+    }
+
+    @Test
+    public void formatBytes_validInputs_correctResult() {
+        assertEquals("0 B", StringUtil.formatBytes(0));
+        assertEquals("1023 B", StringUtil.formatBytes(1023));
+        assertEquals("1.0 KB", StringUtil.formatBytes(1024));
+        assertEquals("1.5 KB", StringUtil.formatBytes(1536));
+        assertEquals("64.0 MB", StringUtil.formatBytes(64L * 1024 * 1024));
+    }
 }
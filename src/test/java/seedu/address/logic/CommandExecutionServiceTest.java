@@ -0,0 +1,175 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_ALICE;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_ALICE;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_ALICE;
+import static seedu.address.logic.commands.CommandTestUtil.TAG_DESC_HIGH;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.HOON;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class CommandExecutionServiceTest {
+
+    private static final String ADD_COMMAND = AddCommand.COMMAND_WORD + NAME_DESC_ALICE + PHONE_DESC_ALICE
+            + ADDRESS_DESC_ALICE + TAG_DESC_HIGH;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final BlockingQueue<Runnable> handedOver = new LinkedBlockingQueue<>();
+    private Model model = new ModelManager();
+    private CommandExecutionService service;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("medisavecontact.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        Logic logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+        service = new CommandExecutionService(logic, handedOver::add);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    public void execute_validCommand_updatesDisplayedListOnResultExecutor() throws Exception {
+        CompletableFuture<CommandResult> outcome = service.execute(ADD_COMMAND);
+        Runnable handOver = nextHandOver();
+
+        // The command has run, but nothing is shown until its outcome is handed over
+        assertEquals(1, model.getFilteredPersonList().size());
+        assertTrue(service.getDisplayedPersonList().isEmpty());
+        assertFalse(outcome.isDone());
+
+        handOver.run();
+        assertEquals(model.getFilteredPersonList(), service.getDisplayedPersonList());
+        assertTrue(outcome.isDone());
+    }
+
+    @Test
+    public void execute_invalidCommand_completesExceptionally() throws Exception {
+        CompletableFuture<CommandResult> outcome = service.execute("uicfhmowqewca");
+        nextHandOver().run();
+
+        Throwable error = outcome.handle((commandResult, e) -> e).get();
+        assertTrue(error instanceof ParseException);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, error.getMessage());
+    }
+
+    @Test
+    public void execute_multipleCommands_runInOrder() throws Exception {
+        CompletableFuture<CommandResult> addOutcome = service.execute(ADD_COMMAND);
+        CompletableFuture<CommandResult> listOutcome = service.execute(ListCommand.COMMAND_WORD);
+
+        nextHandOver().run();
+        assertTrue(addOutcome.isDone());
+        assertFalse(listOutcome.isDone());
+
+        nextHandOver().run();
+        assertEquals(ListCommand.MESSAGE_SUCCESS, listOutcome.get().getFeedbackToUser());
+    }
+
+    @Test
+    public void preview_findCommand_showsMatchesUntilNextCommand() throws Exception {
+        service.execute(ADD_COMMAND);
+        nextHandOver().run();
+        List<Person> allPersons = List.copyOf(model.getFilteredPersonList());
+
+        service.preview("find nobody");
+        nextHandOver().run();
+        assertEquals(List.of(), service.getDisplayedPersonList());
+        assertEquals(allPersons, model.getFilteredPersonList());
+
+        // a command replaces the preview with the filtered person list
+        service.execute(ListCommand.COMMAND_WORD);
+        nextHandOver().run();
+        assertEquals(allPersons, service.getDisplayedPersonList());
+    }
+
+    @Test
+    public void preview_otherCommand_restoresFilteredPersonList() throws Exception {
+        service.execute(ADD_COMMAND);
+        nextHandOver().run();
+
+        service.preview("find nobody");
+        nextHandOver().run();
+        service.preview(AddCommand.COMMAND_WORD);
+        nextHandOver().run();
+        assertEquals(model.getFilteredPersonList(), service.getDisplayedPersonList());
+
+        // nothing is handed over when there is no preview to take down
+        service.preview(AddCommand.COMMAND_WORD);
+        CompletableFuture<CommandResult> listOutcome = service.execute(ListCommand.COMMAND_WORD);
+        nextHandOver().run();
+        assertTrue(listOutcome.isDone());
+    }
+
+    @Test
+    public void load_commandSubmittedWhileLoading_runsAfterLoading() throws Exception {
+        ModelManager modelManager = (ModelManager) model;
+        CompletableFuture<Integer> loadOutcome = service.load(onBatchLoaded -> {
+            modelManager.loadPersons(List.of(ALICE));
+            onBatchLoaded.run();
+            modelManager.loadPersons(List.of(HOON));
+            onBatchLoaded.run();
+            return 2;
+        });
+        CompletableFuture<CommandResult> listOutcome = service.execute(ListCommand.COMMAND_WORD);
+
+        // each batch is shown as soon as it is loaded
+        nextHandOver().run();
+        assertEquals(List.of(ALICE), service.getDisplayedPersonList());
+        nextHandOver().run();
+        assertEquals(List.of(ALICE, HOON), service.getDisplayedPersonList());
+        assertFalse(loadOutcome.isDone());
+
+        nextHandOver().run();
+        assertEquals(2, (int) loadOutcome.get());
+        assertFalse(listOutcome.isDone());
+
+        nextHandOver().run();
+        assertEquals(ListCommand.MESSAGE_SUCCESS, listOutcome.get().getFeedbackToUser());
+    }
+
+    @Test
+    public void getDisplayedPersonList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> service.getDisplayedPersonList().setAll(List.of()));
+    }
+
+    private Runnable nextHandOver() throws InterruptedException {
+        Runnable handOver = handedOver.poll(5, TimeUnit.SECONDS);
+        assertNotNull(handOver, "The command did not finish in time");
+        return handOver;
+    }
+}
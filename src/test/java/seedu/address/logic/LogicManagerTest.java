@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_ALICE;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_ALICE;
@@ -12,14 +14,24 @@ import static seedu.address.testutil.TypicalPatients.ALICE;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.commons.core.MetricsCenter.Phase;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BeginCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.CommitCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -84,6 +96,103 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_commandsInTransaction_savedOnCommit() throws Exception {
+        Path addressBookFilePath = temporaryFolder.resolve("medisavecontact.json");
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_ALICE + PHONE_DESC_ALICE + ADDRESS_DESC_ALICE
+                + TAG_DESC_HIGH;
+
+        logic.execute(BeginCommand.COMMAND_WORD);
+        logic.execute(addCommand);
+        assertFalse(Files.exists(addressBookFilePath));
+
+        logic.execute(CommitCommand.COMMAND_WORD);
+        assertTrue(Files.exists(addressBookFilePath));
+    }
+
+    @Test
+    public void execute_validCommand_recordsTimings() throws Exception {
+        MetricsCenter.reset();
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+
+        assertEquals(1, MetricsCenter.getHistogram(ListCommand.COMMAND_WORD, Phase.PARSE).getCount());
+        assertEquals(1, MetricsCenter.getHistogram(ListCommand.COMMAND_WORD, Phase.EXECUTE).getCount());
+        assertEquals(1, MetricsCenter.getHistogram(ListCommand.COMMAND_WORD, Phase.SAVE).getCount());
+        assertEquals(1, MetricsCenter.getHistogram(MetricsCenter.INVALID_COMMAND, Phase.PARSE).getCount());
+    }
+
+    @Test
+    public void execute_validCommand_emitsCommandExecutedEvent() throws Exception {
+        Path dumpFile = temporaryFolder.resolve("commands.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("seedu.address.CommandExecuted").withoutThreshold();
+            recording.start();
+            logic.execute(ListCommand.COMMAND_WORD);
+            recording.stop();
+            recording.dump(dumpFile);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dumpFile).stream()
+                .filter(event -> event.getEventType().getName().equals("seedu.address.CommandExecuted"))
+                .toList();
+        assertEquals(1, events.size());
+        assertEquals(ListCommand.COMMAND_WORD, events.get(0).getString("commandWord"));
+        assertTrue(events.get(0).getBoolean("isSuccessful"));
+    }
+
+    @Test
+    public void execute_transaction_publishesSnapshotOnCommit() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_ALICE + PHONE_DESC_ALICE + ADDRESS_DESC_ALICE
+                + TAG_DESC_HIGH;
+        long initialVersion = model.getSnapshot().getVersion();
+
+        logic.execute(BeginCommand.COMMAND_WORD);
+        logic.execute(addCommand);
+        assertEquals(initialVersion, model.getSnapshot().getVersion());
+        assertTrue(model.getSnapshot().getPersonList().isEmpty());
+
+        logic.execute(CommitCommand.COMMAND_WORD);
+        assertEquals(initialVersion + 1, model.getSnapshot().getVersion());
+        assertEquals(model.getAddressBook().getPersonList(), model.getSnapshot().getPersonList());
+    }
+
+    @Test
+    public void previewFilteredPersonList_findCommand_returnsMatchesWithoutFiltering() {
+        model.addPerson(ALICE);
+
+        assertEquals(Optional.of(List.of(ALICE)), logic.previewFilteredPersonList("find alice"));
+        assertEquals(Optional.of(List.of()), logic.previewFilteredPersonList("find bob"));
+        assertEquals(Optional.of(List.of(ALICE)), logic.previewFilteredPersonList(ListCommand.COMMAND_WORD));
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void previewFilteredPersonList_otherCommand_returnsEmpty() {
+        assertEquals(Optional.empty(), logic.previewFilteredPersonList("find"));
+        assertEquals(Optional.empty(), logic.previewFilteredPersonList(COMMAND_WORD + " 1"));
+        assertEquals(Optional.empty(), logic.previewFilteredPersonList("uicfhmowqewca"));
+    }
+
+    @Test
+    public void executeLookup_findCommand_listsMatchesAndRecordsTimings() {
+        MetricsCenter.reset();
+        model.addPerson(ALICE);
+        ReadOnlyAddressBook snapshot = model.getAddressBook();
+
+        ListedPersons listedPersons = logic.executeLookup("find alice", snapshot).orElseThrow();
+        assertEquals(List.of(ALICE), listedPersons.getPersons());
+        assertEquals(Messages.patientsListedOverview(1), listedPersons.getCommandResult().getFeedbackToUser());
+        assertEquals(1, MetricsCenter.getHistogram("find", Phase.PARSE).getCount());
+        assertEquals(1, MetricsCenter.getHistogram("find", Phase.EXECUTE).getCount());
+        assertEquals(0, MetricsCenter.getHistogram("find", Phase.SAVE).getCount());
+
+        // other commands are left to execute
+        assertEquals(Optional.empty(), logic.executeLookup(COMMAND_WORD + " 1", snapshot));
+        assertEquals(Optional.empty(), logic.executeLookup("uicfhmowqewca", snapshot));
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -17,9 +17,11 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Appointment;
+import seedu.address.model.person.Caretaker;
 import seedu.address.model.person.Note;
 import seedu.address.model.person.Patient;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 import seedu.address.testutil.PatientBuilder;
 
 
@@ -245,10 +247,82 @@ public class AddAppointmentCommandTest {
             throw new AssertionError();
         }
         @Override
+        public void addPersons(java.util.List<? extends Person> persons) {
+            throw new AssertionError();
+        }
+        @Override
+        public java.util.function.Predicate<Person> getFilteredPersonListPredicate() {
+            throw new AssertionError();
+        }
+        @Override
+        public seedu.address.model.AddressBookSnapshot getSnapshot() {
+            throw new AssertionError();
+        }
+        @Override
+        public void publishSnapshot() {
+            throw new AssertionError();
+        }
+        @Override
+        public java.util.List<Person> getPersonsMatching(java.util.function.Predicate<Person> predicate) {
+            throw new AssertionError();
+        }
+        @Override
+        public boolean canRedo() {
+            throw new AssertionError();
+        }
+        @Override
+        public void redo() {
+            throw new AssertionError();
+        }
+        @Override
+        public seedu.address.model.HistoryStatistics getHistoryStatistics() {
+            throw new AssertionError();
+        }
+        @Override
+        public void beginTransaction() {
+            throw new AssertionError();
+        }
+        @Override
+        public void commitTransaction() {
+            throw new AssertionError();
+        }
+        @Override
+        public void rollbackTransaction() {
+            throw new AssertionError();
+        }
+        @Override
+        public boolean isInTransaction() {
+            throw new AssertionError();
+        }
+        @Override
+        public <E extends Exception> void transaction(Model.Changes<E> changes) throws E {
+            throw new AssertionError();
+        }
+        @Override
         public void setPerson(Person target, Person editedPerson) {
             throw new AssertionError();
         }
         @Override
+        public java.util.List<Patient> getPatientsOfCaretaker(Caretaker caretaker) {
+            throw new AssertionError();
+        }
+        @Override
+        public java.util.List<Person> getPersonsWithPhone(Phone phone) {
+            throw new AssertionError();
+        }
+        @Override
+        public int archivePastAppointments(java.time.LocalDateTime now) {
+            throw new AssertionError();
+        }
+        @Override
+        public java.util.List<Appointment> getArchivedAppointments(Patient patient) {
+            throw new AssertionError();
+        }
+        @Override
+        public Patient setCaretaker(Patient patient, Caretaker editedCaretaker) {
+            throw new AssertionError();
+        }
+        @Override
         public void updateFilteredPersonList(java.util.function.Predicate<Person> predicate) {
             throw new AssertionError();
         }
@@ -350,10 +424,82 @@ public class AddAppointmentCommandTest {
             throw new AssertionError();
         }
         @Override
+        public void addPersons(java.util.List<? extends Person> persons) {
+            throw new AssertionError();
+        }
+        @Override
+        public java.util.function.Predicate<Person> getFilteredPersonListPredicate() {
+            throw new AssertionError();
+        }
+        @Override
+        public seedu.address.model.AddressBookSnapshot getSnapshot() {
+            throw new AssertionError();
+        }
+        @Override
+        public void publishSnapshot() {
+            throw new AssertionError();
+        }
+        @Override
+        public java.util.List<Person> getPersonsMatching(java.util.function.Predicate<Person> predicate) {
+            throw new AssertionError();
+        }
+        @Override
+        public boolean canRedo() {
+            throw new AssertionError();
+        }
+        @Override
+        public void redo() {
+            throw new AssertionError();
+        }
+        @Override
+        public seedu.address.model.HistoryStatistics getHistoryStatistics() {
+            throw new AssertionError();
+        }
+        @Override
+        public void beginTransaction() {
+            throw new AssertionError();
+        }
+        @Override
+        public void commitTransaction() {
+            throw new AssertionError();
+        }
+        @Override
+        public void rollbackTransaction() {
+            throw new AssertionError();
+        }
+        @Override
+        public boolean isInTransaction() {
+            throw new AssertionError();
+        }
+        @Override
+        public <E extends Exception> void transaction(Model.Changes<E> changes) throws E {
+            throw new AssertionError();
+        }
+        @Override
         public void setPerson(Person target, Person editedPerson) {
             throw new AssertionError();
         }
         @Override
+        public java.util.List<Patient> getPatientsOfCaretaker(Caretaker caretaker) {
+            throw new AssertionError();
+        }
+        @Override
+        public java.util.List<Person> getPersonsWithPhone(Phone phone) {
+            throw new AssertionError();
+        }
+        @Override
+        public int archivePastAppointments(java.time.LocalDateTime now) {
+            throw new AssertionError();
+        }
+        @Override
+        public java.util.List<Appointment> getArchivedAppointments(Patient patient) {
+            throw new AssertionError();
+        }
+        @Override
+        public Patient setCaretaker(Patient patient, Caretaker editedCaretaker) {
+            throw new AssertionError();
+        }
+        @Override
         public void updateFilteredPersonList(java.util.function.Predicate<Person> predicate) {
             throw new AssertionError();
         }
@@ -9,9 +9,11 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPatients.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -24,8 +26,11 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.person.Appointment;
+import seedu.address.model.person.Caretaker;
 import seedu.address.model.person.Patient;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 import seedu.address.testutil.PatientBuilder;
 
 
@@ -148,6 +153,71 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<? extends Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Person> getFilteredPersonListPredicate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public seedu.address.model.AddressBookSnapshot getSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void publishSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsMatching(Predicate<Person> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public seedu.address.model.HistoryStatistics getHistoryStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void beginTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isInTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public <E extends Exception> void transaction(Model.Changes<E> changes) throws E {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -173,6 +243,31 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Patient> getPatientsOfCaretaker(Caretaker caretaker) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsWithPhone(Phone phone) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int archivePastAppointments(LocalDateTime now) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Appointment> getArchivedAppointments(Patient patient) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Patient setCaretaker(Patient patient, Caretaker editedCaretaker) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
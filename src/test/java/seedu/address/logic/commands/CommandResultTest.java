@@ -35,6 +35,9 @@ public class CommandResultTest {
 
         // different exit value -> returns false
         assertFalse(commandResult.equals(new CommandResult("feedback", false, true)));
+
+        // background task present -> returns false
+        assertFalse(commandResult.equals(new CommandResult("feedback", progress -> "done")));
     }
 
     @Test
@@ -312,4 +312,31 @@ public class EditCaretakerCommandTest {
         assertCommandSuccess(cmd, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_caretakerOfSeveralPatients_editedForAll() {
+        Patient first = (Patient) model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Caretaker sharedCaretaker = new CaretakerBuilder(first.getCaretaker()).withRelationship("Uncle").build();
+        Patient sibling = new PatientBuilder().withName("Sibling Lim").withPhone("91555555")
+                .withCaretaker(sharedCaretaker).build();
+        model.addPerson(sibling);
+
+        EditCaretakerDescriptor descriptor = new EditCaretakerDescriptorBuilder().withPhone(VALID_PHONE_AMY).build();
+        EditCaretakerCommand editCaretakerCommand = new EditCaretakerCommand(INDEX_FIRST_PERSON, descriptor);
+
+        Caretaker editedCaretaker = new CaretakerBuilder(first.getCaretaker()).withPhone(VALID_PHONE_AMY).build();
+        Patient editedFirst = new PatientBuilder(first).withCaretaker(editedCaretaker).build();
+        Patient editedSibling = new PatientBuilder(sibling)
+                .withCaretaker(new CaretakerBuilder(sharedCaretaker).withPhone(VALID_PHONE_AMY).build()).build();
+
+        String expectedMessage = String.format(EditCaretakerCommand.MESSAGE_EDIT_CARETAKER_SUCCESS,
+                Messages.format(editedCaretaker), Messages.shortFormat(editedFirst))
+                + String.format(EditCaretakerCommand.MESSAGE_OTHER_PATIENTS_UPDATED, 1);
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.setPerson(first, editedFirst);
+        expectedModel.setPerson(sibling, editedSibling);
+
+        assertCommandSuccess(editCaretakerCommand, model, expectedMessage, expectedModel);
+    }
+
 }
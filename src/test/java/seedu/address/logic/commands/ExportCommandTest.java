@@ -0,0 +1,104 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.RecordFormat;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ExportCommand(null, RecordFormat.CSV));
+        assertThrows(NullPointerException.class, () -> new ExportCommand(Paths.get("patients.csv"), null));
+    }
+
+    @Test
+    public void execute_filteredList_exportsDisplayedPatientsInBackground() throws Exception {
+        Path filePath = testFolder.resolve("patients.csv");
+        model.updateFilteredPersonList(person -> person.getName().fullName.startsWith("A"));
+        int displayed = model.getFilteredPersonList().size();
+
+        CommandResult result = new ExportCommand(filePath, RecordFormat.CSV).execute(model);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_STARTED, displayed, filePath), result.getFeedbackToUser());
+        assertTrue(result.getBackgroundTask().isPresent());
+        assertFalse(Files.exists(filePath));
+
+        // changes to the displayed list after the command returns do not affect the export
+        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+
+        List<String> progress = new ArrayList<>();
+        String message = result.getBackgroundTask().get().run(progress::add);
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, displayed, filePath), message);
+        assertEquals(displayed + 1, Files.readAllLines(filePath).size());
+    }
+
+    @Test
+    public void execute_emptyList_throwsCommandException() {
+        model.updateFilteredPersonList(person -> false);
+        assertCommandFailure(new ExportCommand(testFolder.resolve("patients.csv"), RecordFormat.CSV), model,
+                ExportCommand.MESSAGE_NO_PATIENTS);
+    }
+
+    @Test
+    public void execute_unwritableFile_backgroundTaskThrowsCommandException() throws Exception {
+        // a directory cannot be opened for writing
+        CommandResult result = new ExportCommand(testFolder, RecordFormat.JSONL).execute(model);
+        assertThrows(CommandException.class, () -> result.getBackgroundTask().get().run(progress -> { }));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportCsv = new ExportCommand(Paths.get("patients.csv"), RecordFormat.CSV);
+        ExportCommand exportJsonl = new ExportCommand(Paths.get("patients.csv"), RecordFormat.JSONL);
+        ExportCommand exportOther = new ExportCommand(Paths.get("other.csv"), RecordFormat.CSV);
+
+        // same object -> returns true
+        assertTrue(exportCsv.equals(exportCsv));
+
+        // same values -> returns true
+        assertTrue(exportCsv.equals(new ExportCommand(Paths.get("patients.csv"), RecordFormat.CSV)));
+
+        // different types -> returns false
+        assertFalse(exportCsv.equals(1));
+
+        // null -> returns false
+        assertFalse(exportCsv.equals(null));
+
+        // different format -> returns false
+        assertFalse(exportCsv.equals(exportJsonl));
+
+        // different file -> returns false
+        assertFalse(exportCsv.equals(exportOther));
+    }
+
+    @Test
+    public void toStringMethod() {
+        ExportCommand exportCommand = new ExportCommand(Paths.get("patients.csv"), RecordFormat.CSV);
+        String expected = ExportCommand.class.getCanonicalName() + "{filePath=patients.csv, format=CSV}";
+        assertEquals(expected, exportCommand.toString());
+    }
+}
@@ -0,0 +1,142 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.BOB;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Appointment;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Patient;
+import seedu.address.storage.AppointmentArchiveFile;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PatientBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model and the appointment archive) for {@code HistoryCommand}.
+ */
+public class HistoryCommandTest {
+
+    private static final Appointment FIRST = Appointment.ofTrusted("01-02-2020", "09:30", null);
+    private static final Appointment SECOND = Appointment.ofTrusted("15-03-2021", "14:00", Note.of("Blood test"));
+    private static final Appointment UPCOMING = new Appointment("31-12-2099", "15:30");
+
+    @TempDir
+    public Path testFolder;
+
+    private ModelManager model;
+    private ModelManager expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        Patient alice = ALICE.addAppointment(FIRST).addAppointment(SECOND).addAppointment(UPCOMING);
+        model = new ModelManager(new AddressBookBuilder().withPerson(alice).withPerson(BOB).build(), new UserPrefs());
+        model.setAppointmentArchive(new AppointmentArchiveFile(testFolder.resolve("data.json.archive")));
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_archivedAndPastAppointments_listedEarliestFirst() throws Exception {
+        // The second appointment passed after the first one was archived
+        assertEquals(1, model.archivePastAppointments(LocalDateTime.of(2021, 1, 1, 0, 0)));
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        String expectedMessage = String.format(HistoryCommand.MESSAGE_HISTORY, ALICE.getName())
+                + String.format(HistoryCommand.MESSAGE_APPOINTMENT, 1, FIRST)
+                + String.format(HistoryCommand.MESSAGE_APPOINTMENT, 2, SECOND);
+        assertCommandSuccess(new HistoryCommand(INDEX_FIRST_PERSON), model, expectedMessage, expectedModel);
+        assertEquals(List.of(SECOND, UPCOMING), ((Patient) model.getFilteredPersonList().get(0)).getAppointment());
+    }
+
+    @Test
+    public void execute_patientEdited_archivedAppointmentsFollowPatient() throws Exception {
+        assertEquals(1, model.archivePastAppointments(LocalDateTime.of(2021, 1, 1, 0, 0)));
+        Patient archivedAlice = (Patient) model.getFilteredPersonList().get(0);
+        Patient editedAlice = new PatientBuilder(archivedAlice).withName("Alice Tan").withPhone("90001111").build();
+        model.setPerson(archivedAlice, editedAlice);
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        String expectedMessage = String.format(HistoryCommand.MESSAGE_HISTORY, editedAlice.getName())
+                + String.format(HistoryCommand.MESSAGE_APPOINTMENT, 1, FIRST)
+                + String.format(HistoryCommand.MESSAGE_APPOINTMENT, 2, SECOND);
+        assertCommandSuccess(new HistoryCommand(INDEX_FIRST_PERSON), model, expectedMessage, expectedModel);
+
+        // A new patient with the name and phone number the patient had before does not take over the appointments
+        model.addPerson(ALICE);
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        assertCommandSuccess(new HistoryCommand(INDEX_THIRD_PERSON), model,
+                String.format(HistoryCommand.MESSAGE_NO_HISTORY, ALICE.getName()), expectedModel);
+    }
+
+    @Test
+    public void execute_archivalFollowedByUndo_archivedAppointmentsNotRestored() throws Exception {
+        model.deletePerson(BOB);
+        assertEquals(1, model.archivePastAppointments(LocalDateTime.of(2021, 1, 1, 0, 0)));
+
+        model.undo();
+        assertEquals(List.of(SECOND, UPCOMING), ((Patient) model.getFilteredPersonList().get(0)).getAppointment());
+        assertEquals(List.of(FIRST), model.getArchivedAppointments(ALICE));
+
+        model.redo();
+        assertEquals(List.of(SECOND, UPCOMING), ((Patient) model.getFilteredPersonList().get(0)).getAppointment());
+        assertEquals(List.of(FIRST), model.getArchivedAppointments(ALICE));
+    }
+
+    @Test
+    public void execute_noPastAppointments_noHistory() {
+        String expectedMessage = String.format(HistoryCommand.MESSAGE_NO_HISTORY, BOB.getName());
+        assertCommandSuccess(new HistoryCommand(INDEX_SECOND_PERSON), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        assertCommandFailure(new HistoryCommand(outOfBoundIndex), model,
+                Messages.invalidPatientIndex(model.getFilteredPersonList().size()));
+    }
+
+    @Test
+    public void equals() {
+        HistoryCommand firstCommand = new HistoryCommand(INDEX_FIRST_PERSON);
+        HistoryCommand secondCommand = new HistoryCommand(INDEX_SECOND_PERSON);
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new HistoryCommand(INDEX_FIRST_PERSON)));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different index -> returns false
+        assertFalse(firstCommand.equals(secondCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        String expected = HistoryCommand.class.getCanonicalName() + "{targetIndex=" + INDEX_FIRST_PERSON + "}";
+        assertEquals(expected, new HistoryCommand(INDEX_FIRST_PERSON).toString());
+    }
+}
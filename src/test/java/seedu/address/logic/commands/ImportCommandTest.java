@@ -0,0 +1,127 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Patient;
+import seedu.address.storage.RecordFormat;
+import seedu.address.testutil.PatientBuilder;
+
+public class ImportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new ImportCommand(null, RecordFormat.CSV));
+        assertThrows(NullPointerException.class, () ->
+                new ImportCommand(Paths.get("patients.csv"), null));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path filePath = testFolder.resolve("missing.csv");
+        assertCommandFailure(new ImportCommand(filePath, RecordFormat.CSV), model,
+                String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, filePath));
+    }
+
+    @Test
+    public void execute_newPatients_addedAsSingleUndoableChange() throws Exception {
+        Path filePath = testFolder.resolve("patients.csv");
+        Files.write(filePath, Arrays.asList(
+                "Amy Bee,11111111,\"Block 312, Amy Street 1\",low",
+                "Zed Ng,33333333,Block 9,high"));
+
+        Patient amy = new PatientBuilder().withName("Amy Bee").withPhone("11111111")
+                .withAddress("Block 312, Amy Street 1").withTag("low").withCaretaker(null).build();
+        Patient zed = new PatientBuilder().withName("Zed Ng").withPhone("33333333")
+                .withAddress("Block 9").withTag("high").withCaretaker(null).build();
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPerson(amy);
+        expectedModel.addPerson(zed);
+
+        assertCommandSuccess(new ImportCommand(filePath, RecordFormat.CSV), model,
+                String.format(ImportCommand.MESSAGE_SUCCESS, 2, 0), expectedModel);
+
+        model.undo();
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertFalse(model.canUndo());
+    }
+
+    @Test
+    public void execute_duplicatesAndInvalidLines_skipped() throws Exception {
+        Path filePath = testFolder.resolve("patients.csv");
+        Files.write(filePath, Arrays.asList(
+                "Amy Bee,11111111,Block 312,low",
+                // same identity as ALICE
+                "Alice Pauline,94351253,Elsewhere,high",
+                // same identity as ALICE's caretaker
+                "Alexendra,94351253,Elsewhere,high",
+                // repeated within the file
+                "Amy Bee,11111111,Block 313,low",
+                "Bad Tag,44444444,Block 1,urgent"));
+
+        Patient amy = new PatientBuilder().withName("Amy Bee").withPhone("11111111")
+                .withAddress("Block 312").withTag("low").withCaretaker(null).build();
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPerson(amy);
+
+        Path rejectsFilePath = testFolder.resolve("patients.csv" + ImportCommand.REJECTS_FILE_SUFFIX);
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 1, 3)
+                + String.format(ImportCommand.MESSAGE_REJECTS, 1, rejectsFilePath);
+        assertCommandSuccess(new ImportCommand(filePath, RecordFormat.CSV), model, expectedMessage, expectedModel);
+        assertTrue(Files.exists(rejectsFilePath));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCsv = new ImportCommand(Paths.get("patients.csv"), RecordFormat.CSV);
+        ImportCommand importJsonl = new ImportCommand(Paths.get("patients.csv"), RecordFormat.JSONL);
+        ImportCommand importOther = new ImportCommand(Paths.get("other.csv"), RecordFormat.CSV);
+
+        // same object -> returns true
+        assertTrue(importCsv.equals(importCsv));
+
+        // same values -> returns true
+        assertTrue(importCsv.equals(new ImportCommand(Paths.get("patients.csv"), RecordFormat.CSV)));
+
+        // different types -> returns false
+        assertFalse(importCsv.equals(1));
+
+        // null -> returns false
+        assertFalse(importCsv.equals(null));
+
+        // different format -> returns false
+        assertFalse(importCsv.equals(importJsonl));
+
+        // different file -> returns false
+        assertFalse(importCsv.equals(importOther));
+    }
+
+    @Test
+    public void toStringMethod() {
+        ImportCommand importCommand = new ImportCommand(Paths.get("patients.csv"), RecordFormat.CSV);
+        String expected = ImportCommand.class.getCanonicalName() + "{filePath=patients.csv, format=CSV}";
+        assertEquals(expected, importCommand.toString());
+    }
+}
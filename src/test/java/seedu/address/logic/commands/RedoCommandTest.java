@@ -0,0 +1,49 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.TypicalPatients;
+
+public class RedoCommandTest {
+
+    @Test
+    public void execute_nothingUndone_throwsCommandException() {
+        Model model = new ModelManager(new AddressBook(), new UserPrefs());
+        model.addPerson(TypicalPatients.ALICE);
+
+        assertThrows(CommandException.class,
+                RedoCommand.MESSAGE_NO_COMMANDS_TO_REDO, () -> new RedoCommand().execute(model));
+    }
+
+    @Test
+    public void execute_afterUndo_success() {
+        Model model = new ModelManager(new AddressBook(), new UserPrefs());
+        model.addPerson(TypicalPatients.ALICE);
+        model.undo();
+
+        Model expectedModel = new ModelManager(new AddressBook(), new UserPrefs());
+        expectedModel.addPerson(TypicalPatients.ALICE);
+
+        CommandResult expectedCommandResult = new CommandResult(RedoCommand.MESSAGE_SUCCESS);
+        assertCommandSuccess(new RedoCommand(), model, expectedCommandResult, expectedModel);
+    }
+
+    @Test
+    public void execute_inTransaction_throwsCommandException() {
+        Model model = new ModelManager(new AddressBook(), new UserPrefs());
+        model.addPerson(TypicalPatients.ALICE);
+        model.undo();
+        model.beginTransaction();
+
+        assertThrows(CommandException.class,
+                RedoCommand.MESSAGE_IN_TRANSACTION, () -> new RedoCommand().execute(model));
+    }
+}
@@ -0,0 +1,21 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+
+    @Test
+    public void execute_showsMetricsReport() {
+        MetricsCenter.reset();
+        MetricsCenter.record("list", MetricsCenter.Phase.EXECUTE, 1_000_000);
+        Model model = new ModelManager();
+
+        assertCommandSuccess(new StatsCommand(), model, MetricsCenter.getReport(), new ModelManager());
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains tests for {@code BeginCommand}, {@code CommitCommand} and {@code RollbackCommand}.
+ */
+public class TransactionCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_beginThenCommit_singleUndoableChange() throws Exception {
+        assertEquals(new CommandResult(BeginCommand.MESSAGE_SUCCESS), new BeginCommand().execute(model));
+        new DeletePatientCommand(INDEX_FIRST_PERSON).execute(model);
+        new DeletePatientCommand(INDEX_FIRST_PERSON).execute(model);
+        assertEquals(new CommandResult(CommitCommand.MESSAGE_SUCCESS), new CommitCommand().execute(model));
+
+        assertFalse(model.isInTransaction());
+        assertFalse(model.hasPerson(ALICE));
+        new UndoCommand().execute(model);
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertFalse(model.canUndo());
+    }
+
+    @Test
+    public void execute_beginThenRollback_changesDiscarded() throws Exception {
+        new BeginCommand().execute(model);
+        new ClearCommand().execute(model);
+        assertEquals(new CommandResult(RollbackCommand.MESSAGE_SUCCESS), new RollbackCommand().execute(model));
+
+        assertFalse(model.isInTransaction());
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertFalse(model.canUndo());
+    }
+
+    @Test
+    public void execute_beginInTransaction_throwsCommandException() throws Exception {
+        new BeginCommand().execute(model);
+        assertCommandFailure(new BeginCommand(), model, BeginCommand.MESSAGE_ALREADY_IN_TRANSACTION);
+        assertTrue(model.isInTransaction());
+    }
+
+    @Test
+    public void execute_noTransaction_throwsCommandException() {
+        assertCommandFailure(new CommitCommand(), model, CommitCommand.MESSAGE_NO_TRANSACTION);
+        assertCommandFailure(new RollbackCommand(), model, CommitCommand.MESSAGE_NO_TRANSACTION);
+    }
+
+    @Test
+    public void equals() {
+        assertTrue(new BeginCommand().equals(new BeginCommand()));
+        assertTrue(new CommitCommand().equals(new CommitCommand()));
+        assertTrue(new RollbackCommand().equals(new RollbackCommand()));
+        assertFalse(new BeginCommand().equals(new CommitCommand()));
+        assertFalse(new RollbackCommand().equals(null));
+    }
+}
@@ -41,5 +41,12 @@ public class UndoCommandTest {
         assertCommandSuccess(new UndoCommand(), model, expectedCommandResult, expectedModel);
     }
 
+    @Test
+    public void execute_inTransaction_throwsCommandException() {
+        Model model = new ModelManager(new AddressBook(), new UserPrefs());
+        model.beginTransaction();
 
+        assertThrows(CommandException.class,
+                UndoCommand.MESSAGE_IN_TRANSACTION, () -> new UndoCommand().execute(model));
+    }
 }
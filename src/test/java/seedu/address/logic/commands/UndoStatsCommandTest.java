@@ -0,0 +1,25 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class UndoStatsCommandTest {
+
+    @Test
+    public void execute_emptyHistory_showsLimits() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryLimit(5);
+        userPrefs.setUndoHistoryMemoryLimit(2048);
+        Model model = new ModelManager(new AddressBook(), userPrefs);
+        Model expectedModel = new ModelManager(new AddressBook(), userPrefs);
+
+        String expectedMessage = String.format(UndoStatsCommand.MESSAGE_SUCCESS, 0, 5, 0, 0, "0 B", "2.0 KB", 0);
+        assertCommandSuccess(new UndoStatsCommand(), model, expectedMessage, expectedModel);
+    }
+}
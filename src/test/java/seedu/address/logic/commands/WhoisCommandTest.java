@@ -0,0 +1,105 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.BOB;
+import static seedu.address.testutil.TypicalPatients.DANIEL;
+import static seedu.address.testutil.TypicalPatients.ELLE;
+import static seedu.address.testutil.TypicalPatients.FIONA;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.PhoneMatchesPredicate;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code WhoisCommand}.
+ */
+public class WhoisCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        WhoisCommand firstCommand = new WhoisCommand(new Phone("94351253"));
+        WhoisCommand secondCommand = new WhoisCommand(new Phone("98765432"));
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new WhoisCommand(new Phone("94351253"))));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different phone -> returns false
+        assertFalse(firstCommand.equals(secondCommand));
+    }
+
+    @Test
+    public void execute_unknownPhone_noPersonFound() {
+        Phone phone = new Phone("12345");
+        String expectedMessage = String.format(WhoisCommand.MESSAGE_NOT_FOUND, phone);
+        expectedModel.updateFilteredPersonList(new PhoneMatchesPredicate(phone));
+        assertCommandSuccess(new WhoisCommand(phone), model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_phoneOfPatientAndTheirCaretaker_bothFound() {
+        Phone phone = ALICE.getPhone();
+        String expectedMessage = String.format(WhoisCommand.MESSAGE_FOUND, phone)
+                + String.format(WhoisCommand.MESSAGE_PATIENT, ALICE.getName())
+                + String.format(WhoisCommand.MESSAGE_CARETAKER, ALICE.getCaretaker().getName(),
+                        ALICE.getCaretaker().getRelationship(), ALICE.getName());
+        expectedModel.updateFilteredPersonList(new PhoneMatchesPredicate(phone));
+        assertCommandSuccess(new WhoisCommand(phone), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_phoneOfCaretakerOfSeveralPatients_allPatientsListed() {
+        Phone phone = DANIEL.getCaretaker().getPhone();
+        String expectedMessage = String.format(WhoisCommand.MESSAGE_FOUND, phone)
+                + String.format(WhoisCommand.MESSAGE_CARETAKER, DANIEL.getCaretaker().getName(),
+                        DANIEL.getCaretaker().getRelationship(), DANIEL.getName())
+                + String.format(WhoisCommand.MESSAGE_CARETAKER, ELLE.getCaretaker().getName(),
+                        ELLE.getCaretaker().getRelationship(), ELLE.getName())
+                + String.format(WhoisCommand.MESSAGE_CARETAKER, FIONA.getCaretaker().getName(),
+                        FIONA.getCaretaker().getRelationship(), FIONA.getName());
+        expectedModel.updateFilteredPersonList(new PhoneMatchesPredicate(phone));
+        assertCommandSuccess(new WhoisCommand(phone), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(DANIEL, ELLE, FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_phoneChangedAfterwards_listFollowsChange() {
+        Phone phone = BOB.getCaretaker().getPhone();
+        new WhoisCommand(phone).execute(model);
+        assertEquals(Arrays.asList(BOB), model.getFilteredPersonList());
+
+        model.setPerson(BOB, BOB.addCaretaker(ALICE.getCaretaker()));
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        Phone phone = new Phone("94351253");
+        String expected = WhoisCommand.class.getCanonicalName() + "{phone=" + phone + "}";
+        assertEquals(expected, new WhoisCommand(phone).toString());
+    }
+}
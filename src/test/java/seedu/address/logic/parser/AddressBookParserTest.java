@@ -7,6 +7,7 @@ import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -14,7 +15,9 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BeginCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.CommitCommand;
 import seedu.address.logic.commands.DeleteAppointmentCommand;
 import seedu.address.logic.commands.DeleteCaretakerCommand;
 import seedu.address.logic.commands.DeletePatientCommand;
@@ -22,14 +25,24 @@ import seedu.address.logic.commands.EditAppointmentCommand;
 import seedu.address.logic.commands.EditPatientCommand;
 import seedu.address.logic.commands.EditPatientCommand.EditPatientDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.NoteCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.RollbackCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoStatsCommand;
+import seedu.address.logic.commands.WhoisCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Note;
 import seedu.address.model.person.Patient;
+import seedu.address.model.person.Phone;
+import seedu.address.storage.RecordFormat;
 import seedu.address.testutil.EditPatientDescriptorBuilder;
 import seedu.address.testutil.PatientBuilder;
 import seedu.address.testutil.PatientUtil;
@@ -47,6 +60,36 @@ public class AddressBookParserTest {
         assertEquals(new AddCommand(patient), command);
     }
 
+    @Test
+    public void parseCommand_import() throws Exception {
+        ImportCommand command = (ImportCommand) parser.parseCommand(ImportCommand.COMMAND_WORD + " patients.csv");
+        assertEquals(new ImportCommand(Paths.get("patients.csv"), RecordFormat.CSV), command);
+    }
+
+    @Test
+    public void parseCommand_export() throws Exception {
+        ExportCommand command = (ExportCommand) parser.parseCommand(ExportCommand.COMMAND_WORD + " high.jsonl");
+        assertEquals(new ExportCommand(Paths.get("high.jsonl"), RecordFormat.JSONL), command);
+    }
+
+    @Test
+    public void parseCommand_transaction() throws Exception {
+        assertTrue(parser.parseCommand(BeginCommand.COMMAND_WORD) instanceof BeginCommand);
+        assertTrue(parser.parseCommand(CommitCommand.COMMAND_WORD) instanceof CommitCommand);
+        assertTrue(parser.parseCommand(RollbackCommand.COMMAND_WORD) instanceof RollbackCommand);
+    }
+
+    @Test
+    public void parseCommand_redoAndUndoStats() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertTrue(parser.parseCommand(UndoStatsCommand.COMMAND_WORD) instanceof UndoStatsCommand);
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+    }
+
     @Test
     public void parseCommand_clear() throws Exception {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD) instanceof ClearCommand);
@@ -112,6 +155,19 @@ public class AddressBookParserTest {
         assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_whois() throws Exception {
+        WhoisCommand command = (WhoisCommand) parser.parseCommand(WhoisCommand.COMMAND_WORD + " 91234567");
+        assertEquals(new WhoisCommand(new Phone("91234567")), command);
+    }
+
+    @Test
+    public void parseCommand_history() throws Exception {
+        HistoryCommand command = (HistoryCommand) parser.parseCommand(
+                HistoryCommand.COMMAND_WORD + " " + INDEX_FIRST_PERSON.getOneBased());
+        assertEquals(new HistoryCommand(INDEX_FIRST_PERSON), command);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " *") instanceof HelpCommand);
@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.storage.RecordFormat;
+
+public class ExportCommandParserTest {
+
+    private final ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(parser, " data/high.csv",
+                new ExportCommand(Paths.get("data/high.csv"), RecordFormat.CSV));
+        assertParseSuccess(parser, " high.txt format/jsonl",
+                new ExportCommand(Paths.get("high.txt"), RecordFormat.JSONL));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        assertParseFailure(parser, "", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " high.txt",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " high.csv format/xml", RecordFormat.MESSAGE_CONSTRAINTS);
+    }
+}
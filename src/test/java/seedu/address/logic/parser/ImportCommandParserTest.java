@@ -0,0 +1,55 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.storage.RecordFormat;
+
+public class ImportCommandParserTest {
+
+    private final ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_formatFromExtension_success() {
+        assertParseSuccess(parser, " data/patients.csv",
+                new ImportCommand(Paths.get("data/patients.csv"), RecordFormat.CSV));
+        assertParseSuccess(parser, " patients.JSONL ",
+                new ImportCommand(Paths.get("patients.JSONL"), RecordFormat.JSONL));
+    }
+
+    @Test
+    public void parse_explicitFormat_success() {
+        assertParseSuccess(parser, " patients.txt format/jsonl",
+                new ImportCommand(Paths.get("patients.txt"), RecordFormat.JSONL));
+        // explicit format overrides extension
+        assertParseSuccess(parser, " patients.jsonl format/CSV",
+                new ImportCommand(Paths.get("patients.jsonl"), RecordFormat.CSV));
+    }
+
+    @Test
+    public void parse_missingFile_failure() {
+        assertParseFailure(parser, "", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " format/csv",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_unknownFormat_failure() {
+        assertParseFailure(parser, " patients.txt",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " patients.csv format/xml", RecordFormat.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_duplicateFormat_failure() {
+        assertParseFailure(parser, " patients.csv format/csv format/jsonl",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_FORMAT));
+    }
+}
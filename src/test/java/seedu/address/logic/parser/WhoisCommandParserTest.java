@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.WhoisCommand;
+import seedu.address.model.person.Phone;
+
+public class WhoisCommandParserTest {
+
+    private WhoisCommandParser parser = new WhoisCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, WhoisCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidPhone_throwsParseException() {
+        assertParseFailure(parser, "9123a567", Phone.INVALID_DIGITS);
+        assertParseFailure(parser, "91", Phone.LENGTH_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsWhoisCommand() {
+        assertParseSuccess(parser, " \t 91234567  ", new WhoisCommand(new Phone("91234567")));
+    }
+
+}
@@ -3,15 +3,23 @@ package seedu.address.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPatients.ALICE;
 import static seedu.address.testutil.TypicalPatients.BOB;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
@@ -22,6 +30,7 @@ import seedu.address.model.person.Caretaker;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Patient;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Relationship;
 import seedu.address.testutil.AddressBookBuilder;
@@ -87,6 +96,47 @@ public class ModelManagerTest {
         assertEquals(path, modelManager.getAddressBookFilePath());
     }
 
+    @Test
+    public void transaction_severalChanges_undoneTogether() {
+        modelManager.transaction(() -> {
+            modelManager.addPerson(ALICE);
+            modelManager.addPerson(BOB);
+        });
+        assertTrue(modelManager.hasPerson(ALICE) && modelManager.hasPerson(BOB));
+        assertFalse(modelManager.isInTransaction());
+
+        modelManager.undo();
+        assertEquals(new AddressBook(), modelManager.getAddressBook());
+        assertFalse(modelManager.canUndo());
+    }
+
+    @Test
+    public void transaction_changesThrow_rolledBack() {
+        modelManager.addPerson(ALICE);
+        IllegalStateException thrown = new IllegalStateException("failure");
+
+        assertThrows(IllegalStateException.class, "failure", () -> modelManager.transaction(() -> {
+            modelManager.addPerson(BOB);
+            throw thrown;
+        }));
+
+        assertFalse(modelManager.hasPerson(BOB));
+        assertFalse(modelManager.isInTransaction());
+        modelManager.undo();
+        assertFalse(modelManager.canUndo());
+    }
+
+    @Test
+    public void transaction_insideOpenTransaction_joinsIt() {
+        modelManager.beginTransaction();
+        modelManager.transaction(() -> modelManager.addPerson(ALICE));
+        assertTrue(modelManager.isInTransaction());
+
+        modelManager.rollbackTransaction();
+        assertFalse(modelManager.hasPerson(ALICE));
+        assertFalse(modelManager.canUndo());
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.hasPerson(null));
@@ -108,6 +158,97 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void publishSnapshot_afterChanges_publishesNewVersion() {
+        AddressBookSnapshot initial = modelManager.getSnapshot();
+        assertEquals(List.of(), initial.getPersonList());
+
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BOB);
+        assertEquals(initial, modelManager.getSnapshot());
+
+        modelManager.publishSnapshot();
+        AddressBookSnapshot published = modelManager.getSnapshot();
+        assertEquals(initial.getVersion() + 1, published.getVersion());
+        assertEquals(List.of(ALICE, BOB), published.getPersonList());
+
+        // published versions do not change as the address book is edited
+        modelManager.deletePerson(ALICE);
+        assertEquals(List.of(ALICE, BOB), published.getPersonList());
+    }
+
+    @Test
+    public void publishSnapshot_noChanges_keepsVersion() {
+        AddressBookSnapshot initial = modelManager.getSnapshot();
+        modelManager.publishSnapshot();
+        assertSame(initial, modelManager.getSnapshot());
+    }
+
+    @Test
+    public void getSnapshot_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> modelManager.getSnapshot().getPersonList().add(ALICE));
+    }
+
+    @Test
+    public void getPersonsMatching_nameKeywords_returnsMatchesWithoutFiltering() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BOB);
+
+        assertEquals(List.of(BOB), modelManager.getPersonsMatching(
+                new NameContainsKeywordsPredicate(List.of("choo", "nobody"))));
+        assertEquals(List.of(ALICE, BOB), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_nameKeywords_followsChangesToPersons() {
+        modelManager.addPerson(ALICE);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("BOB")));
+        assertEquals(List.of(), modelManager.getFilteredPersonList());
+
+        // persons edited and removed after filtering are matched by their current names
+        Patient bob = new PatientBuilder(BOB).build();
+        modelManager.setPerson(ALICE, bob);
+        assertEquals(List.of(bob), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(bob);
+        assertEquals(List.of(), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void useNameIndexCache_loadedPersons_matchedByCache() {
+        List<Person> persons = List.of(ALICE, BOB);
+        Map<String, int[]> positionsByWord = NameIndexCache.positionsByWord(persons);
+        modelManager.useNameIndexCache(persons, new NameIndexCache() {
+            @Override
+            public int size() {
+                return persons.size();
+            }
+
+            @Override
+            public int[] positionsOf(String word) {
+                return positionsByWord.getOrDefault(word, new int[0]);
+            }
+        });
+        modelManager.loadPersons(persons);
+
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("CHOO", "nobody")));
+        assertEquals(List.of(BOB), modelManager.getFilteredPersonList());
+
+        // persons added after loading are indexed as usual
+        Patient bobby = new PatientBuilder(BOB).withName("Bobby Choo").build();
+        modelManager.addPerson(bobby);
+        assertEquals(List.of(BOB, bobby), modelManager.getPersonsMatching(
+                new NameContainsKeywordsPredicate(List.of("choo"))));
+
+        // a loaded person that is removed and brought back is indexed as usual
+        modelManager.deletePerson(BOB);
+        assertEquals(List.of(bobby), modelManager.getPersonsMatching(
+                new NameContainsKeywordsPredicate(List.of("choo"))));
+        modelManager.undo();
+        assertEquals(List.of(BOB, bobby), modelManager.getPersonsMatching(
+                new NameContainsKeywordsPredicate(List.of("choo"))));
+    }
+
     @Test
     public void hasAppointment_patientWithAppointment_returnsTrue() {
         Patient patientWithAppointment = new PatientBuilder()
@@ -266,5 +407,112 @@ public class ModelManagerTest {
         assertTrue(manager.existAsCaretaker(ben));
     }
 
+    @Test
+    public void setCaretaker_sharedCaretaker_editedForAllPatients() {
+        Caretaker ben = new CaretakerBuilder().withName("Ben Tan").withPhone("93334444")
+                .withAddress("67 O Block").withRelationship("Father").build();
+        Caretaker uncleBen = new CaretakerBuilder(ben).withRelationship("Uncle").build();
+        Patient angela = new PatientBuilder().withName("Angela Tan").withPhone("91444444")
+                .withCaretaker(ben).build();
+        Patient cousin = new PatientBuilder().withName("Cousin Lim").withPhone("91555555")
+                .withCaretaker(uncleBen).build();
+        modelManager.addPerson(angela);
+        modelManager.addPerson(cousin);
+        modelManager.addPerson(ALICE);
+        assertEquals(List.of(angela, cousin), modelManager.getPatientsOfCaretaker(ben));
+
+        Caretaker movedBen = new CaretakerBuilder(ben).withAddress("12 New Street").build();
+        Patient editedAngela = modelManager.setCaretaker(angela, movedBen);
+
+        Patient editedCousin = cousin.addCaretaker(new CaretakerBuilder(uncleBen)
+                .withAddress("12 New Street").build());
+        assertEquals(List.of(editedAngela, editedCousin), modelManager.getPatientsOfCaretaker(ben));
+        assertEquals("Uncle", editedCousin.getCaretaker().getRelationship().toString());
+        assertTrue(modelManager.getAddressBook().getPersonList().contains(editedCousin));
+
+        // both patients are restored by a single undo
+        modelManager.undo();
+        assertEquals(List.of(angela, cousin), modelManager.getPatientsOfCaretaker(ben));
+    }
+
+    @Test
+    public void setCaretaker_patientWithoutCaretaker_throwsIllegalArgumentException() {
+        Patient patient = new PatientBuilder().withCaretaker(null).build();
+        modelManager.addPerson(patient);
+        assertThrows(IllegalArgumentException.class, () ->
+                modelManager.setCaretaker(patient, new CaretakerBuilder().build()));
+    }
+
+    @Test
+    public void archivePastAppointments_pastAndUpcomingAppointments_pastAppointmentsMoved() throws Exception {
+        Appointment past = Appointment.ofTrusted("01-02-2020", "09:30", null);
+        Appointment upcoming = new Appointment(FUTURE_DATE, FUTURE_TIME);
+        Patient alice = ALICE.addAppointment(past).addAppointment(upcoming);
+        Patient bob = BOB.addAppointment(upcoming);
+        modelManager.addPerson(alice);
+        modelManager.addPerson(bob);
+
+        // without an archive, nothing is moved
+        assertEquals(0, modelManager.archivePastAppointments(LocalDateTime.now()));
+        assertEquals(List.of(), modelManager.getArchivedAppointments(alice));
+
+        Map<Person, List<Appointment>> archived = new HashMap<>();
+        modelManager.setAppointmentArchive(new AppointmentArchive() {
+            @Override
+            public void add(Map<? extends Person, List<Appointment>> appointments) {
+                appointments.forEach((person, list) ->
+                        archived.computeIfAbsent(person, unused -> new ArrayList<>()).addAll(list));
+            }
+
+            @Override
+            public List<Appointment> getAppointmentsOf(Person person) {
+                return archived.getOrDefault(person, List.of());
+            }
+
+            @Override
+            public void transfer(Person from, Person to) {}
+
+            @Override
+            public void clear(Collection<? extends Person> persons) {}
+        });
+        boolean couldUndo = modelManager.canUndo();
+        assertEquals(1, modelManager.archivePastAppointments(LocalDateTime.now()));
+
+        Patient archivedAlice = (Patient) modelManager.getAddressBook().getPersonList().get(0);
+        assertEquals(List.of(upcoming), archivedAlice.getAppointment());
+        assertEquals(List.of(past), modelManager.getArchivedAppointments(alice));
+        assertSame(bob, modelManager.getAddressBook().getPersonList().get(1));
+        assertEquals(couldUndo, modelManager.canUndo());
+
+        // nothing is left to archive
+        assertEquals(0, modelManager.archivePastAppointments(LocalDateTime.now()));
+    }
+
+    @Test
+    public void archivePastAppointments_archiveFails_patientsKeepAppointments() {
+        Patient alice = ALICE.addAppointment(Appointment.ofTrusted("01-02-2020", "09:30", null));
+        modelManager.addPerson(alice);
+        modelManager.setAppointmentArchive(new AppointmentArchive() {
+            @Override
+            public void add(Map<? extends Person, List<Appointment>> appointments) throws IOException {
+                throw new IOException("Disk full");
+            }
+
+            @Override
+            public List<Appointment> getAppointmentsOf(Person person) {
+                return List.of();
+            }
+
+            @Override
+            public void transfer(Person from, Person to) {}
+
+            @Override
+            public void clear(Collection<? extends Person> persons) {}
+        });
+
+        assertThrows(IOException.class, () -> modelManager.archivePastAppointments(LocalDateTime.now()));
+        assertEquals(List.of(alice), modelManager.getAddressBook().getPersonList());
+    }
+
 
 }
@@ -0,0 +1,103 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Caretaker;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Patient;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.PhoneMatchesPredicate;
+import seedu.address.model.person.Relationship;
+
+/**
+ * Compares looking phone numbers up in a {@link PhoneIndex} with scanning the list of persons for them.
+ * <p>
+ * Usage: {@code PhoneIndexBenchmark [ENTRIES] [LOOKUPS]}. Half of the phone numbers belong to patients and half to
+ * their caretakers. It reports the time to build the index, to look up a phone number and to replace a patient in the
+ * indexed list, and to look up a phone number by scanning the list instead, in rounds so that the later ones are warmed
+ * up, as well as the number of persons found by all of the lookups.
+ */
+public class PhoneIndexBenchmark {
+
+    private static final int DEFAULT_ENTRIES = 1_000_000;
+    private static final int DEFAULT_LOOKUPS = 1_000_000;
+    private static final int SCANS = 20;
+    private static final int ROUNDS = 5;
+
+    /**
+     * Runs the benchmark and prints its report.
+     */
+    public static void main(String[] args) {
+        int entries = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ENTRIES;
+        int lookups = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_LOOKUPS;
+        int patients = entries / 2;
+
+        List<Person> persons = createPatients(patients);
+        Phone[] phones = new Phone[lookups];
+        for (int i = 0; i < lookups; i++) {
+            // Every other lookup is for a caretaker, and one in eight is for a number nobody has
+            int n = (int) ((i * 2654435761L) % patients);
+            phones[i] = new Phone(String.valueOf((i % 8 == 7 ? 70000000 : i % 2 == 0 ? 80000000 : 90000000) + n));
+        }
+
+        System.out.printf(Locale.ROOT, "%d patients, %d phone numbers, %d lookups%n%-6s %10s %12s %12s %10s %10s%n",
+                patients, entries, lookups, "Round", "Build (ms)", "Lookup (ns)", "Replace (ns)", "Scan (ms)", "Found");
+        for (int round = 1; round <= ROUNDS; round++) {
+            ObservableList<Person> list = FXCollections.observableArrayList(persons);
+            PhoneIndex index = new PhoneIndex(list);
+
+            long start = System.nanoTime();
+            index.size();
+            long buildNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            int found = 0;
+            for (Phone phone : phones) {
+                found += index.getPersonsWith(phone).size();
+            }
+            long lookupNanos = (System.nanoTime() - start) / lookups;
+
+            int replacements = Math.min(lookups, patients) / 10;
+            start = System.nanoTime();
+            for (int i = 0; i < replacements; i++) {
+                int position = (int) ((i * 2654435761L) % patients);
+                Patient patient = (Patient) list.get(position);
+                list.set(position, new Patient(patient.getName(), new Phone(String.valueOf(60000000 + position)),
+                        patient.getAddress(), null, patient.getNotes(), patient.getAppointment(),
+                        patient.getCaretaker()));
+            }
+            long replaceNanos = replacements == 0 ? 0 : (System.nanoTime() - start) / replacements;
+
+            start = System.nanoTime();
+            for (int i = 0; i < SCANS; i++) {
+                PhoneMatchesPredicate predicate = new PhoneMatchesPredicate(phones[i]);
+                found += (int) list.stream().filter(predicate).count();
+            }
+            long scanNanos = (System.nanoTime() - start) / SCANS;
+
+            System.out.printf(Locale.ROOT, "%-6d %10.1f %12d %12d %10.2f %10d%n", round, buildNanos / 1e6,
+                    lookupNanos, replaceNanos, scanNanos / 1e6, found);
+        }
+    }
+
+    private static List<Person> createPatients(int patients) {
+        List<Person> persons = new ArrayList<>(patients);
+        Name patientName = new Name("Benchmark Patient");
+        Name caretakerName = new Name("Benchmark Caretaker");
+        Address address = new Address("Blk 1 Benchmark Street");
+        Relationship relationship = new Relationship("Daughter");
+        for (int i = 0; i < patients; i++) {
+            Caretaker caretaker = new Caretaker(caretakerName, new Phone(String.valueOf(90000000 + i)), address,
+                    relationship);
+            persons.add(new Patient(patientName, new Phone(String.valueOf(80000000 + i)), address, null, List.of(),
+                    List.of(), caretaker));
+        }
+        return persons;
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.BOB;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Patient;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.PhoneMatchesPredicate;
+import seedu.address.testutil.CaretakerBuilder;
+import seedu.address.testutil.PatientBuilder;
+
+public class PhoneIndexTest {
+
+    @Test
+    public void keyOf_leadingZeros_differentKeys() {
+        assertNotEquals(PhoneIndex.keyOf(new Phone("0123")), PhoneIndex.keyOf(new Phone("123")));
+        assertEquals(1_999_999_999_999_999L, PhoneIndex.keyOf(new Phone("999999999999999")));
+    }
+
+    @Test
+    public void getPersonsWith_patientAndCaretakerPhones_found() {
+        ObservableList<Person> persons = FXCollections.observableArrayList(ALICE, BOB);
+        PhoneIndex index = new PhoneIndex(persons);
+
+        // Alice and her caretaker share a phone number, so she is listed once
+        assertEquals(List.of(ALICE), index.getPersonsWith(ALICE.getPhone()));
+        assertEquals(List.of(BOB), index.getPersonsWith(BOB.getCaretaker().getPhone()));
+        assertEquals(List.of(), index.getPersonsWith(new Phone("000")));
+
+        persons.remove(BOB);
+        assertEquals(List.of(), index.getPersonsWith(BOB.getCaretaker().getPhone()));
+    }
+
+    @Test
+    public void getPersonsWith_manyChanges_matchesScan() {
+        Random random = new Random(2103);
+        ObservableList<Person> persons = FXCollections.observableArrayList();
+        PhoneIndex index = new PhoneIndex(persons);
+        index.size();
+
+        for (int i = 0; i < 5000; i++) {
+            if (persons.isEmpty() || random.nextInt(3) > 0) {
+                Patient patient = new PatientBuilder().withName("Patient " + toLetters(i))
+                        .withPhone(randomPhone(random))
+                        .withCaretaker(random.nextBoolean() ? null
+                                : new CaretakerBuilder().withPhone(randomPhone(random)).build())
+                        .build();
+                persons.add(patient);
+            } else {
+                persons.remove(random.nextInt(persons.size()));
+            }
+        }
+
+        for (int number = 0; number < 800; number++) {
+            Phone phone = new Phone(String.format(number < 400 ? "%03d" : "0%03d", number % 400));
+            List<Person> found = index.getPersonsWith(phone);
+            List<Person> scanned = persons.stream().filter(new PhoneMatchesPredicate(phone)).toList();
+            assertEquals(scanned.size(), found.size());
+            assertTrue(found.containsAll(scanned));
+        }
+    }
+
+    private static String randomPhone(Random random) {
+        // Few enough numbers to be shared by several persons, some differing only in leading zeros
+        int number = random.nextInt(400);
+        return random.nextBoolean() ? String.format("%03d", number) : String.format("0%03d", number);
+    }
+
+    private static String toLetters(int number) {
+        StringBuilder letters = new StringBuilder();
+        int remaining = number;
+        do {
+            letters.append((char) ('A' + remaining % 26));
+            remaining /= 26;
+        } while (remaining > 0);
+        return letters.toString();
+    }
+}
@@ -7,6 +7,11 @@ import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.OptionalInt;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.person.Patient;
@@ -127,8 +132,295 @@ public class VersionedAddressBookTest {
         assertNotEquals(v0, v1);
     }
 
+    @Test
+    void commitTransaction_severalChanges_singleSnapshot() {
+        AddressBook firstVersion = makeAddressBook(TypicalPatients.ALICE);
+        VersionedAddressBook vab = new VersionedAddressBook(firstVersion);
+
+        vab.beginTransaction();
+        vab.update();
+        vab.getAddressBook().addPerson(TypicalPatients.BOB);
+        vab.update();
+        vab.getAddressBook().removePerson(TypicalPatients.ALICE);
+        vab.commitTransaction();
+
+        assertEquals(makeAddressBook(TypicalPatients.BOB), vab.getAddressBook());
+        vab.undo();
+        assertEquals(firstVersion, vab.getAddressBook());
+        assertFalse(vab.hasHistory());
+    }
+
+    @Test
+    void commitTransaction_noChanges_noSnapshot() {
+        VersionedAddressBook vab = new VersionedAddressBook(makeAddressBook(TypicalPatients.ALICE));
+        vab.beginTransaction();
+        vab.commitTransaction();
+        assertFalse(vab.hasHistory());
+    }
+
+    @Test
+    void commitTransaction_noChangesAfterUndo_redoKept() {
+        AddressBook firstVersion = makeAddressBook(TypicalPatients.ALICE);
+        VersionedAddressBook vab = new VersionedAddressBook(firstVersion);
+        vab.update();
+        vab.getAddressBook().addPerson(TypicalPatients.BOB);
+        vab.undo();
+
+        vab.beginTransaction();
+        vab.commitTransaction();
+        vab.beginTransaction();
+        vab.getAddressBook().addPerson(TypicalPatients.BOB);
+        vab.rollbackTransaction();
+
+        assertTrue(vab.hasRedoHistory());
+        vab.redo();
+        assertEquals(makeAddressBook(TypicalPatients.ALICE, TypicalPatients.BOB), vab.getAddressBook());
+    }
+
+    @Test
+    void rollbackTransaction_restoresStateAtBegin() {
+        AddressBook firstVersion = makeAddressBook(TypicalPatients.ALICE);
+        VersionedAddressBook vab = new VersionedAddressBook(firstVersion);
+
+        vab.beginTransaction();
+        vab.getAddressBook().addPerson(TypicalPatients.BOB);
+        vab.rollbackTransaction();
+
+        assertEquals(firstVersion, vab.getAddressBook());
+        assertFalse(vab.isInTransaction());
+        assertFalse(vab.hasHistory());
+    }
+
+    @Test
+    void transaction_invalidState_throwsIllegalStateException() {
+        VersionedAddressBook vab = new VersionedAddressBook(new AddressBook());
+        assertThrows(IllegalStateException.class, vab::commitTransaction);
+        assertThrows(IllegalStateException.class, vab::rollbackTransaction);
+
+        vab.beginTransaction();
+        assertThrows(IllegalStateException.class, vab::beginTransaction);
+        assertThrows(IllegalStateException.class, vab::undo);
+    }
+
+    @Test
+    void redo_afterUndo_restoresUndoneState() {
+        AddressBook firstVersion = makeAddressBook(TypicalPatients.ALICE);
+        AddressBook secondVersion = makeAddressBook(TypicalPatients.ALICE, TypicalPatients.BOB);
+        VersionedAddressBook vab = new VersionedAddressBook(firstVersion);
+
+        vab.update();
+        vab.getAddressBook().addPerson(TypicalPatients.BOB);
+        vab.undo();
+        assertTrue(vab.hasRedoHistory());
+
+        vab.redo();
+        assertEquals(secondVersion, vab.getAddressBook());
+        assertFalse(vab.hasRedoHistory());
+
+        vab.undo();
+        assertEquals(firstVersion, vab.getAddressBook());
+    }
+
+    @Test
+    void redo_afterNewChange_throwsIllegalStateException() {
+        VersionedAddressBook vab = new VersionedAddressBook(new AddressBook());
+        assertThrows(IllegalStateException.class, vab::redo);
+
+        vab.update();
+        vab.getAddressBook().addPerson(TypicalPatients.ALICE);
+        vab.undo();
+        vab.update();
+        assertFalse(vab.hasRedoHistory());
+        assertThrows(IllegalStateException.class, vab::redo);
+    }
+
+    @Test
+    void update_overSizeLimit_dropsOldestSnapshots() {
+        VersionedAddressBook vab = new VersionedAddressBook(new AddressBook());
+        vab.setHistoryLimits(2, VersionedAddressBook.DEFAULT_MAX_HISTORY_BYTES);
+
+        Patient[] patients = {TypicalPatients.ALICE, TypicalPatients.BOB, TypicalPatients.CARL};
+        for (Patient patient : patients) {
+            vab.update();
+            vab.getAddressBook().addPerson(patient);
+        }
+
+        HistoryStatistics statistics = vab.getHistoryStatistics();
+        assertEquals(2, statistics.getUndoCount());
+        assertEquals(1, statistics.getEvictedCount());
+
+        vab.undo();
+        vab.undo();
+        assertEquals(makeAddressBook(TypicalPatients.ALICE), vab.getAddressBook());
+        assertFalse(vab.hasHistory());
+    }
+
+    @Test
+    void update_overMemoryLimit_keepsMostRecentSnapshot() {
+        VersionedAddressBook vab = new VersionedAddressBook(makeAddressBook(TypicalPatients.ALICE));
+        vab.setHistoryLimits(VersionedAddressBook.DEFAULT_MAX_HISTORY_SIZE, 1);
+
+        vab.update();
+        vab.getAddressBook().addPerson(TypicalPatients.BOB);
+        vab.update();
+        vab.getAddressBook().addPerson(TypicalPatients.CARL);
+
+        assertEquals(1, vab.getHistoryStatistics().getUndoCount());
+        vab.undo();
+        assertEquals(makeAddressBook(TypicalPatients.ALICE, TypicalPatients.BOB), vab.getAddressBook());
+    }
+
+    @Test
+    void getHistoryStatistics_sharedPersons_countedOnce() {
+        VersionedAddressBook vab = new VersionedAddressBook(makeAddressBook(TypicalPatients.ALICE));
+        vab.update();
+        long oneSnapshot = vab.getHistoryStatistics().getEstimatedBytes();
+
+        // The second snapshot holds the same ALICE instance, so only its list structure is added.
+        vab.getAddressBook().addPerson(TypicalPatients.BOB);
+        vab.update();
+        long twoSnapshots = vab.getHistoryStatistics().getEstimatedBytes();
+
+        assertEquals(oneSnapshot + SnapshotStack.PER_PERSON_BYTES * 2 + SnapshotStack.SNAPSHOT_OVERHEAD_BYTES
+                + SnapshotStack.estimateBytes(TypicalPatients.BOB), twoSnapshots);
+    }
+
+    @Test
+    void getHistoryStatistics_undecodedPatient_estimatedWithoutDecoding() {
+        Patient.DetailsSource source = new Patient.DetailsSource() {
+            @Override
+            public Patient.Details decode() {
+                throw new AssertionError("decoded to estimate its size");
+            }
+
+            @Override
+            public OptionalInt getUndecodedLength() {
+                return OptionalInt.of(100);
+            }
+        };
+        Patient patient = new Patient(TypicalPatients.ALICE.getName(), TypicalPatients.ALICE.getPhone(),
+                TypicalPatients.ALICE.getAddress(), null, source);
+        VersionedAddressBook vab = new VersionedAddressBook(makeAddressBook(patient));
+        vab.update();
+
+        assertTrue(vab.getHistoryStatistics().getEstimatedBytes() > SnapshotStack.SNAPSHOT_OVERHEAD_BYTES + 100);
+        assertTrue(patient.getUndecodedDetailsSource().isPresent());
+    }
+
+    @Test
+    void update_overMemoryLimitWithSpillStore_pagesOutInsteadOfDropping() {
+        SnapshotStoreStub store = new SnapshotStoreStub();
+        VersionedAddressBook vab = new VersionedAddressBook(new AddressBook());
+        vab.setHistoryLimits(VersionedAddressBook.DEFAULT_MAX_HISTORY_SIZE, 1);
+        vab.setSpillStore(store, false);
+
+        Patient[] patients = {TypicalPatients.ALICE, TypicalPatients.BOB, TypicalPatients.CARL};
+        for (Patient patient : patients) {
+            vab.update();
+            vab.getAddressBook().addPerson(patient);
+        }
+
+        HistoryStatistics statistics = vab.getHistoryStatistics();
+        assertEquals(3, statistics.getUndoCount());
+        assertEquals(2, statistics.getSpilledCount());
+        assertEquals(0, statistics.getEvictedCount());
+
+        vab.undo();
+        vab.undo();
+        vab.undo();
+        assertEquals(new AddressBook(), vab.getAddressBook());
+        assertFalse(vab.hasHistory());
+    }
+
+    @Test
+    void update_spillingAll_writesEverySnapshot() {
+        SnapshotStoreStub store = new SnapshotStoreStub();
+        VersionedAddressBook vab = new VersionedAddressBook(new AddressBook());
+        vab.setSpillStore(store, true);
 
+        vab.update();
+        vab.getAddressBook().addPerson(TypicalPatients.ALICE);
+        assertEquals(1, store.size());
 
+        vab.undo();
+        vab.redo();
+        assertEquals(1, store.size());
+        assertEquals(makeAddressBook(TypicalPatients.ALICE), vab.getAddressBook());
+    }
 
+    @Test
+    void update_overSizeLimitWithSpillStore_dropsOldestSpilledSnapshot() {
+        SnapshotStoreStub store = new SnapshotStoreStub();
+        VersionedAddressBook vab = new VersionedAddressBook(new AddressBook());
+        vab.setHistoryLimits(2, 1);
+        vab.setSpillStore(store, false);
 
+        Patient[] patients = {TypicalPatients.ALICE, TypicalPatients.BOB, TypicalPatients.CARL};
+        for (Patient patient : patients) {
+            vab.update();
+            vab.getAddressBook().addPerson(patient);
+        }
+
+        assertEquals(2, vab.getHistoryStatistics().getUndoCount());
+        assertEquals(1, vab.getHistoryStatistics().getEvictedCount());
+        vab.undo();
+        vab.undo();
+        assertEquals(makeAddressBook(TypicalPatients.ALICE), vab.getAddressBook());
+    }
+
+    @Test
+    void undo_spilledSnapshotUnreadable_throwsIllegalStateException() {
+        SnapshotStoreStub store = new SnapshotStoreStub();
+        VersionedAddressBook vab = new VersionedAddressBook(new AddressBook());
+        vab.setSpillStore(store, true);
+        vab.update();
+        vab.getAddressBook().addPerson(TypicalPatients.ALICE);
+
+        store.isFailing = true;
+        assertThrows(IllegalStateException.class, vab::undo);
+        assertFalse(vab.hasHistory());
+        assertEquals(makeAddressBook(TypicalPatients.ALICE), vab.getAddressBook());
+    }
+
+    /**
+     * An in-memory {@code SnapshotStore} that can be made to fail.
+     */
+    private static class SnapshotStoreStub implements SnapshotStore {
+        private final Deque<ReadOnlyAddressBook> snapshots = new ArrayDeque<>();
+        private boolean isFailing;
+
+        @Override
+        public void push(ReadOnlyAddressBook snapshot) throws IOException {
+            checkFailing();
+            snapshots.push(snapshot);
+        }
+
+        @Override
+        public ReadOnlyAddressBook pop() throws IOException {
+            checkFailing();
+            return snapshots.pop();
+        }
+
+        @Override
+        public void removeOldest() throws IOException {
+            checkFailing();
+            snapshots.removeLast();
+        }
+
+        @Override
+        public void clear() {
+            snapshots.clear();
+        }
+
+        @Override
+        public int size() {
+            return snapshots.size();
+        }
+
+        private void checkFailing() throws IOException {
+            if (isFailing) {
+                throw new IOException("Store failed");
+            }
+        }
+    }
 }
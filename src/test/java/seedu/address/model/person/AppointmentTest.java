@@ -24,6 +24,16 @@ public class AppointmentTest {
         assertEquals(futureDate + " " + time, appointment.toString());
     }
 
+    @Test
+    public void ofTrusted_sameAsConstructor() {
+        String futureDate = LocalDate.now().plusYears(1).format(DATE_FORMATTER);
+        assertEquals(new Appointment(futureDate, "10:00", new Note("Review")),
+                Appointment.ofTrusted(futureDate, "10:00", new Note("Review")));
+
+        // past appointments are not rejected
+        assertEquals("01-02-2020 09:30", Appointment.ofTrusted("01-02-2020", "09:30", null).toString());
+    }
+
     @Test
     public void constructor_invalidFormat_throwsIllegalArgumentException() {
         assertThrows(IllegalArgumentException.class, () -> new Appointment("2023-12-12", "1000"));
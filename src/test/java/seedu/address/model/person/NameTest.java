@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -21,6 +22,13 @@ public class NameTest {
         assertThrows(IllegalArgumentException.class, () -> new Name(invalidName));
     }
 
+    @Test
+    public void ofTrusted_keptAsIs() {
+        Name name = new Name("peter   JACK");
+        assertEquals(name, Name.ofTrusted(name.fullName));
+        assertEquals("peter   JACK", Name.ofTrusted("peter   JACK").fullName);
+    }
+
     @Test
     public void isValidName() {
         // null name
@@ -474,4 +474,23 @@ public class PatientTest {
         assertEquals("31-12-2099", appointments.get(2).getDate());
     }
 
+    @Test
+    public void constructor_detailsSource_decodedOnceOnFirstUse() {
+        List<Note> notes = List.of(new Note("Allergic to penicillin"));
+        List<Appointment> appointments = List.of(new Appointment("31-12-2099", "15:30"));
+        int[] decodeCount = new int[1];
+        Patient patient = new Patient(ALICE.getName(), ALICE.getPhone(), ALICE.getAddress(), null, () -> {
+            decodeCount[0]++;
+            return new Patient.Details(notes, appointments, null);
+        });
+
+        assertEquals(0, decodeCount[0]);
+        assertTrue(patient.getUndecodedDetailsSource().isPresent());
+
+        assertEquals(new Patient(ALICE.getName(), ALICE.getPhone(), ALICE.getAddress(), null, notes, appointments),
+                patient);
+        assertEquals(notes, patient.getNotes());
+        assertEquals(1, decodeCount[0]);
+        assertFalse(patient.getUndecodedDetailsSource().isPresent());
+    }
 }
@@ -58,6 +58,31 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void addAll_newPersons_success() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.addAll(Collections.singletonList(BOB));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(ALICE);
+        expectedUniquePersonList.add(BOB);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void addAll_personAlreadyInList_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, ALICE)));
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void addAll_duplicatePersonsInBatch_throwsDuplicatePersonException() {
+        Person editedBob = new PatientBuilder(BOB).withAddress(VALID_ADDRESS_BOB + " 2").build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, editedBob)));
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -1,5 +1,6 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -19,6 +20,14 @@ public class TagTest {
         assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void of_anyCase_returnsSharedConstant() {
+        assertSame(Tag.HIGH, Tag.of("HIGH"));
+        assertSame(Tag.MEDIUM, Tag.of("medium"));
+        assertSame(Tag.LOW, Tag.ofTrusted("low"));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of("urgent"));
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
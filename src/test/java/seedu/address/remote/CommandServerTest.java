@@ -0,0 +1,147 @@
+package seedu.address.remote;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_ALICE;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_ALICE;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_ALICE;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_ALICE;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BeginCommand;
+import seedu.address.logic.commands.DeletePatientCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class CommandServerTest {
+
+    private static final String ADD_ALICE = AddCommand.COMMAND_WORD + NAME_DESC_ALICE + PHONE_DESC_ALICE
+            + ADDRESS_DESC_ALICE;
+    private static final String ADD_BOB = AddCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB
+            + ADDRESS_DESC_BOB;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private CommandServer server;
+    private InetSocketAddress address;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("medisavecontact.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        server = new CommandServer(model, new LogicManager(model, new StorageManager(addressBookStorage,
+                userPrefsStorage)));
+        server.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        address = new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getPort());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.close();
+    }
+
+    @Test
+    public void execute_addFromOneTerminal_listedByAnother() throws Exception {
+        try (CommandClient first = new CommandClient(address); CommandClient second = new CommandClient(address)) {
+            first.execute(ADD_ALICE);
+
+            List<Person> persons = second.execute(ListCommand.COMMAND_WORD).getPersons().get();
+            assertEquals(List.copyOf(model.getAddressBook().getPersonList()), persons);
+            assertEquals(VALID_NAME_ALICE, persons.get(0).getName().fullName);
+
+            // nothing has changed since the last list
+            assertTrue(second.execute(ListCommand.COMMAND_WORD).getPersons().isEmpty());
+        }
+    }
+
+    @Test
+    public void execute_indexedCommand_usesTerminalsOwnList() throws Exception {
+        try (CommandClient first = new CommandClient(address); CommandClient second = new CommandClient(address)) {
+            first.execute(ADD_ALICE);
+            first.execute(ADD_BOB);
+
+            List<Person> found = first.execute(FindCommand.COMMAND_WORD + " Bob").getPersons().get();
+            assertEquals(1, found.size());
+            second.execute(ListCommand.COMMAND_WORD);
+
+            // the first terminal only lists Bob, even though the second lists everyone
+            first.execute(DeletePatientCommand.COMMAND_WORD + " 1");
+            List<Person> remaining = second.execute(ListCommand.COMMAND_WORD).getPersons().get();
+            assertEquals(1, remaining.size());
+            assertEquals(VALID_NAME_ALICE, remaining.get(0).getName().fullName);
+            assertFalse(model.getAddressBook().getPersonList().stream()
+                    .anyMatch(person -> person.getName().fullName.equals(VALID_NAME_BOB)));
+        }
+    }
+
+    @Test
+    public void execute_otherTerminalInTransaction_readsOnlyUntilRolledBack() throws Exception {
+        try (CommandClient second = new CommandClient(address)) {
+            CommandClient first = new CommandClient(address);
+            first.execute(BeginCommand.COMMAND_WORD);
+            first.execute(ADD_ALICE);
+
+            assertThrows(CommandException.class, CommandServer.MESSAGE_TRANSACTION_IN_PROGRESS, () ->
+                    second.execute(ADD_BOB));
+            assertEquals(List.of(), second.execute(ListCommand.COMMAND_WORD).getPersons().get());
+
+            // disconnecting rolls the transaction back, so the second terminal can go on
+            first.close();
+            List<Person> persons = executeOnceRolledBack(second, ADD_BOB).getPersons().get();
+            assertEquals(1, persons.size());
+            assertEquals(VALID_NAME_BOB, persons.get(0).getName().fullName);
+        }
+    }
+
+    @Test
+    public void execute_invalidCommand_throwsParseException() throws Exception {
+        try (CommandClient client = new CommandClient(address)) {
+            assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> client.execute("uicfhmowqewca"));
+        }
+    }
+
+    private static CommandClient.Response executeOnceRolledBack(CommandClient client, String commandText)
+            throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (true) {
+            try {
+                return client.execute(commandText);
+            } catch (CommandException e) {
+                if (System.nanoTime() > deadline) {
+                    throw e;
+                }
+                Thread.sleep(10);
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package seedu.address.remote;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import seedu.address.commons.core.LatencyHistogram;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures how a {@link CommandServer} copes with many terminals, by connecting several simulated terminals that
+ * each send a mix of {@code find}, {@code list} and {@code patient} commands as fast as they are answered.
+ * <p>
+ * Usage: {@code LoadDriver [HOST] [PORT] [TERMINALS] [COMMANDS_PER_TERMINAL]}. The patients it adds are named
+ * {@code Load <terminal> <number>}, spelt in letters, so that they can be found and deleted afterwards.
+ */
+public class LoadDriver {
+
+    private static final int DEFAULT_TERMINALS = 8;
+    private static final int DEFAULT_COMMANDS = 500;
+
+    /** Out of every 10 commands, how many are {@code find} and how many are {@code list}; the rest add patients. */
+    private static final int FIND_SHARE = 5;
+    private static final int LIST_SHARE = 3;
+
+    private final Map<String, LatencyHistogram> histograms = new TreeMap<>();
+    private final AtomicLong failureCount = new AtomicLong();
+
+    /**
+     * Runs the load test and prints a report of the latencies seen by the terminals.
+     */
+    public static void main(String[] args) throws Exception {
+        String host = args.length > 0 ? args[0] : "localhost";
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : CommandServer.DEFAULT_PORT;
+        int terminals = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_TERMINALS;
+        int commands = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_COMMANDS;
+
+        System.out.println(new LoadDriver().run(new InetSocketAddress(host, port), terminals, commands));
+    }
+
+    /**
+     * Runs {@code commands} commands on each of {@code terminals} terminals connected to {@code address} at once,
+     * and returns a report of the latencies.
+     */
+    public String run(InetSocketAddress address, int terminals, int commands) throws InterruptedException {
+        histograms.put(FindCommand.COMMAND_WORD, new LatencyHistogram());
+        histograms.put(ListCommand.COMMAND_WORD, new LatencyHistogram());
+        histograms.put(AddCommand.COMMAND_WORD, new LatencyHistogram());
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < terminals; i++) {
+            int terminal = i;
+            Thread thread = new Thread(() -> runTerminal(address, terminal, commands, start), "load-terminal-" + i);
+            thread.start();
+            threads.add(thread);
+        }
+
+        long startTime = System.nanoTime();
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return getReport(System.nanoTime() - startTime);
+    }
+
+    private void runTerminal(InetSocketAddress address, int terminal, int commands, CountDownLatch start) {
+        Random random = new Random(terminal);
+        try (CommandClient client = new CommandClient(address)) {
+            start.await();
+            for (int i = 0; i < commands; i++) {
+                int choice = random.nextInt(10);
+                String commandWord;
+                String commandText;
+                if (choice < FIND_SHARE) {
+                    commandWord = FindCommand.COMMAND_WORD;
+                    commandText = commandWord + " " + toLetters(random.nextInt(terminal + 1));
+                } else if (choice < FIND_SHARE + LIST_SHARE) {
+                    commandWord = ListCommand.COMMAND_WORD;
+                    commandText = commandWord;
+                } else {
+                    commandWord = AddCommand.COMMAND_WORD;
+                    commandText = commandWord + " " + PREFIX_NAME + "Load " + toLetters(terminal) + " " + toLetters(i)
+                            + " " + PREFIX_PHONE + (90000000 + terminal * 100000 + i)
+                            + " " + PREFIX_ADDRESS + "Load test ward";
+                }
+
+                long commandStart = System.nanoTime();
+                try {
+                    client.execute(commandText);
+                } catch (CommandException | ParseException e) {
+                    failureCount.incrementAndGet();
+                }
+                histograms.get(commandWord).record(System.nanoTime() - commandStart);
+            }
+        } catch (Exception e) {
+            System.err.println("Terminal " + terminal + " stopped: " + e);
+        }
+    }
+
+    /**
+     * Spells {@code number} in letters, e.g. 0 is "A" and 27 is "BB", as names cannot contain digits.
+     */
+    static String toLetters(int number) {
+        StringBuilder letters = new StringBuilder();
+        int remaining = number;
+        do {
+            letters.append((char) ('A' + remaining % 26));
+            remaining /= 26;
+        } while (remaining > 0);
+        return letters.reverse().toString();
+    }
+
+    private String getReport(long elapsedNanos) {
+        long total = histograms.values().stream().mapToLong(LatencyHistogram::getCount).sum();
+        StringBuilder report = new StringBuilder(String.format(Locale.ROOT,
+                "%d commands in %.2f s (%.0f per second), %d failed%nLatency in ms (p50 / p95 / p99 / max):",
+                total, elapsedNanos / 1e9, total / (elapsedNanos / 1e9), failureCount.get()));
+        for (Map.Entry<String, LatencyHistogram> entry : histograms.entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            report.append(String.format(Locale.ROOT, "%n  %-7s x%-6d %.2f / %.2f / %.2f / %.2f", entry.getKey(),
+                    histogram.getCount(), toMillis(histogram.getPercentile(50)),
+                    toMillis(histogram.getPercentile(95)), toMillis(histogram.getPercentile(99)),
+                    toMillis(histogram.getMax())));
+        }
+        return report.toString();
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1e6;
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+
+public class AddressBookFormatConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void migrate_jsonToSegments_jsonFileRenamed() throws Exception {
+        Path jsonFile = testFolder.resolve("data.json");
+        new JsonAddressBookStorage(jsonFile).saveAddressBook(getTypicalAddressBook());
+        SegmentedAddressBookStorage target = new SegmentedAddressBookStorage(testFolder.resolve("data"));
+
+        Optional<Path> backup = AddressBookFormatConverter.migrate(new JsonAddressBookStorage(jsonFile), target);
+
+        assertEquals(Optional.of(testFolder.resolve("data.json" + AddressBookFormatConverter.BACKUP_SUFFIX)), backup);
+        assertFalse(Files.exists(jsonFile));
+        assertEquals(getTypicalAddressBook(), new AddressBook(target.readAddressBook().get()));
+    }
+
+    @Test
+    public void migrate_backupExists_backupNotReplaced() throws Exception {
+        Path recordFile = testFolder.resolve("data.db");
+        Path oldBackup = testFolder.resolve("data.db" + AddressBookFormatConverter.BACKUP_SUFFIX);
+        Files.writeString(oldBackup, "older data");
+        KeyValueAddressBookStorage source = new KeyValueAddressBookStorage(recordFile);
+        source.saveAddressBook(getTypicalAddressBook());
+
+        Optional<Path> backup = AddressBookFormatConverter.migrate(source,
+                new JsonAddressBookStorage(testFolder.resolve("data.json")));
+
+        assertEquals(Optional.of(testFolder.resolve("data.db" + AddressBookFormatConverter.BACKUP_SUFFIX + "-2")),
+                backup);
+        assertEquals("older data", Files.readString(oldBackup));
+        assertFalse(Files.exists(recordFile));
+    }
+
+    @Test
+    public void migrate_noData_nothingRenamed() throws Exception {
+        Path jsonFile = testFolder.resolve("data.json");
+        assertEquals(Optional.empty(), AddressBookFormatConverter.migrate(new JsonAddressBookStorage(jsonFile),
+                new KeyValueAddressBookStorage(testFolder.resolve("data.db"))));
+        assertFalse(Files.exists(testFolder.resolve("data.db")));
+    }
+
+    @Test
+    public void getLastSavedTime_segmentDirectory_timeOfManifest() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(testFolder.resolve("data"));
+        assertEquals(Optional.empty(), AddressBookFormatConverter.getLastSavedTime(storage));
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        FileTime savedTime = FileTime.fromMillis(1_000_000_000_000L);
+        Files.setLastModifiedTime(testFolder.resolve("data").resolve(SegmentedAddressBookStorage.MANIFEST_FILE_NAME),
+                savedTime);
+        assertEquals(Optional.of(savedTime), AddressBookFormatConverter.getLastSavedTime(storage));
+        assertTrue(Files.isDirectory(storage.getAddressBookFilePath()));
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.TypicalPatients;
+
+public class AddressBookJsonCodecTest {
+
+    @Test
+    public void toJsonLine_typicalAddressBook_readBackEqual() throws Exception {
+        AddressBook addressBook = TypicalPatients.getTypicalAddressBook();
+        String json = AddressBookJsonCodec.toJsonLine(addressBook);
+        assertFalse(json.contains("\n"));
+        assertEquals(addressBook, AddressBookJsonCodec.fromJsonLine(json));
+
+        // a list of persons is written in the same format
+        assertEquals(json, AddressBookJsonCodec.toJsonLine(addressBook.getPersonList()));
+    }
+
+    @Test
+    public void fromJsonLine_invalidJson_throwsIoException() {
+        assertThrows(IOException.class, () -> AddressBookJsonCodec.fromJsonLine("{\"persons\": ["));
+        assertThrows(IOException.class, () -> AddressBookJsonCodec.fromJsonLine("{\"persons\": [{\"name\": \"\"}]}"));
+    }
+}
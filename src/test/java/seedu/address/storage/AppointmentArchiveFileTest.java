@@ -0,0 +1,118 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.BOB;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.person.Appointment;
+import seedu.address.model.person.Note;
+
+public class AppointmentArchiveFileTest {
+
+    private static final Appointment FIRST = Appointment.ofTrusted("01-02-2020", "09:30", null);
+    private static final Appointment SECOND = Appointment.ofTrusted("15-03-2021", "14:00", Note.of("Blood test"));
+    private static final Appointment THIRD = Appointment.ofTrusted("20-04-2022", "08:15", null);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void of_dataFile_siblingWithExtension() {
+        assertEquals(testFolder.resolve("data.json.archive"),
+                AppointmentArchiveFile.of(testFolder.resolve("data.json")));
+    }
+
+    @Test
+    public void getAppointmentsOf_missingFile_returnsEmptyList() throws Exception {
+        AppointmentArchiveFile archive = new AppointmentArchiveFile(testFolder.resolve("missing.archive"));
+        assertEquals(List.of(), archive.getAppointmentsOf(ALICE));
+    }
+
+    @Test
+    public void add_appointmentsOfSeveralPatients_readBackSortedByPatient() throws Exception {
+        Path file = testFolder.resolve("data.json.archive");
+        AppointmentArchiveFile archive = new AppointmentArchiveFile(file);
+        archive.add(Map.of(ALICE, List.of(SECOND, FIRST), BOB, List.of(THIRD)));
+
+        assertEquals(List.of(FIRST, SECOND), archive.getAppointmentsOf(ALICE));
+        assertEquals(List.of(THIRD), archive.getAppointmentsOf(BOB));
+
+        // A new archive indexes the file again
+        AppointmentArchiveFile reopened = new AppointmentArchiveFile(file);
+        assertEquals(List.of(FIRST, SECOND), reopened.getAppointmentsOf(ALICE));
+        assertEquals(List.of(THIRD), reopened.getAppointmentsOf(BOB));
+        assertEquals(3, Files.readAllLines(file).size());
+    }
+
+    @Test
+    public void add_appointmentsAlreadyArchived_notAddedAgain() throws Exception {
+        Path file = testFolder.resolve("data.json.archive");
+        AppointmentArchiveFile archive = new AppointmentArchiveFile(file);
+        archive.add(Map.of(ALICE, List.of(FIRST)));
+        archive.add(Map.of(ALICE, List.of(FIRST, SECOND)));
+        new AppointmentArchiveFile(file).add(Map.of(ALICE, List.of(SECOND)));
+
+        assertEquals(List.of(FIRST, SECOND), new AppointmentArchiveFile(file).getAppointmentsOf(ALICE));
+        assertEquals(2, Files.readAllLines(file).size());
+    }
+
+    @Test
+    public void transfer_identityEdited_appointmentsUnderBothIdentities() throws Exception {
+        Path file = testFolder.resolve("data.json.archive");
+        AppointmentArchiveFile archive = new AppointmentArchiveFile(file);
+        archive.add(Map.of(ALICE, List.of(FIRST), BOB, List.of(THIRD)));
+        archive.transfer(ALICE, BOB);
+        archive.add(Map.of(BOB, List.of(SECOND)));
+
+        assertEquals(List.of(FIRST, SECOND), archive.getAppointmentsOf(BOB));
+        assertEquals(List.of(FIRST), archive.getAppointmentsOf(ALICE));
+        assertEquals(List.of(FIRST, SECOND), new AppointmentArchiveFile(file).getAppointmentsOf(BOB));
+        assertEquals(List.of(FIRST), new AppointmentArchiveFile(file).getAppointmentsOf(ALICE));
+    }
+
+    @Test
+    public void clear_archivedAppointments_removed() throws Exception {
+        Path file = testFolder.resolve("data.json.archive");
+        AppointmentArchiveFile archive = new AppointmentArchiveFile(file);
+        archive.add(Map.of(ALICE, List.of(FIRST), BOB, List.of(THIRD)));
+        archive.clear(List.of(ALICE));
+        long size = Files.size(file);
+
+        assertEquals(List.of(), archive.getAppointmentsOf(ALICE));
+        assertEquals(List.of(), new AppointmentArchiveFile(file).getAppointmentsOf(ALICE));
+        assertEquals(List.of(THIRD), new AppointmentArchiveFile(file).getAppointmentsOf(BOB));
+
+        // Nothing is written for patients without archived appointments
+        archive.clear(List.of(ALICE));
+        archive.transfer(ALICE, ALICE);
+        assertEquals(size, Files.size(file));
+    }
+
+    @Test
+    public void getAppointmentsOf_incompleteAndInvalidLines_skipped() throws Exception {
+        Path file = testFolder.resolve("data.json.archive");
+        new AppointmentArchiveFile(file).add(Map.of(ALICE, List.of(FIRST)));
+        Files.writeString(file, "not json\n{\"name\":\"Alice Pauline\",\"phone\":\"94351253\",\"date\":\"31-02-2020\","
+                + "\"time\":\"09:30\"}\n{\"name\":\"Alice", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        long intactLength = Files.readAllLines(file).get(0).length() + 1;
+
+        AppointmentArchiveFile archive = new AppointmentArchiveFile(file);
+        assertEquals(List.of(FIRST), archive.getAppointmentsOf(ALICE));
+
+        // The incomplete last line is dropped, so that the next appointment starts on a line of its own
+        archive.add(Map.of(ALICE, List.of(SECOND)));
+        assertEquals(List.of(FIRST, SECOND), new AppointmentArchiveFile(file).getAppointmentsOf(ALICE));
+        assertEquals(4, Files.readAllLines(file).size());
+        assertEquals(intactLength, Files.readAllLines(file).get(0).length() + 1);
+    }
+}
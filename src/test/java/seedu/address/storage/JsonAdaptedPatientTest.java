@@ -5,9 +5,11 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -104,6 +106,39 @@ public class JsonAdaptedPatientTest {
         assertThrows(IllegalValueException.class, patient::toModelType);
     }
 
+    @Test
+    public void toModelType_pastAppointment_keptForArchival() throws Exception {
+        List<List<String>> pastAppointments = Arrays.asList(
+            Arrays.asList("01-02-2020", "09:30", "Blood test"),
+            Arrays.asList("31-12-2099", "14:30"));
+        JsonAdaptedPatient patient = new JsonAdaptedPatient(VALID_NAME, VALID_PHONE, VALID_ADDRESS,
+                pastAppointments, VALID_NOTE, null, VALID_TAG, VALID_CARETAKER);
+        List<Appointment> expectedAppointments = List.of(
+                Appointment.ofTrusted("01-02-2020", "09:30", new Note("Blood test")),
+                Appointment.ofTrusted("31-12-2099", "14:30", null));
+
+        assertEquals(expectedAppointments, patient.toModelType().getAppointment());
+
+        // the earliest appointment of a trusted patient is known before its appointments are decoded
+        Patient trusted = patient.toModelType(true);
+        assertTrue(trusted.getUndecodedDetailsSource().isPresent());
+        assertTrue(trusted.getUndecodedDetailsSource().get().isEarliestAppointmentKnown());
+        assertEquals(Optional.of(LocalDateTime.of(2020, 2, 1, 9, 30)), trusted.getEarliestAppointmentDateTime());
+        assertTrue(trusted.getUndecodedDetailsSource().isPresent());
+        assertEquals(expectedAppointments, trusted.getAppointment());
+    }
+
+    @Test
+    public void toModelType_noAppointments_earliestAppointmentKnownEmpty() throws Exception {
+        JsonAdaptedPatient patient = new JsonAdaptedPatient(VALID_NAME, VALID_PHONE, VALID_ADDRESS,
+                List.of(), VALID_NOTE, null, VALID_TAG, VALID_CARETAKER);
+        Patient trusted = patient.toModelType(true);
+
+        assertTrue(trusted.getUndecodedDetailsSource().get().isEarliestAppointmentKnown());
+        assertEquals(Optional.empty(), trusted.getEarliestAppointmentDateTime());
+        assertTrue(trusted.getUndecodedDetailsSource().isPresent());
+    }
+
     @Test
     public void constructor_patientWithAppointment_success() throws Exception {
         Patient patient = new PatientBuilder().withAppointment("31-12-2025", "14:30").build();
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPatients.ALICE;
 import static seedu.address.testutil.TypicalPatients.HOON;
@@ -9,8 +10,10 @@ import static seedu.address.testutil.TypicalPatients.IDA;
 import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -18,6 +21,12 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Appointment;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Patient;
+import seedu.address.model.person.Phone;
 
 
 
@@ -88,6 +97,66 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveAddressBook_compressedFile_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json.gz");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+
+        // The same data in an uncompressed file takes more space
+        Path uncompressedFilePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(uncompressedFilePath).saveAddressBook(original);
+        assertTrue(Files.size(filePath) < Files.size(uncompressedFilePath));
+    }
+
+    @Test
+    public void readAddressBook_savedByApp_loadedWithoutValidation() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = new AddressBook();
+        // An appointment that has passed since the file was saved is kept
+        original.addPerson(new Patient(ALICE.getName(), ALICE.getPhone(), ALICE.getAddress(), null, List.of(),
+                List.of(Appointment.ofTrusted("01-02-2020", "09:30", null))));
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+
+        // Once the file is edited, it no longer matches its checksum and is validated again, keeping the past
+        // appointment so that it can be archived but rejecting the invalid phone number
+        Files.writeString(filePath, Files.readString(filePath).replace("Alice", "Alicia"));
+        assertEquals(1, jsonAddressBookStorage.readAddressBook().get().getPersonList().size());
+        Files.writeString(filePath, Files.readString(filePath).replace(ALICE.getPhone().value, "phone"));
+        assertThrows(DataLoadingException.class, () -> jsonAddressBookStorage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_savedByApp_detailsDecodedOnFirstUse() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        original.addPerson(new Patient(new Name("Zed Lazy"), new Phone("91112222"), new Address("Blk 5"), null,
+                List.of(new Note("Allergic to penicillin"), new Note("Prefers mornings")),
+                List.of(Appointment.ofTrusted("01-02-2030", "09:30", new Note("Checkup")),
+                        Appointment.ofTrusted("02-02-2030", "10:00", null))));
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = jsonAddressBookStorage.readAddressBook().get();
+        Patient patient = (Patient) readBack.getPersonList().get(0);
+        assertTrue(patient.getUndecodedDetailsSource().isPresent());
+
+        // Saving writes the details back as they were read, without decoding them
+        Path copyPath = testFolder.resolve("Copy.json");
+        jsonAddressBookStorage.saveAddressBook(readBack, copyPath);
+        assertTrue(patient.getUndecodedDetailsSource().isPresent());
+        assertEquals(Files.readString(filePath), Files.readString(copyPath));
+
+        assertEquals(original, new AddressBook(readBack));
+        assertFalse(patient.getUndecodedDetailsSource().isPresent());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
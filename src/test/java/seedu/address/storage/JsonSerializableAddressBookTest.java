@@ -5,16 +5,22 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Caretaker;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Patient;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.CaretakerBuilder;
+import seedu.address.testutil.PatientBuilder;
 import seedu.address.testutil.TypicalPatients;
 
-
-
 public class JsonSerializableAddressBookTest {
 
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
@@ -46,4 +52,81 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_severalChunks_keepsOrder() throws Exception {
+        List<JsonAdaptedPatient> patients = createPatients(JsonSerializableAddressBook.CHUNK_SIZE * 3 + 1);
+        AddressBook addressBook = new JsonSerializableAddressBook(patients).toModelType();
+
+        assertEquals(patients.size(), addressBook.getPersonList().size());
+        for (int i = 0; i < patients.size(); i++) {
+            assertEquals(patients.get(i).toModelType(), addressBook.getPersonList().get(i));
+        }
+    }
+
+    @Test
+    public void toModelType_duplicateBeforeInvalidPerson_reportsDuplicate() throws Exception {
+        List<JsonAdaptedPatient> patients = createPatients(JsonSerializableAddressBook.CHUNK_SIZE * 2);
+        patients.set(10, patients.get(5));
+        patients.set(JsonSerializableAddressBook.CHUNK_SIZE + 1, invalidPatient());
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                new JsonSerializableAddressBook(patients).toModelType());
+    }
+
+    @Test
+    public void toModelType_invalidBeforeDuplicatePerson_reportsInvalidPerson() throws Exception {
+        List<JsonAdaptedPatient> patients = createPatients(JsonSerializableAddressBook.CHUNK_SIZE * 2);
+        patients.set(10, invalidPatient());
+        patients.set(JsonSerializableAddressBook.CHUNK_SIZE + 1, patients.get(5));
+        assertThrows(IllegalValueException.class, Name.INVALID_CHARS, () ->
+                new JsonSerializableAddressBook(patients).toModelType());
+    }
+
+    @Test
+    public void constructor_sharedCaretaker_writtenOnceAndReadBack() throws Exception {
+        Caretaker ben = new CaretakerBuilder().withName("Ben Tan").withRelationship("Father").build();
+        Caretaker uncleBen = new CaretakerBuilder(ben).withRelationship("Uncle").build();
+        AddressBook addressBook = new AddressBookBuilder()
+                .withPerson(new PatientBuilder().withName("Angela Tan").withCaretaker(ben).build())
+                .withPerson(new PatientBuilder().withName("Cousin Lim").withPhone("91555555")
+                        .withCaretaker(uncleBen).build())
+                .withPerson(new PatientBuilder().withName("Other Patient").withPhone("91666666")
+                        .withCaretaker(new CaretakerBuilder().withPhone("81234567").build()).build())
+                .build();
+
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook));
+        assertEquals(1, json.split("\"Ben Tan\"", -1).length - 1);
+
+        JsonSerializableAddressBook dataFromJson = JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class);
+        assertEquals(addressBook, dataFromJson.toModelType());
+        assertEquals(addressBook, dataFromJson.toModelType(true));
+    }
+
+    @Test
+    public void toModelType_unknownCaretakerId_throwsIllegalValueException() {
+        JsonAdaptedPatient patient = new JsonAdaptedPatient(new PatientBuilder().withCaretaker(null).build())
+                .withCaretaker(new JsonAdaptedCaretaker(3, null, null, null, "Father"));
+        String expectedMessage = String.format(JsonAdaptedCaretaker.MESSAGE_UNKNOWN_CARETAKER, 3);
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                new JsonSerializableAddressBook(List.of(patient)).toModelType());
+    }
+
+    @Test
+    public void toModelType_duplicateCaretakerId_throwsIllegalValueException() {
+        JsonAdaptedCaretaker entry = new JsonAdaptedCaretaker(0, "Ben Tan", "93334444", "67 O Block", null);
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_INVALID_CARETAKER_ID, () ->
+                new JsonSerializableAddressBook(List.of(), List.of(entry, entry)).toModelType());
+    }
+
+    private static JsonAdaptedPatient invalidPatient() {
+        return new JsonAdaptedPatient("R4chel", "98765432", "Blk 1", null, null, null, null, null);
+    }
+
+    private static List<JsonAdaptedPatient> createPatients(int count) {
+        List<JsonAdaptedPatient> patients = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Patient patient = new PatientBuilder().withPhone(String.valueOf(80000000 + i)).build();
+            patients.add(new JsonAdaptedPatient(patient));
+        }
+        return patients;
+    }
 }
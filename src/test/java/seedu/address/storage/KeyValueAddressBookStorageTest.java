@@ -0,0 +1,115 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.HOON;
+import static seedu.address.testutil.TypicalPatients.IDA;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Patient;
+import seedu.address.testutil.PatientBuilder;
+
+public class KeyValueAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new KeyValueAddressBookStorage(testFolder.resolve("book.db")).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.db");
+        assertFalse(new KeyValueAddressBookStorage(filePath).readAddressBook().isPresent());
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void read_notRecordFormat_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("notRecordFormat.db");
+        Files.writeString(filePath, "not a record log");
+        assertThrows(DataLoadingException.class, () -> new KeyValueAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.db");
+        AddressBook original = getTypicalAddressBook();
+        KeyValueAddressBookStorage storage = new KeyValueAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveAddressBook(original, filePath);
+        ReadOnlyAddressBook readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Modify data, overwrite existing file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original, filePath);
+        readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Save and read without specifying file path, and from another storage
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(original, new AddressBook(new KeyValueAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_onePatientEdited_writesOnlyItsRecord() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.db");
+        new KeyValueAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        KeyValueAddressBookStorage storage = new KeyValueAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        storage.saveAddressBook(addressBook);
+        assertEquals(0, storage.getLastSaveWrittenCount());
+
+        Patient patient = (Patient) addressBook.getPersonList().get(2);
+        addressBook.setPerson(patient, new PatientBuilder(patient).withPhone("91234567").build());
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, storage.getLastSaveWrittenCount());
+
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, storage.getLastSaveWrittenCount());
+        assertEquals(addressBook, new AddressBook(new KeyValueAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new KeyValueAddressBookStorage(testFolder.resolve("book.db")).saveAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new KeyValueAddressBookStorage(testFolder.resolve("book.db")).saveAddressBook(new AddressBook(), null));
+    }
+
+    @Test
+    public void toRecordFile() {
+        assertEquals(Paths.get("data", "medisavecontact.db"),
+                AddressBookFormatConverter.toRecordFile(Paths.get("data", "medisavecontact.json")));
+        assertTrue(AddressBookFormatConverter.storageFor(Paths.get("data", "medisavecontact.db"))
+                instanceof KeyValueAddressBookStorage);
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.BOB;
+import static seedu.address.testutil.TypicalPatients.DANIEL;
+import static seedu.address.testutil.TypicalPatients.HOON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.person.Person;
+
+public class NameIndexFileTest {
+
+    private static final List<Person> PERSONS = List.of(ALICE, BOB, DANIEL, HOON);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void open_writtenIndex_findsPositionsOfWords() throws Exception {
+        Path file = testFolder.resolve("data.json.index");
+        byte[] digest = digest(1);
+        NameIndexFile.write(file, digest, PERSONS);
+
+        NameIndexFile index = NameIndexFile.open(file, digest, PERSONS.size()).orElseThrow();
+        assertEquals(PERSONS.size(), index.size());
+        assertEquals("[0]", Arrays.toString(index.positionsOf("alice")));
+        assertEquals("[2, 3]", Arrays.toString(index.positionsOf("meier")));
+        assertEquals("[]", Arrays.toString(index.positionsOf("nobody")));
+        assertTrue(NameIndexFile.isCurrent(file, digest));
+    }
+
+    @Test
+    public void open_otherDataFile_returnsEmpty() throws Exception {
+        Path file = testFolder.resolve("data.json.index");
+        NameIndexFile.write(file, digest(1), PERSONS);
+
+        assertFalse(NameIndexFile.open(file, digest(2), PERSONS.size()).isPresent());
+        assertFalse(NameIndexFile.open(file, digest(1), PERSONS.size() + 1).isPresent());
+        assertFalse(NameIndexFile.isCurrent(file, digest(2)));
+        assertFalse(NameIndexFile.open(testFolder.resolve("missing.index"), digest(1), 0).isPresent());
+    }
+
+    @Test
+    public void open_corruptedIndex_returnsEmpty() throws Exception {
+        Path file = testFolder.resolve("data.json.index");
+        NameIndexFile.write(file, digest(1), PERSONS);
+
+        byte[] contents = Files.readAllBytes(file);
+        contents[contents.length - 1] ^= 1;
+        Files.write(file, contents);
+
+        assertFalse(NameIndexFile.open(file, digest(1), PERSONS.size()).isPresent());
+    }
+
+    @Test
+    public void write_indexOpen_openIndexKeepsContents() throws Exception {
+        Path file = testFolder.resolve("data.json.index");
+        NameIndexFile.write(file, digest(1), PERSONS);
+        NameIndexFile index = NameIndexFile.open(file, digest(1), PERSONS.size()).orElseThrow();
+
+        NameIndexFile.write(file, digest(2), List.of(BOB, ALICE));
+
+        assertEquals("[0]", Arrays.toString(index.positionsOf("alice")));
+        assertTrue(NameIndexFile.isCurrent(file, digest(2)));
+        assertEquals("[1]", Arrays.toString(NameIndexFile.open(file, digest(2), 2).orElseThrow()
+                .positionsOf("alice")));
+    }
+
+    private static byte[] digest(int value) {
+        byte[] digest = new byte[32];
+        Arrays.fill(digest, (byte) value);
+        return digest;
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPatients.CARL;
+import static seedu.address.testutil.TypicalPatients.GEORGE;
+import static seedu.address.testutil.TypicalPatients.getTypicalPatients;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.person.Patient;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PatientBuilder;
+
+public class PatientExporterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_nullArguments_throwsNullPointerException() {
+        PatientExporter exporter = new PatientExporter(RecordFormat.CSV);
+        Path filePath = testFolder.resolve("patients.csv");
+        assertThrows(NullPointerException.class, () -> exporter.write(null, filePath, count -> { }));
+        assertThrows(NullPointerException.class, () -> exporter.write(getTypicalPatients(), null, count -> { }));
+        assertThrows(NullPointerException.class, () -> exporter.write(getTypicalPatients(), filePath, null));
+    }
+
+    @Test
+    public void write_csv_readBackByImporter() throws Exception {
+        Path filePath = testFolder.resolve("out").resolve("patients.csv");
+        Patient withAppointments = new PatientBuilder(CARL).withName("Carl Kurz").withPhone("95352563")
+                .withAddress("Block 1, \"Quoted\" Street").withAppointment("01-01-2099", "10:00")
+                .withAppointment("02-01-2099", "11:30").build();
+        List<Person> patients = Arrays.asList(CARL, GEORGE, withAppointments);
+
+        int written = new PatientExporter(RecordFormat.CSV).write(patients, filePath, count -> { });
+
+        assertEquals(3, written);
+        assertEquals("name,phone,address,tag,appointments", Files.readAllLines(filePath).get(0));
+        PatientImporter.Result result = new PatientImporter(RecordFormat.CSV)
+                .read(filePath, testFolder.resolve("rejects"));
+        assertEquals(patients, result.getPatients());
+    }
+
+    @Test
+    public void write_jsonl_readBackByImporter() throws Exception {
+        Path filePath = testFolder.resolve("patients.jsonl");
+
+        int written = new PatientExporter(RecordFormat.JSONL).write(getTypicalPatients(), filePath, count -> { });
+
+        assertEquals(getTypicalPatients().size(), written);
+        assertEquals(getTypicalPatients().size(), Files.readAllLines(filePath).size());
+        PatientImporter.Result result = new PatientImporter(RecordFormat.JSONL)
+                .read(filePath, testFolder.resolve("rejects"));
+        assertEquals(getTypicalPatients(), result.getPatients());
+    }
+
+    @Test
+    public void write_compressedCsv_readBackByImporter() throws Exception {
+        Path filePath = testFolder.resolve("patients.csv.gz");
+
+        new PatientExporter(RecordFormat.fromPath(filePath).get()).write(getTypicalPatients(), filePath, count -> { });
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        assertEquals(GZIPInputStream.GZIP_MAGIC, (bytes[0] & 0xff) | (bytes[1] & 0xff) << 8);
+        PatientImporter.Result result = new PatientImporter(RecordFormat.CSV)
+                .read(filePath, testFolder.resolve("rejects"));
+        assertEquals(getTypicalPatients(), result.getPatients());
+    }
+
+    @Test
+    public void write_emptyList_writesHeaderOnly() throws Exception {
+        Path filePath = testFolder.resolve("patients.csv");
+        assertEquals(0, new PatientExporter(RecordFormat.CSV).write(Collections.emptyList(), filePath, count -> { }));
+        assertEquals(1, Files.readAllLines(filePath).size());
+    }
+
+    @Test
+    public void write_manyPatients_reportsProgress() throws Exception {
+        List<Person> patients = Collections.nCopies(PatientExporter.PROGRESS_INTERVAL * 2 + 1, CARL);
+        List<Integer> progress = new ArrayList<>();
+
+        new PatientExporter(RecordFormat.JSONL).write(patients, testFolder.resolve("patients.jsonl"), progress::add);
+
+        assertEquals(Arrays.asList(PatientExporter.PROGRESS_INTERVAL, PatientExporter.PROGRESS_INTERVAL * 2),
+                progress);
+    }
+}
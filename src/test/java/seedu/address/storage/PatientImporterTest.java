@@ -0,0 +1,143 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Patient;
+import seedu.address.testutil.PatientBuilder;
+
+public class PatientImporterTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "PatientImporterTest");
+    private static final Path VALID_CSV_FILE = TEST_DATA_FOLDER.resolve("validPatients.csv");
+    private static final Path MIXED_CSV_FILE = TEST_DATA_FOLDER.resolve("validAndInvalidPatients.csv");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_nullFilePath_throwsNullPointerException() {
+        PatientImporter importer = new PatientImporter(RecordFormat.CSV);
+        assertThrows(NullPointerException.class, () -> importer.read(null, testFolder.resolve("rejects")));
+    }
+
+    @Test
+    public void read_missingFile_throwsIoException() {
+        PatientImporter importer = new PatientImporter(RecordFormat.CSV);
+        assertThrows(IOException.class, () -> importer.read(TEST_DATA_FOLDER.resolve("NonExistentFile.csv"),
+                testFolder.resolve("rejects")));
+    }
+
+    @Test
+    public void read_validCsv_success() throws Exception {
+        Path rejectsFile = testFolder.resolve("validPatients.csv.rejects");
+        PatientImporter.Result result = new PatientImporter(RecordFormat.CSV).read(VALID_CSV_FILE, rejectsFile);
+
+        Patient amy = new PatientBuilder().withName("Amy Bee").withPhone("11111111")
+                .withAddress("Block 312, Amy Street 1").withTag("low").withCaretaker(null).build();
+        Patient bob = new PatientBuilder().withName("Bob Choo").withPhone("22222222")
+                .withAddress("Block 123, Bobby Street 3").withTag("high").withCaretaker(null).build();
+        Patient carl = new PatientBuilder(bob).withName("Carl Kurz").withPhone("95352563").withTag("medium")
+                .withAppointment("01-01-2099", "10:00").withAppointment("02-01-2099", "11:30").build();
+        assertEquals(Arrays.asList(amy, bob, carl), result.getPatients());
+        assertEquals(0, result.getRejectedCount());
+        assertFalse(result.getRejectsFilePath().isPresent());
+        assertFalse(Files.exists(rejectsFile));
+    }
+
+    @Test
+    public void read_invalidCsvLines_writesRejects() throws Exception {
+        Path rejectsFile = testFolder.resolve("validAndInvalidPatients.csv.rejects");
+        PatientImporter.Result result = new PatientImporter(RecordFormat.CSV).read(MIXED_CSV_FILE, rejectsFile);
+
+        assertEquals(1, result.getPatients().size());
+        assertEquals(3, result.getRejectedCount());
+        assertEquals(rejectsFile, result.getRejectsFilePath().get());
+
+        List<String> rejects = Files.readAllLines(rejectsFile);
+        assertEquals(3, rejects.size());
+        assertTrue(rejects.get(0).startsWith("2\t"));
+        assertTrue(rejects.get(1).startsWith("3\t" + PatientImporter.MESSAGE_CSV_FIELD_COUNT));
+        assertTrue(rejects.get(2).startsWith("5\t"));
+    }
+
+    @Test
+    public void read_csvRecordOverSeveralLines_readAsOneRecord() throws Exception {
+        Path csvFile = testFolder.resolve("multiLine.csv");
+        Files.writeString(csvFile, "Amy Bee,11111111,\"Block 312,\nAmy Street 1\",low\n"
+                + "R4chel,22222222,Block 1\n"
+                + "Bob Choo,22222222,\"Block 123, Bobby Street 3\",high\n");
+        Path rejectsFile = testFolder.resolve("multiLine.csv.rejects");
+
+        PatientImporter.Result result = new PatientImporter(RecordFormat.CSV).read(csvFile, rejectsFile);
+
+        // An address cannot hold a line break, but the record does not spill into the records after it
+        Patient bob = new PatientBuilder().withName("Bob Choo").withPhone("22222222")
+                .withAddress("Block 123, Bobby Street 3").withTag("high").withCaretaker(null).build();
+        assertEquals(List.of(bob), result.getPatients());
+        assertEquals(2, result.getRejectedCount());
+        String rejects = Files.readString(rejectsFile);
+        assertTrue(rejects.startsWith("1\t"));
+        assertTrue(rejects.contains("\n3\t"));
+    }
+
+    @Test
+    public void read_jsonl_success() throws Exception {
+        Path file = testFolder.resolve("patients.jsonl");
+        Files.writeString(file, JsonUtil.toJsonString(new JsonAdaptedPatient(ALICE)).replaceAll("\\s*\\n\\s*", "")
+                + "\n{\"name\": \"Amy Bee\"}\n");
+        Path rejectsFile = testFolder.resolve("patients.jsonl.rejects");
+
+        PatientImporter.Result result = new PatientImporter(RecordFormat.JSONL).read(file, rejectsFile);
+        assertEquals(Arrays.asList(ALICE), result.getPatients());
+        assertEquals(1, result.getRejectedCount());
+        assertTrue(Files.readString(rejectsFile).startsWith("2\t"));
+    }
+
+    @Test
+    public void read_moreLinesThanBatchSize_keepsFileOrder() throws Exception {
+        Path file = testFolder.resolve("many.csv");
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < PatientImporter.BATCH_SIZE + 10; i++) {
+            lines.add("Patient " + toLetters(i) + "," + (10000000 + i) + ",Street " + i);
+        }
+        Files.write(file, lines);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            PatientImporter.Result result = new PatientImporter(RecordFormat.CSV, pool)
+                    .read(file, testFolder.resolve("many.csv.rejects"));
+            assertEquals(lines.size(), result.getPatients().size());
+            for (int i = 0; i < lines.size(); i++) {
+                assertEquals(String.valueOf(10000000 + i), result.getPatients().get(i).getPhone().value);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /** Names may not contain digits, so numbers are spelt with letters. */
+    private static String toLetters(int number) {
+        StringBuilder letters = new StringBuilder();
+        do {
+            letters.append((char) ('a' + number % 26));
+            number /= 26;
+        } while (number > 0);
+        return letters.toString();
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class RecordLogTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void commit_putsAndDeletes_keptAfterReopening() throws Exception {
+        Path file = testFolder.resolve("records.db");
+        try (RecordLog log = RecordLog.open(file)) {
+            log.commit(Map.of(1L, bytes("one"), 2L, bytes("two"), 3L, bytes("three")), List.of());
+            log.commit(Map.of(2L, bytes("second")), List.of(3L));
+            assertEquals("second", text(log.read(2L)));
+        }
+
+        try (RecordLog log = RecordLog.open(file)) {
+            assertEquals(List.of(1L, 2L), log.keys());
+            assertEquals("one", text(log.read(1L)));
+            assertEquals("second", text(log.read(2L)));
+        }
+    }
+
+    @Test
+    public void open_incompleteLastTransaction_dropped() throws Exception {
+        Path file = testFolder.resolve("records.db");
+        long sizeAfterFirst;
+        try (RecordLog log = RecordLog.open(file)) {
+            log.commit(Map.of(1L, bytes("one")), List.of());
+            sizeAfterFirst = log.size();
+            log.commit(Map.of(2L, bytes("two")), List.of(1L));
+        }
+
+        // Cut the second transaction short, as a crash in the middle of writing it would
+        byte[] contents = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(contents, contents.length - 2), StandardOpenOption.TRUNCATE_EXISTING);
+
+        try (RecordLog log = RecordLog.open(file)) {
+            assertEquals(List.of(1L), log.keys());
+            assertEquals("one", text(log.read(1L)));
+            assertEquals(sizeAfterFirst, log.size());
+        }
+    }
+
+    @Test
+    public void commit_afterPartlyWrittenTransaction_writtenOverIt() throws Exception {
+        Path file = testFolder.resolve("records.db");
+        try (RecordLog log = RecordLog.open(file)) {
+            log.commit(Map.of(1L, bytes("one")), List.of());
+            // The start of a transaction whose write failed part way
+            Files.write(file, new byte[] {0, 0, 0, 100, 1, 2, 3}, StandardOpenOption.APPEND);
+            log.commit(Map.of(2L, bytes("two")), List.of());
+        }
+
+        try (RecordLog log = RecordLog.open(file)) {
+            assertEquals(List.of(1L, 2L), log.keys());
+            assertEquals("two", text(log.read(2L)));
+        }
+    }
+
+    @Test
+    public void compact_replacedRecords_fileShrinks() throws Exception {
+        Path file = testFolder.resolve("records.db");
+        try (RecordLog log = RecordLog.open(file)) {
+            for (int i = 0; i < 10; i++) {
+                log.commit(Map.of(1L, bytes("version " + i)), List.of());
+            }
+            long size = log.size();
+            log.compact();
+            assertTrue(log.size() < size);
+            assertEquals("version 9", text(log.read(1L)));
+        }
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String text(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
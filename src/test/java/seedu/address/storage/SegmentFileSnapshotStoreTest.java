@@ -0,0 +1,168 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.BOB;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.PatientBuilder;
+
+public class SegmentFileSnapshotStoreTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private SegmentFileSnapshotStore store;
+
+    @AfterEach
+    public void closeStore() throws IOException {
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    private SegmentFileSnapshotStore openStore(boolean keepExisting) throws IOException {
+        store = new SegmentFileSnapshotStore(testFolder.resolve("history.undo"));
+        store.open(keepExisting);
+        return store;
+    }
+
+    private static AddressBook addressBookWith(int patients) {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < patients; i++) {
+            String name = "Patient " + (char) ('A' + i % 26) + (char) ('a' + i / 26);
+            addressBook.addPerson(new PatientBuilder().withName(name).withPhone("9000" + (1000 + i))
+                    .withTag("low").build());
+        }
+        return addressBook;
+    }
+
+    @Test
+    public void push_notOpen_throwsIllegalStateException() {
+        SegmentFileSnapshotStore unopened = new SegmentFileSnapshotStore(testFolder.resolve("history.undo"));
+        assertThrows(IllegalStateException.class, () -> unopened.push(new AddressBook()));
+    }
+
+    @Test
+    public void pop_empty_throwsNoSuchElementException() throws Exception {
+        openStore(false);
+        assertThrows(NoSuchElementException.class, store::pop);
+        assertThrows(NoSuchElementException.class, store::removeOldest);
+    }
+
+    @Test
+    public void pop_returnsSnapshotsNewestFirst() throws Exception {
+        openStore(false);
+        ReadOnlyAddressBook first = getTypicalAddressBook();
+        AddressBook second = new AddressBook();
+        second.addPerson(ALICE);
+
+        store.push(first);
+        store.push(second);
+        assertEquals(2, store.size());
+
+        assertEquals(second, store.pop());
+        assertEquals(new AddressBook(first), store.pop());
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    public void removeOldest_manySnapshots_keepsNewest() throws Exception {
+        openStore(false);
+        for (int i = 1; i <= 40; i++) {
+            store.push(addressBookWith(i));
+        }
+        // Enough removals to make the store compact its file.
+        for (int i = 0; i < 30; i++) {
+            store.removeOldest();
+        }
+
+        assertEquals(10, store.size());
+        assertEquals(addressBookWith(40), store.pop());
+        store.push(addressBookWith(1));
+        assertEquals(addressBookWith(1), store.pop());
+        assertEquals(addressBookWith(39), store.pop());
+    }
+
+    @Test
+    public void open_keepExisting_reloadsSnapshots() throws Exception {
+        openStore(false);
+        store.push(addressBookWith(1));
+        store.push(addressBookWith(2));
+        store.removeOldest();
+        store.close();
+
+        store = openStore(true);
+        assertEquals(1, store.size());
+        assertEquals(addressBookWith(2), store.pop());
+    }
+
+    @Test
+    public void open_notKeepExisting_discardsSnapshots() throws Exception {
+        openStore(false);
+        store.push(addressBookWith(1));
+        store.close();
+
+        store = openStore(false);
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    public void open_partlyWrittenRecord_discardsIt() throws Exception {
+        openStore(false);
+        AddressBook complete = new AddressBook();
+        complete.addPerson(BOB);
+        store.push(complete);
+        store.push(addressBookWith(3));
+        store.close();
+
+        Path filePath = store.getFilePath();
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(filePath) - 5);
+        }
+
+        store = openStore(true);
+        assertEquals(1, store.size());
+        assertEquals(complete, store.pop());
+    }
+
+    @Test
+    public void pop_undecodableRecord_keepsIt() throws Exception {
+        openStore(false);
+        store.push(addressBookWith(3));
+        store.close();
+
+        // Overwrite the end of the record, as a faulty disk might
+        Path filePath = store.getFilePath();
+        long size = Files.size(filePath);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {1, 2, 3, 4, 5}), size - 5);
+        }
+
+        store = openStore(true);
+        assertThrows(IOException.class, store::pop);
+        assertEquals(1, store.size());
+        assertEquals(size, Files.size(filePath));
+    }
+
+    @Test
+    public void open_unrecognisedFile_startsEmpty() throws Exception {
+        Files.writeString(testFolder.resolve("history.undo"), "not an undo history");
+        assertEquals(0, openStore(true).size());
+    }
+}
@@ -0,0 +1,131 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPatients.ALICE;
+import static seedu.address.testutil.TypicalPatients.HOON;
+import static seedu.address.testutil.TypicalPatients.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Patient;
+import seedu.address.testutil.PatientBuilder;
+
+public class SegmentedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_missingManifest_emptyResult() throws Exception {
+        assertFalse(new SegmentedAddressBookStorage(testFolder.resolve("missing")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_missingSegment_throwsDataLoadingException() throws Exception {
+        Path directory = testFolder.resolve("segments");
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(directory, 4);
+        storage.saveAddressBook(getTypicalAddressBook());
+        try (var files = Files.list(directory)) {
+            Path segment = files.filter(file -> !file.endsWith(SegmentedAddressBookStorage.MANIFEST_FILE_NAME))
+                    .findFirst().get();
+            Files.delete(segment);
+        }
+
+        assertThrows(DataLoadingException.class, () -> new SegmentedAddressBookStorage(directory).readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path directory = testFolder.resolve("segments");
+        AddressBook original = getTypicalAddressBook();
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(directory, 4);
+
+        // Save in new directory and read back
+        storage.saveAddressBook(original);
+        assertEquals(4, storage.getLastSaveWrittenCount());
+        assertEquals(original, new AddressBook(new SegmentedAddressBookStorage(directory).readAddressBook().get()));
+
+        // Modify data, overwrite existing directory, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new SegmentedAddressBookStorage(directory).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_onePatientEdited_rewritesOnlyItsSegment() throws Exception {
+        Path directory = testFolder.resolve("segments");
+        new SegmentedAddressBookStorage(directory).saveAddressBook(getTypicalAddressBook());
+
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(directory);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        storage.saveAddressBook(addressBook);
+        assertEquals(0, storage.getLastSaveWrittenCount());
+
+        Patient patient = (Patient) addressBook.getPersonList().get(1);
+        addressBook.setPerson(patient, new PatientBuilder(patient).withPhone("91234567").build());
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, storage.getLastSaveWrittenCount());
+        assertEquals(addressBook, new AddressBook(new SegmentedAddressBookStorage(directory).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_segmentsOfInterruptedSave_deleted() throws Exception {
+        Path directory = testFolder.resolve("segments");
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(directory, 4);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        // Left by a save that stopped before it replaced the manifest
+        Path orphan = directory.resolve("segment-003-99.json");
+        Files.writeString(orphan, "{\"keys\":[],\"persons\":[]}");
+        Path otherFile = directory.resolve("notes.txt");
+        Files.writeString(otherFile, "not a segment");
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(orphan));
+        assertTrue(Files.exists(otherFile));
+        try (var files = Files.list(directory)) {
+            assertEquals(6, files.count());
+        }
+        assertEquals(addressBook, new AddressBook(new SegmentedAddressBookStorage(directory).readAddressBook().get()));
+    }
+
+    @Test
+    public void convert_jsonToSegmentsAndBack_success() throws Exception {
+        Path jsonFile = testFolder.resolve("medisavecontact.json");
+        Path directory = AddressBookFormatConverter.toSegmentDirectory(jsonFile);
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonFile).saveAddressBook(original);
+
+        assertTrue(AddressBookFormatConverter.convert(AddressBookFormatConverter.storageFor(jsonFile),
+                AddressBookFormatConverter.storageFor(directory)));
+        Path convertedFile = testFolder.resolve("converted.json");
+        assertTrue(AddressBookFormatConverter.convert(new SegmentedAddressBookStorage(directory),
+                new JsonAddressBookStorage(convertedFile)));
+
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(convertedFile).readAddressBook().get()));
+        assertFalse(AddressBookFormatConverter.convert(new SegmentedAddressBookStorage(testFolder.resolve("none")),
+                new JsonAddressBookStorage(convertedFile)));
+    }
+
+    @Test
+    public void toSegmentDirectory() {
+        assertEquals(Paths.get("data", "medisavecontact"),
+                AddressBookFormatConverter.toSegmentDirectory(Paths.get("data", "medisavecontact.json")));
+        assertEquals(Paths.get("data", "book-segments"),
+                AddressBookFormatConverter.toSegmentDirectory(Paths.get("data", "book")));
+    }
+}
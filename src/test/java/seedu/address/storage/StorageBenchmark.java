@@ -0,0 +1,135 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Appointment;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Patient;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares how long the {@link AddressBookStorage} implementations take to save and load a large address book.
+ * <p>
+ * Usage: {@code StorageBenchmark [PATIENTS] [EDITS]}. For each storage, it reports the time to save the whole address
+ * book to an empty location, to read it back, and to save it again after each of a number of single-patient edits,
+ * as well as the size of the data on disk.
+ */
+public class StorageBenchmark {
+
+    private static final int DEFAULT_PATIENTS = 20000;
+    private static final int DEFAULT_EDITS = 20;
+    private static final DateTimeFormatter APPOINTMENT_DATE_FORMAT = DateTimeFormatter.ofPattern("dd-MM-uuuu");
+
+    /**
+     * Runs the benchmark and prints its report.
+     */
+    public static void main(String[] args) throws DataLoadingException, IOException {
+        int patients = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PATIENTS;
+        int edits = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_EDITS;
+
+        Path directory = Files.createTempDirectory("storage-benchmark");
+        try {
+            AddressBook addressBook = createAddressBook(patients);
+            System.out.printf(Locale.ROOT, "%d patients, %d edits%n%-10s %10s %10s %14s %10s%n", patients, edits,
+                    "Storage", "Save (ms)", "Load (ms)", "Edit (ms/op)", "Size (KB)");
+            run("JSON", directory.resolve("book.json"), JsonAddressBookStorage::new, addressBook, edits);
+            run("JSON_GZIP", directory.resolve("book.json.gz"), JsonAddressBookStorage::new, addressBook, edits);
+            run("SEGMENTED", directory.resolve("book"), SegmentedAddressBookStorage::new, addressBook, edits);
+            run("KEY_VALUE", directory.resolve("book.db"), KeyValueAddressBookStorage::new, addressBook, edits);
+        } finally {
+            deleteRecursively(directory);
+        }
+    }
+
+    private static void run(String name, Path path, Function<Path, AddressBookStorage> storageFactory,
+            AddressBook addressBook, int edits) throws DataLoadingException, IOException {
+        long start = System.nanoTime();
+        storageFactory.apply(path).saveAddressBook(addressBook);
+        long saveNanos = System.nanoTime() - start;
+
+        AddressBookStorage storage = storageFactory.apply(path);
+        start = System.nanoTime();
+        ReadOnlyAddressBook read = storage.readAddressBook().orElseThrow();
+        long loadNanos = System.nanoTime() - start;
+
+        // Edits are made to the persons that were read, as the storage recognises them by identity
+        AddressBook loaded = new AddressBook();
+        loaded.addPersons(read.getPersonList());
+
+        start = System.nanoTime();
+        for (int i = 0; i < edits; i++) {
+            Patient patient = (Patient) loaded.getPersonList().get(i * 7919 % loaded.getPersonList().size());
+            List<Note> notes = new ArrayList<>(patient.getNotes());
+            notes.add(new Note("Reviewed " + toLetters(i)));
+            loaded.setPerson(patient, new Patient(patient.getName(), patient.getPhone(), patient.getAddress(),
+                    patient.getTag().orElse(null), notes, patient.getAppointment(), patient.getCaretaker()));
+            storage.saveAddressBook(loaded);
+        }
+        long editNanos = edits == 0 ? 0 : (System.nanoTime() - start) / edits;
+
+        System.out.printf(Locale.ROOT, "%-10s %10.1f %10.1f %14.2f %10d%n", name, saveNanos / 1e6, loadNanos / 1e6,
+                editNanos / 1e6, sizeOf(path) / 1024);
+    }
+
+    private static AddressBook createAddressBook(int patients) {
+        String appointmentDate = LocalDate.now().plusYears(1).format(APPOINTMENT_DATE_FORMAT);
+        List<Patient> persons = new ArrayList<>(patients);
+        for (int i = 0; i < patients; i++) {
+            persons.add(new Patient(new Name("Patient " + toLetters(i)), new Phone(String.valueOf(80000000 + i)),
+                    new Address("Blk " + (i % 500) + " Benchmark Street, #" + (i % 20) + "-" + (i % 99)),
+                    new Tag(i % 3 == 0 ? "high" : "low"),
+                    List.of(new Note("Allergic to penicillin"), new Note("Prefers morning visits")),
+                    List.of(new Appointment(appointmentDate, "09:00"))));
+        }
+        AddressBook addressBook = new AddressBook();
+        persons.forEach(addressBook::addPerson);
+        return addressBook;
+    }
+
+    /**
+     * Spells {@code number} in letters, e.g. 0 is "A" and 27 is "BB", as names cannot contain digits.
+     */
+    private static String toLetters(int number) {
+        StringBuilder letters = new StringBuilder();
+        int remaining = number;
+        do {
+            letters.append((char) ('A' + remaining % 26));
+            remaining /= 26;
+        } while (remaining > 0);
+        return letters.reverse().toString();
+    }
+
+    private static long sizeOf(Path path) throws IOException {
+        try (Stream<Path> files = Files.walk(path)) {
+            long size = 0;
+            for (Path file : (Iterable<Path>) files::iterator) {
+                size += Files.isRegularFile(file) ? Files.size(file) : 0;
+            }
+            return size;
+        }
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+}